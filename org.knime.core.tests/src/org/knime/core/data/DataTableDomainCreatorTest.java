@@ -60,6 +60,7 @@
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -68,6 +69,7 @@
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.meta.TestDataColumnMetaData;
 
@@ -631,4 +633,56 @@ public void testInitMetaData() {
         assertThat(getMetaData(domainCreator), is(new TestDataColumnMetaData(concat)));
     }
 
+    /**
+     * Checks that updating the domain with batches of rows results in the same domain as updating it row by row.
+     */
+    @Test
+    public void testBatchedUpdate() {
+        final DataTableSpec tableSpec = new DataTableSpec(
+            new DataColumnSpecCreator("Double col", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Int col", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Long col", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("String col", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Few strings col", StringCell.TYPE).createSpec());
+        final Random rand = new Random(0);
+        final List<DataRow> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final DataCell doubleCell;
+            switch (rand.nextInt(10)) {
+                case 0:
+                    doubleCell = DataType.getMissingCell();
+                    break;
+                case 1:
+                    doubleCell = new DoubleCell(Double.NaN);
+                    break;
+                case 2:
+                    doubleCell = new DoubleCell(rand.nextBoolean() ? -0.0 : 0.0);
+                    break;
+                default:
+                    doubleCell = new DoubleCell(rand.nextGaussian());
+            }
+            rows.add(new DefaultRow(RowKey.createRowKey((long)i), doubleCell,
+                rand.nextInt(10) == 0 ? DataType.getMissingCell() : new IntCell(rand.nextInt(100) - 50),
+                new LongCell(rand.nextLong()), new StringCell("Value " + rand.nextInt(200)),
+                new StringCell("Value " + rand.nextInt(5))));
+        }
+
+        final DataTableDomainCreator rowWise = new DataTableDomainCreator(tableSpec, false);
+        rowWise.setMaxPossibleValues(60);
+        rows.forEach(rowWise::updateDomain);
+
+        final DataTableDomainCreator batched = new DataTableDomainCreator(tableSpec, false);
+        batched.setMaxPossibleValues(60);
+        for (int i = 0; i < rows.size(); i += 7) {
+            batched.updateDomain(rows.subList(i, Math.min(i + 7, rows.size())));
+        }
+        batched.updateDomain(Collections.<DataRow> emptyList());
+
+        final DataTableSpec expected = rowWise.createSpec();
+        assertThat("Unexpected spec after batched update", batched.createSpec(), is(expected));
+        assertNull("Unexpected possible values", expected.getColumnSpec(3).getDomain().getValues());
+        assertThat("Unexpected number of possible values", expected.getColumnSpec(4).getDomain().getValues().size(),
+            is(5));
+    }
+
 }
\ No newline at end of file
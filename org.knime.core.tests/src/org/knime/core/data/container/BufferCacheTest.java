@@ -169,6 +169,67 @@ public void testSoftRefCache() throws InterruptedException {
         }
     }
 
+    /**
+     * Tests that tables are evicted from the LRU cache once their estimated heap footprint exceeds the memory budget
+     * of the cache and that hits and evictions are counted.
+     */
+    @Test
+    public void testMemoryBudgetEviction() {
+        final int k = 10;
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(k, true);
+        final long maxTableSize =
+            tables.stream().mapToLong(p -> BufferCache.estimateSizeInBytes(p.getSecond())).max().getAsLong();
+        final long budget = 3 * maxTableSize;
+
+        final BufferCache cache = new BufferCache();
+        cache.setLRUCacheMemorySize(budget);
+        addTablesToCache(tables, cache, true);
+
+        Assert.assertTrue("LRU cache exceeds its memory budget.", cache.getLRUCacheMemoryUsage() <= budget);
+        Assert.assertTrue("Too few tables evicted from LRU cache.", cache.getEvictionCount() >= k - 3);
+
+        // the most recently added table is still in the cache, since we keep a hard reference on its list
+        final Pair<Buffer, List<BlobSupportDataRow>> lastTable = tables.get(k - 1);
+        Assert.assertEquals("List retrieved from cache differs from list put into cache.", lastTable.getSecond(),
+            cache.get(lastTable.getFirst()).get());
+        Assert.assertEquals("Wrong number of cache hits.", 1, cache.getHitCount());
+        Assert.assertEquals("Wrong number of cache misses.", 0, cache.getMissCount());
+
+        // shrinking the budget evicts the remaining tables
+        cache.setLRUCacheMemorySize(0);
+        Assert.assertEquals("LRU cache not emptied.", 0, cache.getLRUCacheMemoryUsage());
+    }
+
+    /**
+     * Tests that a table invalidated while being concurrently retrieved is not re-inserted into the LRU cache.
+     *
+     * @throws InterruptedException thrown when the thread is unexpectedly interrupted while waiting
+     */
+    @Test
+    public void testConcurrentGetAndInvalidate() throws InterruptedException {
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(200, true);
+        final BufferCache cache = new BufferCache();
+        for (Pair<Buffer, List<BlobSupportDataRow>> table : tables) {
+            final Buffer buffer = table.getFirst();
+            cache.put(buffer, table.getSecond());
+            cache.clearForGarbageCollection(buffer);
+            // evict the table from the LRU cache such that the next get re-inserts it
+            cache.setLRUCacheSize(0);
+            cache.setLRUCacheSize(BufferSettings.getDefault().getLRUCacheSize());
+            final Thread getter = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    cache.get(buffer);
+                }
+            });
+            getter.start();
+            cache.invalidate(buffer);
+            getter.join();
+            Assert.assertFalse("Invalidated table still in cache.", cache.get(buffer).isPresent());
+            Assert.assertEquals("Invalidated table still counts towards LRU cache.", 0,
+                cache.getLRUCacheMemoryUsage());
+        }
+    }
+
     private static List<Pair<Buffer, List<BlobSupportDataRow>>> generateKTables(final int k,
         final boolean flushToDisk) {
 
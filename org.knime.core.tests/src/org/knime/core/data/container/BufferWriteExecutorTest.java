@@ -0,0 +1,121 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the class <code>BufferWriteExecutor</code>.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BufferWriteExecutorTest {
+
+    /**
+     * Tests that independent write tasks are run concurrently.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test(timeout = 10000)
+    public void testConcurrentWrites() throws Exception {
+        final BufferWriteExecutor executor = new BufferWriteExecutor(2);
+        final CountDownLatch bothRunning = new CountDownLatch(2);
+        final List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            futures.add(executor.submit(() -> {
+                bothRunning.countDown();
+                // would time out with a single writer thread
+                Assert.assertTrue("Tasks not run concurrently", bothRunning.await(5, TimeUnit.SECONDS));
+                return null;
+            }, false));
+        }
+        for (Future<Void> f : futures) {
+            f.get();
+        }
+        executor.awaitIdle();
+        Assert.assertEquals("Pending tasks", 0, executor.getPendingCount());
+        Assert.assertEquals("Completed tasks", 2, executor.getCompletedCount());
+        Assert.assertEquals("Peak pending tasks", 2, executor.getPeakPendingCount());
+    }
+
+    /**
+     * Tests that a submitter is blocked when it has too many pending tasks.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test(timeout = 10000)
+    public void testBackPressure() throws Exception {
+        final BufferWriteExecutor executor = new BufferWriteExecutor(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        // one running, one queued -- the limit for a single writer thread
+        executor.submit(() -> {
+            release.await();
+            return null;
+        }, true);
+        executor.submit(() -> null, true);
+
+        final Thread submitter = new Thread(() -> executor.submit(() -> null, true));
+        submitter.start();
+        submitter.join(500);
+        Assert.assertTrue("Submitter should be blocked", submitter.isAlive());
+
+        release.countDown();
+        submitter.join();
+        executor.awaitIdle();
+        Assert.assertEquals("Back-pressure events", 1, executor.getBackPressureCount());
+        Assert.assertEquals("Completed tasks", 3, executor.getCompletedCount());
+    }
+
+}
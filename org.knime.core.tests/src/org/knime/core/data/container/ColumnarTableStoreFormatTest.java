@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.MissingValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests writing and (filtered) reading of tables using the {@link ColumnarTableStoreFormat}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ColumnarTableStoreFormatTest {
+
+    /** More than two chunks for the spec used in this test. */
+    private static final int ROW_COUNT = 20000;
+
+    private static DataTableSpec createSpec() {
+        return new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("unique-string", StringCell.TYPE).createSpec());
+    }
+
+    private static DataRow createRow(final int i) {
+        final DataCell intCell = i % 7 == 0 ? DataType.getMissingCell() : new IntCell(i);
+        final DataCell stringCell = i % 11 == 0 ? DataType.getMissingCell() : new StringCell("v" + (i % 13));
+        // missing cell with error message forces serialized fallback for this chunk
+        final DataCell longCell = i == 12345 ? new MissingCell("error " + i) : new LongCell(i * 1000L);
+        final DataCell doubleCell = new DoubleCell(i + .5);
+        final DataCell booleanCell = i % 5 == 0 ? DataType.getMissingCell() : BooleanCell.get(i % 3 == 0);
+        final DataCell uniqueCell = new StringCell(Integer.toString(i));
+        return new DefaultRow(RowKey.createRowKey((long)i), intCell, stringCell, longCell, doubleCell, booleanCell,
+            uniqueCell);
+    }
+
+    private static Buffer createBuffer() {
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+            .withInitializedDomain(false).withBufferSettings(
+                BufferSettings.getDefault().withOutputFormat(new ColumnarTableStoreFormat()));
+        final DataContainer cont = new DataContainer(createSpec(), settings);
+        IntStream.range(0, ROW_COUNT).mapToObj(ColumnarTableStoreFormatTest::createRow).forEach(cont::addRowToTable);
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        Assert.assertThat("Wrong output format", b.getOutputFormat(), instanceOf(ColumnarTableStoreFormat.class));
+        return b;
+    }
+
+    private static void assertCellEquals(final String message, final DataCell ref, final DataCell actual) {
+        if (ref.isMissing()) {
+            Assert.assertThat(message + " is missing", actual.isMissing(), is(true));
+            Assert.assertThat(message + " error", ((MissingValue)actual).getError(),
+                equalTo(((MissingValue)ref).getError()));
+        } else {
+            Assert.assertThat(message, actual, equalTo(ref));
+        }
+    }
+
+    /** Writes and reads back the full table. */
+    @Test
+    public void testWriteRead() {
+        final Buffer b = createBuffer();
+        try (final CloseableRowIterator it = b.iterator()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                Assert.assertThat("Iterator has rows", it.hasNext(), is(true));
+                final DataRow ref = createRow(i);
+                final DataRow row = it.next();
+                Assert.assertThat("Row key in row " + i, row.getKey(), equalTo(ref.getKey()));
+                for (int c = 0; c < ref.getNumCells(); c++) {
+                    assertCellEquals("Cell " + c + " in row " + i, ref.getCell(c), row.getCell(c));
+                }
+            }
+            Assert.assertThat("Iterator with more than " + ROW_COUNT + " rows", it.hasNext(), is(false));
+        }
+    }
+
+    /** Reads a range of rows and a subset of columns. */
+    @Test
+    public void testFilteredRead() {
+        final Buffer b = createBuffer();
+        final int from = 9000;
+        final int to = 12400;
+        final TableFilter filter =
+            new TableFilter.Builder().withMaterializeColumnIndices(1, 2).withFromRowIndex(from).withToRowIndex(to)
+                .build();
+        try (final CloseableRowIterator it = b.iteratorWithFilter(filter)) {
+            for (int i = from; i <= to; i++) {
+                Assert.assertThat("Iterator has rows", it.hasNext(), is(true));
+                final DataRow ref = createRow(i);
+                final DataRow row = it.next();
+                Assert.assertThat("Row key in row " + i, row.getKey(), equalTo(ref.getKey()));
+                for (int c = 0; c < ref.getNumCells(); c++) {
+                    if (c == 1 || c == 2) {
+                        assertCellEquals("Cell " + c + " in row " + i, ref.getCell(c), row.getCell(c));
+                    } else {
+                        Assert.assertThat("Cell " + c + " in row " + i, row.getCell(c),
+                            instanceOf(UnmaterializedCell.class));
+                    }
+                }
+            }
+            Assert.assertThat("Iterator with more than " + (to - from + 1) + " rows", it.hasNext(), is(false));
+        }
+    }
+
+}
@@ -88,6 +88,7 @@ public void testDefault() {
         assertEquals("Wrong default (container threads)", Runtime.getRuntime().availableProcessors(),
             settings.getMaxThreadsPerContainer());
         assertNotNull("Wrong default (duplicate checker)", settings.createDuplicateChecker());
+        assertEquals("Wrong default (expected row count)", 0, settings.getExpectedRowCount());
         assertNotNull("Wrong default (BufferSettings are null)", settings.getBufferSettings());
 
         assertTrue(
@@ -124,6 +125,7 @@ public void testChangedValues() {
         final int maxContainerThreads = def.getMaxThreadsPerContainer() * -1;
         final BufferSettings bSettings =
             def.getBufferSettings().withLRUCacheSize(def.getBufferSettings().getLRUCacheSize() * -1);
+        final long expectedRowCount = def.getExpectedRowCount() + 1000;
 
         final DataContainerSettings settings = DataContainerSettings.getDefault()//
             .withRowBatchSize(cacheSize)//
@@ -133,7 +135,8 @@ public void testChangedValues() {
             .withInitializedDomain(initDomain)//
             .withMaxContainerThreads(maxContainerThreads)//
             .withMaxThreadsPerContainer(maxThreadsPerDataContainer)//
-            .withBufferSettings(bSettings);
+            .withBufferSettings(bSettings)//
+            .withExpectedRowCount(expectedRowCount);
 
         assertEquals("Modified settings created wrong cache size", cacheSize, settings.getRowBatchSize());
         assertEquals("Modified settings created wrong maximum number of cells in memory", maxCellsInMemory,
@@ -147,6 +150,9 @@ public void testChangedValues() {
             settings.getMaxContainerThreads());
         assertEquals("Modified settings created wrong maximum number of threads per data container",
             maxThreadsPerDataContainer, settings.getMaxThreadsPerContainer());
+        assertEquals("Modified settings created wrong expected row count", expectedRowCount,
+            settings.getExpectedRowCount());
+        assertNotNull("Modified settings created no duplicate checker", settings.createDuplicateChecker());
         assertNotEquals("Default settings has been modified (chache size)", def.getRowBatchSize(),
             settings.getRowBatchSize());
         assertNotEquals("Default settings has been modified (number of cells in memory)", def.getMaxCellsInMemory(),
@@ -161,6 +167,8 @@ public void testChangedValues() {
             settings.isForceSequentialRowHandling());
         assertNotEquals("Default settings has been modified (initialize domain flag)", def.getInitializeDomain(),
             settings.getInitializeDomain());
+        assertNotEquals("Default settings has been modified (expected row count)", def.getExpectedRowCount(),
+            settings.getExpectedRowCount());
         assertNotEquals("Default BufferSettings have not been modified", def.getBufferSettings().equals(bSettings));
     }
 
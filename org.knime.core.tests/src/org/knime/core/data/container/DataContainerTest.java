@@ -59,8 +59,6 @@
 import java.util.Random;
 import java.util.Set;
 import java.util.Vector;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.RandomStringUtils;
@@ -727,16 +725,7 @@ public void testWriteRead() throws IOException, CanceledExecutionException, Inte
 
         // wait for all asynchronous disk write threads to terminate such that they do not interfere with our
         // monitoring of file creation / deletion.
-        Future<?> voidTask = Buffer.ASYNC_EXECUTOR.submit(new Runnable() {
-            @Override
-            public void run() {
-            }
-        });
-        try {
-            voidTask.get();
-        } catch (ExecutionException e) {
-            // the void task should not be able to throw an ExecutionExecption
-        }
+        Buffer.ASYNC_EXECUTOR.awaitIdle();
         try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
             Path dir = FileUtil.getWorkflowTempDir().toPath();
             WatchKey key =
@@ -0,0 +1,139 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests the {@link MappedFileInputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class MappedFileInputStreamTest {
+
+    private static byte[] createBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte)(i * 31);
+        }
+        return bytes;
+    }
+
+    /**
+     * Tests reading a mapped file with multiple streams sharing the mapping.
+     *
+     * @throws IOException if the file cannot be written or mapped
+     */
+    @Test
+    public void testReadMappedFile() throws IOException {
+        final byte[] bytes = createBytes(100000);
+        final File file = FileUtil.createTempFile("mapped", ".bin", true);
+        try {
+            Files.write(file.toPath(), bytes);
+            final ByteBuffer[] mapping = MappedFileInputStream.map(file);
+            for (int i = 0; i < 2; i++) {
+                try (DataInputStream in = new DataInputStream(new MappedFileInputStream(mapping))) {
+                    final byte[] read = new byte[bytes.length];
+                    in.readFully(read);
+                    Assert.assertArrayEquals(bytes, read);
+                    Assert.assertEquals(-1, in.read());
+                }
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * Tests reading an empty file.
+     *
+     * @throws IOException if the file cannot be written or mapped
+     */
+    @Test
+    public void testReadEmptyFile() throws IOException {
+        final File file = FileUtil.createTempFile("mapped", ".bin", true);
+        try (MappedFileInputStream in = new MappedFileInputStream(MappedFileInputStream.map(file))) {
+            Assert.assertEquals(0, in.available());
+            Assert.assertEquals(-1, in.read());
+            Assert.assertEquals(-1, in.read(new byte[10], 0, 10));
+        } finally {
+            file.delete();
+        }
+    }
+
+    /** Tests reading, skipping, and the number of available bytes across segment boundaries. */
+    @Test
+    public void testSegmentBoundaries() {
+        final byte[] bytes = createBytes(30);
+        final ByteBuffer[] segments = {ByteBuffer.wrap(bytes, 0, 10).slice(), ByteBuffer.allocate(0),
+            ByteBuffer.wrap(bytes, 10, 20).slice()};
+        final MappedFileInputStream in = new MappedFileInputStream(segments);
+        Assert.assertEquals(30, in.available());
+        Assert.assertEquals(bytes[0] & 0xFF, in.read());
+        final byte[] read = new byte[12];
+        Assert.assertEquals(12, in.read(read, 0, 12));
+        for (int i = 0; i < 12; i++) {
+            Assert.assertEquals(bytes[i + 1], read[i]);
+        }
+        Assert.assertEquals(5, in.skip(5));
+        Assert.assertEquals(bytes[18] & 0xFF, in.read());
+        Assert.assertEquals(11, in.available());
+        Assert.assertEquals(11, in.skip(100));
+        Assert.assertEquals(-1, in.read());
+        in.close();
+        Assert.assertEquals(0, in.available());
+    }
+}
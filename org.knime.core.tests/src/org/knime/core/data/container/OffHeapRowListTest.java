@@ -0,0 +1,243 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the off-heap representation of in-memory tables, {@link OffHeapRowList}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class OffHeapRowListTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private static BlobSupportDataRow createRow(final int i) {
+        return new BlobSupportDataRow(RowKey.createRowKey((long)i), new DataCell[]{
+            i % 7 == 0 ? DataType.getMissingCell() : new IntCell(i),
+            i % 11 == 0 ? DataType.getMissingCell() : new StringCell("v\u00e4" + i),
+            new LongCell(i * 1000L),
+            new DoubleCell(i + .5),
+            i % 5 == 0 ? DataType.getMissingCell() : BooleanCell.get(i % 3 == 0),
+            DataType.getMissingCell()});
+    }
+
+    private static List<BlobSupportDataRow> createRows() {
+        final List<BlobSupportDataRow> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(createRow(i));
+        }
+        return rows;
+    }
+
+    private static void assertRowEquals(final String message, final DataRow ref, final DataRow actual) {
+        Assert.assertEquals(message + " (key)", ref.getKey(), actual.getKey());
+        Assert.assertEquals(message + " (number of cells)", ref.getNumCells(), actual.getNumCells());
+        for (int c = 0; c < ref.getNumCells(); c++) {
+            Assert.assertEquals(message + " (cell " + c + ")", ref.getCell(c), actual.getCell(c));
+        }
+    }
+
+    /** Tests that a table of supported cells is copied off-heap and reads back unchanged. */
+    @Test
+    public void testCompact() {
+        final List<BlobSupportDataRow> compacted = OffHeapRowList.compactIfPossible(createRows());
+        Assert.assertTrue("Table not copied off-heap", compacted instanceof OffHeapRowList);
+        Assert.assertEquals("Wrong size", ROW_COUNT, compacted.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertRowEquals("Row " + i, createRow(i), compacted.get(i));
+        }
+    }
+
+    /** Tests that tables with unsupported cells (here: a missing cell with error message) are left unchanged. */
+    @Test
+    public void testUnsupportedCell() {
+        final List<BlobSupportDataRow> rows = createRows();
+        rows.set(ROW_COUNT / 2, new BlobSupportDataRow(RowKey.createRowKey(0L), new DataCell[]{new IntCell(0),
+            new StringCell(""), new MissingCell("error"), new DoubleCell(0), BooleanCell.TRUE,
+            DataType.getMissingCell()}));
+        Assert.assertSame("Unsupported table copied off-heap", rows, OffHeapRowList.compactIfPossible(rows));
+    }
+
+    private static DataTableSpec createSpec() {
+        return new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("missing", StringCell.TYPE).createSpec());
+    }
+
+    /** Tests that rows appended off-heap read back unchanged and that the memory is accounted. */
+    @Test
+    public void testAppend() {
+        final OffHeapRowList.Appender appender = OffHeapRowList.createAppender(createSpec());
+        Assert.assertNotNull("No appender for supported types", appender);
+        createRows().forEach(appender::add);
+        Assert.assertTrue("Rows not kept off-heap", appender.isOffHeap());
+        final List<BlobSupportDataRow> list = appender.toList();
+        Assert.assertTrue("Table not kept off-heap", list instanceof OffHeapRowList);
+        Assert.assertEquals("Wrong size", ROW_COUNT, list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertRowEquals("Row " + i, createRow(i), list.get(i));
+        }
+        final long sizeInBytes = ((OffHeapRowList)list).getSizeInBytes();
+        Assert.assertTrue("Off-heap memory not accounted", OffHeapRowList.getReservedBytes() >= sizeInBytes
+            - (createSpec().getNumColumns() + 1) * 64);
+        Assert.assertNull("Appender for unsupported types", OffHeapRowList.createAppender(
+            new DataTableSpec(new DataColumnSpecCreator("cell", DataType.getType(DataCell.class)).createSpec())));
+    }
+
+    /** Tests that an appender keeps unsupported rows (and all rows after them) on-heap. */
+    @Test
+    public void testAppendUnsupportedCell() {
+        final OffHeapRowList.Appender appender = OffHeapRowList.createAppender(createSpec());
+        final List<BlobSupportDataRow> rows = createRows();
+        rows.set(ROW_COUNT / 2, new BlobSupportDataRow(RowKey.createRowKey((long)ROW_COUNT / 2), new DataCell[]{
+            new IntCell(0), new StringCell(""), new MissingCell("error"), new DoubleCell(0), BooleanCell.TRUE,
+            DataType.getMissingCell()}));
+        rows.forEach(appender::add);
+        Assert.assertFalse("Unsupported row appended off-heap", appender.isOffHeap());
+        final List<BlobSupportDataRow> list = appender.toList();
+        Assert.assertFalse("Unsupported table kept off-heap", list instanceof OffHeapRowList);
+        Assert.assertEquals("Wrong size", ROW_COUNT, list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertRowEquals("Row " + i, rows.get(i), list.get(i));
+        }
+    }
+
+    /** Tests that the cursor on an off-heap table reads the same values as the rows. */
+    @Test
+    public void testCursor() {
+        final OffHeapRowList list = (OffHeapRowList)OffHeapRowList.compactIfPossible(createRows());
+        try (final ReadOnlyRowCursor cursor = list.createCursor(1, ROW_COUNT)) {
+            for (int i = 1; i < ROW_COUNT; i++) {
+                Assert.assertTrue("No row " + i, cursor.next());
+                final DataRow ref = createRow(i);
+                Assert.assertEquals("Wrong key in row " + i, ref.getKey(), cursor.getKey());
+                for (int c = 0; c < ref.getNumCells(); c++) {
+                    Assert.assertEquals("Wrong missing state in row " + i + ", cell " + c, ref.getCell(c).isMissing(),
+                        cursor.isMissing(c));
+                }
+                if (!cursor.isMissing(0)) {
+                    Assert.assertEquals("Wrong int in row " + i, i, cursor.getInt(0));
+                }
+                if (!cursor.isMissing(1)) {
+                    Assert.assertEquals("Wrong string in row " + i, "v\u00e4" + i,
+                        cursor.getCharSequence(1).toString());
+                }
+                Assert.assertEquals("Wrong long in row " + i, i * 1000L, cursor.getLong(2));
+                Assert.assertEquals("Wrong double in row " + i, i + .5, cursor.getDouble(3), 0);
+                if (!cursor.isMissing(4)) {
+                    Assert.assertEquals("Wrong boolean in row " + i, i % 3 == 0, cursor.getBoolean(4));
+                }
+            }
+            Assert.assertFalse("Cursor with more than " + ROW_COUNT + " rows", cursor.next());
+        }
+    }
+
+    /** Tests that a buffer keeps more rows in memory if they are stored off-heap. */
+    @Test
+    public void testRaisedRowsInMemory() {
+        final DataTableSpec spec = createSpec();
+        final int maxRows = ROW_COUNT / 4;
+        for (final boolean offHeap : new boolean[]{false, true}) {
+            final DataContainerSettings settings = DataContainerSettings.getDefault()
+                .withMaxCellsInMemory(maxRows * spec.getNumColumns())
+                .withBufferSettings(BufferSettings.getDefault().withOffHeap(offHeap));
+            final DataContainer cont = new DataContainer(spec, settings);
+            createRows().forEach(cont::addRowToTable);
+            cont.close();
+            final Buffer buffer = cont.getBufferedTable().getBuffer();
+            Assert.assertEquals("Table flushed to disk (off-heap: " + offHeap + ")", offHeap,
+                !buffer.isFlushedToDisk());
+            try (final CloseableRowIterator it = buffer.iterator()) {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    assertRowEquals("Row " + i, createRow(i), it.next());
+                }
+            }
+        }
+    }
+
+    /** Tests that tables kept in memory by a buffer are stored off-heap if configured so. */
+    @Test
+    public void testBufferKeepsTableOffHeap() {
+        final DataTableSpec spec = createSpec();
+        final DataContainerSettings settings = DataContainerSettings.getDefault()
+            .withBufferSettings(BufferSettings.getDefault().withOffHeap(true));
+        final DataContainer cont = new DataContainer(spec, settings);
+        createRows().forEach(cont::addRowToTable);
+        cont.close();
+        final Buffer buffer = cont.getBufferedTable().getBuffer();
+        Assert.assertTrue("Table not kept in memory", buffer.isHeldInMemory());
+        try (final CloseableRowIterator it = buffer.iterator()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                assertRowEquals("Row " + i, createRow(i), it.next());
+            }
+            Assert.assertFalse("Iterator with more than " + ROW_COUNT + " rows", it.hasNext());
+        }
+    }
+
+}
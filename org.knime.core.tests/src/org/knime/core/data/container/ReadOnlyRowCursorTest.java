@@ -0,0 +1,270 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.MissingValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.ComplexNumberCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the {@link ReadOnlyRowCursor} on tables read from file and on tables held in memory.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ReadOnlyRowCursorTest {
+
+    private static final int ROW_COUNT = 5000;
+
+    /** Prefix of the strings, with a non-ASCII character to test the decoding of multi-byte characters. */
+    private static final String PREFIX = "v\u00e4";
+
+    private static DataTableSpec createSpec() {
+        return new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("complex", ComplexNumberCell.TYPE).createSpec());
+    }
+
+    private static DataRow createRow(final int i) {
+        final DataCell intCell = i % 7 == 0 ? DataType.getMissingCell() : new IntCell(i);
+        final DataCell stringCell = i % 11 == 0 ? DataType.getMissingCell() : new StringCell(PREFIX + i);
+        final DataCell longCell = i % 100 == 3 ? new MissingCell("error " + i) : new LongCell(i * 1000L);
+        final DataCell doubleCell = new DoubleCell(i + .5);
+        final DataCell booleanCell = i % 5 == 0 ? DataType.getMissingCell() : BooleanCell.get(i % 3 == 0);
+        final DataCell complexCell = new ComplexNumberCell(i, -i);
+        return new DefaultRow(RowKey.createRowKey((long)i), intCell, stringCell, longCell, doubleCell, booleanCell,
+            complexCell);
+    }
+
+    private static Buffer createBuffer(final int rowCount, final boolean flushToDisk) {
+        final DataContainerSettings settings = DataContainerSettings.getDefault()
+            .withMaxCellsInMemory(flushToDisk ? 0 : Integer.MAX_VALUE).withInitializedDomain(false)
+            .withBufferSettings(BufferSettings.getDefault().withOutputFormat(new DefaultTableStoreFormat()));
+        final DataContainer cont = new DataContainer(createSpec(), settings);
+        IntStream.range(0, rowCount).mapToObj(ReadOnlyRowCursorTest::createRow).forEach(cont::addRowToTable);
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        return b;
+    }
+
+    private static ReadOnlyRowCursor createCursor(final Buffer b) {
+        return ReadOnlyRowCursor.create(b.iterator(), b.getTableSpec().getNumColumns());
+    }
+
+    private static void assertRowEquals(final int i, final ReadOnlyRowCursor cursor) {
+        final DataRow ref = createRow(i);
+        assertEquals("Row key in row " + i, ref.getKey(), cursor.getKey());
+        assertEquals(ref.getNumCells(), cursor.getNumCells());
+        for (int c = 0; c < ref.getNumCells(); c++) {
+            final DataCell refCell = ref.getCell(c);
+            final String message = "Cell " + c + " in row " + i;
+            assertEquals(message + " missing", refCell.isMissing(), cursor.isMissing(c));
+            assertEquals(message, refCell, cursor.getCell(c));
+            if (refCell.isMissing()) {
+                assertEquals(message + " error", ((MissingValue)refCell).getError(),
+                    ((MissingValue)cursor.getCell(c)).getError());
+            } else if (c < 5) {
+                assertEquals(message, ((DoubleValue)refCell).getDoubleValue(), cursor.getDouble(c), 0.0);
+            }
+        }
+        if (!ref.getCell(0).isMissing()) {
+            assertEquals(i, cursor.getInt(0));
+            assertEquals(i, cursor.getLong(0));
+        }
+        if (!ref.getCell(1).isMissing()) {
+            assertEquals(PREFIX + i, cursor.getString(1));
+            assertEquals(PREFIX + i, cursor.getCharSequence(1).toString());
+        }
+        if (!ref.getCell(2).isMissing()) {
+            assertEquals(i * 1000L, cursor.getLong(2));
+        }
+        if (!ref.getCell(4).isMissing()) {
+            assertEquals(i % 3 == 0, cursor.getBoolean(4));
+            assertEquals(i % 3 == 0 ? 1 : 0, cursor.getInt(4));
+        }
+    }
+
+    private static void assertCursorEqualsReference(final ReadOnlyRowCursor cursor) {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertTrue("Cursor has rows", cursor.next());
+            assertRowEquals(i, cursor);
+        }
+        assertFalse("Cursor at end", cursor.next());
+    }
+
+    /** Reads a table from file, which uses the reusable holders. */
+    @Test
+    public void testReadFromFile() {
+        final Buffer b = createBuffer(ROW_COUNT, true);
+        try (final ReadOnlyRowCursor cursor = createCursor(b)) {
+            assertEquals("Cursor not reading from file", BufferFromFileIteratorVersion20.class,
+                cursor.getClass().getEnclosingClass());
+            assertCursorEqualsReference(cursor);
+        } finally {
+            b.clear();
+        }
+    }
+
+    /** Reads a table held in memory, which wraps the row iterator. */
+    @Test
+    public void testReadFromMemory() {
+        final Buffer b = createBuffer(ROW_COUNT, false);
+        try (final ReadOnlyRowCursor cursor = createCursor(b)) {
+            assertEquals(ReadOnlyRowCursor.class, cursor.getClass().getEnclosingClass());
+            assertCursorEqualsReference(cursor);
+        } finally {
+            b.clear();
+        }
+    }
+
+    /** Tests the lifetime rules: holders are reused, values are not accessible before the first row, at the end of
+     * the table and after the cursor has been closed. */
+    @Test
+    public void testLifetime() {
+        final Buffer b = createBuffer(ROW_COUNT, true);
+        try (final ReadOnlyRowCursor cursor = createCursor(b)) {
+            assertNoRow(cursor);
+            assertTrue(cursor.next());
+            assertTrue(cursor.next());
+            final CharSequence first = cursor.getCharSequence(1);
+            final String firstString = cursor.getString(1);
+            final DataCell firstCell = cursor.getCell(0);
+            assertSame("Cells are cached per row", firstCell, cursor.getCell(0));
+            assertTrue(cursor.next());
+            assertSame("Holder is reused", first, cursor.getCharSequence(1));
+            assertEquals(PREFIX + 1, firstString);
+            assertEquals(new IntCell(1), firstCell);
+            assertRowEquals(2, cursor);
+            for (int i = 3; i <= 7; i++) {
+                assertTrue(cursor.next());
+            }
+            assertTrue("Int cell in row 7 is missing", cursor.isMissing(0));
+            try {
+                cursor.getInt(0);
+                fail("Expected exception for missing cell");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+            cursor.close();
+            assertFalse("Closed cursor has no rows", cursor.next());
+            assertNoRow(cursor);
+        } finally {
+            b.clear();
+        }
+    }
+
+    private static void assertNoRow(final ReadOnlyRowCursor cursor) {
+        try {
+            cursor.getKey();
+            fail("Expected exception when not on a row");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            cursor.getInt(0);
+            fail("Expected exception when not on a row");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /** Tests that the typed accessors of a cursor reading from file do not create cells. */
+    @Test
+    public void testTypedAccessorsDoNotCreateCells() {
+        final Buffer b = createBuffer(ROW_COUNT, true);
+        try (final ReadOnlyRowCursor cursor = createCursor(b)) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                assertTrue(cursor.next());
+                // int, string, long, double and boolean columns
+                for (int c = 0; c < 5; c++) {
+                    if (cursor.isMissing(c)) {
+                        continue;
+                    }
+                    final String message = "Cell " + c + " in row " + i;
+                    if (c == 1) {
+                        assertEquals(message, PREFIX + i, cursor.getCharSequence(c).toString());
+                    } else if (c == 4) {
+                        assertEquals(message, i % 3 == 0, cursor.getBoolean(c));
+                    } else {
+                        cursor.getDouble(c);
+                    }
+                    assertTrue(message + " created by typed accessor", cursor.isHeldWithoutCell(c));
+                    cursor.getCell(c);
+                    assertFalse(message + " not created by getCell", cursor.isHeldWithoutCell(c));
+                }
+                assertFalse("Complex number held in holder", cursor.isHeldWithoutCell(5));
+            }
+        } finally {
+            b.clear();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.NodeSettings;
+
+/**
+ * Tests the {@link RowOffsetIndex} and reading row ranges from tables written to disk.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class RowOffsetIndexTest {
+
+    /** Tests that entries are recorded every interval rows and found again. */
+    @Test
+    public void testFloorEntry() {
+        final RowOffsetIndex index = new RowOffsetIndex();
+        final long interval = RowOffsetIndex.INITIAL_INTERVAL;
+        assertEquals(-1, index.floorEntry(0));
+        for (long row = 0; row < 10 * interval + 3; row++) {
+            index.addRow(row, 7 * row);
+        }
+        assertEquals(11, index.size());
+        assertEquals(0, index.floorEntry(interval - 1));
+        final int entry = index.floorEntry(3 * interval + 5);
+        assertEquals(3 * interval, index.getRowIndex(entry));
+        assertEquals(21 * interval, index.getOffset(entry));
+        assertEquals(10, index.floorEntry(100 * interval));
+    }
+
+    /** Tests that the interval is doubled once the index runs full. */
+    @Test
+    public void testCompaction() {
+        final RowOffsetIndex index = new RowOffsetIndex();
+        final long rowCount = 3L * RowOffsetIndex.MAX_ENTRIES * RowOffsetIndex.INITIAL_INTERVAL;
+        for (long row = 0; row < rowCount; row++) {
+            index.addRow(row, 2 * row);
+        }
+        assertTrue(index.size() <= RowOffsetIndex.MAX_ENTRIES);
+        assertEquals(4L * RowOffsetIndex.INITIAL_INTERVAL, index.getInterval());
+        for (long row = 0; row < rowCount; row += rowCount / 97) {
+            final int entry = index.floorEntry(row);
+            final long entryRow = index.getRowIndex(entry);
+            assertTrue(entryRow <= row && row - entryRow < index.getInterval());
+            assertEquals(2 * entryRow, index.getOffset(entry));
+        }
+    }
+
+    /**
+     * Tests saving and loading the index.
+     *
+     * @throws Exception if the settings are invalid
+     */
+    @Test
+    public void testSaveLoad() throws Exception {
+        final NodeSettings empty = new NodeSettings("empty");
+        assertNull(RowOffsetIndex.load(empty));
+
+        final RowOffsetIndex index = new RowOffsetIndex();
+        for (long row = 0; row < 50 * RowOffsetIndex.INITIAL_INTERVAL; row++) {
+            index.addRow(row, row * row);
+        }
+        final NodeSettings settings = new NodeSettings("index");
+        index.save(settings);
+        final RowOffsetIndex loaded = RowOffsetIndex.load(settings);
+        assertEquals(index.size(), loaded.size());
+        assertEquals(index.getInterval(), loaded.getInterval());
+        for (int i = 0; i < index.size(); i++) {
+            assertEquals(index.getOffset(i), loaded.getOffset(i));
+        }
+    }
+
+    /** Tests that row ranges read from a table on disk match the written rows. */
+    @Test
+    public void testIterateRange() {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+        final int rowCount = 10 * RowOffsetIndex.INITIAL_INTERVAL + 17;
+        final DataContainer container = new DataContainer(spec, true, /* no rows in mem */ 0, false);
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        container.close();
+        final ContainerTable table = container.getBufferedTable();
+        final long[][] ranges = {{0, 10}, {RowOffsetIndex.INITIAL_INTERVAL, RowOffsetIndex.INITIAL_INTERVAL + 1},
+            {3 * RowOffsetIndex.INITIAL_INTERVAL - 1, 5 * RowOffsetIndex.INITIAL_INTERVAL + 3},
+            {rowCount - 5, rowCount - 1}};
+        for (long[] range : ranges) {
+            try (CloseableRowIterator it =
+                table.iteratorWithFilter(TableFilter.filterRangeOfRows(range[0], range[1]))) {
+                for (long i = range[0]; i <= range[1]; i++) {
+                    assertTrue(it.hasNext());
+                    final DataRow row = it.next();
+                    assertEquals(RowKey.createRowKey(i), row.getKey());
+                    assertEquals(i, ((IntCell)row.getCell(0)).getIntValue());
+                }
+                assertFalse(it.hasNext());
+            }
+        }
+        table.clear();
+    }
+
+    /** Tests that reading an empty table from an offset beyond the first interval falls back to sequential reading. */
+    @Test
+    public void testIterateEmptyTable() {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+        final DataContainer container = new DataContainer(spec, true, /* no rows in mem */ 0, false);
+        container.close();
+        final ContainerTable table = container.getBufferedTable();
+        try (CloseableRowIterator it =
+            table.iteratorWithFilter(TableFilter.filterRowsFromIndex(2L * RowOffsetIndex.INITIAL_INTERVAL))) {
+            assertFalse(it.hasNext());
+        }
+        table.clear();
+    }
+
+}
@@ -0,0 +1,585 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.convert;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.convert.datacell.DoubleToDataCellConverter;
+import org.knime.core.data.convert.datacell.IntToDataCellConverter;
+import org.knime.core.data.convert.datacell.JavaToDataCellConverterRegistry;
+import org.knime.core.data.convert.datacell.TypedJavaToDataCellConverterFactory;
+import org.knime.core.data.convert.java.DataCellToDoubleConverter;
+import org.knime.core.data.convert.java.DataCellToIntConverter;
+import org.knime.core.data.convert.java.DataCellToJavaConverterRegistry;
+import org.knime.core.data.convert.java.TypedDataCellToJavaConverterFactory;
+import org.knime.core.data.convert.map.ConsumptionPath;
+import org.knime.core.data.convert.map.DataRowBatchConsumer;
+import org.knime.core.data.convert.map.DataRowBatchProducer;
+import org.knime.core.data.convert.map.Destination;
+import org.knime.core.data.convert.map.DoubleCellValueConsumer;
+import org.knime.core.data.convert.map.DoubleCellValueProducer;
+import org.knime.core.data.convert.map.IntCellValueConsumer;
+import org.knime.core.data.convert.map.IntCellValueProducer;
+import org.knime.core.data.convert.map.MappingFramework;
+import org.knime.core.data.convert.map.ProductionPath;
+import org.knime.core.data.convert.map.SimpleCellValueConsumerFactory;
+import org.knime.core.data.convert.map.SimpleCellValueProducerFactory;
+import org.knime.core.data.convert.map.Source;
+import org.knime.core.data.convert.map.TypedCellValueConsumerFactory;
+import org.knime.core.data.convert.map.TypedCellValueProducerFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.FileStoreFactory;
+
+/**
+ * Tests {@link DataRowBatchProducer} and {@link DataRowBatchConsumer} against the per-row API of the
+ * {@link MappingFramework}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DataRowBatchTest {
+
+    /** Marks a missing int value in the source and destination. */
+    private static final int MISSING_INT = Integer.MIN_VALUE;
+
+    /** Parameters of all columns, the column is determined by the producer or consumer. */
+    private static final class Params
+        implements Source.ProducerParameters<ArraySource>, Destination.ConsumerParameters<ArrayDestination> {
+    }
+
+    /** A table with an int, a double and a string column, missing doubles are NaN. */
+    private static final class ArraySource implements Source<String> {
+
+        private final int[] m_ints;
+
+        private final double[] m_doubles;
+
+        private final String[] m_strings;
+
+        private int m_row;
+
+        ArraySource(final int rowCount) {
+            m_ints = new int[rowCount];
+            m_doubles = new double[rowCount];
+            m_strings = new String[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                m_ints[i] = i % 7 == 3 ? MISSING_INT : i;
+                m_doubles[i] = i % 11 == 5 ? Double.NaN : i / 4.0;
+                m_strings[i] = i % 5 == 1 ? null : ("Row" + i);
+            }
+        }
+    }
+
+    /** The destination of the data of an {@link ArraySource}. */
+    private static final class ArrayDestination implements Destination<String> {
+
+        private final int[] m_ints;
+
+        private final double[] m_doubles;
+
+        private final String[] m_strings;
+
+        private int m_row;
+
+        ArrayDestination(final int rowCount) {
+            m_ints = new int[rowCount];
+            m_doubles = new double[rowCount];
+            m_strings = new String[rowCount];
+        }
+    }
+
+    private static final class IntProducerFactory implements TypedCellValueProducerFactory<ArraySource, String,
+            Integer, Params, IntCellValueProducer<ArraySource, Params>> {
+
+        @Override
+        public Class<?> getDestinationType() {
+            return int.class;
+        }
+
+        @Override
+        public String getSourceType() {
+            return "INT";
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "INT->int";
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public Class<IntCellValueProducer<ArraySource, Params>> getProducerType() {
+            return (Class)IntCellValueProducer.class;
+        }
+
+        @Override
+        public IntCellValueProducer<ArraySource, Params> create() {
+            return new IntCellValueProducer<ArraySource, Params>() {
+
+                @Override
+                public boolean producesMissingCellValue(final ArraySource source, final Params params) {
+                    return source.m_ints[source.m_row] == MISSING_INT;
+                }
+
+                @Override
+                public int produceIntCellValue(final ArraySource source, final Params params) {
+                    return source.m_ints[source.m_row];
+                }
+            };
+        }
+    }
+
+    private static final class DoubleProducerFactory implements TypedCellValueProducerFactory<ArraySource, String,
+            Double, Params, DoubleCellValueProducer<ArraySource, Params>> {
+
+        @Override
+        public Class<?> getDestinationType() {
+            return double.class;
+        }
+
+        @Override
+        public String getSourceType() {
+            return "DOUBLE";
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "DOUBLE->double";
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public Class<DoubleCellValueProducer<ArraySource, Params>> getProducerType() {
+            return (Class)DoubleCellValueProducer.class;
+        }
+
+        @Override
+        public DoubleCellValueProducer<ArraySource, Params> create() {
+            return new DoubleCellValueProducer<ArraySource, Params>() {
+
+                @Override
+                public boolean producesMissingCellValue(final ArraySource source, final Params params) {
+                    return Double.isNaN(source.m_doubles[source.m_row]);
+                }
+
+                @Override
+                public double produceDoubleCellValue(final ArraySource source, final Params params) {
+                    return source.m_doubles[source.m_row];
+                }
+            };
+        }
+    }
+
+    private static final class IntToCellFactory
+        implements TypedJavaToDataCellConverterFactory<Integer, IntToDataCellConverter> {
+
+        @Override
+        public Class<?> getSourceType() {
+            return int.class;
+        }
+
+        @Override
+        public DataType getDestinationType() {
+            return IntCell.TYPE;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "int->IntCell";
+        }
+
+        @Override
+        public Class<IntToDataCellConverter> getConverterType() {
+            return IntToDataCellConverter.class;
+        }
+
+        @Override
+        public IntToDataCellConverter create(final FileStoreFactory fileStoreFactory) {
+            return IntCell::new;
+        }
+    }
+
+    private static final class DoubleToCellFactory
+        implements TypedJavaToDataCellConverterFactory<Double, DoubleToDataCellConverter> {
+
+        @Override
+        public Class<?> getSourceType() {
+            return double.class;
+        }
+
+        @Override
+        public DataType getDestinationType() {
+            return DoubleCell.TYPE;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "double->DoubleCell";
+        }
+
+        @Override
+        public Class<DoubleToDataCellConverter> getConverterType() {
+            return DoubleToDataCellConverter.class;
+        }
+
+        @Override
+        public DoubleToDataCellConverter create(final FileStoreFactory fileStoreFactory) {
+            return DoubleCell::new;
+        }
+    }
+
+    private static final class IntFromCellFactory
+        implements TypedDataCellToJavaConverterFactory<IntValue, Integer, DataCellToIntConverter<IntValue>> {
+
+        @Override
+        public Class<? extends DataValue> getSourceType() {
+            return IntValue.class;
+        }
+
+        @Override
+        public Class<?> getDestinationType() {
+            return int.class;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "IntValue->int";
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public Class<DataCellToIntConverter<IntValue>> getConverterType() {
+            return (Class)DataCellToIntConverter.class;
+        }
+
+        @Override
+        public DataCellToIntConverter<IntValue> create() {
+            return IntValue::getIntValue;
+        }
+    }
+
+    private static final class DoubleFromCellFactory implements
+        TypedDataCellToJavaConverterFactory<DoubleValue, Double, DataCellToDoubleConverter<DoubleValue>> {
+
+        @Override
+        public Class<? extends DataValue> getSourceType() {
+            return DoubleValue.class;
+        }
+
+        @Override
+        public Class<?> getDestinationType() {
+            return double.class;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "DoubleValue->double";
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public Class<DataCellToDoubleConverter<DoubleValue>> getConverterType() {
+            return (Class)DataCellToDoubleConverter.class;
+        }
+
+        @Override
+        public DataCellToDoubleConverter<DoubleValue> create() {
+            return DoubleValue::getDoubleValue;
+        }
+    }
+
+    private static final class IntConsumerFactory implements TypedCellValueConsumerFactory<ArrayDestination,
+            Integer, String, Params, IntCellValueConsumer<ArrayDestination, Params>> {
+
+        @Override
+        public Class<?> getSourceType() {
+            return int.class;
+        }
+
+        @Override
+        public String getDestinationType() {
+            return "INT";
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "int->INT";
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public Class<IntCellValueConsumer<ArrayDestination, Params>> getConsumerType() {
+            return (Class)IntCellValueConsumer.class;
+        }
+
+        @Override
+        public IntCellValueConsumer<ArrayDestination, Params> create() {
+            return new IntCellValueConsumer<ArrayDestination, Params>() {
+
+                @Override
+                public void consumeMissingCellValue(final ArrayDestination destination, final Params params) {
+                    destination.m_ints[destination.m_row] = MISSING_INT;
+                }
+
+                @Override
+                public void consumeIntCellValue(final ArrayDestination destination, final int value,
+                    final Params params) {
+                    destination.m_ints[destination.m_row] = value;
+                }
+            };
+        }
+    }
+
+    private static final class DoubleConsumerFactory implements TypedCellValueConsumerFactory<ArrayDestination,
+            Double, String, Params, DoubleCellValueConsumer<ArrayDestination, Params>> {
+
+        @Override
+        public Class<?> getSourceType() {
+            return double.class;
+        }
+
+        @Override
+        public String getDestinationType() {
+            return "DOUBLE";
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "double->DOUBLE";
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public Class<DoubleCellValueConsumer<ArrayDestination, Params>> getConsumerType() {
+            return (Class)DoubleCellValueConsumer.class;
+        }
+
+        @Override
+        public DoubleCellValueConsumer<ArrayDestination, Params> create() {
+            return new DoubleCellValueConsumer<ArrayDestination, Params>() {
+
+                @Override
+                public void consumeMissingCellValue(final ArrayDestination destination, final Params params) {
+                    destination.m_doubles[destination.m_row] = Double.NaN;
+                }
+
+                @Override
+                public void consumeDoubleCellValue(final ArrayDestination destination, final double value,
+                    final Params params) {
+                    destination.m_doubles[destination.m_row] = value;
+                }
+            };
+        }
+    }
+
+    private static ProductionPath[] createProductionPaths() {
+        return new ProductionPath[]{new ProductionPath(new IntProducerFactory(), new IntToCellFactory()),
+            new ProductionPath(new DoubleProducerFactory(), new DoubleToCellFactory()),
+            new ProductionPath(
+                new SimpleCellValueProducerFactory<ArraySource, String, String, Params>("STRING", String.class,
+                    (source, params) -> source.m_strings[source.m_row]),
+                JavaToDataCellConverterRegistry.getInstance().getConverterFactories(String.class, StringCell.TYPE)
+                    .stream().findFirst().get())};
+    }
+
+    private static ConsumptionPath[] createConsumptionPaths() {
+        return new ConsumptionPath[]{new ConsumptionPath(new IntFromCellFactory(), new IntConsumerFactory()),
+            new ConsumptionPath(new DoubleFromCellFactory(), new DoubleConsumerFactory()),
+            new ConsumptionPath(
+                DataCellToJavaConverterRegistry.getInstance().getConverterFactories(StringCell.TYPE, String.class)
+                    .stream().findFirst().get(),
+                new SimpleCellValueConsumerFactory<ArrayDestination, String, String, Params>(String.class, "STRING",
+                    (destination, value, params) -> destination.m_strings[destination.m_row] = value))};
+    }
+
+    private static Params[] createParams() {
+        return new Params[]{new Params(), new Params(), new Params()};
+    }
+
+    /** Produces all rows of the source using the per-row API. */
+    private static DataRow[] produceRows(final ArraySource source) throws Exception {
+        final DataRowBatchProducer<Params> producer =
+            MappingFramework.createDataRowBatchProducer(null, source, createProductionPaths(), 1);
+        final Params[] params = createParams();
+        final DataRow[] rows = new DataRow[source.m_ints.length];
+        for (int i = 0; i < rows.length; i++) {
+            source.m_row = i;
+            rows[i] = producer.produceDataRow(RowKey.createRowKey((long)i), params);
+        }
+        return rows;
+    }
+
+    /** Produces all rows of the source using the batch API. */
+    private static DataRow[] produceRowBatches(final ArraySource source, final int batchCapacity) throws Exception {
+        final DataRowBatchProducer<Params> producer =
+            MappingFramework.createDataRowBatchProducer(null, source, createProductionPaths(), batchCapacity);
+        final Params[] params = createParams();
+        final DataRow[] rows = new DataRow[source.m_ints.length];
+        int rowIndex = 0;
+        for (int i = 0; i < rows.length; i++) {
+            source.m_row = i;
+            producer.readRow(RowKey.createRowKey((long)i), params);
+            if (producer.getBatchSize() == producer.getBatchCapacity()) {
+                for (DataRow row : producer.produceDataRows()) {
+                    rows[rowIndex++] = row;
+                }
+            }
+        }
+        for (DataRow row : producer.produceDataRows()) {
+            rows[rowIndex++] = row;
+        }
+        assertEquals(rows.length, rowIndex);
+        return rows;
+    }
+
+    /** Writes the rows to the destination using the per-row API. */
+    private static void consumeRows(final DataRow[] rows, final ArrayDestination destination) throws Exception {
+        final DataRowBatchConsumer<Params> consumer =
+            MappingFramework.createDataRowBatchConsumer(destination, createConsumptionPaths(), 1);
+        final Params[] params = createParams();
+        for (int i = 0; i < rows.length; i++) {
+            destination.m_row = i;
+            consumer.consumeDataRow(rows[i], params);
+        }
+    }
+
+    /** Writes the rows to the destination using the batch API. */
+    private static void consumeRowBatches(final DataRow[] rows, final ArrayDestination destination,
+        final int batchCapacity) throws Exception {
+        final DataRowBatchConsumer<Params> consumer =
+            MappingFramework.createDataRowBatchConsumer(destination, createConsumptionPaths(), batchCapacity);
+        final Params[] params = createParams();
+        final DataRow[] batch = new DataRow[batchCapacity];
+        for (int start = 0; start < rows.length; start += batchCapacity) {
+            final int count = Math.min(batchCapacity, rows.length - start);
+            System.arraycopy(rows, start, batch, 0, count);
+            consumer.setDataRows(batch, count);
+            for (int i = 0; i < count; i++) {
+                destination.m_row = start + i;
+                consumer.writeRow(i, params);
+            }
+        }
+    }
+
+    private static void assertRowsEqual(final DataRow[] expected, final DataRow[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getKey(), actual[i].getKey());
+            assertEquals(expected[i].getNumCells(), actual[i].getNumCells());
+            for (int c = 0; c < expected[i].getNumCells(); c++) {
+                assertEquals("Row " + i + ", column " + c, expected[i].getCell(c), actual[i].getCell(c));
+            }
+        }
+    }
+
+    /**
+     * Tests that producing rows in batches gives the same rows as producing them one by one.
+     *
+     * @throws Exception if producing fails
+     */
+    @Test
+    public void testProduceBatches() throws Exception {
+        final ArraySource source = new ArraySource(1050);
+        final DataRow[] expected = produceRows(source);
+        assertEquals(IntCell.TYPE, expected[0].getCell(0).getType());
+        assertEquals(DoubleCell.TYPE, expected[0].getCell(1).getType());
+        assertTrue(expected[3].getCell(0).isMissing());
+        assertTrue(expected[1].getCell(2).isMissing());
+        for (int batchCapacity : new int[]{1, 100, 1024, 5000}) {
+            assertRowsEqual(expected, produceRowBatches(source, batchCapacity));
+        }
+
+        final DataRowBatchProducer<Params> producer =
+            MappingFramework.createDataRowBatchProducer(null, source, createProductionPaths(), 2);
+        producer.readRow(RowKey.createRowKey(0L), createParams());
+        producer.readRow(RowKey.createRowKey(1L), createParams());
+        try {
+            producer.readRow(RowKey.createRowKey(2L), createParams());
+            fail("Expected exception when reading into a full batch");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(2, producer.produceDataRows().length);
+        assertEquals(0, producer.getBatchSize());
+        assertEquals(0, producer.produceDataRows().length);
+    }
+
+    /**
+     * Tests that consuming rows in batches writes the same values as consuming them one by one.
+     *
+     * @throws Exception if consuming fails
+     */
+    @Test
+    public void testConsumeBatches() throws Exception {
+        final ArraySource source = new ArraySource(1050);
+        final DataRow[] rows = produceRows(source);
+        final ArrayDestination expected = new ArrayDestination(rows.length);
+        consumeRows(rows, expected);
+        assertArrayEquals(source.m_ints, expected.m_ints);
+        assertArrayEquals(source.m_doubles, expected.m_doubles, 0.0);
+        assertArrayEquals(source.m_strings, expected.m_strings);
+        for (int batchCapacity : new int[]{1, 100, 1024, 5000}) {
+            final ArrayDestination actual = new ArrayDestination(rows.length);
+            consumeRowBatches(rows, actual, batchCapacity);
+            assertArrayEquals(expected.m_ints, actual.m_ints);
+            assertArrayEquals(expected.m_doubles, actual.m_doubles, 0.0);
+            assertArrayEquals(expected.m_strings, actual.m_strings);
+        }
+    }
+}
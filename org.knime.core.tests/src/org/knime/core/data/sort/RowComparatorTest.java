@@ -0,0 +1,223 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.sort;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Tests the normalized keys of the {@link RowComparator} and compares the sorting performance of normalized keys with
+ * the performance of the comparator.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowComparatorTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(RowComparatorTest.class);
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE)
+        .createSpec(), new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec());
+
+    private static final double[] SPECIAL_DOUBLES = {Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+        -0.0, 0.0, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+
+    private static final String[] SPECIAL_STRINGS = {"", "\u0000", "a\u0000", "a", "a\u0000b", "\u00ff", "\u0100",
+        "\uffff", "ab", "\ud83d\ude00"};
+
+    /** Tests that comparing normalized keys has the same result as comparing rows, for all sort criteria. */
+    @Test
+    public void testNormalizedKeysMatchComparator() {
+        final long seed = System.currentTimeMillis();
+        LOGGER.info("Using seed " + seed);
+        final Random rand = new Random(seed);
+        final DataRow[] rows = createRows(rand, 300, true);
+        final int[][] criteria = {{0}, {1}, {2}, {3}, {-1}, {3, 0}, {2, 1, -1}, {0, 3, 2}};
+        for (int[] indices : criteria) {
+            for (boolean missingsToEnd : new boolean[]{false, true}) {
+                for (int order = 0; order < (1 << indices.length); order++) {
+                    final boolean[] ascending = new boolean[indices.length];
+                    for (int i = 0; i < indices.length; i++) {
+                        ascending[i] = (order & (1 << i)) != 0;
+                    }
+                    final RowComparator comparator = new RowComparator(indices, ascending, missingsToEnd, SPEC);
+                    assertTrue(comparator.supportsNormalizedKeys());
+                    assertSameOrder(comparator, rows, Arrays.toString(indices) + ", ascending "
+                        + Arrays.toString(ascending) + ", missings to end " + missingsToEnd);
+                }
+            }
+        }
+    }
+
+    /** Tests that normalized keys are not supported for columns compared by other comparators. */
+    @Test
+    public void testUnsupportedColumn() {
+        final RowComparator comparator =
+            new RowComparator(new int[]{0, 4}, new boolean[]{true, true}, false, SPEC);
+        assertFalse(comparator.supportsNormalizedKeys());
+    }
+
+    /** Tests the unsigned lexicographic comparison of keys. */
+    @Test
+    public void testCompareNormalizedKeys() {
+        assertEquals(0, RowComparator.compareNormalizedKeys(new byte[0], new byte[0]));
+        assertTrue(RowComparator.compareNormalizedKeys(new byte[]{1}, new byte[]{(byte)0xFF}) < 0);
+        assertTrue(RowComparator.compareNormalizedKeys(new byte[]{1}, new byte[]{1, 0}) < 0);
+        assertTrue(RowComparator.compareNormalizedKeys(new byte[]{2}, new byte[]{1, 0}) > 0);
+    }
+
+    /**
+     * Tests that sorting rows by their normalized keys gives the same order as sorting them with the comparator, for
+     * int, double, string, and mixed sort criteria.
+     */
+    @Test
+    public void testSortByNormalizedKeys() {
+        final Random rand = new Random(42);
+        final DataRow[] rows = createRows(rand, 5000, true);
+        final int[][] criteria = {{0}, {2}, {3}, {3, 0, 2}};
+        for (int c = 0; c < criteria.length; c++) {
+            final boolean[] ascending = new boolean[criteria[c].length];
+            for (int i = 0; i < ascending.length; i++) {
+                ascending[i] = rand.nextBoolean();
+            }
+            final RowComparator comparator = new RowComparator(criteria[c], ascending, rand.nextBoolean(), SPEC);
+            final DataRow[] sortedByComparator = rows.clone();
+            Arrays.sort(sortedByComparator, comparator);
+            final KeyedRow[] keyed = new KeyedRow[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                keyed[i] = new KeyedRow(rows[i], comparator.createNormalizedKey(rows[i]));
+            }
+            Arrays.sort(keyed, KeyedRow.COMPARATOR);
+            for (int i = 0; i < rows.length; i++) {
+                assertEquals("Criteria " + Arrays.toString(criteria[c]) + ", row " + i, 0,
+                    comparator.compare(sortedByComparator[i], keyed[i].m_row));
+            }
+        }
+    }
+
+    private static void assertSameOrder(final RowComparator comparator, final DataRow[] rows, final String msg) {
+        final byte[][] keys = new byte[rows.length][];
+        for (int i = 0; i < rows.length; i++) {
+            keys[i] = comparator.createNormalizedKey(rows[i]);
+        }
+        for (int i = 0; i < rows.length; i++) {
+            for (int j = 0; j < rows.length; j++) {
+                final int expected = Integer.signum(comparator.compare(rows[i], rows[j]));
+                final int actual = Integer.signum(RowComparator.compareNormalizedKeys(keys[i], keys[j]));
+                assertEquals(msg + ": " + rows[i] + " vs. " + rows[j], expected, actual);
+            }
+        }
+    }
+
+    private static DataRow[] createRows(final Random rand, final int count, final boolean specialValues) {
+        final DataCell missing = DataType.getMissingCell();
+        final DataRow[] rows = new DataRow[count];
+        for (int i = 0; i < count; i++) {
+            final boolean isMissing = specialValues && rand.nextInt(10) == 0;
+            final DataCell intCell = isMissing ? missing : new IntCell(specialValues
+                ? (rand.nextBoolean() ? rand.nextInt(5) - 2 : rand.nextInt()) : rand.nextInt(1000));
+            final DataCell longCell = isMissing ? missing : new LongCell(specialValues
+                ? (rand.nextBoolean() ? rand.nextInt(5) - 2 : rand.nextLong()) : rand.nextLong());
+            final DataCell doubleCell;
+            if (specialValues && rand.nextInt(10) == 0) {
+                doubleCell = missing;
+            } else if (specialValues && rand.nextBoolean()) {
+                doubleCell = new DoubleCell(SPECIAL_DOUBLES[rand.nextInt(SPECIAL_DOUBLES.length)]);
+            } else {
+                doubleCell = new DoubleCell(rand.nextGaussian() * 1000);
+            }
+            final DataCell stringCell;
+            if (specialValues && rand.nextInt(10) == 0) {
+                stringCell = missing;
+            } else if (specialValues && rand.nextBoolean()) {
+                stringCell = new StringCell(SPECIAL_STRINGS[rand.nextInt(SPECIAL_STRINGS.length)]);
+            } else {
+                stringCell = new StringCell("Row value " + rand.nextInt(specialValues ? 20 : 100000));
+            }
+            rows[i] = new DefaultRow("Row" + rand.nextInt(count), intCell, longCell, doubleCell, stringCell,
+                BooleanCell.get(rand.nextBoolean()));
+        }
+        return rows;
+    }
+
+    private static final class KeyedRow {
+
+        static final Comparator<KeyedRow> COMPARATOR =
+            (r1, r2) -> RowComparator.compareNormalizedKeys(r1.m_key, r2.m_key);
+
+        private final DataRow m_row;
+
+        private final byte[] m_key;
+
+        KeyedRow(final DataRow row, final byte[] key) {
+            m_row = row;
+            m_key = key;
+        }
+    }
+}
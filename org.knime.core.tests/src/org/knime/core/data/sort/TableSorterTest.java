@@ -70,16 +70,19 @@
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.DefaultNodeProgressMonitor;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeFactory;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.core.util.ThreadPool;
 
 /**
  *
@@ -140,6 +143,75 @@ public final void testMultiStageMerge() throws CanceledExecutionException {
         runMemoryTest(100, 5, 8);
     }
 
+    /**
+     * Tests that sorting chunks and merging many temporary tables in parallel yields the same (stable) result as
+     * sorting sequentially.
+     *
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testParallelSortAndMerge() throws CanceledExecutionException {
+        final BufferedDataTableSorter sorter =
+            new BufferedDataTableSorter(createRandomTable(), Arrays.asList("Index"), new boolean[]{true});
+        sorter.setMaxThreads(1);
+        final BufferedDataTable sequentialResult = sorter.sort(m_exec);
+
+        // a single chunk sorted by multiple threads
+        sorter.setMaxThreads(4);
+        assertSameRowKeys(sequentialResult, sorter.sort(m_exec));
+
+        // many chunks merged by multiple threads
+        sorter.setMaxRows(1000);
+        sorter.setMaxOpenContainers(4);
+        assertSameRowKeys(sequentialResult, sorter.sort(m_exec));
+    }
+
+    /**
+     * Sorts in parallel on a thread of the global thread pool while that pool is limited to a single thread, i.e. the
+     * sort must not occupy the thread while it waits for its tasks.
+     *
+     * @throws Exception if the sort fails
+     */
+    @Test(timeout = 60000L)
+    public final void testParallelSortInSaturatedPool() throws Exception {
+        final BufferedDataTable table = createRandomTable();
+        final BufferedDataTableSorter sorter =
+            new BufferedDataTableSorter(table, Arrays.asList("Index"), new boolean[]{true});
+        sorter.setMaxThreads(4);
+        sorter.setMaxRows(1000);
+        sorter.setMaxOpenContainers(4);
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL;
+        final int maxThreads = pool.getMaxThreads();
+        pool.setMaxThreads(1);
+        try {
+            final BufferedDataTable result = pool.enqueue(() -> sorter.sort(m_exec)).get();
+            Assert.assertEquals("Wrong row count", table.size(), result.size());
+        } finally {
+            pool.setMaxThreads(maxThreads);
+        }
+    }
+
+    private BufferedDataTable createRandomTable() {
+        final BufferedDataContainer cont = m_exec.createDataContainer(
+            new DataTableSpec(new String[]{"Index"}, new DataType[]{IntCell.TYPE}));
+        final Random rand = new Random(1);
+        for (int i = 0; i < 50000; i++) {
+            // many duplicates to verify that the sort is stable
+            cont.addRowToTable(new DefaultRow(Integer.toString(i), new IntCell(rand.nextInt(100))));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    private static void assertSameRowKeys(final BufferedDataTable expected, final BufferedDataTable actual) {
+        Assert.assertEquals("Wrong row count", expected.size(), actual.size());
+        final RowIterator expectedIter = expected.iterator();
+        final RowIterator actualIter = actual.iterator();
+        while (expectedIter.hasNext()) {
+            Assert.assertEquals("Wrong row order", expectedIter.next().getKey(), actualIter.next().getKey());
+        }
+    }
+
     private void runMemoryTest(final int numRows,
             final int maxNumRowsPerContainer,
             final int maxOpenContainers) throws CanceledExecutionException {
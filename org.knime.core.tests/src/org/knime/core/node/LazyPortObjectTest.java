@@ -0,0 +1,163 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.internal.ReferencedFile;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Tests {@link LazyPortObject}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class LazyPortObjectTest {
+
+    private ReferencedFile m_nodeDirRef;
+
+    private AtomicInteger m_readCount;
+
+    @Before
+    public void setUp() {
+        m_nodeDirRef = new ReferencedFile(new File(System.getProperty("java.io.tmpdir")));
+        m_readCount = new AtomicInteger();
+    }
+
+    /** Object is only read on first access. */
+    @Test
+    public void testReadOnFirstAccess() {
+        LazyPortObject lazy = new LazyPortObject(m_nodeDirRef, () -> {
+            m_readCount.incrementAndGet();
+            return FlowVariablePortObject.INSTANCE;
+        });
+        assertEquals("Read before access", 0, m_readCount.get());
+        assertFalse(lazy.isInMemory());
+        assertSame(FlowVariablePortObject.INSTANCE, lazy.get());
+        assertSame(FlowVariablePortObject.INSTANCE, lazy.get());
+        assertEquals("Object read more than once", 1, m_readCount.get());
+        lazy.pin();
+        assertTrue(lazy.isInMemory());
+        assertEquals(1, m_readCount.get());
+    }
+
+    /** Read problems result in an exception and are retried on next access. */
+    @Test
+    public void testReadFailure() {
+        LazyPortObject lazy = new LazyPortObject(m_nodeDirRef, () -> {
+            if (m_readCount.incrementAndGet() == 1) {
+                throw new IOException("Test failure - ignore");
+            }
+            return FlowVariablePortObject.INSTANCE;
+        });
+        try {
+            lazy.get();
+            fail("Failed read not reported");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        assertFalse(lazy.isInMemory());
+        assertSame(FlowVariablePortObject.INSTANCE, lazy.get());
+        assertEquals("Failed read not retried", 2, m_readCount.get());
+    }
+
+    /** Pinning an object that can't be read leaves the handle unpinned. */
+    @Test
+    public void testPinReadFailure() {
+        LazyPortObject lazy = new LazyPortObject(m_nodeDirRef, () -> {
+            m_readCount.incrementAndGet();
+            throw new IOException("Test failure - ignore");
+        });
+        lazy.pin();
+        assertFalse(lazy.isInMemory());
+        assertEquals(1, m_readCount.get());
+    }
+
+    /** The object is read in the node context current at construction time, also by other threads. */
+    @Test
+    public void testReadInNodeContext() throws Exception {
+        final AtomicReference<NodeContext> contextDuringRead = new AtomicReference<>();
+        final NodeContext ownerContext;
+        final LazyPortObject lazy;
+        NodeContext.pushContext((Object)"Owning node");
+        try {
+            ownerContext = NodeContext.getContext();
+            lazy = new LazyPortObject(m_nodeDirRef, () -> {
+                contextDuringRead.set(NodeContext.getContext());
+                return FlowVariablePortObject.INSTANCE;
+            });
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                assertSame(FlowVariablePortObject.INSTANCE, lazy.get());
+                assertNull("Node context not removed after read", NodeContext.getContext());
+            }).get();
+        } finally {
+            executor.shutdown();
+        }
+        assertSame("Object not read in node context", ownerContext, contextDuringRead.get());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+
+/**
+ * Tests for {@link IOThreadNodeExecutionJobManager}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class IOThreadNodeExecutionJobManagerTest {
+
+    private WorkflowManager m_project;
+
+    /** Creates an empty project. */
+    @Before
+    public void setUp() {
+        m_project = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+    }
+
+    /** Removes the project. */
+    @After
+    public void tearDown() {
+        WorkflowManager.ROOT.removeProject(m_project.getID());
+    }
+
+    /** Checks that only native nodes can be assigned to the job manager. */
+    @Test
+    public void testCanExecute() {
+        final NodeID node = m_project.createAndAddNode(new AdapterNodeFactory(true));
+        final WorkflowManager metanode = m_project.createAndAddSubWorkflow(new PortType[0], new PortType[0], "meta");
+        assertTrue(IOThreadNodeExecutionJobManager.INSTANCE.canExecute(m_project.getNodeContainer(node)));
+        assertFalse(IOThreadNodeExecutionJobManager.INSTANCE.canExecute(metanode));
+    }
+
+    /** Checks that the job manager is found by its factory's ID. */
+    @Test
+    public void testFactory() {
+        assertSame(IOThreadNodeExecutionJobManager.INSTANCE, IOThreadNodeExecutionJobManagerFactory.INSTANCE
+            .getInstance());
+        assertEquals(IOThreadNodeExecutionJobManagerFactory.class.getName(),
+            IOThreadNodeExecutionJobManager.INSTANCE.getID());
+        assertEquals(IOThreadNodeExecutionJobManager.DEF_MAX_IO_THREADS,
+            IOThreadNodeExecutionJobManager.IO_THREAD_POOL.getMaxThreads());
+    }
+
+    /**
+     * Executes a chain in which I/O-bound and CPU-bound nodes alternate.
+     *
+     * @throws Exception if execution fails
+     */
+    @Test
+    public void testExecuteMixedChain() throws Exception {
+        NodeID previous = m_project.createAndAddNode(new AdapterNodeFactory(true));
+        m_project.setJobManager(previous, IOThreadNodeExecutionJobManager.INSTANCE);
+        for (int i = 0; i < 10; i++) {
+            final NodeID node = m_project.createAndAddNode(new AdapterNodeFactory());
+            if (i % 2 == 1) {
+                m_project.setJobManager(node, IOThreadNodeExecutionJobManager.INSTANCE);
+            }
+            m_project.addConnection(previous, 1, node, 1);
+            previous = node;
+        }
+        m_project.executeAllAndWaitUntilDone();
+        for (NodeContainer nc : m_project.getNodeContainers()) {
+            assertTrue("Node not executed: " + nc.getNameWithID(), nc.getNodeContainerState().isExecuted());
+        }
+        assertSame(IOThreadNodeExecutionJobManager.INSTANCE, m_project.getNodeContainer(previous).findJobManager());
+    }
+}
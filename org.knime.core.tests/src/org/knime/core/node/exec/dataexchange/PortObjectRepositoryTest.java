@@ -0,0 +1,178 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.dataexchange;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.testing.data.blob.LargeBlobCell;
+
+/**
+ * Tests for {@link PortObjectRepository}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class PortObjectRepositoryTest {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ExecutionContext createExecutionContext() {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Adds, gets and removes objects from several threads.
+     *
+     * @throws Exception if a thread fails
+     */
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final BufferedDataTable table = createTable(createExecutionContext(), 1);
+        final Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        final int id = PortObjectRepository.add(table);
+                        assertTrue("Duplicate ID " + id, ids.add(id));
+                        assertSame(table, PortObjectRepository.get(id));
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8000, ids.size());
+        for (Integer id : ids) {
+            assertSame(table, PortObjectRepository.remove(id));
+            assertNull(PortObjectRepository.get(id));
+        }
+    }
+
+    /**
+     * Copies a table with blobs into another context and checks that the copy is still readable after the original
+     * table has been cleared.
+     *
+     * @throws Exception if copying fails
+     */
+    @Test
+    public void testCopyTableWithBlobs() throws Exception {
+        final ExecutionContext sourceExec = createExecutionContext();
+        final ExecutionContext targetExec = createExecutionContext();
+        final int rowCount = 100;
+        final BufferedDataTable source = createTable(sourceExec, rowCount);
+
+        final BufferedDataTable copy =
+            (BufferedDataTable)PortObjectRepository.copy(source, targetExec, targetExec);
+        assertEquals(rowCount, copy.size());
+        sourceExec.clearTable(source);
+
+        int row = 0;
+        try (CloseableRowIterator it = copy.iterator()) {
+            while (it.hasNext()) {
+                final DataRow r = it.next();
+                assertEquals("Row" + row, r.getKey().getString());
+                assertEquals("String " + row, ((StringCell)r.getCell(0)).getStringValue());
+                // the blob is read from the copy, the file of the source has been deleted
+                assertEquals("Blob " + row, ((LargeBlobCell)r.getCell(1)).getIdentifier());
+                row++;
+            }
+        }
+        assertEquals(rowCount, row);
+    }
+
+    private static BufferedDataTable createTable(final ExecutionContext exec, final int rowCount) {
+        final DataTableSpec spec = new DataTableSpec(new String[]{"string", "blob"},
+            new DataType[]{StringCell.TYPE, LargeBlobCell.TYPE});
+        final BufferedDataContainer con = exec.createDataContainer(spec);
+        for (int i = 0; i < rowCount; i++) {
+            con.addRowToTable(
+                new DefaultRow("Row" + i, new StringCell("String " + i), new LargeBlobCell("Blob " + i, 1024)));
+        }
+        con.close();
+        return con.getTable();
+    }
+}
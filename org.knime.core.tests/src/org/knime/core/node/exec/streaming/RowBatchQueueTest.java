@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Tests {@link RowBatchQueue} together with the row inputs and outputs of the streaming job manager.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowBatchQueueTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("c", IntCell.TYPE).createSpec());
+
+    private ExecutorService m_executor;
+
+    @Before
+    public void setUp() {
+        m_executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        m_executor.shutdownNow();
+    }
+
+    private static DataRow createRow(final int i) {
+        return new DefaultRow("Row" + i, new IntCell(i));
+    }
+
+    private Future<?> startProducer(final RowBatchQueue queue, final int rowCount, final int batchSize) {
+        return m_executor.submit(() -> {
+            final QueueRowOutput output = new QueueRowOutput(Collections.singletonList(queue), null, batchSize);
+            for (int i = 0; i < rowCount; i++) {
+                output.push(createRow(i));
+            }
+            output.close();
+            return null;
+        });
+    }
+
+    /** Rows are received in the order they were pushed, including a last incomplete batch. */
+    @Test(timeout = 10000)
+    public void testSingleReader() throws Exception {
+        final RowBatchQueue queue = new RowBatchQueue(SPEC, 2, 1);
+        final Future<?> producer = startProducer(queue, 1003, 10);
+        final QueueRowInput input = new QueueRowInput(queue, null);
+        assertEquals(SPEC, input.getDataTableSpec());
+        DataRow row;
+        int count = 0;
+        while ((row = input.poll()) != null) {
+            assertEquals("Row" + count, row.getKey().getString());
+            count++;
+        }
+        assertNull("end of stream must be sticky", input.poll());
+        input.close();
+        producer.get();
+        assertEquals(1003, count);
+    }
+
+    /** A reader that closes its input early must not block the producer. */
+    @Test(timeout = 10000)
+    public void testReaderClosedEarly() throws Exception {
+        final RowBatchQueue queue = new RowBatchQueue(SPEC, 1, 1);
+        final Future<?> producer = startProducer(queue, 10000, 1);
+        final QueueRowInput input = new QueueRowInput(queue, null);
+        assertEquals("Row0", input.poll().getKey().getString());
+        input.close();
+        assertTrue(queue.isClosedByReaders());
+        producer.get(5, TimeUnit.SECONDS);
+        assertNull(input.poll());
+    }
+
+    /** Partitions share the queue, the merger restores the original row order. */
+    @Test(timeout = 10000)
+    public void testPartitionsKeepRowOrder() throws Exception {
+        final int partitionCount = 3;
+        final int rowCount = 2000;
+        final RowBatchQueue queue = new RowBatchQueue(SPEC, 2, partitionCount);
+        final List<DataRow> result = Collections.synchronizedList(new ArrayList<>());
+        final boolean[] isClosed = new boolean[1];
+        final RowOutput target = new RowOutput() {
+            @Override
+            public void push(final DataRow row) {
+                assertFalse(isClosed[0]);
+                result.add(row);
+            }
+
+            @Override
+            public void close() {
+                isClosed[0] = true;
+            }
+        };
+        final PartitionOutputMerger merger = new PartitionOutputMerger(target, partitionCount, 2);
+        final List<Future<?>> partitions = new ArrayList<>();
+        for (int p = 0; p < partitionCount; p++) {
+            final int partitionIndex = p;
+            partitions.add(m_executor.submit(() -> {
+                final PartitionOutputMerger.PartitionRowOutput output = merger.createPartitionOutput();
+                final QueueRowInput input = new QueueRowInput(queue, output);
+                DataRow row;
+                while ((row = input.poll()) != null) {
+                    if (partitionIndex == 0) {
+                        // slow partition, others must wait for it
+                        Thread.sleep(1);
+                    }
+                    output.push(row);
+                }
+                input.close();
+                output.close();
+                return null;
+            }));
+        }
+        startProducer(queue, rowCount, 7).get();
+        for (Future<?> f : partitions) {
+            f.get();
+        }
+        assertTrue(isClosed[0]);
+        assertEquals(rowCount, result.size());
+        for (int i = 0; i < rowCount; i++) {
+            assertEquals("Row" + i, result.get(i).getKey().getString());
+        }
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+
+/**
+ * Executes components with the {@link StreamingNodeExecutionJobManager} and compares their output to the output of the
+ * same components executed as usual. The nodes are created by {@link StreamingTestNodeFactory}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class StreamingNodeExecutionJobTest {
+
+    private static final int ROW_COUNT = 2500;
+
+    private WorkflowManager m_project;
+
+    /** Creates an empty project. */
+    @Before
+    public void setUp() {
+        m_project = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+    }
+
+    /** Removes the project. */
+    @After
+    public void tearDown() {
+        WorkflowManager.ROOT.removeProject(m_project.getID());
+    }
+
+    /** A job manager streaming batches of 64 rows and running distributable nodes in up to 3 partitions. */
+    private static StreamingNodeExecutionJobManager createJobManager() throws InvalidSettingsException {
+        final NodeSettings settings = new NodeSettings("job_manager");
+        settings.addInt(StreamingJobManagerSettingsPanel.CFG_BATCH_SIZE, 64);
+        settings.addInt(StreamingJobManagerSettingsPanel.CFG_MAX_PARTITION_COUNT, 3);
+        final StreamingNodeExecutionJobManager jobManager = new StreamingNodeExecutionJobManager();
+        jobManager.load(settings);
+        return jobManager;
+    }
+
+    /** Creates a component containing a chain of nodes created by the given factories, the last one is its output. */
+    private NodeID createComponent(final String name, final StreamingTestNodeFactory... factories) {
+        final WorkflowManager metanode =
+            m_project.createAndAddSubWorkflow(new PortType[0], new PortType[]{BufferedDataTable.TYPE}, name);
+        NodeID previous = null;
+        for (StreamingTestNodeFactory factory : factories) {
+            final NodeID node = metanode.createAndAddNode(factory);
+            if (previous != null) {
+                metanode.addConnection(previous, 1, node, 1);
+            }
+            previous = node;
+        }
+        metanode.addConnection(previous, 1, metanode.getID(), 0);
+        m_project.convertMetaNodeToSubNode(metanode.getID());
+        assertTrue("Not converted to a component",
+            m_project.getNodeContainer(metanode.getID()) instanceof SubNodeContainer);
+        return metanode.getID();
+    }
+
+    /** The node in the component that was created by the given factory. */
+    private NativeNodeContainer findNode(final NodeID component, final StreamingTestNodeFactory factory) {
+        final SubNodeContainer snc = (SubNodeContainer)m_project.getNodeContainer(component);
+        for (NodeContainer nc : snc.getWorkflowManager().getNodeContainers()) {
+            if (nc instanceof NativeNodeContainer) {
+                final Object ncFactory = ((NativeNodeContainer)nc).getNode().getFactory();
+                if (ncFactory == factory) {
+                    return (NativeNodeContainer)nc;
+                }
+            }
+        }
+        throw new AssertionError("No node created by " + factory);
+    }
+
+    private BufferedDataTable getOutput(final NodeID component) {
+        final NodeContainer nc = m_project.getNodeContainer(component);
+        assertTrue("Component not executed: " + nc.getNameWithID(), nc.getNodeContainerState().isExecuted());
+        return (BufferedDataTable)nc.getOutPort(1).getPortObject();
+    }
+
+    /**
+     * Executes the streamed and the reference component and checks that their outputs are equal and contain the
+     * source values increased by the offset (plus one) once per node.
+     */
+    private void executeAndCompare(final NodeID streamed, final NodeID reference, final int addCount)
+        throws InvalidSettingsException {
+        m_project.setJobManager(streamed, createJobManager());
+        assertTrue("Execution failed", m_project.executeAllAndWaitUntilDone());
+        final BufferedDataTable streamedTable = getOutput(streamed);
+        final BufferedDataTable referenceTable = getOutput(reference);
+        assertEquals("Wrong row count", ROW_COUNT, streamedTable.size());
+        assertEquals("Wrong row count of reference", ROW_COUNT, referenceTable.size());
+        final Iterator<DataRow> referenceIt = referenceTable.iterator();
+        int i = 0;
+        for (DataRow row : streamedTable) {
+            final DataRow ref = referenceIt.next();
+            assertEquals("Wrong key in row " + i, ref.getKey(), row.getKey());
+            assertEquals("Wrong key in row " + i, RowKey.createRowKey((long)i), row.getKey());
+            assertEquals("Wrong value in row " + i, ref.getCell(0), row.getCell(0));
+            assertEquals("Wrong value in row " + i, i + addCount * (StreamingTestNodeFactory.OFFSET + 1),
+                ((IntValue)row.getCell(0)).getIntValue());
+            i++;
+        }
+    }
+
+    /**
+     * Streams a chain of distributable nodes, which are run in several partitions, and checks that the flow variable
+     * pushed by the (buffered) source node during execution reaches them.
+     *
+     * @throws Exception if the job manager can't be created
+     */
+    @Test
+    public void testPartitionedChain() throws Exception {
+        final StreamingTestNodeFactory first = StreamingTestNodeFactory.createAdd(true);
+        final NodeID streamed = createComponent("streamed", StreamingTestNodeFactory.createSource(ROW_COUNT),
+            first, StreamingTestNodeFactory.createAdd(true));
+        final NodeID reference = createComponent("reference", StreamingTestNodeFactory.createSource(ROW_COUNT),
+            StreamingTestNodeFactory.createAdd(true), StreamingTestNodeFactory.createAdd(true));
+        executeAndCompare(streamed, reference, 2);
+        // the output of the first node is only consumed within the pipeline, i.e. it was streamed
+        assertNotNull("First node not streamed", findNode(streamed, first).getNode().getWarningMessageFromModel());
+    }
+
+    /**
+     * Checks that a node that is not streamable is executed buffered between two pipelines.
+     *
+     * @throws Exception if the job manager can't be created
+     */
+    @Test
+    public void testFallbackToBuffered() throws Exception {
+        final NodeID streamed = createComponent("streamed", StreamingTestNodeFactory.createSource(ROW_COUNT),
+            StreamingTestNodeFactory.createAdd(true), StreamingTestNodeFactory.createAdd(false),
+            StreamingTestNodeFactory.createAdd(true));
+        final NodeID reference = createComponent("reference", StreamingTestNodeFactory.createSource(ROW_COUNT),
+            StreamingTestNodeFactory.createAdd(true), StreamingTestNodeFactory.createAdd(false),
+            StreamingTestNodeFactory.createAdd(true));
+        executeAndCompare(streamed, reference, 3);
+    }
+
+    /**
+     * Cancels a pipeline that blocks and checks that the component is not executed and the nodes executed so far are
+     * reset.
+     *
+     * @throws Exception if interrupted or the job manager can't be created
+     */
+    @Test
+    public void testCancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final StreamingTestNodeFactory source = StreamingTestNodeFactory.createSource(ROW_COUNT);
+        final NodeID component = createComponent("blocking", source, StreamingTestNodeFactory.createAdd(true),
+            StreamingTestNodeFactory.createBlocking(started));
+        m_project.setJobManager(component, createJobManager());
+        m_project.executeUpToHere(component);
+        assertTrue("Blocking node not started", started.await(30, TimeUnit.SECONDS));
+        m_project.cancelExecution(m_project.getNodeContainer(component));
+        assertTrue("Execution not canceled", m_project.waitWhileInExecution(30, TimeUnit.SECONDS));
+        assertFalse("Canceled component is executed",
+            m_project.getNodeContainer(component).getNodeContainerState().isExecuted());
+        assertNull("Source node not reset", findNode(component, source).getNode().getOutputObject(1));
+    }
+
+    /**
+     * Lets a streamed node fail and checks that the component is not executed, the node reports the error and the
+     * nodes executed so far are reset.
+     *
+     * @throws Exception if the job manager can't be created
+     */
+    @Test
+    public void testFailure() throws Exception {
+        final StreamingTestNodeFactory source = StreamingTestNodeFactory.createSource(ROW_COUNT);
+        final StreamingTestNodeFactory failing = StreamingTestNodeFactory.createFailing(ROW_COUNT / 2);
+        final NodeID component =
+            createComponent("failing", source, StreamingTestNodeFactory.createAdd(true), failing);
+        m_project.setJobManager(component, createJobManager());
+        assertFalse("Execution did not fail", m_project.executeAllAndWaitUntilDone());
+        assertFalse("Failed component is executed",
+            m_project.getNodeContainer(component).getNodeContainerState().isExecuted());
+        assertEquals("No error at failing node", NodeMessage.Type.ERROR,
+            findNode(component, failing).getNodeMessage().getMessageType());
+        assertNull("Source node not reset", findNode(component, source).getNode().getOutputObject(1));
+    }
+}
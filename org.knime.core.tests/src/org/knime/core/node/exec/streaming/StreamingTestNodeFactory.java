@@ -0,0 +1,296 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NodeView;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.StreamableFunction;
+import org.knime.core.node.streamable.StreamableOperator;
+
+/**
+ * Factory of the nodes used in {@link StreamingNodeExecutionJobTest}: a (non-streamable) source node that creates a
+ * table with an int column and pushes the flow variable {@link #OFFSET_VARIABLE} during execution, and nodes that add
+ * the value of that variable plus one to each value of their input, optionally streamable, failing or blocking.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class StreamingTestNodeFactory extends NodeFactory<StreamingTestNodeFactory.StreamingTestNodeModel> {
+
+    /** Name of the int variable pushed by the source node. */
+    static final String OFFSET_VARIABLE = "offset";
+
+    /** Value of the variable pushed by the source node. */
+    static final int OFFSET = 1000;
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    private final int m_rowCount;
+
+    private final boolean m_isStreamable;
+
+    private final int m_failAtRow;
+
+    private final CountDownLatch m_started;
+
+    private StreamingTestNodeFactory(final int rowCount, final boolean isStreamable, final int failAtRow,
+        final CountDownLatch started) {
+        m_rowCount = rowCount;
+        m_isStreamable = isStreamable;
+        m_failAtRow = failAtRow;
+        m_started = started;
+    }
+
+    /**
+     * @param rowCount the number of rows, with keys "Row0", "Row1", ... and values 0, 1, ...
+     * @return factory of a source node
+     */
+    static StreamingTestNodeFactory createSource(final int rowCount) {
+        return new StreamingTestNodeFactory(rowCount, false, -1, null);
+    }
+
+    /**
+     * @param isStreamable whether the node is streamable (and distributable)
+     * @return factory of a node adding the offset plus one to each value
+     */
+    static StreamingTestNodeFactory createAdd(final boolean isStreamable) {
+        return new StreamingTestNodeFactory(-1, isStreamable, -1, null);
+    }
+
+    /**
+     * @param failAtRow the index of the row at which the node fails
+     * @return factory of a streamable node that fails at the given row
+     */
+    static StreamingTestNodeFactory createFailing(final int failAtRow) {
+        return new StreamingTestNodeFactory(-1, true, failAtRow, null);
+    }
+
+    /**
+     * @param started counted down when the node processes its first row
+     * @return factory of a streamable node that blocks on its first row until it is interrupted
+     */
+    static StreamingTestNodeFactory createBlocking(final CountDownLatch started) {
+        return new StreamingTestNodeFactory(-1, true, -1, started);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public StreamingTestNodeModel createNodeModel() {
+        return new StreamingTestNodeModel(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getNrNodeViews() {
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeView<StreamingTestNodeModel> createNodeView(final int viewIndex,
+        final StreamingTestNodeModel nodeModel) {
+        throw new IllegalStateException("No view");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean hasDialog() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeDialogPane createNodeDialogPane() {
+        throw new IllegalStateException("No dialog");
+    }
+
+    /** Model of the nodes created by the enclosing factory. */
+    public static final class StreamingTestNodeModel extends NodeModel {
+
+        private final StreamingTestNodeFactory m_factory;
+
+        private StreamingTestNodeModel(final StreamingTestNodeFactory factory) {
+            super(factory.m_rowCount >= 0 ? 0 : 1, 1);
+            m_factory = factory;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) {
+            return new DataTableSpec[]{SPEC};
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+            throws Exception {
+            final BufferedDataContainer container = exec.createDataContainer(SPEC);
+            if (m_factory.m_rowCount >= 0) {
+                for (int i = 0; i < m_factory.m_rowCount; i++) {
+                    container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+                }
+                pushFlowVariableInt(OFFSET_VARIABLE, OFFSET);
+            } else {
+                final int offset = getOffset();
+                for (DataRow row : inData[0]) {
+                    exec.checkCanceled();
+                    container.addRowToTable(add(row, offset));
+                }
+            }
+            container.close();
+            return new BufferedDataTable[]{container.getTable()};
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public InputPortRole[] getInputPortRoles() {
+            return m_factory.m_isStreamable ? new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE}
+                : super.getInputPortRoles();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public OutputPortRole[] getOutputPortRoles() {
+            return m_factory.m_isStreamable ? new OutputPortRole[]{OutputPortRole.DISTRIBUTED}
+                : super.getOutputPortRoles();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) {
+            final int offset = getOffset();
+            return new StreamableFunction() {
+                @Override
+                public DataRow compute(final DataRow input) throws Exception {
+                    return add(input, offset);
+                }
+            };
+        }
+
+        /** The offset pushed by the source node or 0 if the variable is not (yet) known. */
+        private int getOffset() {
+            try {
+                return peekFlowVariableInt(OFFSET_VARIABLE);
+            } catch (NoSuchElementException e) {
+                return 0;
+            }
+        }
+
+        private DataRow add(final DataRow row, final int offset) throws InterruptedException {
+            if (RowKey.createRowKey((long)m_factory.m_failAtRow).equals(row.getKey())) {
+                throw new IllegalStateException("Failing at row " + row.getKey());
+            }
+            if (m_factory.m_started != null) {
+                m_factory.m_started.countDown();
+                // blocks until the execution is canceled
+                new CountDownLatch(1).await();
+            }
+            final int value = ((IntValue)row.getCell(0)).getIntValue();
+            return new DefaultRow(row.getKey(), new IntCell(value + offset + 1));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) {
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) {
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void reset() {
+        }
+    }
+
+}
@@ -46,13 +46,20 @@
  */
 package org.knime.core.node.property.hilite;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import javax.swing.SwingUtilities;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.knime.core.data.RowKey;
@@ -340,4 +347,109 @@ public void test7() {
         assertFalse(m_hdl.isHiLit(m_c2));
         assertFalse(m_hdl.isHiLit(m_c3));
     }
+
+    /**
+     * Tests that only the keys whose status changed are sent to the listeners and that the keys of a fired event are
+     * copied before they are passed on.
+     *
+     * @throws Exception if notifying the listeners fails
+     */
+    @Test
+    public void test8() throws Exception {
+        final List<KeyEvent> events = new ArrayList<KeyEvent>();
+        m_hdl.addHiLiteListener(new MyHiLiteListener() {
+            @Override
+            public void hiLite(final KeyEvent event) {
+                events.add(event);
+            }
+            @Override
+            public void unHiLite(final KeyEvent event) {
+                events.add(event);
+            }
+        });
+        // listeners are notified in the EDT, fire from there to get them notified immediately
+        final KeyEvent event12 = new KeyEvent(this, m_s12);
+        SwingUtilities.invokeAndWait(() -> m_hdl.fireHiLiteEvent(event12));
+        assertEquals(1, events.size());
+        assertSame(this, events.get(0).getSource());
+        assertEquals(m_s12, events.get(0).keys());
+        m_s12.clear();
+        assertEquals("Keys of fired event not copied", 2, events.get(0).keys().size());
+        assertEquals(2, m_hdl.getHiLitKeyCount());
+
+        SwingUtilities.invokeAndWait(() -> m_hdl.fireHiLiteEvent(new KeyEvent(this, m_s23)));
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(1).keys().size());
+        assertTrue(events.get(1).keys().contains(m_c3));
+        assertEquals(3, m_hdl.getHiLitKeyCount());
+
+        SwingUtilities.invokeAndWait(() -> m_hdl.fireHiLiteEvent(m_s23));
+        assertEquals("Event without changes sent", 2, events.size());
+
+        SwingUtilities.invokeAndWait(() -> m_hdl.fireUnHiLiteEvent(m_c3, new RowKey("unknown")));
+        assertEquals(3, events.size());
+        assertEquals(1, events.get(2).keys().size());
+        assertTrue(events.get(2).keys().contains(m_c3));
+        assertTrue(m_hdl.isHiLit(m_c1, m_c2));
+        assertFalse(m_hdl.isHiLit(m_c3));
+        m_hdl.removeAllHiLiteListeners();
+    }
+
+    /**
+     * Tests that a set of keys passed to {@link HiLiteHandler#fireHiLiteEvent(Set)} may be modified after the event
+     * has been fired, also if the listeners are notified later.
+     *
+     * @throws Exception if notifying the listeners fails
+     */
+    @Test
+    public void test9() throws Exception {
+        final List<KeyEvent> events = new ArrayList<KeyEvent>();
+        m_hdl.addHiLiteListener(new MyHiLiteListener() {
+            @Override
+            public void hiLite(final KeyEvent event) {
+                events.add(event);
+            }
+            @Override
+            public void unHiLite(final KeyEvent event) {
+                events.add(event);
+            }
+        });
+        final Set<RowKey> ids = new HashSet<RowKey>(m_s12);
+        // fired outside the EDT, the listeners are notified later: modify the set before waiting for them
+        m_hdl.fireHiLiteEvent(ids);
+        ids.clear();
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(1, events.size());
+        assertEquals(m_s12, events.get(0).keys());
+
+        ids.addAll(m_s12);
+        m_hdl.fireUnHiLiteEvent(ids);
+        ids.add(m_c3);
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(2, events.size());
+        assertEquals(m_s12, events.get(1).keys());
+        m_hdl.removeAllHiLiteListeners();
+    }
+
+    /** Tests that {@link HiLiteHandler#getHiLitKeys()} returns the keys in the order in which they were hilit. */
+    @Test
+    public void test10() {
+        final RowKey[] keys = new RowKey[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[keys.length - i - 1] = new RowKey("Row" + i);
+        }
+        m_hdl.fireHiLiteEvent(keys);
+        m_hdl.fireUnHiLiteEvent(keys[10], keys[20]);
+        m_hdl.fireHiLiteEvent(keys[20], keys[0]);
+        final List<RowKey> expected = new ArrayList<RowKey>(Arrays.asList(keys));
+        expected.remove(keys[10]);
+        expected.remove(keys[20]);
+        expected.add(keys[20]);
+        assertEquals(expected, new ArrayList<RowKey>(m_hdl.getHiLitKeys()));
+        assertEquals(expected.size(), m_hdl.getHiLitKeyCount());
+        assertTrue(m_hdl.isHiLit(keys[20]));
+        assertFalse(m_hdl.isHiLit(keys[10]));
+        m_hdl.fireClearHiLiteEvent();
+        assertTrue(m_hdl.getHiLitKeys().isEmpty());
+    }
 }   // HiLiteHandlerTest
@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.property.hilite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.RowKey;
+
+/**
+ * Tests the bulk translation of hilite events in {@link HiLiteTranslator} and {@link DefaultHiLiteMapper}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class HiLiteTranslatorTest {
+
+    private static final RowKey GROUP_A = new RowKey("a");
+
+    private static final RowKey GROUP_B = new RowKey("b");
+
+    private HiLiteHandler m_groupHandler;
+
+    private HiLiteHandler m_rowHandler;
+
+    private HiLiteTranslator m_translator;
+
+    /** Creates a translator from groups a (rows 0 and 1) and b (rows 2, 3 and 4) to their rows. */
+    @Before
+    public void setUp() {
+        Map<RowKey, Set<RowKey>> map = new LinkedHashMap<RowKey, Set<RowKey>>();
+        map.put(GROUP_A, keys(0, 1));
+        map.put(GROUP_B, keys(2, 3, 4));
+        m_groupHandler = new HiLiteHandler();
+        m_rowHandler = new HiLiteHandler();
+        m_translator = new HiLiteTranslator(m_groupHandler, new DefaultHiLiteMapper(map));
+        m_translator.addToHiLiteHandler(m_rowHandler);
+    }
+
+    private static Set<RowKey> keys(final int... rows) {
+        Set<RowKey> keys = new LinkedHashSet<RowKey>();
+        for (int r : rows) {
+            keys.add(RowKey.createRowKey((long)r));
+        }
+        return keys;
+    }
+
+    /** Tests the reverse mapping of the default mapper. */
+    @Test
+    public void testSourceKeys() {
+        HiLiteMapper mapper = m_translator.getMapper();
+        assertEquals(new LinkedHashSet<RowKey>(Arrays.asList(GROUP_A, GROUP_B)), mapper.getSourceKeys(keys(1, 2)));
+        assertEquals(keys(0, 1, 2, 3, 4), mapper.getKeys(new LinkedHashSet<RowKey>(Arrays.asList(GROUP_A, GROUP_B))));
+        assertTrue(mapper.getSourceKeys(keys(5)).isEmpty());
+    }
+
+    /**
+     * Tests that hiliting groups hilites their rows and that a group is only hilit once all its rows are.
+     *
+     * @throws Exception if notifying the listeners fails
+     */
+    @Test
+    public void testTranslation() throws Exception {
+        // listeners are notified in the EDT, fire from there to get events translated immediately
+        SwingUtilities.invokeAndWait(() -> m_groupHandler.fireHiLiteEvent(GROUP_B));
+        assertTrue(m_rowHandler.isHiLit(keys(2, 3, 4).toArray(new RowKey[0])));
+        assertEquals(3, m_rowHandler.getHiLitKeyCount());
+
+        SwingUtilities.invokeAndWait(() -> m_rowHandler.fireUnHiLiteEvent(keys(3)));
+        assertFalse(m_groupHandler.isHiLit(GROUP_B));
+
+        SwingUtilities.invokeAndWait(() -> m_rowHandler.fireHiLiteEvent(keys(0)));
+        assertFalse(m_groupHandler.isHiLit(GROUP_A));
+        SwingUtilities.invokeAndWait(() -> m_rowHandler.fireHiLiteEvent(keys(1, 3)));
+        assertTrue(m_groupHandler.isHiLit(GROUP_A, GROUP_B));
+
+        SwingUtilities.invokeAndWait(() -> m_groupHandler.fireClearHiLiteEvent());
+        assertEquals(0, m_rowHandler.getHiLitKeyCount());
+        m_translator.dispose();
+    }
+}
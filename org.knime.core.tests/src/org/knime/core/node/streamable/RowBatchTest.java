@@ -0,0 +1,396 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.streamable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests the batch methods {@link RowInput#poll(DataRow[])} and {@link RowOutput#push(DataRow[], int)}, their default
+ * implementations as well as the overrides in {@link DataTableRowInput} and {@link BufferedDataTableRowOutput}, and
+ * their use in {@link StreamableFunction}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class RowBatchTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("c", IntCell.TYPE).createSpec());
+
+    private static final DataRow SENTINEL = new DefaultRow("sentinel", new IntCell(-1));
+
+    private static DataRow createRow(final int i) {
+        return new DefaultRow("Row" + i, new IntCell(i));
+    }
+
+    private static List<DataRow> createRows(final int count) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(createRow(i));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ExecutionContext createExecutionContext() {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Polls batches of three rows and checks them against the expected rows, each poll is expected to return as many
+     * rows as possible but not more than the given maximum.
+     */
+    private static void assertPollInBatches(final RowInput input, final List<DataRow> expected,
+        final int maxRowsPerPoll) throws InterruptedException {
+        final DataRow[] batch = new DataRow[3];
+        Arrays.fill(batch, SENTINEL);
+        int index = 0;
+        int count;
+        while ((count = input.poll(batch)) > 0) {
+            final int expectedCount = Math.min(Math.min(3, maxRowsPerPoll), expected.size() - index);
+            assertEquals("Wrong number of rows in batch", expectedCount, count);
+            for (int j = 0; j < count; j++) {
+                assertEquals(expected.get(index++).getKey(), batch[j].getKey());
+            }
+            Arrays.fill(batch, SENTINEL);
+        }
+        assertEquals(expected.size(), index);
+        assertEquals("Elements modified at the end of the stream", Arrays.asList(SENTINEL, SENTINEL, SENTINEL),
+            Arrays.asList(batch));
+        assertEquals("End of stream not sticky", 0, input.poll(batch));
+    }
+
+    /**
+     * Tests the default implementation of {@link RowInput#poll(DataRow[])}, which returns a single row polled by
+     * {@link RowInput#poll()}.
+     *
+     * @throws InterruptedException not expected
+     */
+    @Test
+    public void testDefaultPoll() throws InterruptedException {
+        final List<DataRow> rows = createRows(7);
+        assertPollInBatches(new ListRowInput(rows), rows, 1);
+
+        // mixed with single row polls
+        final ListRowInput input = new ListRowInput(rows.subList(0, 3));
+        assertSame(rows.get(0), input.poll());
+        final DataRow[] batch = new DataRow[10];
+        assertEquals(1, input.poll(batch));
+        assertSame(rows.get(1), batch[0]);
+        assertSame(rows.get(2), input.poll());
+        assertEquals(0, input.poll(batch));
+    }
+
+    /**
+     * Tests the default implementation of {@link RowOutput#push(DataRow[], int)}, which delegates to
+     * {@link RowOutput#push(DataRow)}.
+     *
+     * @throws InterruptedException not expected
+     */
+    @Test
+    public void testDefaultPush() throws InterruptedException {
+        final List<DataRow> pushed = new ArrayList<>();
+        final ListRowOutput output = new ListRowOutput(pushed);
+        final DataRow[] batch = createRows(5).toArray(new DataRow[0]);
+        output.push(batch, 3);
+        output.push(batch, 0);
+        output.push(batch[4]);
+        output.push(batch, 5);
+        assertEquals(Arrays.asList(batch[0], batch[1], batch[2], batch[4], batch[0], batch[1], batch[2], batch[3],
+            batch[4]), pushed);
+    }
+
+    /**
+     * Tests the override of {@link DataTableRowInput#poll(DataRow[])}.
+     *
+     * @throws InterruptedException not expected
+     */
+    @Test
+    public void testDataTableRowInput() throws InterruptedException {
+        final List<DataRow> rows = createRows(10);
+        final DataContainer container = new DataContainer(SPEC);
+        rows.forEach(container::addRowToTable);
+        container.close();
+        final DataTableRowInput input = new DataTableRowInput(container.getTable());
+        assertPollInBatches(input, rows, 3);
+        input.close();
+
+        final DataContainer empty = new DataContainer(SPEC);
+        empty.close();
+        assertPollInBatches(new DataTableRowInput(empty.getTable()), new ArrayList<>(), 3);
+    }
+
+    /**
+     * Tests the override of {@link BufferedDataTableRowOutput#push(DataRow[], int)}.
+     *
+     * @throws InterruptedException not expected
+     */
+    @Test
+    public void testBufferedDataTableRowOutput() throws InterruptedException {
+        final BufferedDataContainer container = createExecutionContext().createDataContainer(SPEC);
+        final BufferedDataTableRowOutput output = new BufferedDataTableRowOutput(container);
+        final DataRow[] batch = createRows(5).toArray(new DataRow[0]);
+        output.push(batch, 3);
+        output.push(batch, 0);
+        output.push(batch[3]);
+        output.push(Arrays.copyOfRange(batch, 4, 5), 1);
+        output.close();
+        final BufferedDataTable table = container.getTable();
+        assertEquals(5, table.size());
+        try (CloseableRowIterator it = table.iterator()) {
+            for (DataRow row : batch) {
+                assertEquals(row.getKey(), it.next().getKey());
+            }
+        }
+    }
+
+    /**
+     * Tests that {@link StreamableFunction#runFinal(PortInput[], PortOutput[], ExecutionContext)} computes all rows,
+     * including a last incomplete batch.
+     *
+     * @throws Exception not expected
+     */
+    @Test
+    public void testRunFinal() throws Exception {
+        final List<DataRow> rows = createRows(150);
+        final List<DataRow> result = new ArrayList<>();
+        new RecordingFunction(1, new ArrayList<>()).runFinal(new PortInput[]{new ListRowInput(rows)},
+            new PortOutput[]{new ListRowOutput(result)}, createExecutionContext());
+        assertEquals(rows.size(), result.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals("1:" + rows.get(i).getKey(), result.get(i).getKey().getString());
+        }
+    }
+
+    /**
+     * Tests that {@link StreamableFunction#runFinalInterwoven(RowInput, StreamableFunction, RowOutput,
+     * StreamableFunction, RowOutput, ExecutionContext)} computes and pushes each row by both functions before the
+     * next row is processed.
+     *
+     * @throws Exception not expected
+     */
+    @Test
+    public void testRunFinalInterwoven() throws Exception {
+        final List<DataRow> rows = createRows(150);
+        final List<String> computed = new ArrayList<>();
+        final List<DataRow> pushed = new ArrayList<>();
+        StreamableFunction.runFinalInterwoven(new ListRowInput(rows), new RecordingFunction(1, computed),
+            new ListRowOutput(pushed), new RecordingFunction(2, computed), new ListRowOutput(pushed),
+            createExecutionContext());
+        final List<String> expected = new ArrayList<>();
+        for (DataRow row : rows) {
+            expected.add("1:" + row.getKey());
+            expected.add("2:" + row.getKey());
+        }
+        assertEquals("Rows not computed alternately", expected, computed);
+        final List<String> pushedKeys = new ArrayList<>();
+        pushed.forEach(r -> pushedKeys.add(r.getKey().getString()));
+        assertEquals("Rows not pushed alternately", expected, pushedKeys);
+    }
+
+    /**
+     * Tests that {@link StreamableFunction#runFinal(PortInput[], PortOutput[], ExecutionContext)} pushes each row
+     * before the next one is available if the input only implements the (blocking) single row poll.
+     *
+     * @throws Exception not expected
+     */
+    @Test(timeout = 30000L)
+    public void testRunFinalWithSlowInput() throws Exception {
+        final BlockingQueue<DataRow> inputRows = new LinkedBlockingQueue<>();
+        final BlockingQueue<DataRow> outputRows = new LinkedBlockingQueue<>();
+        final ExecutionContext exec = createExecutionContext();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> future = executor.submit(() -> {
+                new RecordingFunction(1, new ArrayList<>()).runFinal(new PortInput[]{new BlockingRowInput(inputRows)},
+                    new PortOutput[]{new ListRowOutput(outputRows)}, exec);
+                return null;
+            });
+            for (int i = 0; i < 3; i++) {
+                inputRows.put(createRow(i));
+                final DataRow pushed = outputRows.poll(10, TimeUnit.SECONDS);
+                assertNotNull("Row " + i + " held back until more rows arrive", pushed);
+                assertEquals("1:Row" + i, pushed.getKey().getString());
+            }
+            inputRows.put(SENTINEL);
+            future.get();
+            assertTrue("Rows pushed after the end of the input", outputRows.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Input taking the rows from a queue, blocks until a row is available; {@link #SENTINEL} marks the end. */
+    private static final class BlockingRowInput extends RowInput {
+
+        private final BlockingQueue<DataRow> m_queue;
+
+        BlockingRowInput(final BlockingQueue<DataRow> queue) {
+            m_queue = queue;
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return SPEC;
+        }
+
+        @Override
+        public DataRow poll() throws InterruptedException {
+            final DataRow row = m_queue.take();
+            return row == SENTINEL ? null : row;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+
+    /** Input returning the rows of a list, only implements the single row poll. */
+    private static final class ListRowInput extends RowInput {
+
+        private final Iterator<DataRow> m_iterator;
+
+        ListRowInput(final List<DataRow> rows) {
+            m_iterator = rows.iterator();
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return SPEC;
+        }
+
+        @Override
+        public DataRow poll() {
+            return m_iterator.hasNext() ? m_iterator.next() : null;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+
+    /** Output adding the rows to a collection, only implements the single row push. */
+    private static final class ListRowOutput extends RowOutput {
+
+        private final Collection<DataRow> m_rows;
+
+        ListRowOutput(final Collection<DataRow> rows) {
+            m_rows = rows;
+        }
+
+        @Override
+        public void push(final DataRow row) {
+            m_rows.add(row);
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+
+    /** Function prefixing the row key with an ID and recording the computed rows. */
+    private static final class RecordingFunction extends StreamableFunction {
+
+        private final int m_id;
+
+        private final List<String> m_computed;
+
+        RecordingFunction(final int id, final List<String> computed) {
+            m_id = id;
+            m_computed = computed;
+        }
+
+        @Override
+        public DataRow compute(final DataRow input) {
+            final String key = m_id + ":" + input.getKey();
+            m_computed.add(key);
+            return new DefaultRow(key, input.getCell(0));
+        }
+    }
+}
@@ -59,7 +59,9 @@
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.net.URL;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicReference;
@@ -512,6 +514,52 @@ public void testLoadCredentials() throws Exception {
         // does not need credentials and currently there is no node besides database nodes that uses credentials.
     }
 
+    /**
+     * Test if several workflows from a directory and from a workflow list are loaded concurrently and if the timing
+     * summary contains a line for each of them.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMultipleWorkflows() throws Exception {
+        File workflowsDir = FileUtil.createTempDir("BatchExecutorTest");
+        for (int i = 0; i < 3; i++) {
+            File dir = new File(workflowsDir, "group" + i);
+            dir.mkdir();
+            FileUtil.unzip(standardTestWorkflowZip, dir);
+        }
+        FileUtil.copy(standardTestWorkflowZip, new File(workflowsDir, "zipped.knwf"));
+        File summary = File.createTempFile("BatchExecutorTest", ".csv");
+        summary.deleteOnExit();
+
+        int ret = BatchExecutor.mainRun(new String[]{"-workflowsDir=" + workflowsDir.getAbsolutePath(), "-noexecute",
+            "-nosave", "-parallelism=2", "-timingSummary=" + summary.getAbsolutePath()});
+        assertEquals("Non-zero return value", 0, ret);
+        assertEquals("Wrong number of lines in timing summary", 5, countWrittenLines(summary));
+
+        File workflowList = File.createTempFile("BatchExecutorTest", ".txt");
+        workflowList.deleteOnExit();
+        try (Writer out = new FileWriter(workflowList)) {
+            out.write("# comment\n" + standardTestWorkflowZip.getAbsolutePath() + "\n\n"
+                + new File(workflowsDir, "group0").listFiles()[0].getAbsolutePath() + "\n");
+        }
+        ret = BatchExecutor.mainRun(new String[]{"-workflowList=" + workflowList.getAbsolutePath(), "-noexecute",
+            "-nosave", "-parallelism=2", "-timingSummary=" + summary.getAbsolutePath()});
+        assertEquals("Non-zero return value", 0, ret);
+        assertEquals("Wrong number of lines in timing summary", 3, countWrittenLines(summary));
+
+        assertEquals("Wrong return value for combined single and multiple workflows", BatchExecutor.EXIT_ERR_PRESTART,
+            BatchExecutor.mainRun(new String[]{"-workflowList=" + workflowList.getAbsolutePath(),
+                "-workflowFile=" + standardTestWorkflowZip.getAbsolutePath()}));
+        assertEquals("Wrong return value for destFile with multiple workflows", BatchExecutor.EXIT_ERR_PRESTART,
+            BatchExecutor.mainRun(new String[]{"-workflowList=" + workflowList.getAbsolutePath(),
+                "-destFile=" + File.createTempFile("BatchExecutorTest", ".zip")}));
+        assertEquals("Wrong return value for invalid parallelism", BatchExecutor.EXIT_ERR_PRESTART,
+            BatchExecutor.mainRun(new String[]{"-workflowList=" + workflowList.getAbsolutePath(), "-parallelism=0"}));
+        assertEquals("Wrong return value for empty workflows directory", BatchExecutor.EXIT_ERR_PRESTART,
+            BatchExecutor.mainRun(new String[]{"-workflowsDir=" + FileUtil.createTempDir("BatchExecutorTest")}));
+    }
+
     private int countWrittenLines(final File outputFile) throws IOException {
         BufferedReader in = new BufferedReader(new FileReader(outputFile));
         int count = 0;
@@ -0,0 +1,121 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResult;
+import org.knime.core.node.workflow.WorkflowPersistor.WorkflowLoadResult;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Saves and loads a workflow with many executed nodes, whose node directories are written and read concurrently
+ * if enabled (see {@link NodeDirectoryIOExecutor}), and checks state and the reported load phase times.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowConcurrentLoadSaveTest extends WorkflowTestCase {
+
+    private static final int NR_NODES = 50;
+
+    private File m_workflowDir;
+
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDir = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowManager project =
+            WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+        setManager(project);
+        NodeID previous = project.createAndAddNode(new AdapterNodeFactory(true));
+        for (int i = 1; i < NR_NODES; i++) {
+            NodeID next = project.createAndAddNode(new AdapterNodeFactory());
+            project.addConnection(previous, 1, next, 1);
+            previous = next;
+        }
+        project.executeAllAndWaitUntilDone();
+        assertEquals(InternalNodeContainerState.EXECUTED, project.getInternalState());
+    }
+
+    /** Saves the executed workflow, loads it again and checks that all nodes are restored as executed. */
+    @Test
+    public void testSaveAndLoadExecutedWorkflow() throws Exception {
+        getManager().save(m_workflowDir, new ExecutionMonitor(), true);
+        closeWorkflow();
+
+        WorkflowLoadResult loadResult = loadWorkflow(m_workflowDir, new ExecutionMonitor());
+        WorkflowManager loaded = loadResult.getWorkflowManager();
+        setManager(loaded);
+        assertEquals(NR_NODES, loaded.getNodeContainers().size());
+        assertEquals(InternalNodeContainerState.EXECUTED, loaded.getInternalState());
+        for (NodeContainer nc : loaded.getNodeContainers()) {
+            assertEquals(nc.getNameWithID(), InternalNodeContainerState.EXECUTED, nc.getInternalState());
+        }
+
+        Map<String, Long> phaseTimes = loadResult.getPhaseTimes();
+        assertTrue("No settings phase reported: " + phaseTimes,
+            phaseTimes.containsKey(LoadResult.PHASE_NODE_SETTINGS));
+        assertTrue("No data phase reported: " + phaseTimes, phaseTimes.containsKey(LoadResult.PHASE_NODE_DATA));
+        assertTrue("No state phase reported: " + phaseTimes, phaseTimes.containsKey(LoadResult.PHASE_NODE_STATE));
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        FileUtil.deleteRecursively(m_workflowDir);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+
+/**
+ * Tests the contention statistics of {@link WorkflowLock}, that read-only queries don't block on the lock and that
+ * the lock-free connection sets keep their order.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class WorkflowLockTest {
+
+    private WorkflowManager m_project;
+
+    private WorkflowManager m_metanode;
+
+    private ExecutorService m_executor;
+
+    /** Creates a project with a metanode. */
+    @Before
+    public void setUp() {
+        m_project = WorkflowManager.ROOT.createAndAddProject("WorkflowLockTest", new WorkflowCreationHelper());
+        m_metanode = m_project.createAndAddSubWorkflow(new PortType[0], new PortType[0], "metanode");
+        m_executor = Executors.newSingleThreadExecutor();
+    }
+
+    /** Removes the project. */
+    @After
+    public void tearDown() {
+        m_executor.shutdownNow();
+        WorkflowManager.ROOT.removeProject(m_project.getID());
+    }
+
+    /** Tests that uncontended acquisitions are counted but not reported as contended. */
+    @Test
+    public void testUncontendedLock() {
+        final WorkflowLock workflowLock = m_project.getWorkflowLock();
+        workflowLock.resetStatistics();
+        for (int i = 0; i < 5; i++) {
+            try (WorkflowLock lock = m_project.lock()) {
+                assertTrue(lock.isHeldByCurrentThread());
+            }
+        }
+        assertEquals(5, workflowLock.getLockCount());
+        assertEquals(0, workflowLock.getContendedLockCount());
+        assertEquals(0, workflowLock.getWaitTime(TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Tests that waiting for the lock held by another thread is accounted to the instance that was locked.
+     *
+     * @throws Exception if the other thread fails
+     */
+    @Test(timeout = 10000L)
+    public void testContendedLock() throws Exception {
+        final WorkflowLock metanodeLock = m_metanode.getWorkflowLock();
+        metanodeLock.resetStatistics();
+        m_project.getWorkflowLock().resetStatistics();
+        final CountDownLatch locked = new CountDownLatch(1);
+        Future<?> future;
+        try (WorkflowLock lock = m_project.lock()) {
+            future = m_executor.submit(() -> {
+                locked.countDown();
+                try (WorkflowLock metaLock = m_metanode.lock()) {
+                    assertTrue(metaLock.isHeldByCurrentThread());
+                }
+            });
+            locked.await();
+            while (!lock.getReentrantLock().hasQueuedThreads()) {
+                Thread.sleep(1);
+            }
+            Thread.sleep(20);
+        }
+        future.get();
+        assertEquals(1, metanodeLock.getLockCount());
+        assertEquals(1, metanodeLock.getContendedLockCount());
+        assertTrue(metanodeLock.getWaitTime(TimeUnit.MILLISECONDS) >= 10);
+        assertEquals(0, m_project.getWorkflowLock().getContendedLockCount());
+    }
+
+    /**
+     * Tests that the node and connection getters don't need the lock.
+     *
+     * @throws Exception if the other thread fails
+     */
+    @Test(timeout = 10000L)
+    public void testReadOnlyQueriesDontBlock() throws Exception {
+        try (WorkflowLock lock = m_project.lock()) {
+            final Future<Integer> future = m_executor.submit(() -> {
+                m_project.getNodeContainer(m_metanode.getID());
+                m_project.getIncomingConnectionsFor(m_metanode.getID());
+                m_project.getOutgoingConnectionsFor(m_metanode.getID(), 0);
+                return m_project.getNodeContainers().size();
+            });
+            assertEquals(Integer.valueOf(1), future.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /** Tests that the connections of a node are returned in the order they were added, also after a removal. */
+    @Test
+    public void testConnectionOrder() {
+        final NodeID source = m_project.createAndAddNode(new AdapterNodeFactory(true));
+        final List<NodeID> dests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            dests.add(m_project.createAndAddNode(new AdapterNodeFactory()));
+        }
+        // connect in an order that differs from the order of the node IDs
+        final List<NodeID> expected = new ArrayList<>();
+        for (int i = 0; i < dests.size(); i++) {
+            final NodeID dest = dests.get(i * 7 % dests.size());
+            m_project.addConnection(source, 1, dest, 1);
+            expected.add(dest);
+        }
+        m_project.removeConnection(m_project.getIncomingConnectionFor(expected.remove(5), 1));
+        final List<NodeID> actual = new ArrayList<>();
+        for (ConnectionContainer cc : m_project.getOutgoingConnectionsFor(source)) {
+            actual.add(cc.getDest());
+        }
+        assertEquals(expected, actual);
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+
+/**
+ * Tests the incremental configuration of successors after execution (based on {@link Workflow#getTopologicalRanks()})
+ * and that the number of configurations during execution grows linearly with the size of the workflow.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class WorkflowSchedulingTest {
+
+    private static final AtomicInteger CONFIGURE_COUNT = new AtomicInteger();
+
+    private WorkflowManager m_project;
+
+    /** Creates an empty project. */
+    @Before
+    public void setUp() {
+        m_project = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+    }
+
+    /** Removes the project. */
+    @After
+    public void tearDown() {
+        WorkflowManager.ROOT.removeProject(m_project.getID());
+    }
+
+    /** Tests depth and (critical path) height of the nodes in a small graph and that ranks follow changes. */
+    @Test
+    public void testTopologicalRanks() {
+        final NodeID source = m_project.createAndAddNode(new AdapterNodeFactory(true));
+        final NodeID a = m_project.createAndAddNode(new AdapterNodeFactory());
+        final NodeID b = m_project.createAndAddNode(new AdapterNodeFactory());
+        final NodeID c = m_project.createAndAddNode(new AdapterNodeFactory());
+        m_project.addConnection(source, 1, a, 1);
+        m_project.addConnection(source, 1, b, 1);
+        m_project.addConnection(a, 1, c, 1);
+
+        Map<NodeID, Workflow.NodeRank> ranks = m_project.getWorkflow().getTopologicalRanks();
+        assertEquals(0, ranks.get(source).getDepth());
+        assertEquals(2, ranks.get(source).getHeight());
+        assertEquals(1, ranks.get(a).getDepth());
+        assertEquals(1, ranks.get(a).getHeight());
+        assertEquals(1, ranks.get(b).getDepth());
+        assertEquals(0, ranks.get(b).getHeight());
+        assertEquals(2, ranks.get(c).getDepth());
+        // same depth: the node on the critical path comes first
+        assertTrue(ranks.get(a).compareTo(ranks.get(b)) < 0);
+        assertTrue(ranks.get(b).compareTo(ranks.get(c)) < 0);
+
+        m_project.removeConnection(m_project.getIncomingConnectionFor(c, 1));
+        m_project.addConnection(b, 1, c, 1);
+        ranks = m_project.getWorkflow().getTopologicalRanks();
+        assertEquals(0, ranks.get(a).getHeight());
+        assertEquals(1, ranks.get(b).getHeight());
+        assertTrue(ranks.get(b).compareTo(ranks.get(a)) < 0);
+    }
+
+    /**
+     * Executes a chain of pass-through nodes and checks that each node is only configured a constant number of times
+     * (the configuration of all transitive successors after each execution would configure the nodes of a chain a
+     * quadratic number of times in total).
+     *
+     * @throws Exception if execution fails
+     */
+    @Test
+    public void testExecuteAllConfiguresSuccessorsIncrementally() throws Exception {
+        final int nrNodes = 200;
+        NodeID previous = m_project.createAndAddNode(new AdapterNodeFactory(true));
+        for (int i = 1; i < nrNodes; i++) {
+            final NodeID current = m_project.createAndAddNode(new ConfigureCountingNodeFactory());
+            m_project.addConnection(previous, 1, current, 1);
+            previous = current;
+        }
+        CONFIGURE_COUNT.set(0);
+        m_project.executeAllAndWaitUntilDone();
+        assertEquals(m_project.printNodeSummary(m_project.getID(), 0), InternalNodeContainerState.EXECUTED,
+            m_project.getInternalState());
+        final int configureCount = CONFIGURE_COUNT.get();
+        assertTrue("Nodes configured " + configureCount + " times during execution of a chain of " + nrNodes
+            + " nodes", configureCount <= 4 * nrNodes);
+    }
+
+    /** Counts the number of configure calls of pass-through nodes in {@link #CONFIGURE_COUNT}. */
+    public static final class ConfigureCountingNodeFactory extends AdapterNodeFactory {
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(1, 1) {
+                @Override
+                protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+                    CONFIGURE_COUNT.incrementAndGet();
+                    return super.configure(inSpecs);
+                }
+            };
+        }
+    }
+
+}
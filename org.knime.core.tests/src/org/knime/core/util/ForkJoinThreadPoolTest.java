@@ -0,0 +1,327 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ForkJoinThreadPool}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ForkJoinThreadPoolTest {
+
+    private ForkJoinThreadPool m_root;
+
+    private final AtomicInteger m_running = new AtomicInteger();
+
+    private final AtomicInteger m_maxRunning = new AtomicInteger();
+
+    /** Creates the root pool. */
+    @Before
+    public void setUp() {
+        m_root = new ForkJoinThreadPool(3);
+    }
+
+    /** Shuts down the root pool. */
+    @After
+    public void tearDown() {
+        m_root.shutdown();
+    }
+
+    private Runnable job(final CountDownLatch release) {
+        return () -> {
+            m_maxRunning.accumulateAndGet(m_running.incrementAndGet(), Math::max);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            m_running.decrementAndGet();
+        };
+    }
+
+    /**
+     * Checks that the maximum number of threads of the root pool is respected and surplus jobs are queued.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRootQuota() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(m_root.enqueue(job(release)));
+        }
+        assertEquals("Wrong number of running threads", 3, m_root.getRunningThreads());
+        assertEquals("Wrong number of queued jobs", 7, m_root.getQueuedJobCount());
+        assertEquals("Wrong queue size", 7, m_root.getQueueSize());
+        assertNull("Job submitted although pool is full", m_root.trySubmit(job(release)));
+
+        release.countDown();
+        m_root.waitForTermination();
+        for (Future<?> f : futures) {
+            assertTrue("Job not done", f.isDone());
+        }
+        assertTrue("Quota exceeded", m_maxRunning.get() <= 3);
+        assertEquals("Wrong number of running threads", 0, m_root.getRunningThreads());
+        assertEquals("Wrong number of queued jobs", 0, m_root.getQueuedJobCount());
+    }
+
+    /**
+     * Checks that sub pools respect their own quota and the one of their parent.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSubPoolQuota() throws Exception {
+        final ThreadPool sub1 = m_root.createSubPool(1);
+        final ThreadPool sub2 = m_root.createSubPool(5);
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            sub1.enqueue(job(release));
+        }
+        for (int i = 0; i < 4; i++) {
+            sub2.enqueue(job(release));
+        }
+        assertEquals("Wrong number of running threads in sub pool 1", 1, sub1.getRunningThreads());
+        assertEquals("Wrong number of running threads in sub pool 2", 2, sub2.getRunningThreads());
+        assertEquals("Wrong number of running threads in root pool", 3, m_root.getRunningThreads());
+        assertEquals("Wrong number of queued jobs in sub pool 1", 3, sub1.getQueuedJobCount());
+        assertEquals("Wrong number of queued jobs in sub pool 2", 2, sub2.getQueuedJobCount());
+        assertEquals("Wrong number of queued jobs in root pool", 5, m_root.getQueuedJobCount());
+
+        release.countDown();
+        sub1.waitForTermination();
+        sub2.waitForTermination();
+        m_root.waitForTermination();
+        assertTrue("Quota exceeded", m_maxRunning.get() <= 3);
+    }
+
+    /**
+     * Checks that jobs waiting for other jobs of the same pool don't block the pool.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 20000)
+    public void testNestedJobs() throws Exception {
+        final AtomicInteger finished = new AtomicInteger();
+        final List<Future<?>> outer = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            outer.add(m_root.enqueue(() -> {
+                assertSame("Wrong current pool", m_root, ThreadPool.currentPool());
+                final List<Future<?>> inner = new ArrayList<>();
+                for (int j = 0; j < 4; j++) {
+                    inner.add(ThreadPool.currentPool().enqueue(finished::incrementAndGet));
+                }
+                for (Future<?> f : inner) {
+                    f.get();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> f : outer) {
+            f.get();
+        }
+        assertEquals("Not all nested jobs have been run", 24, finished.get());
+        assertNull("Current pool set outside of job", ThreadPool.currentPool());
+    }
+
+    /**
+     * Checks that {@link ThreadPool#runInvisible(java.util.concurrent.Callable)} frees the thread for other jobs.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 20000)
+    public void testRunInvisible() throws Exception {
+        final ThreadPool sub = m_root.createSubPool(1);
+        final Future<Integer> f = sub.enqueue(() -> ThreadPool.currentPool().runInvisible(() -> {
+            assertEquals("Invisible thread counted", 0, sub.getRunningThreads());
+            // would dead-lock if the waiting thread counted against the quota of 1
+            return sub.submit(() -> 42).get();
+        }));
+        assertEquals("Wrong result", Integer.valueOf(42), f.get());
+    }
+
+    /**
+     * Checks that the steal count is reported.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 20000)
+    public void testStealCount() throws Exception {
+        m_root.setMaxThreads(4);
+        final AtomicInteger finished = new AtomicInteger();
+        final Future<?> f = m_root.enqueue(() -> {
+            final List<Future<?>> inner = new ArrayList<>();
+            for (int j = 0; j < 1000; j++) {
+                inner.add(m_root.enqueue(() -> {
+                    Thread.sleep(1);
+                    return finished.incrementAndGet();
+                }));
+            }
+            for (Future<?> i : inner) {
+                i.get();
+            }
+            return null;
+        });
+        f.get();
+        m_root.waitForTermination();
+        assertEquals("Not all jobs have been run", 1000, finished.get());
+        final long stealCount = m_root.getStealCount();
+        assertTrue("Negative steal count", stealCount >= 0);
+        // sub pools share the fork/join pool with their parent, the count is only an estimate and never decreases
+        assertTrue("Steal count of sub pool too small", m_root.createSubPool().getStealCount() >= stealCount);
+    }
+
+    /**
+     * Checks that shutting down a sub pool cancels the queued jobs of its nested sub pools, but not those of other
+     * pools.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 20000)
+    public void testShutdownSubPool() throws Exception {
+        final ThreadPool sub = m_root.createSubPool(1);
+        final ThreadPool nested = sub.createSubPool(1);
+        final ThreadPool other = m_root.createSubPool(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        sub.enqueue(job(release));
+        final Future<?> queuedInSub = sub.enqueue(job(release));
+        final Future<?> queuedInNested = nested.enqueue(job(release));
+        other.enqueue(job(release));
+        final Future<?> queuedInOther = other.enqueue(job(release));
+        assertEquals("Wrong number of queued jobs", 3, m_root.getQueuedJobCount());
+
+        sub.shutdown();
+        assertTrue("Queued job of sub pool not canceled", queuedInSub.isCancelled());
+        assertTrue("Queued job of nested sub pool not canceled", queuedInNested.isCancelled());
+        assertFalse("Queued job of other pool canceled", queuedInOther.isCancelled());
+        assertEquals("Wrong number of queued jobs", 1, m_root.getQueuedJobCount());
+        assertEquals("Wrong number of queued jobs in sub pool", 0, sub.getQueuedJobCount());
+
+        release.countDown();
+        m_root.waitForTermination();
+        assertTrue("Queued job of other pool not run", queuedInOther.isDone() && !queuedInOther.isCancelled());
+    }
+
+    /**
+     * Checks that interrupting a pool interrupts the running jobs of the pool and its sub pools, but not those of
+     * other pools.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 20000)
+    public void testInterruptAllInSubPools() throws Exception {
+        final ThreadPool sub = m_root.createSubPool(2);
+        final ThreadPool nested = sub.createSubPool(1);
+        final ThreadPool other = m_root.createSubPool(1);
+        final CountDownLatch started = new CountDownLatch(3);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Callable<Boolean> interruptibleJob = () -> {
+            started.countDown();
+            try {
+                return !release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                return Boolean.TRUE;
+            }
+        };
+        final Future<Boolean> inSub = sub.enqueue(interruptibleJob);
+        final Future<Boolean> inNested = nested.enqueue(interruptibleJob);
+        final Future<Boolean> inOther = other.enqueue(interruptibleJob);
+        started.await();
+
+        sub.interruptAll();
+        assertTrue("Job of sub pool not interrupted", inSub.get());
+        assertTrue("Job of nested sub pool not interrupted", inNested.get());
+        assertFalse("Job of other pool interrupted", inOther.isDone());
+
+        release.countDown();
+        assertFalse("Job of other pool interrupted", inOther.get());
+    }
+
+    /**
+     * Checks that shutting down the root pool shuts down the fork/join pool and that sub pools can still be created.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 20000)
+    public void testShutdownRoot() throws Exception {
+        m_root.submit(() -> 42).get();
+        m_root.shutdown();
+        assertTrue("Fork/join pool not shut down", m_root.getForkJoinPool().isShutdown());
+        assertEquals("Wrong maximum number of threads in sub pool", 1, m_root.createSubPool().getMaxThreads());
+
+        // the pool can be revived
+        m_root.setMaxThreads(2);
+        assertFalse("Fork/join pool still shut down", m_root.getForkJoinPool().isShutdown());
+        assertEquals("Wrong result", Integer.valueOf(42), m_root.submit(() -> 42).get());
+    }
+
+    /** Checks that pools without threads are rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoThreads() {
+        new ForkJoinThreadPool(0);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.HashPartitionedDuplicateChecker.Storage;
+
+/**
+ * Tests the {@link HashPartitionedDuplicateChecker}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashPartitionedDuplicateCheckerTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testNoDuplicateManyRows() throws IOException {
+        for (Storage storage : Storage.values()) {
+            for (long expectedNrKeys : new long[]{0, 1000000}) {
+                long t = System.currentTimeMillis();
+                HashPartitionedDuplicateChecker dc =
+                    new HashPartitionedDuplicateChecker(HashPartitionedDuplicateChecker.DEF_NR_PARTITIONS, storage,
+                        expectedNrKeys);
+                try {
+                    for (int i = 0; i < 1000000; i++) {
+                        dc.addKey("Row " + i);
+                    }
+                    dc.checkForDuplicates();
+                    Assert.assertEquals(1000000, dc.size());
+                } catch (DuplicateKeyException ex) {
+                    NodeLogger.getLogger(getClass()).error("No duplicates inserted but exception was thrown", ex);
+                    Assert.fail("No duplicates inserted but exception was thrown");
+                } finally {
+                    dc.clear();
+                }
+                NodeLogger.getLogger(getClass())
+                    .info(storage + ", Bloom filter " + (expectedNrKeys > 0) + ": "
+                        + (System.currentTimeMillis() - t) + "ms");
+            }
+        }
+    }
+
+    @Test
+    public void testDuplicates() throws IOException {
+        long seed = System.currentTimeMillis();
+        NodeLogger.getLogger(getClass()).info("Using seed " + seed);
+        Random r = new Random(seed);
+        for (Storage storage : Storage.values()) {
+            // a single partition and a tiny Bloom filter to provoke collisions
+            HashPartitionedDuplicateChecker dc = new HashPartitionedDuplicateChecker(1, storage, 10);
+            try {
+                for (int i = 0; i < 100000; i++) {
+                    dc.addKey(Integer.toString(i, Character.MAX_RADIX));
+                }
+                for (int i = 0; i < 100; i++) {
+                    String key = Integer.toString(r.nextInt(100000), Character.MAX_RADIX);
+                    try {
+                        dc.addKey(key);
+                        Assert.fail("No duplicate detected for " + key);
+                    } catch (DuplicateKeyException e) {
+                        Assert.assertEquals(key, e.getKey());
+                    }
+                }
+                Assert.assertEquals(100000, dc.size());
+            } catch (DuplicateKeyException e) {
+                Assert.fail("Duplicate detected even though no duplicates are present");
+            } finally {
+                dc.clear();
+            }
+        }
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        HashPartitionedDuplicateChecker checker = new HashPartitionedDuplicateChecker(4, Storage.MEMORY_MAPPED, 0);
+        checker.addKey("A");
+        checker.addKey("");
+        checker.clear();
+        Assert.assertEquals(0, checker.size());
+        checker.addKey("A");
+        expectedException.expect(DuplicateKeyException.class);
+        checker.addKey("A");
+    }
+
+    @Test
+    public void testClearDeletesFile() throws Exception {
+        HashPartitionedDuplicateChecker checker = new HashPartitionedDuplicateChecker(4, Storage.MEMORY_MAPPED, 0);
+        for (int i = 0; i < 10000; i++) {
+            checker.addKey("Row " + i);
+        }
+        File file = checker.getFile();
+        Assert.assertNotNull("No temporary file created", file);
+        Assert.assertTrue("Temporary file does not exist", file.exists());
+        checker.clear();
+        Assert.assertNull(checker.getFile());
+        Assert.assertFalse("Temporary file not deleted", file.exists());
+    }
+
+    @Test
+    public void testHugeExpectedNrKeys() throws Exception {
+        // memory allocated up front is capped, so this must not run out of memory
+        HashPartitionedDuplicateChecker checker = new HashPartitionedDuplicateChecker(
+            HashPartitionedDuplicateChecker.DEF_NR_PARTITIONS, Storage.OFF_HEAP, Long.MAX_VALUE / 2);
+        try {
+            for (int i = 0; i < 10000; i++) {
+                checker.addKey("Row " + i);
+            }
+            Assert.assertEquals(10000, checker.size());
+            expectedException.expect(DuplicateKeyException.class);
+            checker.addKey("Row 0");
+        } finally {
+            checker.clear();
+        }
+    }
+
+    @Test
+    public void testLongKey() throws Exception {
+        HashPartitionedDuplicateChecker checker = new HashPartitionedDuplicateChecker();
+        char[] c = new char[10000000];
+        Arrays.fill(c, 'x');
+        String longKey = new String(c);
+        checker.addKey(longKey);
+        checker.addKey(longKey.substring(1));
+        expectedException.expect(DuplicateKeyException.class);
+        checker.addKey(new String(c));
+    }
+}
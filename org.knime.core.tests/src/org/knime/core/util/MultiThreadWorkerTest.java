@@ -0,0 +1,231 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Tests the {@link MultiThreadWorker} with and without adaptive batching and logs the time needed for cheap
+ * computations.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class MultiThreadWorkerTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(MultiThreadWorkerTest.class);
+
+    private static final int WORKERS = 4;
+
+    private ExecutorService m_executor;
+
+    /** Creates the executor. */
+    @Before
+    public void setUp() {
+        m_executor = Executors.newFixedThreadPool(WORKERS);
+    }
+
+    /** Shuts down the executor. */
+    @After
+    public void tearDown() {
+        m_executor.shutdownNow();
+    }
+
+    private static List<Integer> createInput(final int size) {
+        final List<Integer> input = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            input.add(i);
+        }
+        return input;
+    }
+
+    /** Squares the input and checks in {@link #processFinished(ComputationTask)} that the output is in order. */
+    private static class SquareWorker extends MultiThreadWorker<Integer, Long> {
+
+        private final long m_sleepMillis;
+
+        private long m_expectedIndex;
+
+        private long m_sum;
+
+        SquareWorker(final long sleepMillis) {
+            super(10 * WORKERS, WORKERS);
+            m_sleepMillis = sleepMillis;
+        }
+
+        @Override
+        protected Long compute(final Integer in, final long index) throws Exception {
+            if (m_sleepMillis > 0) {
+                Thread.sleep(m_sleepMillis);
+            }
+            return (long)in * in;
+        }
+
+        @Override
+        protected void processFinished(final ComputationTask task)
+            throws ExecutionException, CancellationException, InterruptedException {
+            assertEquals(m_expectedIndex, task.getIndex());
+            assertEquals(m_expectedIndex, task.getInput().longValue());
+            m_sum += task.get();
+            m_expectedIndex++;
+        }
+    }
+
+    private static long expectedSum(final int size) {
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += i * i;
+        }
+        return sum;
+    }
+
+    /**
+     * Tests that the output order and results are the same with and without batching, that cheap computations are
+     * batched and that this is faster. Without batching each element is submitted to the executor as a single task,
+     * with batching far fewer tasks are submitted. Logs the fastest of three runs per mode.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testCheapComputations() throws Exception {
+        final int size = 200000;
+        final List<Integer> input = createInput(size);
+        final long[] bestNanos = {Long.MAX_VALUE, Long.MAX_VALUE};
+        for (int run = 0; run < 3; run++) {
+            for (boolean batching : new boolean[]{false, true}) {
+                final AtomicLong taskCount = new AtomicLong();
+                final SquareWorker worker = new SquareWorker(0);
+                worker.setExecutor(task -> {
+                    taskCount.incrementAndGet();
+                    m_executor.execute(task);
+                });
+                worker.setAdaptiveBatching(batching);
+                final long start = System.nanoTime();
+                worker.run(input);
+                final long nanos = System.nanoTime() - start;
+                assertEquals(size, worker.m_expectedIndex);
+                assertEquals(size, worker.getFinishedCount());
+                assertEquals(expectedSum(size), worker.m_sum);
+                assertEquals("Wrong number of submitted tasks", worker.getBatchCount(), taskCount.get());
+                if (batching) {
+                    assertTrue("Cheap computations not batched: " + worker.getBatchCount(),
+                        worker.getBatchCount() < size / 10);
+                } else {
+                    assertEquals(size, worker.getBatchCount());
+                }
+                final int mode = batching ? 1 : 0;
+                bestNanos[mode] = Math.min(bestNanos[mode], nanos);
+            }
+        }
+        LOGGER.info(String.format("Processed %d elements in %d ms without and in %d ms with adaptive batching", size,
+            bestNanos[0] / 1000000, bestNanos[1] / 1000000));
+        assertTrue("Adaptive batching not faster for cheap computations", bestNanos[1] < bestNanos[0]);
+    }
+
+    /**
+     * Tests that expensive computations are still submitted individually.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testExpensiveComputations() throws Exception {
+        final int size = 40;
+        final SquareWorker worker = new SquareWorker(5);
+        worker.setExecutor(m_executor);
+        worker.setAdaptiveBatching(true);
+        worker.run(createInput(size));
+        assertEquals(expectedSum(size), worker.m_sum);
+        assertEquals(size, worker.getBatchCount());
+        assertTrue("Speedup expected: " + worker.getEffectiveSpeedup(), worker.getEffectiveSpeedup() > 1.0);
+    }
+
+    /**
+     * Tests that an exception in a computation of a batch is passed on to the caller.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testExceptionInBatch() throws Exception {
+        final SquareWorker worker = new SquareWorker(0) {
+            @Override
+            protected Long compute(final Integer in, final long index) throws Exception {
+                if (index == 50000) {
+                    throw new IllegalArgumentException("Failing element " + index);
+                }
+                return super.compute(in, index);
+            }
+        };
+        worker.setExecutor(m_executor);
+        worker.setAdaptiveBatching(true);
+        try {
+            worker.run(createInput(100000));
+            fail("Expected exception not thrown");
+        } catch (ExecutionException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            assertTrue(cause.toString(), cause instanceof IllegalArgumentException);
+        }
+        assertEquals(50000, worker.m_expectedIndex);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util.tokenizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link Tokenizer#nextTokenSequence()} with read-ahead and the {@link TokenizerRangeSplitter} against the
+ * classic {@link Tokenizer#nextToken()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class TokenizerRangeSplitterTest {
+
+    /** Settings as used by the file reader for a comma separated file. */
+    private static TokenizerSettings createCSVSettings() {
+        final TokenizerSettings settings = new TokenizerSettings();
+        settings.addDelimiterPattern(",", false, false, false);
+        settings.addDelimiterPattern("\n", true, false, false);
+        settings.addQuotePattern("\"", "\"", '\\');
+        settings.addSingleLineCommentPattern("#", false, false);
+        settings.addWhiteSpaceCharacter(" ");
+        settings.addWhiteSpaceCharacter("\t");
+        return settings;
+    }
+
+    /** Creates comma separated content with quoted strings, comments, empty lines and mixed line endings. */
+    private static String createContent(final int nrLines, final long seed) {
+        final Random random = new Random(seed);
+        final StringBuilder b = new StringBuilder();
+        for (int line = 0; line < nrLines; line++) {
+            final int kind = random.nextInt(20);
+            if (kind == 0) {
+                b.append("# comment, with \"quotes\"");
+            } else if (kind > 1) {
+                for (int col = 0; col < 6; col++) {
+                    if (col > 0) {
+                        b.append(random.nextBoolean() ? "," : " ,\t");
+                    }
+                    switch (random.nextInt(4)) {
+                        case 0:
+                            b.append(random.nextInt(100000));
+                            break;
+                        case 1:
+                            b.append(random.nextDouble());
+                            break;
+                        case 2:
+                            b.append("\"quoted, \\\"value\\\" ").append(line).append('"');
+                            break;
+                        default:
+                            b.append("Row").append(line).append("_").append(col);
+                    }
+                }
+            }
+            b.append(random.nextInt(5) == 0 ? "\r\n" : "\n");
+        }
+        return b.toString();
+    }
+
+    private static List<String> readTokens(final Reader reader, final TokenizerSettings settings,
+        final boolean useSequence) {
+        // the sequence is only used with read-ahead, which is what callers processing many tokens do
+        final Tokenizer tokenizer = new Tokenizer(reader, useSequence);
+        tokenizer.setSettings(settings);
+        final List<String> result = new ArrayList<>();
+        while (true) {
+            final CharSequence token = useSequence ? tokenizer.nextTokenSequence() : tokenizer.nextToken();
+            if (token == null) {
+                return result;
+            }
+            result.add(token.toString() + '|' + tokenizer.lastTokenWasQuoted());
+        }
+    }
+
+    /**
+     * Tests that {@link Tokenizer#nextTokenSequence()} returns a read-only view that is reused for subsequent tokens,
+     * while strings kept via {@link Tokenizer#nextToken()} or {@link CharSequence#toString()} stay unchanged.
+     */
+    @Test
+    public void testNextTokenSequenceIsReadOnlyView() {
+        final Tokenizer tokenizer = new Tokenizer(new StringReader("first,second,third"), true);
+        tokenizer.setSettings(createCSVSettings());
+        final CharSequence first = tokenizer.nextTokenSequence();
+        assertFalse("Token buffer exposed", first instanceof StringBuilder);
+        final String firstCopy = first.toString();
+        assertEquals("first", firstCopy);
+        assertEquals("irs", first.subSequence(1, 4));
+        final CharSequence second = tokenizer.nextTokenSequence();
+        assertSame("View not reused", first, second);
+        assertEquals("second", second.toString());
+        assertEquals("Copy of previous token changed", "first", firstCopy);
+        assertEquals("third", tokenizer.nextToken());
+        assertNull(tokenizer.nextTokenSequence());
+    }
+
+    /**
+     * Tests that {@link Tokenizer#nextTokenSequence()} with read-ahead returns the same tokens as
+     * {@link Tokenizer#nextToken()} without.
+     */
+    @Test
+    public void testNextTokenSequence() {
+        final TokenizerSettings settings = createCSVSettings();
+        final String content = createContent(2000, 42);
+        final List<String> expected = readTokens(new StringReader(content), settings, false);
+        assertEquals(expected, readTokens(new StringReader(content), settings, true));
+
+        // quotes kept, multi-character patterns and combined delimiters
+        final TokenizerSettings other = new TokenizerSettings();
+        other.addDelimiterPattern(";;", false, false, false);
+        other.addDelimiterPattern(",", true, true, false);
+        other.addDelimiterPattern("\n", true, false, false);
+        other.addQuotePattern("'", "'", true);
+        other.addQuotePattern("<<", ">>");
+        other.addBlockCommentPattern("/*", "*/", false, false);
+        final String otherContent = "a;;b,,,c\n'x,y' <<long;;quote>>\n/* block\n comment */d, e;;f\n\n'open";
+        assertEquals(readTokens(new StringReader(otherContent), other, false),
+            readTokens(new StringReader(otherContent), other, true));
+    }
+
+    /**
+     * Tests that parsing the ranges returned by {@link TokenizerRangeSplitter#split(Path, int)} independently results
+     * in the same tokens as parsing the entire file.
+     *
+     * @throws IOException if the temporary file can't be written
+     */
+    @Test
+    public void testRangeSplitting() throws IOException {
+        final TokenizerSettings settings = createCSVSettings();
+        assertTrue(TokenizerRangeSplitter.isSplittable(settings));
+        final TokenizerSettings lfInQuotes = createCSVSettings();
+        lfInQuotes.allowLFinQuotes(true);
+        assertFalse(TokenizerRangeSplitter.isSplittable(lfInQuotes));
+        final TokenizerSettings combined = createCSVSettings();
+        combined.setCombineMultipleDelimiters(true);
+        assertFalse(TokenizerRangeSplitter.isSplittable(combined));
+
+        final Path file = Files.createTempFile("tokenizer", ".csv");
+        try {
+            Files.write(file, (createContent(3000, 7) + "\n\n\r\nlast line without line break")
+                .getBytes(StandardCharsets.UTF_8));
+            final List<String> expected = readFile(file, settings);
+            for (int nrRanges : new int[]{1, 2, 7, 64, 5000}) {
+                final long[] offsets = TokenizerRangeSplitter.split(file, nrRanges);
+                assertEquals(nrRanges + 1, offsets.length);
+                assertEquals(Files.size(file), offsets[nrRanges]);
+                final List<String> actual = new ArrayList<>();
+                for (int i = 0; i < nrRanges; i++) {
+                    try (Reader reader = TokenizerRangeSplitter.openRange(file, offsets[i], offsets[i + 1],
+                        StandardCharsets.UTF_8)) {
+                        actual.addAll(readTokens(reader, settings, true));
+                    }
+                }
+                assertEquals("Different tokens for " + nrRanges + " ranges", expected, actual);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<String> readFile(final Path file, final TokenizerSettings settings) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return readTokens(reader, settings, false);
+        }
+    }
+}
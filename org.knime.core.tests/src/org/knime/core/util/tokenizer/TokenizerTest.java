@@ -44,6 +44,7 @@
  */
 package org.knime.core.util.tokenizer;
 
+import java.io.Reader;
 import java.io.StringReader;
 
 import junit.framework.TestCase;
@@ -53,7 +54,7 @@
  *
  * @author Peter Ohl, University of Konstanz
  */
-public final class TokenizerTest extends TestCase {
+public class TokenizerTest extends TestCase {
 
     /**
      * System entry point calls the
@@ -66,6 +67,16 @@ public static void main(final String[] args) {
         junit.textui.TestRunner.run(TokenizerTest.class);
     }
 
+    /**
+     * Creates the tokenizer under test, overridden to test other configurations.
+     *
+     * @param source the reader to read from
+     * @return a new tokenizer
+     */
+    protected Tokenizer createTokenizer(final Reader source) {
+        return new Tokenizer(source);
+    }
+
     /**
      * Tests the constructor.
      * @throws TokenizerException if somethings goes wrong.
@@ -78,7 +89,7 @@ public void testTokenizer() throws TokenizerException {
         String token;
         final String inputString =
             "123,234,\",,3 4 5\n,'456'\n\na�?#~\\,,\n\n";
-        Tokenizer ft = new Tokenizer(new StringReader(inputString));
+        Tokenizer ft = createTokenizer(new StringReader(inputString));
 
         token = ft.nextToken();
         assertEquals(token, "123,234,\",,3 4 5\n,'456'\n\na�?#~\\,,\n\n");
@@ -94,7 +105,7 @@ public void testTokenizer() throws TokenizerException {
     public void testSetSettings() {
         TokenizerSettings fts = new TokenizerSettings();
         final String inputString = "";
-        Tokenizer ft = new Tokenizer(new StringReader(inputString));
+        Tokenizer ft = createTokenizer(new StringReader(inputString));
         fts.addBlockCommentPattern("/*", "*/", false, false);
         fts.addQuotePattern("'", "'");
         fts.addDelimiterPattern("\n", false, false, false);
@@ -125,7 +136,7 @@ public void testResetToDefault() throws TokenizerException {
         final String inputString = "123 234\n/*f \noo */'8 9' , end\n";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
 
         fts.addBlockCommentPattern("/*", "*/", false, false);
         fts.addQuotePattern("'", "'");
@@ -179,7 +190,7 @@ public void testNextToken() throws TokenizerException {
             "1,2\n\n\n\n3\t����,4\b\r\"�^�`'#";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
 
         fts.addDelimiterPattern(",", false, false, false);
         fts.addDelimiterPattern("\n", false, false, false);
@@ -222,7 +233,7 @@ public void testPushBack() throws TokenizerException {
         final String inputString = "123\n234\n345\n";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
         fts.addDelimiterPattern("\n", false, false, false);
         ft.setSettings(fts);
 
@@ -264,7 +275,7 @@ public void testLastTokenWasQuoted() throws TokenizerException {
         final String inputString = "\"123\"\n'234'\n<quote>345</quote>\n";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
         fts.addDelimiterPattern("\n", false, false, false);
         ft.setSettings(fts);
 
@@ -290,7 +301,7 @@ public void testLastTokenWasQuoted() throws TokenizerException {
         // reset stream
         strReader = new StringReader(inputString);
 
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts = new TokenizerSettings();
         fts.addDelimiterPattern("\n", false, false, false);
         fts.addQuotePattern("\"", "\"");
@@ -317,7 +328,7 @@ public void testLastTokenWasQuoted() throws TokenizerException {
         // reset stream
         strReader = new StringReader(inputString);
 
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts = new TokenizerSettings();
         fts.addDelimiterPattern("\n", false, false, false);
         fts.addQuotePattern("'", "'");
@@ -362,7 +373,7 @@ public void testLastTokenWasQuoted() throws TokenizerException {
         // reset stream
         strReader = new StringReader(inputString);
 
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts = new TokenizerSettings();
         fts.addDelimiterPattern("\n", false, false, false);
         fts.addQuotePattern("<quote>", "</quote>");
@@ -404,13 +415,13 @@ public void testAddQuotePattern() throws TokenizerException {
         String inputString;
         inputString = "123";
         StringReader strReader = new StringReader(inputString);
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
 
         // test some normal double quote stuff with escape character.
         inputString = "123,\"23,4\"\"3,4\\\",5\",\"45,6\",\"\",\"3";
         strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addDelimiterPattern(",", false, false, false);
         fts.addQuotePattern("\"", "\"", '\\');
         ft.setSettings(fts);
@@ -436,7 +447,7 @@ public void testAddQuotePattern() throws TokenizerException {
         /* "123,\"23,4\"\"3,4\\\",5\",\"45,6\",\"\",\"3" */
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addDelimiterPattern(",", false, false, false);
         // make sure quotes stay in the token
         fts.addQuotePattern("\"", "\"", '\\', true);
@@ -461,7 +472,7 @@ public void testAddQuotePattern() throws TokenizerException {
 
         // reset stream
         strReader = new StringReader(inputString);
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts = new TokenizerSettings();
         fts.addDelimiterPattern(",", false, false, false);
         fts.addQuotePattern("\"", "\"");
@@ -485,7 +496,7 @@ public void testAddQuotePattern() throws TokenizerException {
         inputString = "123, quotebeginpattern2, 3, 4quoteendpattern, 345";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addQuotePattern("quotebeginpattern", "quoteendpattern");
         fts.addDelimiterPattern(", ", false, false, false);
         ft.setSettings(fts);
@@ -518,11 +529,11 @@ public void testAddDelimiterPattern1() throws TokenizerException {
         inputString = "123";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
         inputString = "123, 234,\t345,\n456,567, \"one, token\",\t678, , 789, "
                 + "890,\t,\t901, the end";
         strReader = new StringReader(inputString);
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         // two delimiters, one will be returned as separate token.
         // delimiter pattern inside quotes should not start a new token.
         fts.addDelimiterPattern(", ", false, false, false);
@@ -555,7 +566,7 @@ public void testAddDelimiterPattern1() throws TokenizerException {
         inputString = "123, 234, , , , 456,,567, 678, , 789, end";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         // tests combine consecutive delimiters
         fts.addDelimiterPattern(", ", true, false, false);
         ft.setSettings(fts);
@@ -578,7 +589,7 @@ public void testAddDelimiterPattern1() throws TokenizerException {
         // = "123, 234, , , , 456,,567, 678, , 789, end"
         // reset stream
         strReader = new StringReader(inputString);
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts = new TokenizerSettings();
         fts.addDelimiterPattern(", ", false, true, false);
         ft.setSettings(fts);
@@ -635,7 +646,7 @@ public void testAddDelimiterPattern2() throws TokenizerException {
         String inputString = "123,++---234-,2+-,,6,,7**+**8**";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
         /*                       (combine, return, include)*/
         fts.addDelimiterPattern(",", false, false, true);
         fts.addDelimiterPattern("+", false, true, false);
@@ -694,7 +705,7 @@ public void testAddDelimiterPattern2() throws TokenizerException {
         inputString = "123\n\n\n2,3,4\n2\n6,,7\n\n\n8,7";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         /* ( combine, return, include */
         fts.addDelimiterPattern(",", false, false, false);
         fts.addDelimiterPattern("\n", true, true, false);
@@ -734,7 +745,7 @@ public void testAddDelimiterPattern2() throws TokenizerException {
         inputString = "123---234-345--\\\n-243";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         /*                       (combine, return, include) */
         fts.addDelimiterPattern("-", true, true, false);
         ft.setSettings(fts);
@@ -775,13 +786,13 @@ public void testAddCommentPattern() throws TokenizerException {
         inputString = "123";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
 
         // define C-style comments
         inputString = "123,234/*comment*/345//line comment, foo\nend";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addDelimiterPattern(",", false, false, false);
         fts.addDelimiterPattern("\n", false, false, false);
         fts.addBlockCommentPattern("/*", "*/", false, false);
@@ -799,7 +810,7 @@ public void testAddCommentPattern() throws TokenizerException {
         // block comments,
         inputString = "123,234/*comment*/345";
         strReader = new StringReader(inputString);
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts = new TokenizerSettings();
         fts.addDelimiterPattern(",", false, false, false);
         fts.addBlockCommentPattern("/*", "*/", false, false);
@@ -813,7 +824,7 @@ public void testAddCommentPattern() throws TokenizerException {
         // returning them as separate token, and
         inputString = "123,234/*comment*/345";
         strReader = new StringReader(inputString);
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts = new TokenizerSettings();
         fts.addDelimiterPattern(",", false, false, false);
         fts.addBlockCommentPattern("/*", "*/", true, false);
@@ -831,7 +842,7 @@ public void testAddCommentPattern() throws TokenizerException {
         // including them in the token.
         inputString = "123,234/*comment*/345";
         strReader = new StringReader(inputString);
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts = new TokenizerSettings();
         fts.addDelimiterPattern(",", false, false, false);
         fts.addBlockCommentPattern("/*", "*/", false, true);
@@ -1068,7 +1079,7 @@ public void testSetLineContinuationCharacter()
                 + "one\\\n  two\\\n\\\n   four,'quote\\\n   \\\n  cont',end";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
 
         fts.addQuotePattern("'", "'");
         fts.addDelimiterPattern(",", false, false, false);
@@ -1103,7 +1114,7 @@ public void testSetLineContinuationCharacter()
                 + "one\\\n  two\\\n\\\n   four,'quote\\\n   \\\n  cont',end";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addQuotePattern("'", "'");
         fts.addDelimiterPattern(",", false, false, false);
         // set a delimiter that starts with the line cont char.
@@ -1139,7 +1150,7 @@ public void testSetLineContinuationCharacter()
                 + "one+\n  two+\n+\n   four\\\nfve,'quote\\\n   +\n  cont',end";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addQuotePattern("'", "'");
         fts.addDelimiterPattern(",", false, false, false);
         fts.addDelimiterPattern("+d", false, false, false);
@@ -1173,7 +1184,7 @@ public void testGetLineContinuationCharacter()
         String inputString = "123";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
 
         fts.setLineContinuationCharacter('\0');
         assertEquals(fts.getLineContinuationCharacter(), "\0");
@@ -1207,7 +1218,7 @@ public void testNewLineInQuotes() {
         String inputString = "A,B,\"C\"\n\"\",\"first\nsecond\"\n\"\n\",\"KNIME\n\",\"\nData\",\"\nfoo\n\",D,F";
 
         StringReader stringReader = new StringReader(inputString);
-        Tokenizer ft = new Tokenizer(stringReader);
+        Tokenizer ft = createTokenizer(stringReader);
         ft.setSettings(fts);
 
         // new line in a quoted string is not allowed by default
@@ -1232,7 +1243,7 @@ public void testNewLineInQuotes() {
         // allow LF in quotes
         fts.allowLFinQuotes(true);
         stringReader = new StringReader(inputString);
-        ft = new Tokenizer(stringReader);
+        ft = createTokenizer(stringReader);
         ft.setSettings(fts);
         token = ft.nextToken();
         assertEquals(token, "A");
@@ -1267,7 +1278,7 @@ public void testNewLineInQuotes() {
 
         inputString = "A,B,C\r\n\",\", zweiter, \"\tA\tB\"\r\n\"erster\", zweiter, \"AB\"\r\n\"erster\", zweiter, \"\nA\nB\"\r\n";
         stringReader = new StringReader(inputString);
-        ft = new Tokenizer(stringReader);
+        ft = createTokenizer(stringReader);
         ft.setSettings(fts);
         token = ft.nextToken();
         assertEquals(token, "A");
@@ -1321,7 +1332,7 @@ public void testCombineMultipleDelimiters() throws TokenizerException {
         String inputString = "123 \t 234   345, 567";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
         // we want whitespaces and comma to be a seperator. Also combinations.
         fts.addDelimiterPattern(" ", true, false, false);
         fts.addDelimiterPattern("\t", true, false, false);
@@ -1344,7 +1355,7 @@ public void testCombineMultipleDelimiters() throws TokenizerException {
         // same thing. This time we want the comma returned.
         strReader = new StringReader(inputString); /* "123 \t 234 345, 567" */
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         // we want whitespaces and comma to be a seperator. Also combinations.
         fts.addDelimiterPattern(" ", true, false, false);
         fts.addDelimiterPattern("\t", true, false, false);
@@ -1369,7 +1380,7 @@ public void testCombineMultipleDelimiters() throws TokenizerException {
         // same thing. But the comma is to be included in the token.
         strReader = new StringReader(inputString); /* "123 \t 234 345, 567" */
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         // we want whitespaces and comma to be a seperator. Also combinations.
         fts.addDelimiterPattern(" ", true, false, false);
         fts.addDelimiterPattern("\t", true, false, false);
@@ -1393,7 +1404,7 @@ public void testCombineMultipleDelimiters() throws TokenizerException {
         inputString = "123 \t 234   345, \t,  567";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         // we want whitespaces and comma to be a seperator. Also combinations.
         fts.addDelimiterPattern(" ", true, false, false);
         fts.addDelimiterPattern("\t", true, false, false);
@@ -1420,7 +1431,7 @@ public void testCombineMultipleDelimiters() throws TokenizerException {
         inputString = "123 \t 234   345, \t;  567";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         // we want whitespaces and comma to be a seperator. Also combinations.
         fts.addDelimiterPattern(" ", true, false, false);
         fts.addDelimiterPattern("\t", true, false, false);
@@ -1461,7 +1472,7 @@ public void testAddWhiteSpaceCharacter() throws TokenizerException {
         String inputString = "123 \t 234   345, 567";
         StringReader strReader = new StringReader(inputString);
         TokenizerSettings fts = new TokenizerSettings();
-        Tokenizer ft = new Tokenizer(strReader);
+        Tokenizer ft = createTokenizer(strReader);
         fts.addDelimiterPattern(",", false, false, false);
         fts.addWhiteSpaceCharacter(' ');
         fts.addWhiteSpaceCharacter('\t');
@@ -1479,7 +1490,7 @@ public void testAddWhiteSpaceCharacter() throws TokenizerException {
         inputString = "123 \t 234   345, 567";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addDelimiterPattern(",", false, false, false);
         fts.addDelimiterPattern("\t", false, false, false);
         ft.setSettings(fts);
@@ -1497,7 +1508,7 @@ public void testAddWhiteSpaceCharacter() throws TokenizerException {
         inputString = "123  234 345";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addDelimiterPattern(" ", false, false, false);
         fts.addWhiteSpaceCharacter(' ');
         ft.setSettings(fts);
@@ -1518,7 +1529,7 @@ public void testAddWhiteSpaceCharacter() throws TokenizerException {
                 + " ------1_2_3_4_5-------";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addDelimiterPattern(" ", false, false, false);
         fts.addWhiteSpaceCharacter('_');
         fts.addWhiteSpaceCharacter('=');
@@ -1544,7 +1555,7 @@ public void testAddWhiteSpaceCharacter() throws TokenizerException {
         inputString = "\"123 \", \" 234\" ,  34 5 , \" 5 6 7 \"  , \"987 \" ";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addDelimiterPattern(",", false, false, false);
         fts.addQuotePattern("\"", "\"");
         fts.addWhiteSpaceCharacter(' ');
@@ -1567,7 +1578,7 @@ public void testAddWhiteSpaceCharacter() throws TokenizerException {
         inputString = "123 -  234 -  34 - 5 - 5 6 7 -   ";
         strReader = new StringReader(inputString);
         fts = new TokenizerSettings();
-        ft = new Tokenizer(strReader);
+        ft = createTokenizer(strReader);
         fts.addDelimiterPattern(" - ", false, false, false);
         fts.addWhiteSpaceCharacter(' ');
         ft.setSettings(fts);
@@ -50,6 +50,7 @@
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -398,6 +399,142 @@ public void updateDomain(final DataRow row) {
         }
     }
 
+    /**
+     * Updates the domain values with a batch of rows. The result is the same as calling {@link #updateDomain(DataRow)}
+     * for each row, but the batch is processed column by column: the minimum and maximum of int, long, and double
+     * columns are determined on primitive values and compared to the current bounds only once per batch, and columns
+     * whose number of possible values has exceeded the {@link #setMaxPossibleValues(int) maximum} are skipped. Note
+     * that the row structure must match the table spec that has been provided to the constructor.
+     *
+     * @param rows the rows
+     * @since 4.2
+     */
+    public void updateDomain(final List<? extends DataRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        assert rows.get(0).getNumCells() == m_inputSpec.getNumColumns() : "Unequal number of columns in spec and row: "
+            + m_inputSpec.getNumColumns() + " vs. " + rows.get(0).getNumCells();
+
+        for (int i = 0; i < m_inputSpec.getNumColumns(); i++) {
+            updatePossibleValues(i, rows);
+            updateMinMax(i, rows);
+            final MetaDataCalculator metaDataCalculator = m_metaDataCalculators[i];
+            for (final DataRow row : rows) {
+                metaDataCalculator.update(row.getCell(i));
+            }
+        }
+    }
+
+    private void updatePossibleValues(final int col, final List<? extends DataRow> rows) {
+        final Map<DataCell, Long> possVals = m_possVals[col];
+        if (possVals == null) {
+            return;
+        }
+        for (final DataRow row : rows) {
+            final DataCell cell = row.getCell(col);
+            if (!cell.isMissing() && possVals.putIfAbsent(cell, m_batchId) == null
+                && possVals.size() > m_maxPossibleValues) {
+                // stop tracking values of this column altogether
+                m_possVals[col] = null;
+                return;
+            }
+        }
+    }
+
+    private void updateMinMax(final int col, final List<? extends DataRow> rows) {
+        if (m_mins[col] == null) {
+            return;
+        }
+        final DataValueComparator comparator = m_comparators[col];
+        // only the exact classes are known to compare like the primitive values
+        final Class<?> comparatorClass = comparator.getClass();
+        DataCell min = null;
+        DataCell max = null;
+        if (comparatorClass == DoubleValueComparator.class) {
+            double minValue = 0;
+            double maxValue = 0;
+            for (final DataRow row : rows) {
+                final DataCell cell = row.getCell(col);
+                if (!cell.isMissing()) {
+                    final DataCell unwrapped = unwrap(cell);
+                    final double value = ((DoubleValue)unwrapped).getDoubleValue();
+                    if (Double.isNaN(value)) {
+                        continue;
+                    }
+                    if (min == null || Double.compare(value, minValue) < 0) {
+                        min = unwrapped;
+                        minValue = value;
+                    }
+                    if (max == null || Double.compare(value, maxValue) > 0) {
+                        max = unwrapped;
+                        maxValue = value;
+                    }
+                }
+            }
+        } else if (comparatorClass == IntValueComparator.class) {
+            int minValue = 0;
+            int maxValue = 0;
+            for (final DataRow row : rows) {
+                final DataCell cell = row.getCell(col);
+                if (!cell.isMissing()) {
+                    final DataCell unwrapped = unwrap(cell);
+                    final int value = ((IntValue)unwrapped).getIntValue();
+                    if (min == null || value < minValue) {
+                        min = unwrapped;
+                        minValue = value;
+                    }
+                    if (max == null || value > maxValue) {
+                        max = unwrapped;
+                        maxValue = value;
+                    }
+                }
+            }
+        } else if (comparatorClass == LongValueComparator.class) {
+            long minValue = 0;
+            long maxValue = 0;
+            for (final DataRow row : rows) {
+                final DataCell cell = row.getCell(col);
+                if (!cell.isMissing()) {
+                    final DataCell unwrapped = unwrap(cell);
+                    final long value = ((LongValue)unwrapped).getLongValue();
+                    if (min == null || value < minValue) {
+                        min = unwrapped;
+                        minValue = value;
+                    }
+                    if (max == null || value > maxValue) {
+                        max = unwrapped;
+                        maxValue = value;
+                    }
+                }
+            }
+        } else {
+            for (final DataRow row : rows) {
+                final DataCell cell = row.getCell(col);
+                if (!cell.isMissing()) {
+                    final DataCell unwrapped = unwrap(cell);
+                    if (isNaN(unwrapped)) {
+                        continue;
+                    }
+                    if (min == null || comparator.compare(unwrapped, min) < 0) {
+                        min = unwrapped;
+                    }
+                    if (max == null || comparator.compare(unwrapped, max) > 0) {
+                        max = unwrapped;
+                    }
+                }
+            }
+        }
+        if (min != null) {
+            updateMin(col, m_mins, min, comparator);
+            updateMax(col, m_maxs, max, comparator);
+        }
+    }
+
+    private static DataCell unwrap(final DataCell cell) {
+        return (cell instanceof BlobWrapperDataCell) ? ((BlobWrapperDataCell)cell).getCell() : cell;
+    }
+
     /**
      * Updates the domain values by scanning a whole table. Note that the table's structure must match the table spec
      * that has been provided to the constructor.
@@ -73,6 +73,7 @@ public abstract class AbstractCellFactory implements CellFactory {
 
     private int m_maxParallelWorkers = -1;
     private int m_maxQueueSize = -1;
+    private boolean m_isAdaptiveBatching;
 
     /** True if the deprecatd {@link #setProgress(int, int, RowKey, ExecutionMonitor)} method is overridden. If so,
      * it will be called by the default implementation of the (new) setProgress method. */
@@ -226,6 +227,29 @@ public final int getMaxQueueSize() {
         return m_maxQueueSize;
     }
 
+    /** Enables or disables adaptive batching of rows if the input is
+     * {@link #isParallelProcessing() processed concurrently}. If enabled,
+     * rows whose calculation is cheap are grouped into batches to reduce the
+     * overhead of the parallel processing, while expensive rows are still
+     * processed individually. Note that the {@link #getMaxQueueSize() queue
+     * size} and the {@link #getMaxParallelWorkers() number of workers} then
+     * refer to batches (of up to 1024 rows), so it should only be enabled if
+     * the result of a single row is small. Default is <code>false</code>.
+     * @param value If to enable adaptive batching.
+     * @since 4.2
+     */
+    public final void setAdaptiveBatching(final boolean value) {
+        m_isAdaptiveBatching = value;
+    }
+
+    /** @return whether rows are grouped into batches of adaptive size when
+     * processed concurrently.
+     * @see #setAdaptiveBatching(boolean)
+     * @since 4.2 */
+    public final boolean isAdaptiveBatching() {
+        return m_isAdaptiveBatching;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DataColumnSpec[] getColumnSpecs() {
@@ -79,11 +79,8 @@
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -400,16 +397,8 @@ public class Buffer implements KNIMEStreamConstants {
     /** A cache for holding tables in memory. */
     private static final BufferCache CACHE = new BufferCache();
 
-    /** A single-threaded executor for asynchronous disk I/O threads. */
-    static final ExecutorService ASYNC_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
-        private final AtomicInteger m_threadCount = new AtomicInteger();
-
-        /** {@inheritDoc} */
-        @Override
-        public Thread newThread(final Runnable r) {
-            return new Thread(r, "KNIME-BackgroundTableWriter-" + m_threadCount.incrementAndGet());
-        }
-    });
+    /** The executor for asynchronous disk I/O tasks, writing independent buffers concurrently. */
+    static final BufferWriteExecutor ASYNC_EXECUTOR = BufferWriteExecutor.getInstance();
 
     /**
      * Hash used to reduce the overhead of reading a blob cell over and over again. Useful in cases where a blob is
@@ -526,6 +515,15 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
     /** maximum number of rows that are in memory. */
     private final int m_maxRowsInMem;
 
+    /**
+     * maximum number of rows that are in memory if they are held off-heap, see
+     * {@link OffHeapRowList#ROWS_IN_MEMORY_FACTOR}; equal to {@link #m_maxRowsInMem} if off-heap storage is disabled.
+     */
+    private final int m_maxRowsInMemOffHeap;
+
+    /** Whether the table has been cached in an {@link OffHeapRowList} when the buffer was closed. */
+    private boolean m_isCachedOffHeap;
+
     /**
      * A table held in memory while still being modifiable and before being added to the cache. This is only ever true
      * when the writing buffer is not closed and rows are still being added to it. Setting this field to
@@ -627,11 +625,21 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         m_lifecycle = m_bufferSettings.useLRU() ? new SoftRefLRULifecycle() : new MemorizeIfSmallLifecycle();
         m_openIteratorSet = new WeakHashMap<>();
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setLRUCacheMemorySize(m_bufferSettings.getLRUCacheMemorySize());
         /**
          * independent of the lifecycle, if maxRowsInMemory is zero, the buffer is expected to flush to disk (e.g, see
          * {@link org.knime.core.data.sort.DataTableSorter#createDataContainer(DataTableSpec, boolean)}).
          */
-        m_listWhileAddRow = maxRowsInMemory > 0 ? new ArrayList<BlobSupportDataRow>() : null;
+        final OffHeapRowList.Appender offHeapAppender = maxRowsInMemory > 0 && settings.useOffHeap() && spec != null
+            ? OffHeapRowList.createAppender(spec) : null;
+        if (offHeapAppender != null) {
+            m_listWhileAddRow = offHeapAppender;
+            m_maxRowsInMemOffHeap =
+                (int)Math.min(Integer.MAX_VALUE, (long)maxRowsInMemory * OffHeapRowList.ROWS_IN_MEMORY_FACTOR);
+        } else {
+            m_listWhileAddRow = maxRowsInMemory > 0 ? new ArrayList<BlobSupportDataRow>() : null;
+            m_maxRowsInMemOffHeap = maxRowsInMemory;
+        }
         m_size = 0;
         m_bufferID = bufferID;
         m_localRepository = localRep;
@@ -701,8 +709,10 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         m_flushedToDisk = true;
         m_bufferSettings = settings;
         m_maxRowsInMem = 0;
+        m_maxRowsInMemOffHeap = 0;
         m_lifecycle = m_bufferSettings.useLRU() ? new SoftRefLRULifecycle() : new MemorizeIfSmallLifecycle();
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setLRUCacheMemorySize(m_bufferSettings.getLRUCacheMemorySize());
         try {
             readMetaFromFile(metaIn, fileStoreDir);
         } catch (InvalidSettingsException ise) {
@@ -801,6 +811,16 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
         }
     }
 
+    /**
+     * @return the maximum number of rows held in {@link #m_listWhileAddRow}, which is larger while the rows are
+     *         appended off-heap
+     */
+    private int getMaxRowsInMemWhileAddRow() {
+        final List<BlobSupportDataRow> list = m_listWhileAddRow;
+        return list instanceof OffHeapRowList.Appender && ((OffHeapRowList.Appender)list).isOffHeap()
+            ? m_maxRowsInMemOffHeap : m_maxRowsInMem;
+    }
+
     synchronized void addBlobSupportDataRow(final BlobSupportDataRow row) throws IOException {
         if (getAndIncrementSize() == Integer.MAX_VALUE) {
             /**
@@ -811,7 +831,7 @@ synchronized void addBlobSupportDataRow(final BlobSupportDataRow row) throws IOE
         }
         if (m_listWhileAddRow != null) {
             m_listWhileAddRow.add(row);
-            if (m_listWhileAddRow.size() > m_maxRowsInMem) {
+            if (m_listWhileAddRow.size() > getMaxRowsInMemWhileAddRow()) {
                 m_lifecycle.onAddRowToLargeList();
             }
         } else {
@@ -1201,7 +1221,10 @@ void closeInternal() {
         assert Thread.holdsLock(this);
         if (m_listWhileAddRow != null) {
             // buffer still held in memory; can be cached
-            CACHE.put(Buffer.this, m_listWhileAddRow);
+            final List<BlobSupportDataRow> list = m_bufferSettings.useOffHeap()
+                ? OffHeapRowList.compactIfPossible(m_listWhileAddRow) : m_listWhileAddRow;
+            m_isCachedOffHeap = list instanceof OffHeapRowList;
+            CACHE.put(Buffer.this, list);
             m_listWhileAddRow = null;
             m_lifecycle.onCloseIfCached();
         } else {
@@ -1686,6 +1709,20 @@ final synchronized CloseableRowIterator iteratorWithFilter(final TableFilter fil
         }
     }
 
+    /**
+     * Creates a cursor reading directly from the off-heap representation of a cached table, if the argument iterator
+     * has been created by a buffer whose table is held in an {@link OffHeapRowList}.
+     *
+     * @param iterator an iterator, closed if a cursor is returned
+     * @return a cursor on the remaining rows of the iterator or <code>null</code> if the rows are not held off-heap
+     */
+    static ReadOnlyRowCursor createOffHeapCursor(final CloseableRowIterator iterator) {
+        if (iterator instanceof FromListFallBackFromFileIterator) {
+            return ((FromListFallBackFromFileIterator)iterator).createOffHeapCursor();
+        }
+        return null;
+    }
+
     private List<BlobSupportDataRow> obtainListFromCacheOrBackIntoMemoryIterator() {
         final Optional<List<BlobSupportDataRow>> optionalList = CACHE.get(this);
         if (optionalList.isPresent()) {
@@ -2193,6 +2230,20 @@ public DataRow next() {
 
         abstract DataRow nextFromList(final List<BlobSupportDataRow> list);
 
+        /**
+         * @return a cursor on the remaining rows if they are read from an {@link OffHeapRowList}, in which case this
+         *         iterator is closed, or <code>null</code> otherwise
+         */
+        ReadOnlyRowCursor createOffHeapCursor() {
+            final List<BlobSupportDataRow> list = m_listRef.get();
+            if (m_fallBackFromFileIterator != null || !(list instanceof OffHeapRowList)) {
+                return null;
+            }
+            final ReadOnlyRowCursor cursor = ((OffHeapRowList)list).createCursor(m_nextIndex, m_toIndex + 1);
+            close();
+            return cursor;
+        }
+
         @Override
         public void close() {
             m_nextIndex = (int) size();
@@ -2507,7 +2558,8 @@ private static final class BufferFlusher extends MemoryAlertListener {
         protected boolean memoryAlert(final MemoryAlert alert) {
             final Buffer buffer = m_bufferRef.get();
             if (buffer != null) {
-                ASYNC_EXECUTOR.submit(new ASyncWriteCallable(buffer));
+                // never block the memory alert system, hence no back-pressure
+                ASYNC_EXECUTOR.submit(new ASyncWriteCallable(buffer), false);
                 LOGGER.debug("Writing " + buffer.size() + " rows in order to free memory.");
             }
             return true;
@@ -2682,7 +2734,7 @@ public void onCloseIfCached() {
             m_fitsIntoMemory = true;
             setRestoreIntoMemoryOnCacheMiss();
 
-            if (size() <= m_maxRowsInMem) {
+            if (size() <= (m_isCachedOffHeap ? m_maxRowsInMemOffHeap : m_maxRowsInMem)) {
                 m_memoryAlertListener = new BufferFlusher(Buffer.this);
                 MemoryAlertSystem.getInstanceUncollected().addListener(m_memoryAlertListener);
             } else {
@@ -2692,7 +2744,7 @@ public void onCloseIfCached() {
                  * node generating this table. In this implementation, we flush as soon as possible once the buffer has been
                  * closed (and the node likely has terminated).
                  */
-                m_asyncAddFuture = ASYNC_EXECUTOR.submit(new ASyncWriteCallable(Buffer.this));
+                m_asyncAddFuture = ASYNC_EXECUTOR.submit(new ASyncWriteCallable(Buffer.this), true);
             }
         }
 
@@ -48,22 +48,31 @@
  */
 package org.knime.core.data.container;
 
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlert;
 import org.knime.core.data.util.memory.MemoryAlertListener;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
-import org.knime.core.util.LRUCache;
 
 /**
  * A data structure that manages which tables (i.e., {@link List} of {@link BlobSupportDataRow}) to keep in memory. The
@@ -74,6 +83,11 @@
  * tables are cleared for garbage collection before they have been flushed to disk. How this cache is used by the
  * {@link Buffer} class is specified by means of a Lifecycle.
  *
+ * <p>
+ * The cache is safe for concurrent use without a global lock. The lower level evicts least-recently-used tables once
+ * either the number of tables or their estimated heap footprint exceeds its limits, such that a single huge table does
+ * not count the same as a small one.
+ *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
 final class BufferCache {
@@ -88,30 +102,63 @@ final class BufferCache {
      */
     private static final int STATISTICS_OUTPUT_INTERVAL = 300;
 
+    /**
+     * The maximum number of rows that are inspected when estimating the heap footprint of a table.
+     */
+    private static final int SIZE_ESTIMATE_SAMPLE_ROWS = 64;
+
+    /** Approximate heap sizes (in bytes) of object headers, references and frequently encountered objects. */
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private static final int REFERENCE_SIZE = 8;
+
+    private static final int STRING_OVERHEAD = 40;
+
+    private static final int DEFAULT_CELL_SIZE = 64;
+
     /**
      * A map of hard references to tables held in this cache. Caution: the garbage collector will not clear these
-     * automatically. We use the buffer itself as key, since multiple buffers can have the same id. The Map has to have
-     * weak keys such that unreferenced buffers can be garbage-collected if we forget to clear them.
+     * automatically. We use the buffer's unique id as key, since multiple buffers can have the same id.
      */
-    private final Map<Long, List<BlobSupportDataRow>> m_hardMap = new HashMap<>();
+    private final Map<Long, List<BlobSupportDataRow>> m_hardMap = new ConcurrentHashMap<>();
 
     /**
      * A number that determines how many tables are kept in the soft-references LRU cache before being weak-referenced.
      */
-    private int m_LRUCacheSize = BufferSettings.getDefault().getLRUCacheSize();
+    private volatile int m_LRUCacheSize = BufferSettings.getDefault().getLRUCacheSize();
+
+    /**
+     * A number that determines how many bytes tables in the soft-references LRU cache may occupy (estimated) before
+     * being weak-referenced.
+     */
+    private volatile long m_LRUCacheMemorySize = BufferSettings.getDefault().getLRUCacheMemorySize();
 
     /**
      * An LRU-cache of soft references to tables held in this cache. Note that soft references also keep track of when
      * they were last accessed. When memory becomes scarce, the garbage collector should clear weak-referenced tables
      * first and then proceed with soft-referenced tables in the order in which they were least recently used.
      */
-    private LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> m_LRUCache =
-        new LRUCache<>(m_LRUCacheSize, m_LRUCacheSize);
+    private final Map<Long, LRUEntry> m_LRUCache = new ConcurrentHashMap<>();
+
+    /** The estimated number of bytes occupied by the tables in the LRU cache. */
+    private final AtomicLong m_LRUCacheMemoryUsage = new AtomicLong();
+
+    /**
+     * A reference queue that holds the entries of the LRU cache whose tables were cleared by the garbage collector, so
+     * that their footprint no longer counts towards the memory limit of the LRU cache.
+     */
+    private final ReferenceQueue<List<BlobSupportDataRow>> m_LRUCacheRefQueue = new ReferenceQueue<>();
+
+    /** A logical clock that orders accesses to entries of the LRU cache. */
+    private final AtomicLong m_LRUClock = new AtomicLong();
+
+    /** Lock that makes sure that only one thread at a time evicts tables from the LRU cache. */
+    private final Object m_evictionLock = new Object();
 
     /**
      * A map of weak references to tables evicted from the LRU cache.
      */
-    private final Map<Long, WeakReference<List<BlobSupportDataRow>>> m_weakCache = new HashMap<>();
+    private final Map<Long, WeakReference<List<BlobSupportDataRow>>> m_weakCache = new ConcurrentHashMap<>();
 
     /**
      * A reference queue that holds any weak references that were cleared by the garbage collector.
@@ -119,30 +166,32 @@ final class BufferCache {
     private final ReferenceQueue<List<BlobSupportDataRow>> m_weakCacheRefQueue = new ReferenceQueue<>();
 
     /** Some counters for instrumentation / statistics. */
-    private long m_nTables = 0;
+    private final LongAdder m_nTables = new LongAdder();
 
-    private long m_nInvalidatedTables = 0;
+    private final LongAdder m_nInvalidatedTables = new LongAdder();
 
-    private long m_nGCedTables = 0;
+    private final LongAdder m_nGCedTables = new LongAdder();
 
-    private long m_nAccesses = 0;
+    private final LongAdder m_nHardHits = new LongAdder();
 
-    private long m_nHardHits = 0;
+    private final LongAdder m_nSoftHits = new LongAdder();
 
-    private long m_nSoftHits = 0;
+    private final LongAdder m_nWeakHits = new LongAdder();
 
-    private long m_nWeakHits = 0;
+    private final LongAdder m_nMisses = new LongAdder();
 
-    private long m_nMisses = 0;
+    private final LongAdder m_nEvictions = new LongAdder();
 
-    private long m_timeOfLastLog = System.currentTimeMillis();
+    private final AtomicLong m_timeOfLastLog = new AtomicLong(System.currentTimeMillis());
 
     private void logStatistics() {
         while (m_weakCacheRefQueue.poll() != null) {
-            m_nGCedTables++;
+            m_nGCedTables.increment();
         }
         final long time = System.currentTimeMillis();
-        if ((time - m_timeOfLastLog) / 1000 >= STATISTICS_OUTPUT_INTERVAL) {
+        final long timeOfLastLog = m_timeOfLastLog.get();
+        if ((time - timeOfLastLog) / 1000 >= STATISTICS_OUTPUT_INTERVAL
+            && m_timeOfLastLog.compareAndSet(timeOfLastLog, time)) {
 
             long nActiveTables = 0;
 
@@ -154,16 +203,16 @@ private void logStatistics() {
 
             LOGGER.debug("KNIME Buffer cache statistics:");
             LOGGER.debugWithFormat("\t%d tables currently held in cache", nActiveTables);
-            LOGGER.debugWithFormat("\t%d distinct tables cached", m_nTables);
-            LOGGER.debugWithFormat("\t%d tables invalidated successfully", m_nInvalidatedTables);
-            LOGGER.debugWithFormat("\t%d tables dropped by garbage collector", m_nGCedTables);
-            LOGGER.debugWithFormat("\t%d cache hits (hard-referenced)", m_nHardHits);
-            LOGGER.debugWithFormat("\t%d cache hits (softly referenced)", m_nSoftHits);
-            LOGGER.debugWithFormat("\t%d cache hits (weakly referenced)", m_nWeakHits);
-            LOGGER.debugWithFormat("\t%d cache misses", m_nMisses);
-
-            m_timeOfLastLog = time;
-            assert m_nAccesses == m_nHardHits + m_nSoftHits + m_nWeakHits + m_nMisses;
+            LOGGER.debugWithFormat("\t%d distinct tables cached", m_nTables.sum());
+            LOGGER.debugWithFormat("\t%d tables invalidated successfully", m_nInvalidatedTables.sum());
+            LOGGER.debugWithFormat("\t%d tables dropped by garbage collector", m_nGCedTables.sum());
+            LOGGER.debugWithFormat("\t%d tables evicted from LRU cache", m_nEvictions.sum());
+            LOGGER.debugWithFormat("\t%d tables (approx. %dMB) currently held in LRU cache", m_LRUCache.size(),
+                m_LRUCacheMemoryUsage.get() >> 20);
+            LOGGER.debugWithFormat("\t%d cache hits (hard-referenced)", m_nHardHits.sum());
+            LOGGER.debugWithFormat("\t%d cache hits (softly referenced)", m_nSoftHits.sum());
+            LOGGER.debugWithFormat("\t%d cache hits (weakly referenced)", m_nWeakHits.sum());
+            LOGGER.debugWithFormat("\t%d cache misses", m_nMisses.sum());
         }
     }
 
@@ -173,31 +222,45 @@ private void logStatistics() {
      * @param buffer the buffer which the table is associated with
      * @param list a fully read table
      */
-    synchronized void put(final Buffer buffer, final List<BlobSupportDataRow> list) {
+    void put(final Buffer buffer, final List<BlobSupportDataRow> list) {
         CheckUtils.checkArgumentNotNull(buffer);
         CheckUtils.checkArgumentNotNull(list);
 
         final long uniqueId = buffer.getUniqueID();
 
-        /** disallow modification */
-        final List<BlobSupportDataRow> unmodifiableList = Collections.unmodifiableList(list);
-        m_hardMap.put(uniqueId, unmodifiableList);
+        /** disallow modification (off-heap lists are immutable already) */
+        final List<BlobSupportDataRow> unmodifiableList =
+            list instanceof OffHeapRowList ? list : Collections.unmodifiableList(list);
 
-        /** We already fill the soft cache here to keep track of how recently the table has been used. Note that soft
-         * and weak references won't be cleared while there is still a hard reference on the object. */
-        putIntoLRUCache(uniqueId, unmodifiableList);
+        /** The entry of the weak cache is updated atomically with the other layers, such that a concurrent
+         * invalidation either precedes or follows all of them (see invalidate). */
+        m_weakCache.compute(uniqueId, (id, previousValue) -> {
+            m_hardMap.put(uniqueId, unmodifiableList);
 
-        final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.put(uniqueId,
-            new WeakReference<List<BlobSupportDataRow>>(unmodifiableList, m_weakCacheRefQueue));
-        if (previousValue == null) {
-            m_nTables++;
-        }
+            /** We already fill the soft cache here to keep track of how recently the table has been used. Note that
+             * soft and weak references won't be cleared while there is still a hard reference on the object. */
+            putIntoLRUCache(uniqueId, unmodifiableList);
+
+            if (previousValue == null) {
+                m_nTables.increment();
+            }
+            return new WeakReference<List<BlobSupportDataRow>>(unmodifiableList, m_weakCacheRefQueue);
+        });
+        evictFromLRUCache();
     }
 
+    /**
+     * Puts a table into the LRU cache. Must only be called while holding the entry of the table in the weak cache
+     * (i.e., from within a compute method of m_weakCache). Callers are expected to evict from the LRU cache afterwards.
+     */
     private void putIntoLRUCache(final long uniqueId, final List<BlobSupportDataRow> list) {
         final MemoryAlertSystem mas = MemoryAlertSystem.getInstanceUncollected();
         if (!mas.isMemoryLow()) {
-            m_LRUCache.put(uniqueId, new SoftReference<List<BlobSupportDataRow>>(list));
+            final LRUEntry entry = new LRUEntry(uniqueId, list, estimateSizeInBytes(list), m_LRUClock.incrementAndGet(),
+                m_LRUCacheRefQueue);
+            final LRUEntry previousEntry = m_LRUCache.put(uniqueId, entry);
+            m_LRUCacheMemoryUsage
+                .addAndGet(entry.m_sizeInBytes - (previousEntry != null ? previousEntry.m_sizeInBytes : 0));
             /**
              * We should remove soft-referenced tables from the LRU cache on memory alert. Otherwise, the LRU cache
              * would block memory despite memory alerts. This could lead to a scenario where new buffers are always
@@ -206,13 +269,68 @@ private void putIntoLRUCache(final long uniqueId, final List<BlobSupportDataRow>
             mas.addListener(new MemoryAlertListener() {
                 @Override
                 protected boolean memoryAlert(final MemoryAlert alert) {
-                    m_LRUCache.remove(uniqueId);
+                    removeFromLRUCache(uniqueId);
                     return true;
                 }
             });
         }
     }
 
+    private void removeFromLRUCache(final long uniqueId) {
+        final LRUEntry entry = m_LRUCache.remove(uniqueId);
+        if (entry != null) {
+            m_LRUCacheMemoryUsage.addAndGet(-entry.m_sizeInBytes);
+        }
+    }
+
+    /**
+     * Removes entries whose tables have been cleared by the garbage collector from the LRU cache and subtracts their
+     * footprint from the memory usage of the LRU cache.
+     */
+    private void removeClearedFromLRUCache() {
+        Reference<? extends List<BlobSupportDataRow>> ref;
+        while ((ref = m_LRUCacheRefQueue.poll()) != null) {
+            final LRUEntry entry = (LRUEntry)ref;
+            /** The entry might have been replaced or evicted already, in which case it no longer counts. */
+            if (m_LRUCache.remove(entry.m_uniqueId, entry)) {
+                m_LRUCacheMemoryUsage.addAndGet(-entry.m_sizeInBytes);
+            }
+        }
+    }
+
+    /**
+     * Evicts least-recently-used tables from the LRU cache until it adheres to its size and memory limits. Since the
+     * LRU cache is small, finding the least-recently-used table by a linear scan is cheap compared to keeping all
+     * entries ordered on every access.
+     */
+    private void evictFromLRUCache() {
+        removeClearedFromLRUCache();
+        if (!isLRUCacheExceeded()) {
+            return;
+        }
+        synchronized (m_evictionLock) {
+            while (isLRUCacheExceeded()) {
+                Entry<Long, LRUEntry> eldest = null;
+                for (Entry<Long, LRUEntry> entry : m_LRUCache.entrySet()) {
+                    if (eldest == null || entry.getValue().m_lastAccess < eldest.getValue().m_lastAccess) {
+                        eldest = entry;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                if (m_LRUCache.remove(eldest.getKey(), eldest.getValue())) {
+                    m_LRUCacheMemoryUsage.addAndGet(-eldest.getValue().m_sizeInBytes);
+                    m_nEvictions.increment();
+                }
+            }
+        }
+    }
+
+    private boolean isLRUCacheExceeded() {
+        return m_LRUCache.size() > m_LRUCacheSize || m_LRUCacheMemoryUsage.get() > m_LRUCacheMemorySize;
+    }
+
     /**
      * Clear the table associated with a buffer for garbage collection. From this point onward, the garbage collector
      * may at any time discard the in-memory representation of the table. Therefore, this method should only ever be
@@ -220,7 +338,7 @@ protected boolean memoryAlert(final MemoryAlert alert) {
      *
      * @param buffer the buffer which table that is to be cleared for garbage collection is associated with
      */
-    synchronized void clearForGarbageCollection(final Buffer buffer) {
+    void clearForGarbageCollection(final Buffer buffer) {
         CheckUtils.checkArgumentNotNull(buffer);
 
         if(!buffer.isFlushedToDisk()) {
@@ -237,7 +355,7 @@ synchronized void clearForGarbageCollection(final Buffer buffer) {
      * @param buffer the buffer which the to-be-checked table is associated with
      * @return <code>true</code> iff the associated table is held in the cache and not cleared for garbage collection
      */
-    synchronized boolean contains(final Buffer buffer) {
+    boolean contains(final Buffer buffer) {
         CheckUtils.checkArgumentNotNull(buffer);
 
         final WeakReference<List<BlobSupportDataRow>> weakRef = m_weakCache.get(buffer.getUniqueID());
@@ -253,7 +371,7 @@ synchronized boolean contains(final Buffer buffer) {
      * @param buffer the buffer which the to-be-retrieved table is associated with
      * @return a table represented as a list of datarows, if such a table is present in the cache
      */
-    synchronized Optional<List<BlobSupportDataRow>> get(final Buffer buffer) {
+    Optional<List<BlobSupportDataRow>> get(final Buffer buffer) {
         return getInternal(buffer, false);
     }
 
@@ -264,7 +382,7 @@ synchronized Optional<List<BlobSupportDataRow>> get(final Buffer buffer) {
      * @param buffer the buffer which the to-be-retrieved table is associated with
      * @return a table represented as a list of datarows, if such a table is present in the cache
      */
-    synchronized Optional<List<BlobSupportDataRow>> getSilent(final Buffer buffer) {
+    Optional<List<BlobSupportDataRow>> getSilent(final Buffer buffer) {
         return getInternal(buffer, true);
     }
 
@@ -282,19 +400,21 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
             return Optional.ofNullable(weakRef.get());
         }
 
-        m_nAccesses++;
         boolean hit = false;
 
         if (m_hardMap.get(uniqueId) != null) {
-            m_nHardHits++;
+            m_nHardHits.increment();
             hit = true;
         }
 
         /** Update recent access in LRU cache and soft reference. */
-        final SoftReference<List<BlobSupportDataRow>> softRef = m_LRUCache.get(uniqueId);
-        if (softRef != null && softRef.get() != null && !hit) {
-            m_nSoftHits++;
-            hit = true;
+        final LRUEntry softRef = m_LRUCache.get(uniqueId);
+        if (softRef != null) {
+            softRef.m_lastAccess = m_LRUClock.incrementAndGet();
+            if (softRef.get() != null && !hit) {
+                m_nSoftHits.increment();
+                hit = true;
+            }
         }
 
         Optional<List<BlobSupportDataRow>> result = Optional.empty();
@@ -305,23 +425,30 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
          */
         final List<BlobSupportDataRow> list = weakRef.get();
         if (list != null) {
-            /** Make sure to put the accessed table back into the LRU cache. */
-        	if (!m_LRUCache.containsKey(uniqueId)) {
-        	    putIntoLRUCache(uniqueId, list);
-        	}
+            /** Make sure to put the accessed table back into the LRU cache, unless the table has been invalidated (or
+             * replaced) concurrently. The check and the insertion are atomic with respect to invalidate. */
+            if (softRef == null || softRef.get() == null) {
+                m_weakCache.computeIfPresent(uniqueId, (id, currentRef) -> {
+                    if (currentRef == weakRef) {
+                        putIntoLRUCache(uniqueId, list);
+                    }
+                    return currentRef;
+                });
+                evictFromLRUCache();
+            }
             if (!hit) {
-                m_nWeakHits++;
+                m_nWeakHits.increment();
                 hit = true;
             }
             result = Optional.of(list);
         } else {
             /** Table has been garbage collected; it should be removed from the LRU cache to make room for other
              * tables. */
-            m_LRUCache.remove(uniqueId);
+            removeFromLRUCache(uniqueId);
         }
 
         if (!hit) {
-            m_nMisses++;
+            m_nMisses.increment();
         }
 
         logStatistics();
@@ -333,15 +460,17 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
      *
      * @param buffer the buffer which the to-be-invalidated table is associated with
      */
-    synchronized void invalidate(final Buffer buffer) {
+    void invalidate(final Buffer buffer) {
         final long uniqueId = buffer.getUniqueID();
 
-        m_hardMap.remove(uniqueId);
-        m_LRUCache.remove(uniqueId);
+        /** Remove the entry of the weak cache first: it guards (re-)insertions into the other layers, which therefore
+         * cannot re-insert the table once it is gone. */
         final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.remove(uniqueId);
+        m_hardMap.remove(uniqueId);
+        removeFromLRUCache(uniqueId);
 
         if (previousValue != null && previousValue.get() != null) {
-            m_nInvalidatedTables++;
+            m_nInvalidatedTables.increment();
         }
     }
 
@@ -350,22 +479,130 @@ synchronized void invalidate(final Buffer buffer) {
      *
      * @param newSize the new size of the LRU cache
      */
-    synchronized void setLRUCacheSize(final int newSize) {
+    void setLRUCacheSize(final int newSize) {
         if (newSize == m_LRUCacheSize) {
             return;
         }
+        /** If the new cache is smaller than the old one, the least-recently-accessed entries are evicted first. */
+        m_LRUCacheSize = newSize;
+        evictFromLRUCache();
+    }
+
+    /**
+     * Can be used to adjust the number of bytes that tables in the LRU cache may occupy at runtime. Should only be used
+     * for benchmarking purposes.
+     *
+     * @param newMemorySize the new memory size of the LRU cache in bytes
+     */
+    void setLRUCacheMemorySize(final long newMemorySize) {
+        if (newMemorySize == m_LRUCacheMemorySize) {
+            return;
+        }
+        m_LRUCacheMemorySize = newMemorySize;
+        evictFromLRUCache();
+    }
+
+    /**
+     * @return the number of accesses to tables that were still held in the cache
+     */
+    long getHitCount() {
+        return m_nHardHits.sum() + m_nSoftHits.sum() + m_nWeakHits.sum();
+    }
+
+    /**
+     * @return the number of accesses to tables that had already been dropped by the garbage collector
+     */
+    long getMissCount() {
+        return m_nMisses.sum();
+    }
+
+    /**
+     * @return the number of tables evicted from the LRU cache due to its size or memory limits
+     */
+    long getEvictionCount() {
+        return m_nEvictions.sum();
+    }
+
+    /**
+     * @return the estimated number of bytes occupied by the tables currently held in the LRU cache
+     */
+    long getLRUCacheMemoryUsage() {
+        removeClearedFromLRUCache();
+        return m_LRUCacheMemoryUsage.get();
+    }
+
+    /**
+     * Estimates the number of bytes a table occupies in memory by extrapolating from a sample of its rows. The
+     * estimate is only meant to weigh tables against each other and is not exact.
+     *
+     * @param list a fully read table with random access
+     * @return the approximate heap footprint of the table in bytes
+     */
+    static long estimateSizeInBytes(final List<BlobSupportDataRow> list) {
+        if (list instanceof OffHeapRowList) {
+            return ((OffHeapRowList)list).getSizeInBytes();
+        }
+        final int size = list.size();
+        if (size == 0) {
+            return OBJECT_OVERHEAD;
+        }
+        final int step = Math.max(1, size / SIZE_ESTIMATE_SAMPLE_ROWS);
+        long sampleBytes = 0;
+        int nrSamples = 0;
+        for (int i = 0; i < size; i += step) {
+            sampleBytes += estimateSizeInBytes(list.get(i));
+            nrSamples++;
+        }
+        return OBJECT_OVERHEAD + (long)size * REFERENCE_SIZE + sampleBytes * size / nrSamples;
+    }
 
-        /** Since there is no way of adjusting the cache size of an LRUCache, we have to create a new cache. */
-        final LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> cache = new LRUCache<>(newSize, newSize);
+    private static long estimateSizeInBytes(final BlobSupportDataRow row) {
+        final int nrCells = row.getNumCells();
+        long bytes = OBJECT_OVERHEAD + OBJECT_OVERHEAD + estimateSizeInBytes(row.getKey().getString())
+            + OBJECT_OVERHEAD + (long)nrCells * REFERENCE_SIZE;
+        for (int i = 0; i < nrCells; i++) {
+            bytes += estimateSizeInBytes(row.getRawCell(i));
+        }
+        return bytes;
+    }
 
-        /** If the new cache is smaller than the old one, the least-recently-accessed entries will be entered first
-         * and then also evicted first when the new cache size is reached. */
-        for (Entry<Long, SoftReference<List<BlobSupportDataRow>>> entry : m_LRUCache.entrySet()) {
-            cache.put(entry.getKey(), entry.getValue());
+    private static long estimateSizeInBytes(final DataCell cell) {
+        if (cell == BooleanCell.TRUE || cell == BooleanCell.FALSE || cell == DataType.getMissingCell()) {
+            /** shared instances */
+            return 0;
+        } else if (cell instanceof IntCell) {
+            return OBJECT_OVERHEAD;
+        } else if (cell instanceof LongCell || cell instanceof DoubleCell) {
+            return OBJECT_OVERHEAD + Long.BYTES;
+        } else if (cell instanceof StringCell) {
+            return OBJECT_OVERHEAD + estimateSizeInBytes(((StringCell)cell).getStringValue());
         }
+        return DEFAULT_CELL_SIZE;
+    }
 
-        m_LRUCacheSize = newSize;
-        m_LRUCache = cache;
+    private static long estimateSizeInBytes(final String string) {
+        return STRING_OVERHEAD + 2L * string.length();
+    }
+
+    /**
+     * An entry in the LRU cache: a soft reference to a table, its estimated heap footprint, and the logical time of its
+     * most recent access.
+     */
+    private static final class LRUEntry extends SoftReference<List<BlobSupportDataRow>> {
+
+        private final long m_uniqueId;
+
+        private final long m_sizeInBytes;
+
+        private volatile long m_lastAccess;
+
+        LRUEntry(final long uniqueId, final List<BlobSupportDataRow> list, final long sizeInBytes,
+            final long lastAccess, final ReferenceQueue<List<BlobSupportDataRow>> queue) {
+            super(list, queue);
+            m_uniqueId = uniqueId;
+            m_sizeInBytes = sizeInBytes;
+            m_lastAccess = lastAccess;
+        }
     }
 
 }
@@ -64,6 +64,11 @@
 import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.data.filestore.FileStoreKey;
 import org.knime.core.data.filestore.FileStoreUtil;
@@ -83,7 +88,7 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -106,8 +111,19 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+        this(tableFormatReader, 0, 0);
+    }
+
+    /** Inits iterator, opens input stream and skips to the argument row, whose offset is known.
+     * @param tableFormatReader The associated buffer.
+     * @param firstRow The index of the first row to read.
+     * @param offset The offset of that row in the (decompressed) stream, see {@link RowOffsetIndex}.
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader, final long firstRow,
+        final long offset) throws IOException {
         // init the pointer
-        m_pointer = 0;
+        m_pointer = firstRow;
 
         // check for file existence
         if (tableFormatReader.getBinFile() == null) {
@@ -121,9 +137,32 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
 
         // open the input stream
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
-        m_inStream = new BlockableDCObjectInputVersion2(getInputStream(tableFormatReader), m_dataCellStreamReader);
+        final InputStream in = getInputStream(tableFormatReader);
+        try {
+            skipFully(in, offset);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        m_inStream = new BlockableDCObjectInputVersion2(in, m_dataCellStreamReader);
     }
 
+    /** Skips the argument number of bytes using {@link InputStream#skip(long)}, which is cheap for file and mapped
+     * streams (unlike reading into a scratch buffer). */
+    private static void skipFully(final InputStream in, final long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new IOException("Unexpected end of stream, " + remaining + " of " + count
+                        + " bytes not skipped");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -179,6 +218,12 @@ public synchronized BlobSupportDataRow next() {
             }
             cells[i] = nextCell;
         }
+        readEndOfRow(inStream);
+        return new BlobSupportDataRow(key, cells);
+    }
+
+    /** Reads the row separator and advances the row pointer. */
+    private void readEndOfRow(final BlockableDCObjectInputVersion2 inStream) {
         try {
             byte eoRow = inStream.readControlByte();
             if (eoRow != BYTE_ROW_SEPARATOR) {
@@ -189,7 +234,15 @@ public synchronized BlobSupportDataRow next() {
         } finally {
             m_pointer++;
         }
-        return new BlobSupportDataRow(key, cells);
+    }
+
+    /** Creates a cursor that reads the remaining rows of this iterator into reusable holders, used by
+     * {@link ReadOnlyRowCursor#create(CloseableRowIterator, int)}. This iterator must not be used otherwise
+     * afterwards.
+     * @return A new cursor, closing this iterator when closed.
+     */
+    ReadOnlyRowCursor createCursor() {
+        return new FileRowCursor(m_tableFormatReader.getTableSpec().getNumColumns());
     }
 
     /** Reads a row key from the stream and ends the block. In case of buffers
@@ -299,6 +352,298 @@ static BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellCl
         }
     }
 
+    /** Cursor reading the cells of the five built-in types straight from the stream into primitive holders, see
+     * {@link ReadOnlyRowCursor}. All other cells are read using the {@link DataCellStreamReader}. */
+    private final class FileRowCursor extends ReadOnlyRowCursor {
+
+        /** Cell read as {@link DataCell} into m_cells (including missing cells and read failures). */
+        private static final byte KIND_CELL = 1;
+        /** {@link IntCell}, value in m_longs. */
+        private static final byte KIND_INT = 2;
+        /** {@link LongCell}, value in m_longs. */
+        private static final byte KIND_LONG = 3;
+        /** {@link DoubleCell}, value in m_doubles. */
+        private static final byte KIND_DOUBLE = 4;
+        /** {@link BooleanCell}, value in m_longs (1 for true, 0 for false, see {@link BooleanCell#getLongValue()}). */
+        private static final byte KIND_BOOLEAN = 5;
+        /** {@link StringCell}, value in m_strings. */
+        private static final byte KIND_STRING = 6;
+
+        /** Kind for each type identifier byte (index is the unsigned identifier), 0 if not yet determined. */
+        private final byte[] m_kindForIdentifier = new byte[256];
+
+        /** Kind of the cells in the current row. */
+        private final byte[] m_kinds;
+
+        private final long[] m_longs;
+
+        private final double[] m_doubles;
+
+        /** Reused string holders, created lazily per column. */
+        private final StringBuilder[] m_strings;
+
+        /** Cells of kind {@link #KIND_CELL} and cells created on demand by {@link #getCell(int)}; reset per row. */
+        private final DataCell[] m_cells;
+
+        /** Reused holder for the key string, turned into a {@link RowKey} only on demand. */
+        private final StringBuilder m_keyChars = new StringBuilder();
+
+        /** Key of the current row if already created (or not read from m_keyChars), null otherwise. */
+        private RowKey m_key;
+
+        private boolean m_hasRow;
+
+        /** Set by {@link #close()}, from then on the cursor has no more rows (unlike the closed iterator). */
+        private boolean m_isClosed;
+
+        FileRowCursor(final int numCells) {
+            m_kinds = new byte[numCells];
+            m_longs = new long[numCells];
+            m_doubles = new double[numCells];
+            m_strings = new StringBuilder[numCells];
+            m_cells = new DataCell[numCells];
+            Arrays.fill(m_kinds, KIND_CELL);
+        }
+
+        @Override
+        public boolean next() {
+            synchronized (BufferFromFileIteratorVersion20.this) {
+                m_key = null;
+                Arrays.fill(m_cells, null);
+                m_hasRow = !m_isClosed && hasNext();
+                if (!m_hasRow) {
+                    Arrays.fill(m_kinds, KIND_CELL);
+                    return false;
+                }
+                final BlockableDCObjectInputVersion2 inStream = m_inStream;
+                if (inStream == null) {
+                    // iterator was closed, fall back to the row based access, which returns an invalid row
+                    final BlobSupportDataRow row = BufferFromFileIteratorVersion20.this.next();
+                    m_key = row.getKey();
+                    for (int i = 0; i < m_cells.length; i++) {
+                        m_kinds[i] = KIND_CELL;
+                        m_cells[i] = row.getCell(i);
+                    }
+                    return true;
+                }
+                readKey(inStream);
+                for (int i = 0; i < m_cells.length; i++) {
+                    try {
+                        try {
+                            readCell(inStream, i);
+                        } finally {
+                            inStream.endBlock();
+                        }
+                    } catch (final Exception e) {
+                        handleReadThrowable(e);
+                        m_kinds[i] = KIND_CELL;
+                        m_cells[i] = DataType.getMissingCell();
+                    }
+                }
+                readEndOfRow(inStream);
+                return true;
+            }
+        }
+
+        private void readKey(final BlockableDCObjectInputVersion2 inStream) {
+            if (!m_tableFormatReader.isReadRowKey()) {
+                m_key = DUMMY_ROW_KEY;
+                return;
+            }
+            try {
+                try {
+                    inStream.readUTF(m_keyChars);
+                } finally {
+                    inStream.endBlock();
+                }
+            } catch (Exception throwable) {
+                handleReadThrowable(throwable);
+                m_key = new RowKey("Read_failed__auto_generated_key_" + m_pointer);
+            }
+        }
+
+        private void readCell(final BlockableDCObjectInputVersion2 inStream, final int index) throws IOException {
+            final byte identifier = inStream.readControlByte();
+            final byte kind = getKind(identifier);
+            m_kinds[index] = kind;
+            switch (kind) {
+                case KIND_INT:
+                    m_longs[index] = inStream.readInt();
+                    break;
+                case KIND_LONG:
+                    m_longs[index] = inStream.readLong();
+                    break;
+                case KIND_DOUBLE:
+                    m_doubles[index] = inStream.readDouble();
+                    break;
+                case KIND_BOOLEAN:
+                    m_longs[index] = inStream.readBoolean() ? 1 : 0;
+                    break;
+                case KIND_STRING:
+                    if (m_strings[index] == null) {
+                        m_strings[index] = new StringBuilder();
+                    }
+                    inStream.readUTF(m_strings[index]);
+                    break;
+                default:
+                    m_cells[index] = m_dataCellStreamReader.readDataCell(inStream, identifier);
+            }
+        }
+
+        /** Determines (and memorizes) how cells with the argument type identifier are read. Only cells written
+         * with the KNIME serializer of exactly one of the five built-in classes are decoded into holders. */
+        private byte getKind(final byte identifier) throws IOException {
+            final int lookupIndex = identifier & 0xFF;
+            byte kind = m_kindForIdentifier[lookupIndex];
+            if (kind == 0) {
+                kind = KIND_CELL;
+                if (identifier != BYTE_TYPE_MISSING && identifier != BYTE_TYPE_SERIALIZATION) {
+                    final Class<? extends DataCell> cellClass =
+                        m_tableFormatReader.getTypeForChar(identifier).getCellClass();
+                    if (cellClass == IntCell.class) {
+                        kind = KIND_INT;
+                    } else if (cellClass == LongCell.class) {
+                        kind = KIND_LONG;
+                    } else if (cellClass == DoubleCell.class) {
+                        kind = KIND_DOUBLE;
+                    } else if (cellClass == BooleanCell.class) {
+                        kind = KIND_BOOLEAN;
+                    } else if (cellClass == StringCell.class) {
+                        kind = KIND_STRING;
+                    }
+                }
+                m_kindForIdentifier[lookupIndex] = kind;
+            }
+            return kind;
+        }
+
+        private void checkHasRow() {
+            if (!m_hasRow) {
+                throw new IllegalStateException("Cursor is not positioned on a row");
+            }
+        }
+
+        @Override
+        public RowKey getKey() {
+            checkHasRow();
+            if (m_key == null) {
+                m_key = new RowKey(m_keyChars.toString());
+            }
+            return m_key;
+        }
+
+        @Override
+        public int getNumCells() {
+            return m_cells.length;
+        }
+
+        @Override
+        public boolean isMissing(final int index) {
+            checkHasRow();
+            return m_kinds[index] == KIND_CELL && m_cells[index].isMissing();
+        }
+
+        @Override
+        public DataCell getCell(final int index) {
+            checkHasRow();
+            DataCell cell = m_cells[index];
+            if (cell == null) {
+                switch (m_kinds[index]) {
+                    case KIND_INT:
+                        cell = new IntCell((int)m_longs[index]);
+                        break;
+                    case KIND_LONG:
+                        cell = new LongCell(m_longs[index]);
+                        break;
+                    case KIND_DOUBLE:
+                        cell = new DoubleCell(m_doubles[index]);
+                        break;
+                    case KIND_BOOLEAN:
+                        cell = BooleanCell.get(m_longs[index] != 0);
+                        break;
+                    case KIND_STRING:
+                        cell = new StringCell(m_strings[index].toString());
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown cell kind " + m_kinds[index]);
+                }
+                m_cells[index] = cell;
+            }
+            return cell;
+        }
+
+        @Override
+        public int getInt(final int index) {
+            final byte kind = m_kinds[index];
+            if (kind == KIND_INT || kind == KIND_BOOLEAN) {
+                return (int)m_longs[index];
+            }
+            return super.getInt(index);
+        }
+
+        @Override
+        public long getLong(final int index) {
+            final byte kind = m_kinds[index];
+            if (kind == KIND_INT || kind == KIND_LONG || kind == KIND_BOOLEAN) {
+                return m_longs[index];
+            }
+            return super.getLong(index);
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            switch (m_kinds[index]) {
+                case KIND_DOUBLE:
+                    return m_doubles[index];
+                case KIND_INT:
+                case KIND_LONG:
+                case KIND_BOOLEAN:
+                    return m_longs[index];
+                default:
+                    return super.getDouble(index);
+            }
+        }
+
+        @Override
+        public boolean getBoolean(final int index) {
+            if (m_kinds[index] == KIND_BOOLEAN) {
+                return m_longs[index] != 0;
+            }
+            return super.getBoolean(index);
+        }
+
+        @Override
+        public String getString(final int index) {
+            if (m_kinds[index] == KIND_STRING) {
+                return m_strings[index].toString();
+            }
+            return super.getString(index);
+        }
+
+        @Override
+        public CharSequence getCharSequence(final int index) {
+            if (m_kinds[index] == KIND_STRING) {
+                return m_strings[index];
+            }
+            return super.getCharSequence(index);
+        }
+
+        @Override
+        boolean isHeldWithoutCell(final int index) {
+            return m_hasRow && m_kinds[index] != KIND_CELL && m_cells[index] == null;
+        }
+
+        @Override
+        public void close() {
+            m_isClosed = true;
+            m_hasRow = false;
+            m_key = null;
+            Arrays.fill(m_kinds, KIND_CELL);
+            Arrays.fill(m_cells, null);
+            BufferFromFileIteratorVersion20.this.close();
+        }
+    }
+
     /** Utility class that separates the logic of reading DataCells from the stream. */
     public static class DataCellStreamReader {
 
@@ -319,9 +664,20 @@ public DataCellStreamReader(final AbstractTableStoreReader tableFormatReader) {
          * @throws IOException If exceptions occur.
          */
         public DataCell readDataCell(final DCObjectInputVersion2 inStream) throws IOException {
-            inStream.setCurrentClassLoader(null);
+            return readDataCell(inStream, inStream.readControlByte());
+        }
 
-            byte identifier = inStream.readControlByte();
+        /**
+         * Reads a data cell whose leading control byte has already been read from the stream.
+         *
+         * @param inStream To read from.
+         * @param firstByte The control byte read last from the stream.
+         * @return the data cell being read
+         * @throws IOException If exceptions occur.
+         */
+        DataCell readDataCell(final DCObjectInputVersion2 inStream, final byte firstByte) throws IOException {
+            inStream.setCurrentClassLoader(null);
+            byte identifier = firstByte;
             if (identifier == BYTE_TYPE_MISSING) {
                 return DataType.getMissingCell();
             }
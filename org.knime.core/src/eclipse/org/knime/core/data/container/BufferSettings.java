@@ -77,12 +77,24 @@ public final class BufferSettings {
     /** The default number of tables that can be kept in the soft-references LRU cache before being weak-referenced. */
     static final int DEF_LRU_CACHE_SIZE = 32;
 
+    /** The default number of bytes that tables in the soft-references LRU cache may occupy (a quarter of the heap). */
+    static final long DEF_LRU_CACHE_MEMORY_SIZE = Runtime.getRuntime().maxMemory() / 4;
+
+    /** The default for whether to keep cached tables of primitive cells off-heap. */
+    static final boolean DEF_OFF_HEAP = false;
+
     /** The enable LRU caching flag. */
     private final boolean m_enableLRU;
 
     /** The LRU cache size. */
     private final int m_lruCacheSize;
 
+    /** The LRU cache memory size in bytes. */
+    private final long m_lruCacheMemorySize;
+
+    /** The off-heap tables flag. */
+    private final boolean m_offHeap;
+
     /** The output table store format. */
     private final TableStoreFormat m_outputFormat;
 
@@ -92,6 +104,8 @@ public final class BufferSettings {
     BufferSettings() {
         m_enableLRU = initLRU();
         m_lruCacheSize = DEF_LRU_CACHE_SIZE;
+        m_lruCacheMemorySize = initLRUCacheMemorySize();
+        m_offHeap = initOffHeap();
         m_outputFormat = TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat();
     }
 
@@ -100,12 +114,17 @@ public final class BufferSettings {
      *
      * @param enableLRU the enable LRU flag
      * @param lruCacheSize the LRU cache size
+     * @param lruCacheMemorySize the LRU cache memory size in bytes
+     * @param offHeap the off-heap tables flag
      * @param outputFormat the output format
      * @noreference This constructor is not intended to be referenced by clients.
      */
-    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final TableStoreFormat outputFormat) {
+    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final long lruCacheMemorySize,
+        final boolean offHeap, final TableStoreFormat outputFormat) {
         m_enableLRU = enableLRU;
         m_lruCacheSize = lruCacheSize;
+        m_lruCacheMemorySize = lruCacheMemorySize;
+        m_offHeap = offHeap;
         m_outputFormat = outputFormat;
     }
 
@@ -130,6 +149,43 @@ private static boolean initLRU() {
         return DEF_TABLE_CACHE.equals("LRU");
     }
 
+    /**
+     * Initializes the LRU cache memory size w.r.t. the defined properties.
+     *
+     * @return the LRU cache memory size in bytes
+     */
+    private static long initLRUCacheMemorySize() {
+        final String prop = KNIMEConstants.PROPERTY_TABLE_CACHE_MEMORY;
+        final String val = System.getProperty(prop);
+        if (val != null) {
+            try {
+                final long megaBytes = Long.parseLong(val.trim());
+                if (megaBytes < 0) {
+                    throw new NumberFormatException("LRU cache memory size < 0: " + megaBytes);
+                }
+                LOGGER.debug("Setting LRU cache memory size to " + megaBytes + "MB");
+                return megaBytes << 20;
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Unable to parse property " + prop + ", using default ("
+                    + (DEF_LRU_CACHE_MEMORY_SIZE >> 20) + "MB)", e);
+            }
+        }
+        return DEF_LRU_CACHE_MEMORY_SIZE;
+    }
+
+    /**
+     * Initializes the off-heap tables flag w.r.t. the defined properties.
+     *
+     * @return the off-heap tables flag
+     */
+    private static boolean initOffHeap() {
+        final String val = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_OFF_HEAP);
+        if (val != null) {
+            return Boolean.parseBoolean(val.trim());
+        }
+        return DEF_OFF_HEAP;
+    }
+
     /**
      * Returns whether to use LRU caching or not.
      *
@@ -148,6 +204,25 @@ int getLRUCacheSize() {
         return m_lruCacheSize;
     }
 
+    /**
+     * Returns the number of bytes that tables in the LRU cache may occupy.
+     *
+     * @return the LRU cache memory size in bytes
+     */
+    long getLRUCacheMemorySize() {
+        return m_lruCacheMemorySize;
+    }
+
+    /**
+     * Returns whether tables kept in memory that only consist of primitive cells are stored off-heap. Such tables
+     * may hold {@link OffHeapRowList#ROWS_IN_MEMORY_FACTOR} times as many rows in memory.
+     *
+     * @return the off-heap tables flag
+     */
+    boolean useOffHeap() {
+        return m_offHeap;
+    }
+
     /**
      * Returns the {@link TableStoreFormat} used to read and write the {@link Buffer Buffer's} content.
      *
@@ -183,7 +258,7 @@ public static BufferSettings getDefault() {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRU(final boolean enableLRU) {
-        return new BufferSettings(enableLRU, m_lruCacheSize, m_outputFormat);
+        return new BufferSettings(enableLRU, m_lruCacheSize, m_lruCacheMemorySize, m_offHeap, m_outputFormat);
     }
 
     /**
@@ -194,7 +269,7 @@ public BufferSettings withLRU(final boolean enableLRU) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRUCacheSize(final int lruCacheSize) {
-        return new BufferSettings(m_enableLRU, lruCacheSize, m_outputFormat);
+        return new BufferSettings(m_enableLRU, lruCacheSize, m_lruCacheMemorySize, m_offHeap, m_outputFormat);
     }
 
     /**
@@ -205,7 +280,31 @@ public BufferSettings withLRUCacheSize(final int lruCacheSize) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withOutputFormat(final TableStoreFormat outputFormat) {
-        return new BufferSettings(m_enableLRU, m_lruCacheSize, outputFormat);
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_lruCacheMemorySize, m_offHeap, outputFormat);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the LRU cache memory size.
+     *
+     * @param lruCacheMemorySize the new LRU cache memory size in bytes
+     * @return a new instance of {@code BufferSettings}
+     * @since 4.2
+     */
+    public BufferSettings withLRUCacheMemorySize(final long lruCacheMemorySize) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, lruCacheMemorySize, m_offHeap, m_outputFormat);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the off-heap tables flag.
+     *
+     * @param offHeap the new off-heap tables flag
+     * @return a new instance of {@code BufferSettings}
+     * @since 4.2
+     */
+    public BufferSettings withOffHeap(final boolean offHeap) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_lruCacheMemorySize, offHeap, m_outputFormat);
     }
 
 }
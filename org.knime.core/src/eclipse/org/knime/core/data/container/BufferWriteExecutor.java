@@ -0,0 +1,266 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Executor for the asynchronous write tasks of {@link Buffer} instances. Buffers are written concurrently by a bounded
+ * number of threads ({@link KNIMEConstants#PROPERTY_ASYNC_WRITE_THREADS}). In order to prevent a single node from
+ * queuing up arbitrarily many tables (which are all held in memory until written), the number of pending write tasks
+ * per node is limited: a node exceeding that limit is blocked when submitting further tasks until some of its tables
+ * have been written (back-pressure). Write tasks triggered by memory alerts are never blocked.
+ *
+ * <p>
+ * The executor also counts the pending/queued tasks, the peak queue depth, and the time spent waiting due to
+ * back-pressure. These numbers are available via the getters (mostly for debugging and testing).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BufferWriteExecutor {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BufferWriteExecutor.class);
+
+    /** Upper bound for the default number of writer threads. */
+    private static final int MAX_DEFAULT_THREADS = 8;
+
+    /** The owner of write tasks that are not submitted in the context of a node. */
+    private static final Object NO_NODE_OWNER = new Object();
+
+    private static final BufferWriteExecutor INSTANCE = new BufferWriteExecutor(readThreadCount());
+
+    private final ThreadPoolExecutor m_executor;
+
+    /** Maximum number of pending (queued or running) write tasks per node. */
+    private final int m_maxPendingPerOwner;
+
+    /** Permits for pending write tasks, per node; weak keys so that nodes can be garbage collected. */
+    private final Map<Object, Semaphore> m_ownerPermits = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final AtomicInteger m_pendingCount = new AtomicInteger();
+
+    private final AtomicInteger m_peakPendingCount = new AtomicInteger();
+
+    private final AtomicLong m_completedCount = new AtomicLong();
+
+    private final AtomicLong m_backPressureCount = new AtomicLong();
+
+    private final AtomicLong m_backPressureWaitNanos = new AtomicLong();
+
+    /** Used to notify {@link #awaitIdle()}. */
+    private final Object m_idleLock = new Object();
+
+    /**
+     * @param nrThreads number of writer threads
+     */
+    BufferWriteExecutor(final int nrThreads) {
+        m_executor = new ThreadPoolExecutor(nrThreads, nrThreads, 10L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicInteger m_threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(final Runnable r) {
+                    return new Thread(r, "KNIME-BackgroundTableWriter-" + m_threadCount.incrementAndGet());
+                }
+            });
+        m_executor.allowCoreThreadTimeOut(true);
+        m_maxPendingPerOwner = 2 * nrThreads;
+    }
+
+    /** @return the shared instance used by all buffers. */
+    static BufferWriteExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    private static int readThreadCount() {
+        final int defThreads =
+            Math.max(1, Math.min(MAX_DEFAULT_THREADS, Runtime.getRuntime().availableProcessors() / 2));
+        final String prop = System.getProperty(KNIMEConstants.PROPERTY_ASYNC_WRITE_THREADS);
+        if (prop != null) {
+            try {
+                final int threads = Integer.parseInt(prop.trim());
+                if (threads <= 0) {
+                    throw new NumberFormatException("Number of threads must be positive: " + threads);
+                }
+                LOGGER.debug("Setting number of background table writer threads to " + threads);
+                return threads;
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Unable to parse property \"" + KNIMEConstants.PROPERTY_ASYNC_WRITE_THREADS
+                    + "\", using default (" + defThreads + ")", e);
+            }
+        }
+        return defThreads;
+    }
+
+    /**
+     * Submits a write task.
+     *
+     * @param task the task to run
+     * @param applyBackPressure if true and the current node has too many pending write tasks, the calling thread is
+     *            blocked until one of them has finished; should be false for tasks triggered by memory alerts
+     * @return the future representing the pending task
+     */
+    Future<Void> submit(final Callable<Void> task, final boolean applyBackPressure) {
+        final Semaphore permits = applyBackPressure ? getPermits() : null;
+        if (permits != null && !permits.tryAcquire()) {
+            LOGGER.debugWithFormat("Too many pending table writes by current node (%d tables queued in total), "
+                + "waiting for background writers to catch up", getQueueSize());
+            final long start = System.nanoTime();
+            permits.acquireUninterruptibly();
+            m_backPressureWaitNanos.addAndGet(System.nanoTime() - start);
+            m_backPressureCount.incrementAndGet();
+        }
+        final int pending = m_pendingCount.incrementAndGet();
+        m_peakPendingCount.accumulateAndGet(pending, Math::max);
+        final FutureTask<Void> future = new FutureTask<Void>(task) {
+            @Override
+            protected void done() {
+                // also called if cancelled before being run
+                onTaskDone(permits);
+            }
+        };
+        try {
+            m_executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            onTaskDone(permits);
+            throw e;
+        }
+        return future;
+    }
+
+    private void onTaskDone(final Semaphore permits) {
+        if (permits != null) {
+            permits.release();
+        }
+        m_completedCount.incrementAndGet();
+        if (m_pendingCount.decrementAndGet() == 0) {
+            synchronized (m_idleLock) {
+                m_idleLock.notifyAll();
+            }
+        }
+    }
+
+    private Semaphore getPermits() {
+        final NodeContext context = NodeContext.getContext();
+        final NodeContainer nc = context != null ? context.getNodeContainer() : null;
+        final Object owner = nc != null ? nc : NO_NODE_OWNER;
+        return m_ownerPermits.computeIfAbsent(owner, o -> new Semaphore(m_maxPendingPerOwner));
+    }
+
+    /**
+     * Blocks until all submitted tasks have finished.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void awaitIdle() throws InterruptedException {
+        synchronized (m_idleLock) {
+            while (m_pendingCount.get() > 0) {
+                m_idleLock.wait();
+            }
+        }
+    }
+
+    /** @return the number of threads writing tables */
+    int getThreadCount() {
+        return m_executor.getMaximumPoolSize();
+    }
+
+    /** @return the number of write tasks waiting to be started (queue depth) */
+    int getQueueSize() {
+        return m_executor.getQueue().size();
+    }
+
+    /** @return the number of write tasks currently running */
+    int getActiveCount() {
+        return m_executor.getActiveCount();
+    }
+
+    /** @return the number of tasks queued or running */
+    int getPendingCount() {
+        return m_pendingCount.get();
+    }
+
+    /** @return the maximum number of tasks that were queued or running at the same time */
+    int getPeakPendingCount() {
+        return m_peakPendingCount.get();
+    }
+
+    /** @return the number of finished (or cancelled) tasks */
+    long getCompletedCount() {
+        return m_completedCount.get();
+    }
+
+    /** @return how often a submitting thread had to wait due to back-pressure */
+    long getBackPressureCount() {
+        return m_backPressureCount.get();
+    }
+
+    /** @return the accumulated time submitting threads had to wait due to back-pressure */
+    long getBackPressureWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(m_backPressureWaitNanos.get());
+    }
+
+}
@@ -0,0 +1,232 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * A table store format that lays out the data in column chunks. Rows are collected into chunks of a fixed number of
+ * rows; within a chunk each column is written as an individually (Snappy-) compressed block. Columns of type
+ * {@link IntCell}, {@link LongCell}, {@link DoubleCell} and {@link BooleanCell} are stored as primitive arrays,
+ * {@link StringCell} columns are dictionary-encoded (if that pays off). All other columns (and chunks that contain
+ * cells of unexpected implementations, e.g. missing cells with error message) fall back to the standard KNIME cell
+ * serialization.
+ *
+ * <p>
+ * The reader makes use of the layout when a {@link org.knime.core.data.container.filter.TableFilter} is applied:
+ * blocks of columns that are not materialized are skipped without being decompressed or decoded and chunks before
+ * the first requested row are skipped entirely.
+ *
+ * <p>
+ * Chunk layout: <code>int rowCount</code> (0 marks the end of the stream), one <code>int</code> per block holding its
+ * compressed length (the row key block, if keys are written, followed by one block per column), followed by the
+ * block content.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ * @since 4.2
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** Internal version, validated during read. */
+    private static final String VERSION = "columnar_1";
+
+    /** Upper bound on the number of cells collected in a single chunk. */
+    private static final int MAX_CELLS_PER_CHUNK = 1 << 18;
+
+    /** Upper bound on the number of rows in a single chunk. */
+    private static final int MAX_ROWS_PER_CHUNK = 8192;
+
+    /** Lower bound on the number of rows in a single chunk (relevant for very wide tables). */
+    private static final int MIN_ROWS_PER_CHUNK = 64;
+
+    /** Block encoding: missing bitmap followed by the plain (primitive) values. */
+    static final byte ENC_PLAIN = 0;
+
+    /** Block encoding (strings only): missing bitmap, dictionary and one dictionary index per row. */
+    static final byte ENC_DICTIONARY = 1;
+
+    /** Block encoding: each cell written using the standard KNIME cell serialization. */
+    static final byte ENC_SERIALIZED = 2;
+
+    /**
+     * The different column representations.
+     */
+    enum ColumnKind {
+            /** {@link IntCell} column. */
+            INT(IntCell.class),
+            /** {@link LongCell} column. */
+            LONG(LongCell.class),
+            /** {@link DoubleCell} column. */
+            DOUBLE(DoubleCell.class),
+            /** {@link BooleanCell} column. */
+            BOOLEAN(BooleanCell.class),
+            /** {@link StringCell} column. */
+            STRING(StringCell.class),
+            /** Any other column, always written using the KNIME cell serialization. */
+            SERIALIZED(null);
+
+        private final Class<? extends DataCell> m_cellClass;
+
+        private ColumnKind(final Class<? extends DataCell> cellClass) {
+            m_cellClass = cellClass;
+        }
+
+        /**
+         * @param cell a non-missing cell
+         * @return whether the cell can be stored in the primitive representation of this kind
+         */
+        boolean isNative(final DataCell cell) {
+            return m_cellClass != null && cell.getClass() == m_cellClass;
+        }
+
+        /**
+         * @param type the column type
+         * @return the kind used to store columns of that type
+         */
+        static ColumnKind forType(final DataType type) {
+            final Class<? extends DataCell> cellClass = type.getCellClass();
+            for (ColumnKind kind : values()) {
+                if (kind.m_cellClass != null && kind.m_cellClass.equals(cellClass)) {
+                    return kind;
+                }
+            }
+            return SERIALIZED;
+        }
+
+        /**
+         * @param spec the table spec
+         * @return the kinds of all columns in the spec
+         */
+        static ColumnKind[] forSpec(final DataTableSpec spec) {
+            final ColumnKind[] kinds = new ColumnKind[spec.getNumColumns()];
+            for (int i = 0; i < kinds.length; i++) {
+                kinds[i] = forType(spec.getColumnSpec(i).getType());
+            }
+            return kinds;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar (Experimental)";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".bin.columnar";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey, getRowsPerChunk(spec));
+    }
+
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final IDataRepository dataRepository, final NodeSettingsRO settings, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString);
+    }
+
+    /**
+     * @param spec the spec of the table to write
+     * @return the number of rows collected into a single chunk
+     */
+    static int getRowsPerChunk(final DataTableSpec spec) {
+        final int nrCols = Math.max(1, spec.getNumColumns());
+        return Math.max(MIN_ROWS_PER_CHUNK, Math.min(MAX_ROWS_PER_CHUNK, MAX_CELLS_PER_CHUNK / nrCols));
+    }
+
+}
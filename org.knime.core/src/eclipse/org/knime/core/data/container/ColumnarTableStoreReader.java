@@ -0,0 +1,407 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.BufferFromFileIteratorVersion20.DataCellStreamReader;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnKind;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Reader for the {@link ColumnarTableStoreFormat}. Filtered iterators only decode the blocks of materialized columns
+ * and skip chunks that lie entirely before the first requested row.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private final boolean m_isReadRowKey;
+
+    private final ColumnKind[] m_kinds;
+
+    /**
+     * Constructs a reader.
+     *
+     * @param binFile the local file from which to read
+     * @param spec the specification of the data table
+     * @param settings The settings (written by
+     *            {@link AbstractTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
+     * @param version The version as defined in the {@link Buffer} class
+     * @param isReadRowKey whether or not row keys are to be read
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, spec, settings, version);
+        readCellClassInfoArrayFromMetaVersion2(settings);
+        m_isReadRowKey = isReadRowKey;
+        m_kinds = ColumnKind.forSpec(spec);
+    }
+
+    @Override
+    public TableStoreCloseableRowIterator iterator() {
+        return openIterator(null, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter, final ExecutionMonitor exec) {
+        final long size = getBuffer() == null ? Long.MAX_VALUE : getBuffer().size();
+        final long fromIndex = filter.getFromRowIndex().orElse(0L);
+        final long toIndex = filter.getToRowIndex().orElse(Long.MAX_VALUE);
+
+        boolean[] materialize = null;
+        final Optional<Set<Integer>> columnIndices = filter.getMaterializeColumnIndices();
+        if (columnIndices.isPresent()) {
+            materialize = new boolean[m_kinds.length];
+            for (Integer i : columnIndices.get()) {
+                materialize[i] = true;
+            }
+        }
+
+        // row range and column selection are handled by the iterator, remaining filter only for progress
+        final TableFilter.Builder offsetFilter = new TableFilter.Builder(filter).withFromRowIndex(0L);
+        if (filter.getToRowIndex().isPresent()) {
+            offsetFilter.withToRowIndex(toIndex - fromIndex);
+        }
+        return filterIterator(openIterator(materialize, fromIndex, toIndex), offsetFilter.build(),
+            Math.max(0L, size - fromIndex), exec);
+    }
+
+    private TableStoreCloseableRowIterator openIterator(final boolean[] materialize, final long fromIndex,
+        final long toIndex) {
+        try {
+            return new ColumnChunkIterator(materialize, fromIndex, toIndex);
+        } catch (IOException ioe) {
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException("Cannot read file \"" + getFile().getName() + "\"", ioe);
+        }
+    }
+
+    /** Decodes the (uncompressed) block of a column. */
+    private DataCell[] decodeColumn(final ColumnKind kind, final byte[] block, final int rowCount,
+        final DataCellStreamReader cellReader) throws IOException {
+        final DataCell[] cells = new DataCell[rowCount];
+        final byte encoding = block[0];
+        if (encoding == ColumnarTableStoreFormat.ENC_SERIALIZED) {
+            final DCObjectInputVersion2 in =
+                new DCObjectInputVersion2(new ByteArrayInputStream(block, 1, block.length - 1), cellReader);
+            for (int r = 0; r < rowCount; r++) {
+                cells[r] = cellReader.readDataCell(in);
+            }
+            return cells;
+        }
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(block, 1, block.length - 1));
+        final long[] missing = readBitmap(in);
+        if (encoding == ColumnarTableStoreFormat.ENC_DICTIONARY) {
+            final StringCell[] dictionary = new StringCell[in.readInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = new StringCell(readString(in));
+            }
+            for (int r = 0; r < rowCount; r++) {
+                final int index = in.readInt();
+                cells[r] = index < 0 ? DataType.getMissingCell() : dictionary[index];
+            }
+            return cells;
+        } else if (encoding != ColumnarTableStoreFormat.ENC_PLAIN) {
+            throw new IOException("Unknown block encoding: " + encoding);
+        }
+        switch (kind) {
+            case INT:
+                for (int r = 0; r < rowCount; r++) {
+                    final int v = in.readInt();
+                    cells[r] = isSet(missing, r) ? DataType.getMissingCell() : new IntCell(v);
+                }
+                break;
+            case LONG:
+                for (int r = 0; r < rowCount; r++) {
+                    final long v = in.readLong();
+                    cells[r] = isSet(missing, r) ? DataType.getMissingCell() : new LongCell(v);
+                }
+                break;
+            case DOUBLE:
+                for (int r = 0; r < rowCount; r++) {
+                    final double v = in.readDouble();
+                    cells[r] = isSet(missing, r) ? DataType.getMissingCell() : new DoubleCell(v);
+                }
+                break;
+            case BOOLEAN:
+                final long[] values = new long[(rowCount + 63) >>> 6];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = in.readLong();
+                }
+                for (int r = 0; r < rowCount; r++) {
+                    cells[r] = isSet(missing, r) ? DataType.getMissingCell() : BooleanCell.get(isSet(values, r));
+                }
+                break;
+            case STRING:
+                for (int r = 0; r < rowCount; r++) {
+                    final String v = readString(in);
+                    cells[r] = isSet(missing, r) ? DataType.getMissingCell() : new StringCell(v);
+                }
+                break;
+            default:
+                throw new IOException("Column kind " + kind + " can't be stored in plain encoding");
+        }
+        return cells;
+    }
+
+    /** @return the bitmap words or null if the block has no bit set (no missing values). */
+    private static long[] readBitmap(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length == 0) {
+            return null;
+        }
+        final long[] words = new long[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = in.readLong();
+        }
+        return words;
+    }
+
+    private static boolean isSet(final long[] words, final int index) {
+        return words != null && (words[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void skipFully(final DataInputStream in, final int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            final int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException("Unexpected end of file while skipping " + length + " bytes");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /** Iterator decoding chunk by chunk. */
+    private final class ColumnChunkIterator extends TableStoreCloseableRowIterator {
+
+        /** Which columns to decode, null for all. */
+        private final boolean[] m_materialize;
+
+        private final long m_toIndex;
+
+        private final DataCellStreamReader m_cellReader;
+
+        private DataInputStream m_inStream;
+
+        /** Global index of the row returned by the next call to {@link #next()}. */
+        private long m_rowIndex;
+
+        private String[] m_chunkKeys;
+
+        private DataCell[][] m_chunkColumns;
+
+        private int m_chunkRowCount;
+
+        private int m_positionInChunk;
+
+        private boolean m_endOfStream;
+
+        ColumnChunkIterator(final boolean[] materialize, final long fromIndex, final long toIndex)
+            throws IOException {
+            m_materialize = materialize;
+            m_toIndex = toIndex;
+            m_cellReader = new DataCellStreamReader(ColumnarTableStoreReader.this);
+            if (getFile() == null) {
+                throw new IOException("Unable to read table from file, table has been cleared.");
+            }
+            m_inStream = new DataInputStream(new BufferedInputStream(new FileInputStream(getFile())));
+            m_chunkColumns = new DataCell[m_kinds.length][];
+            long chunkStart = 0L;
+            int rowCount;
+            while ((rowCount = readChunk(fromIndex - chunkStart)) > 0 && m_chunkRowCount == 0) {
+                chunkStart += rowCount;
+            }
+            if (m_chunkRowCount > 0) {
+                m_positionInChunk = (int)(fromIndex - chunkStart);
+            }
+            m_rowIndex = fromIndex;
+        }
+
+        /**
+         * Reads the next chunk. If the chunk has no more than <code>skipRows</code> rows, it is skipped entirely
+         * (and {@link #m_chunkRowCount} is set to 0).
+         *
+         * @return the number of rows in the chunk, 0 if the end of the stream has been reached
+         */
+        private int readChunk(final long skipRows) throws IOException {
+            m_chunkRowCount = 0;
+            m_positionInChunk = 0;
+            if (m_endOfStream) {
+                return 0;
+            }
+            final int rowCount = m_inStream.readInt();
+            if (rowCount == 0) {
+                m_endOfStream = true;
+                return 0;
+            }
+            final int[] blockLengths = new int[m_kinds.length + (m_isReadRowKey ? 1 : 0)];
+            for (int i = 0; i < blockLengths.length; i++) {
+                blockLengths[i] = m_inStream.readInt();
+            }
+            if (rowCount <= skipRows) {
+                long total = 0;
+                for (int length : blockLengths) {
+                    total += length;
+                }
+                skipFully(m_inStream, (int)Math.min(Integer.MAX_VALUE, total));
+                return rowCount;
+            }
+            int b = 0;
+            if (m_isReadRowKey) {
+                final DataInputStream keyIn =
+                    new DataInputStream(new ByteArrayInputStream(readBlock(blockLengths[b++])));
+                m_chunkKeys = new String[rowCount];
+                for (int r = 0; r < rowCount; r++) {
+                    m_chunkKeys[r] = readString(keyIn);
+                }
+            }
+            for (int c = 0; c < m_kinds.length; c++) {
+                final int length = blockLengths[b++];
+                if (m_materialize == null || m_materialize[c]) {
+                    m_chunkColumns[c] = decodeColumn(m_kinds[c], readBlock(length), rowCount, m_cellReader);
+                } else {
+                    skipFully(m_inStream, length);
+                    m_chunkColumns[c] = null;
+                }
+            }
+            m_chunkRowCount = rowCount;
+            return rowCount;
+        }
+
+        private byte[] readBlock(final int length) throws IOException {
+            final byte[] compressed = new byte[length];
+            m_inStream.readFully(compressed);
+            return Snappy.uncompress(compressed);
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (m_inStream == null) {
+                return false;
+            }
+            boolean hasNext = m_rowIndex <= m_toIndex;
+            if (hasNext && m_positionInChunk >= m_chunkRowCount) {
+                try {
+                    hasNext = readChunk(0L) > 0;
+                } catch (IOException ioe) {
+                    throw new RuntimeException("Cannot read file \"" + getFile().getName() + "\"", ioe);
+                }
+            }
+            if (!hasNext) {
+                close();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            final int pos = m_positionInChunk++;
+            m_rowIndex++;
+            final DataCell[] cells = new DataCell[m_chunkColumns.length];
+            for (int c = 0; c < cells.length; c++) {
+                final DataCell[] column = m_chunkColumns[c];
+                cells[c] = column == null ? UnmaterializedCell.getInstance() : column[pos];
+            }
+            final RowKey key = m_isReadRowKey ? new RowKey(m_chunkKeys[pos]) : DUMMY_ROW_KEY;
+            return new BlobSupportDataRow(key, cells);
+        }
+
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_inStream == null) {
+                return false;
+            }
+            final DataInputStream in = m_inStream;
+            m_inStream = null;
+            m_chunkKeys = null;
+            m_chunkColumns = new DataCell[m_kinds.length][];
+            in.close();
+            return true;
+        }
+    }
+
+}
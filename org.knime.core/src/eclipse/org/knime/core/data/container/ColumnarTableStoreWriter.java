@@ -0,0 +1,306 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.MissingValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnKind;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. Rows are collected until a chunk is full, then each column of the
+ * chunk is encoded and compressed individually.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    private final DataOutputStream m_outStream;
+
+    private final ColumnKind[] m_kinds;
+
+    private final String[] m_keys;
+
+    /** Column-major content of the current chunk. */
+    private final DataCell[][] m_columns;
+
+    private int m_rowsInChunk;
+
+    /**
+     * Constructs a writer.
+     *
+     * @param spec the specification of the table to write
+     * @param outputStream the stream to write to
+     * @param writeRowKey whether row keys are to be persisted
+     * @param rowsPerChunk the number of rows per chunk
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final int rowsPerChunk) {
+        super(spec, writeRowKey);
+        m_outStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        m_kinds = ColumnKind.forSpec(spec);
+        m_keys = new String[rowsPerChunk];
+        m_columns = new DataCell[m_kinds.length][rowsPerChunk];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        m_keys[m_rowsInChunk] = row.getKey().getString();
+        final boolean isBlobRow = row instanceof BlobSupportDataRow;
+        for (int i = 0; i < m_columns.length; i++) {
+            m_columns[i][m_rowsInChunk] = isBlobRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+        }
+        m_rowsInChunk += 1;
+        if (m_rowsInChunk == m_keys.length) {
+            writeChunk();
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        final int rowCount = m_rowsInChunk;
+        final byte[][] blocks = new byte[m_columns.length + (isWriteRowKey() ? 1 : 0)][];
+        int b = 0;
+        if (isWriteRowKey()) {
+            blocks[b++] = Snappy.compress(encodeKeys(rowCount));
+        }
+        for (int i = 0; i < m_columns.length; i++) {
+            blocks[b++] = Snappy.compress(encodeColumn(m_kinds[i], m_columns[i], rowCount));
+        }
+        m_outStream.writeInt(rowCount);
+        for (byte[] block : blocks) {
+            m_outStream.writeInt(block.length);
+        }
+        for (byte[] block : blocks) {
+            m_outStream.write(block);
+        }
+        // release the references to the cells
+        for (DataCell[] column : m_columns) {
+            Arrays.fill(column, 0, rowCount, null);
+        }
+        m_rowsInChunk = 0;
+    }
+
+    private byte[] encodeKeys(final int rowCount) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (int r = 0; r < rowCount; r++) {
+                writeString(m_keys[r], out);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private byte[] encodeColumn(final ColumnKind kind, final DataCell[] cells, final int rowCount)
+        throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (!isPlainEncodable(kind, cells, rowCount)) {
+            bytes.write(ColumnarTableStoreFormat.ENC_SERIALIZED);
+            try (DCObjectOutputVersion2 out = new DCObjectOutputVersion2(bytes, this)) {
+                for (int r = 0; r < rowCount; r++) {
+                    writeDataCell(cells[r], out);
+                }
+            }
+            return bytes.toByteArray();
+        }
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (kind == ColumnKind.STRING) {
+                final Map<String, Integer> dictionary = createDictionary(cells, rowCount);
+                if (dictionary != null) {
+                    out.writeByte(ColumnarTableStoreFormat.ENC_DICTIONARY);
+                    writeMissingBitmap(cells, rowCount, out);
+                    out.writeInt(dictionary.size());
+                    for (String s : dictionary.keySet()) {
+                        writeString(s, out);
+                    }
+                    for (int r = 0; r < rowCount; r++) {
+                        final DataCell c = cells[r];
+                        out.writeInt(c.isMissing() ? -1 : dictionary.get(((StringValue)c).getStringValue()));
+                    }
+                    return bytes.toByteArray();
+                }
+            }
+            out.writeByte(ColumnarTableStoreFormat.ENC_PLAIN);
+            writeMissingBitmap(cells, rowCount, out);
+            switch (kind) {
+                case INT:
+                    for (int r = 0; r < rowCount; r++) {
+                        out.writeInt(cells[r].isMissing() ? 0 : ((IntValue)cells[r]).getIntValue());
+                    }
+                    break;
+                case LONG:
+                    for (int r = 0; r < rowCount; r++) {
+                        out.writeLong(cells[r].isMissing() ? 0L : ((LongValue)cells[r]).getLongValue());
+                    }
+                    break;
+                case DOUBLE:
+                    for (int r = 0; r < rowCount; r++) {
+                        out.writeDouble(cells[r].isMissing() ? 0.0 : ((DoubleValue)cells[r]).getDoubleValue());
+                    }
+                    break;
+                case BOOLEAN:
+                    final long[] words = new long[(rowCount + 63) >>> 6];
+                    for (int r = 0; r < rowCount; r++) {
+                        if (!cells[r].isMissing() && ((BooleanValue)cells[r]).getBooleanValue()) {
+                            words[r >>> 6] |= 1L << r;
+                        }
+                    }
+                    for (long word : words) {
+                        out.writeLong(word);
+                    }
+                    break;
+                case STRING:
+                    for (int r = 0; r < rowCount; r++) {
+                        writeString(cells[r].isMissing() ? "" : ((StringValue)cells[r]).getStringValue(), out);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported column kind: " + kind);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * A chunk of a column is written in plain (primitive) representation if all its cells are either of the native
+     * class or plain missing cells (missing cells carrying an error message need to be serialized).
+     */
+    private static boolean isPlainEncodable(final ColumnKind kind, final DataCell[] cells, final int rowCount) {
+        if (kind == ColumnKind.SERIALIZED) {
+            return false;
+        }
+        for (int r = 0; r < rowCount; r++) {
+            final DataCell c = cells[r];
+            if (c.isMissing() ? ((MissingValue)c).getError() != null : !kind.isNative(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return the dictionary of distinct values or null if dictionary encoding doesn't pay off. */
+    private static Map<String, Integer> createDictionary(final DataCell[] cells, final int rowCount) {
+        final int maxSize = rowCount / 2;
+        final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (int r = 0; r < rowCount; r++) {
+            final DataCell c = cells[r];
+            if (!c.isMissing()) {
+                final String s = ((StringValue)c).getStringValue();
+                if (!dictionary.containsKey(s)) {
+                    if (dictionary.size() >= maxSize) {
+                        return null;
+                    }
+                    dictionary.put(s, dictionary.size());
+                }
+            }
+        }
+        return dictionary;
+    }
+
+    /** Writes the number of bitmap words (0 if there are no missing cells) followed by the words. */
+    private static void writeMissingBitmap(final DataCell[] cells, final int rowCount, final DataOutputStream out)
+        throws IOException {
+        long[] words = null;
+        for (int r = 0; r < rowCount; r++) {
+            if (cells[r].isMissing()) {
+                if (words == null) {
+                    words = new long[(rowCount + 63) >>> 6];
+                }
+                words[r >>> 6] |= 1L << r;
+            }
+        }
+        if (words == null) {
+            out.writeInt(0);
+        } else {
+            out.writeInt(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    /** Writes a string as length-prefixed UTF-8 (not limited to 64k as {@link DataOutputStream#writeUTF(String)}). */
+    static void writeString(final String s, final DataOutputStream out) throws IOException {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (m_rowsInChunk > 0) {
+                writeChunk();
+            }
+            // end marker
+            m_outStream.writeInt(0);
+        } finally {
+            m_outStream.close();
+        }
+    }
+
+}
@@ -165,6 +165,43 @@ byte readControlByte() throws IOException {
         return m_dataIn.readByte();
     }
 
+    /** Reads the content of an {@link org.knime.core.data.def.IntCell} without creating the cell.
+     * @return The int value.
+     * @throws IOException If IO problems occur. */
+    int readInt() throws IOException {
+        return m_dataIn.readInt();
+    }
+
+    /** Reads the content of a {@link org.knime.core.data.def.LongCell} without creating the cell.
+     * @return The long value.
+     * @throws IOException If IO problems occur. */
+    long readLong() throws IOException {
+        return m_dataIn.readLong();
+    }
+
+    /** Reads the content of a {@link org.knime.core.data.def.DoubleCell} without creating the cell.
+     * @return The double value.
+     * @throws IOException If IO problems occur. */
+    double readDouble() throws IOException {
+        return m_dataIn.readDouble();
+    }
+
+    /** Reads the content of a {@link org.knime.core.data.def.BooleanCell} without creating the cell.
+     * @return The boolean value.
+     * @throws IOException If IO problems occur. */
+    boolean readBoolean() throws IOException {
+        return m_dataIn.readBoolean();
+    }
+
+    /** Reads a string (the content of a {@link org.knime.core.data.def.StringCell} or a row key) into the
+     * argument builder, which is cleared first.
+     * @param sbuf The builder to read into.
+     * @throws IOException If IO problems occur. */
+    void readUTF(final StringBuilder sbuf) throws IOException {
+        sbuf.setLength(0);
+        m_dataIn.readUTF(sbuf);
+    }
+
     /** Set the class loader to ask "first" to load classes. Used when
      * a data cell is deserialized and all its member should be loaded in the
      * context of that class loader.
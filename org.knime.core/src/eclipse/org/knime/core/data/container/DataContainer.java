@@ -67,6 +67,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -273,6 +274,9 @@ public Thread newThread(final Runnable r) {
 
     private DataTableDomainCreator m_domainCreator;
 
+    /** Time spent in batch-wise domain updates and final spec creation (in nanoseconds), summed over all threads. */
+    private final LongAdder m_domainUpdateTime = new LongAdder();
+
     /** Local repository map, created lazily. */
     private Map<Integer, ContainerTable> m_localMap;
 
@@ -582,13 +586,17 @@ public void close() {
                 m_writeThrowable.compareAndSet(null, ie);
             }
             checkAsyncWriteThrowable();
+            final long start = System.nanoTime();
             for (final DataTableDomainCreator domainCreator : m_domainUpdaterPool) {
                 m_domainCreator.merge(domainCreator);
             }
+            m_domainUpdateTime.add(System.nanoTime() - start);
         }
         // create table spec _after_ all_ rows have been added (i.e. wait for
         // asynchronous write thread to finish)
+        final long start = System.nanoTime();
         DataTableSpec finalSpec = m_domainCreator.createSpec();
+        m_domainUpdateTime.add(System.nanoTime() - start);
         m_buffer.close(finalSpec);
         try {
             m_duplicateChecker.checkForDuplicates();
@@ -838,6 +846,18 @@ private void submit() throws InterruptedException {
         m_curBatch = new ArrayList<>(m_batchSize);
     }
 
+    /**
+     * Returns the time spent in computing the domain of the table so far, summed over all threads that processed rows.
+     * Only batch-wise domain updates (asynchronous row handling), the merge of their results and the creation of the
+     * final spec are timed; rows handled sequentially are not timed individually to keep the per-row overhead low.
+     * Only for debugging/test purposes.
+     *
+     * @return the time in nanoseconds
+     */
+    long getDomainUpdateTime() {
+        return m_domainUpdateTime.sum();
+    }
+
     /** @return size of buffer temp file in bytes, -1 if not set. Only for debugging/test purposes. */
     long getBufferFileSize() {
         Buffer b = m_table != null ? m_table.getBuffer() : m_buffer;
@@ -1276,10 +1296,12 @@ public final void run() {
                     final List<BlobSupportDataRow> blobRows = new ArrayList<>(m_rows.size());
                     for (final DataRow row : m_rows) {
                         validateSpecCompatiblity(row);
-                        m_dataTableDomainCreator.updateDomain(row);
                         addRowKeyForDuplicateCheck(row.getKey());
                         blobRows.add(m_buffer.saveBlobsAndFileStores(row, m_forceCopyOfBlobs));
                     }
+                    final long start = System.nanoTime();
+                    m_dataTableDomainCreator.updateDomain(m_rows);
+                    m_domainUpdateTime.add(System.nanoTime() - start);
                     boolean addRows;
                     synchronized (m_pendingBatchIdx) {
                         addRows = m_batchIdx == m_pendingBatchIdx.longValue();
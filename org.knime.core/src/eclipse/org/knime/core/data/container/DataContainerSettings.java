@@ -50,7 +50,7 @@
 
 import java.util.Optional;
 import java.util.function.BiFunction;
-import java.util.function.Supplier;
+import java.util.function.LongFunction;
 
 import org.knime.core.data.DataTableDomainCreator;
 import org.knime.core.data.DataTableSpec;
@@ -61,6 +61,8 @@
 import org.knime.core.node.workflow.WorkflowContext;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.HashPartitionedDuplicateChecker;
+import org.knime.core.util.HashPartitionedDuplicateChecker.Storage;
 
 /**
  * The data container settings. Solely used for benchmarking.
@@ -128,6 +130,9 @@ private static class Builder {
         /** The {@link BufferSettings}. */
         private BufferSettings m_bufferSettings;
 
+        /** The expected number of rows, 0 if unknown. */
+        private long m_expectedRowCount;
+
         /**
          * Constructor.
          *
@@ -142,6 +147,7 @@ private static class Builder {
             m_initDomain = settings.m_initDomain;
             m_maxDomainValues = settings.m_maxDomainValues;
             m_bufferSettings = settings.m_bufferSettings;
+            m_expectedRowCount = settings.m_expectedRowCount;
         }
 
         Builder setMaxCellsInMemory(final int maxCellsInMemory) {
@@ -184,6 +190,11 @@ Builder setBufferSettings(final BufferSettings bufferSettings) {
             return this;
         }
 
+        Builder setExpectedRowCount(final long expectedRowCount) {
+            m_expectedRowCount = expectedRowCount;
+            return this;
+        }
+
         /**
          * Creates the {@link DataContainerSettings}.
          *
@@ -195,8 +206,8 @@ DataContainerSettings build() {
 
     }
 
-    /** The function creating new instances of {@link DuplicateChecker}. */
-    private final Supplier<DuplicateChecker> m_duplicateCheckerCreator;
+    /** The function creating new instances of {@link DuplicateChecker} given the expected number of rows. */
+    private final LongFunction<DuplicateChecker> m_duplicateCheckerCreator;
 
     /** The function creating new instances of {@link DataTableDomainCreator}. */
     private final BiFunction<DataTableSpec, Boolean, DataTableDomainCreator> m_tableDomainCreatorFunction;
@@ -225,11 +236,14 @@ DataContainerSettings build() {
     /** The {@link BufferSettings}. */
     private final BufferSettings m_bufferSettings;
 
+    /** The expected number of rows, 0 if unknown. */
+    private final long m_expectedRowCount;
+
     /**
      * Default constructor.
      */
     private DataContainerSettings() {
-        m_duplicateCheckerCreator = () -> new DuplicateChecker(Integer.MAX_VALUE);
+        m_duplicateCheckerCreator = initDuplicateCheckerCreator();
         m_tableDomainCreatorFunction = (spec, initDomain) -> new DataTableDomainCreator(spec, initDomain);
         m_maxCellsInMemory = initMaxCellsInMemory();
         m_sequentialIO = initSequentialIO();
@@ -246,6 +260,7 @@ private DataContainerSettings() {
         m_initDomain = initDomain();
         m_maxDomainValues = initMaxDomainValues();
         m_bufferSettings = new BufferSettings();
+        m_expectedRowCount = 0;
     }
 
     /**
@@ -254,7 +269,7 @@ private DataContainerSettings() {
      * @param builder the builder holding the settings
      */
     private DataContainerSettings(final Builder builder) {
-        m_duplicateCheckerCreator = () -> new DuplicateChecker(Integer.MAX_VALUE);
+        m_duplicateCheckerCreator = initDuplicateCheckerCreator();
         m_tableDomainCreatorFunction = (spec, initDomain) -> new DataTableDomainCreator(spec, initDomain);
         m_maxCellsInMemory = builder.m_maxCellsInMemory;
         m_sequentialIO = builder.m_sequentialIO;
@@ -264,6 +279,7 @@ private DataContainerSettings(final Builder builder) {
         m_initDomain = builder.m_initDomain;
         m_maxDomainValues = builder.m_maxDomainValues;
         m_bufferSettings = builder.m_bufferSettings;
+        m_expectedRowCount = builder.m_expectedRowCount;
     }
 
     /**
@@ -356,7 +372,7 @@ public int getMaxDomainValues() {
      * @return a {@code DuplicateChecker}
      */
     DuplicateChecker createDuplicateChecker() {
-        return m_duplicateCheckerCreator.get();
+        return m_duplicateCheckerCreator.apply(m_expectedRowCount);
     }
 
     /**
@@ -380,6 +396,16 @@ public BufferSettings getBufferSettings() {
         return m_bufferSettings;
     }
 
+    /**
+     * Returns the expected number of rows, 0 if unknown.
+     *
+     * @return the expected number of rows
+     * @since 4.2
+     */
+    public long getExpectedRowCount() {
+        return m_expectedRowCount;
+    }
+
     /**
      * Creates a new <code>DataContainerSetting</code> object by replicating the current
      * <code>DataContainerSetting</code> instance and solely changes the maximum number of cells in memory.
@@ -492,6 +518,26 @@ public DataContainerSettings withBufferSettings(final BufferSettings bufferSetti
         return b.build();
     }
 
+    /**
+     * Creates a new <code>DataContainerSetting</code> object by replicating the current
+     * <code>DataContainerSetting</code> instance and solely changes the expected number of rows. It is a hint used to
+     * size the {@link DuplicateChecker} (if the {@link KNIMEConstants#PROPERTY_ROWID_DUPLICATE_CHECK_MODE duplicate
+     * check mode} makes use of it); containers may still hold more or less rows.
+     *
+     * @param expectedRowCount the expected number of rows, 0 if unknown
+     * @return a new instance of {@code DataContainerSettings}
+     * @throws IllegalArgumentException if the argument is negative
+     * @since 4.2
+     */
+    public DataContainerSettings withExpectedRowCount(final long expectedRowCount) {
+        if (expectedRowCount < 0) {
+            throw new IllegalArgumentException("Expected row count must not be negative: " + expectedRowCount);
+        }
+        final Builder b = new Builder(this);
+        b.setExpectedRowCount(expectedRowCount);
+        return b.build();
+    }
+
     /**
      * Initializes the maximum number of cells in memory w.r.t. the defined properties.
      *
@@ -519,6 +565,48 @@ private static int initMaxCellsInMemory() {
         return size;
     }
 
+    /**
+     * Initializes the function creating the {@link DuplicateChecker} according to the
+     * {@link KNIMEConstants#PROPERTY_ROWID_DUPLICATE_CHECK_MODE duplicate check mode}.
+     *
+     * @return the function creating new instances of {@code DuplicateChecker} given the expected number of rows
+     */
+    private static LongFunction<DuplicateChecker> initDuplicateCheckerCreator() {
+        final String prop = KNIMEConstants.PROPERTY_ROWID_DUPLICATE_CHECK_MODE;
+        final String val = System.getProperty(prop);
+        if (val != null) {
+            switch (val.trim().toLowerCase()) {
+                case "sort":
+                    break;
+                case "offheap":
+                    return expectedRowCount -> createHashPartitionedDuplicateChecker(Storage.OFF_HEAP,
+                        expectedRowCount);
+                case "mmap":
+                    return expectedRowCount -> createHashPartitionedDuplicateChecker(Storage.MEMORY_MAPPED,
+                        expectedRowCount);
+                default:
+                    LOGGER.warn("Unable to parse property " + prop + ", using default (sort)");
+            }
+        }
+        return expectedRowCount -> new DuplicateChecker(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@link HashPartitionedDuplicateChecker} sized for the expected number of rows. Falls back to the
+     * sort-based {@link DuplicateChecker} if there is not enough memory for it.
+     */
+    private static DuplicateChecker createHashPartitionedDuplicateChecker(final Storage storage,
+        final long expectedRowCount) {
+        try {
+            return new HashPartitionedDuplicateChecker(HashPartitionedDuplicateChecker.DEF_NR_PARTITIONS, storage,
+                expectedRowCount);
+        } catch (OutOfMemoryError e) {
+            LOGGER.warn("Not enough memory for hash-partitioned duplicate checking of " + expectedRowCount
+                + " rows, using default (sort): " + e.getMessage());
+            return new DuplicateChecker(Integer.MAX_VALUE);
+        }
+    }
+
     /**
      * Initializes the sequential I/O flag w.r.t. the defined properties.
      *
@@ -61,6 +61,7 @@
 import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.lang3.text.WordUtils;
+import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
@@ -94,6 +95,10 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
     /** Compression format. */
     private static final String CFG_COMPRESSION = "container.compression";
 
+    /** Whether uncompressed tables are read by memory-mapping them, see {@link KNIMEConstants#PROPERTY_TABLE_MMAP}. */
+    static final boolean USE_MMAP =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_MMAP) && !Platform.OS_WIN32.equals(Platform.getOS());
+
     /**
      * Checked function interface throwing an IOException.
      *
@@ -50,11 +50,15 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreCloseableRowIterator;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 
@@ -72,6 +76,12 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
 
     private final boolean m_isReadRowKey;
 
+    /** Sparse index of row offsets, null if the table was written without one. */
+    private final RowOffsetIndex m_rowOffsetIndex;
+
+    /** The memory-mapped bin file shared by all iterators, null if not (yet) mapped. */
+    private ByteBuffer[] m_mappedBinFile;
+
     /**
      * Constructs a reader for materializing serialized KNIME tables.
      *
@@ -108,6 +118,7 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
             cF = CompressionFormat.GZIP;
         }
         m_compressionFormat = cF;
+        m_rowOffsetIndex = version > 5 ? RowOffsetIndex.load(settings) : null;
     }
 
     @Override
@@ -127,11 +138,61 @@ public TableStoreCloseableRowIterator iterator() {
         }
     }
 
+    /**
+     * {@inheritDoc} If the table was written with a {@link RowOffsetIndex} and the filter starts beyond the first
+     * indexed row, the iterator starts reading at the closest indexed row instead of decoding all preceding rows.
+     * Tables with an empty index are read sequentially.
+     */
+    @Override
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter, final ExecutionMonitor exec) {
+        final long fromIndex = filter.getFromRowIndex().orElse(0L);
+        if (m_rowOffsetIndex == null || getBuffer() == null || fromIndex < m_rowOffsetIndex.getInterval()) {
+            return super.iteratorWithFilter(filter, exec);
+        }
+        final int entry = m_rowOffsetIndex.floorEntry(fromIndex);
+        if (entry < 0) { // empty index, e.g. an empty table
+            return super.iteratorWithFilter(filter, exec);
+        }
+        final long firstRow = m_rowOffsetIndex.getRowIndex(entry);
+        final TableFilter.Builder builder = new TableFilter.Builder(filter).withFromRowIndex(fromIndex - firstRow);
+        filter.getToRowIndex().ifPresent(to -> builder.withToRowIndex(to - firstRow));
+        try {
+            return filterIterator(
+                new BufferFromFileIteratorVersion20(this, firstRow, m_rowOffsetIndex.getOffset(entry)),
+                builder.build(), size() - firstRow, exec);
+        } catch (IOException ioe) {
+            StringBuilder b = new StringBuilder("Cannot read file \"");
+            b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
+            b.append("\"");
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException(b.toString(), ioe);
+        }
+    }
+
     /** @return Whether stream is zipped. */
     CompressionFormat getBinFileCompressionFormat() {
         return m_compressionFormat;
     }
 
+    /**
+     * Opens the (decompressed) input stream on the bin file. Uncompressed files are memory-mapped on first access if
+     * {@link DefaultTableStoreFormat#USE_MMAP} is set, and all streams read from that mapping.
+     *
+     * @return the (decompressed) input stream
+     * @throws IOException if the file could not be opened or mapped
+     */
+    InputStream openInputStream() throws IOException {
+        if (m_compressionFormat == CompressionFormat.NONE && DefaultTableStoreFormat.USE_MMAP) {
+            synchronized (this) {
+                if (m_mappedBinFile == null) {
+                    m_mappedBinFile = MappedFileInputStream.map(m_binFile);
+                }
+            }
+            return new MappedFileInputStream(m_mappedBinFile);
+        }
+        return m_compressionFormat.getInputStream(m_binFile);
+    }
+
     /** @return Underlying binary file. */
     final File getBinFile() {
         return m_binFile;
@@ -180,10 +241,7 @@ abstract static class FromFileIterator extends TableStoreCloseableRowIterator im
          */
         static final InputStream getInputStream(final DefaultTableStoreReader tableFormatReader)
             throws IOException {
-            // get the decompression format
-            final CompressionFormat cType = tableFormatReader.getBinFileCompressionFormat();
-            // return the (decompressed) stream
-            return cType.getInputStream(tableFormatReader.getBinFile());
+            return tableFormatReader.openInputStream();
         }
 
     }
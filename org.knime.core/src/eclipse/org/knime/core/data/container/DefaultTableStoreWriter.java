@@ -51,6 +51,7 @@
 import java.io.IOException;
 import java.io.OutputStream;
 
+import org.apache.commons.io.output.CountingOutputStream;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -75,6 +76,15 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
     /** The compression format. */
     private final CompressionFormat m_compFormat;
 
+    /** Counts the bytes written to the (uncompressed) data stream, used to fill {@link #m_rowOffsetIndex}. */
+    private CountingOutputStream m_countingStream;
+
+    /** Sparse index of row start offsets, saved with the meta information. */
+    private final RowOffsetIndex m_rowOffsetIndex = new RowOffsetIndex();
+
+    /** Number of rows written so far. */
+    private long m_rowCount;
+
     /**
      * Constructs a writer for writing KNIME tables to disk using the given compression format.
      *
@@ -98,6 +108,7 @@ public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outp
      */
     @Override
     public void writeRow(final DataRow row) throws IOException {
+        m_rowOffsetIndex.addRow(m_rowCount++, m_countingStream.getByteCount());
         RowKey id = row.getKey();
         writeRowKey(id, m_outStream);
         for (int i = 0; i < row.getNumCells(); i++) {
@@ -125,18 +136,20 @@ void writeRowKey(final RowKey key, final BlockableDCObjectOutputVersion2 outStre
     }
 
     /**
-     * Creates short cut array and wraps the argument stream in a {@link DCObjectOutputVersion2}.
+     * Creates short cut array and wraps the argument stream in a {@link DCObjectOutputVersion2}. The compressed stream
+     * is wrapped in a counting stream in order to record row offsets.
      */
     @SuppressWarnings("resource")
     private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream) throws IOException {
-        final OutputStream out = m_compFormat.getOutputStream(outStream);
-        return new BlockableDCObjectOutputVersion2(out, this);
+        m_countingStream = new CountingOutputStream(m_compFormat.getOutputStream(outStream));
+        return new BlockableDCObjectOutputVersion2(m_countingStream, this);
     }
 
     /** {@inheritDoc} */
     @Override
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
         m_compFormat.saveSettings(settings);
+        m_rowOffsetIndex.save(settings);
         super.writeMetaInfoAfterWrite(settings);
     }
 
@@ -228,6 +228,19 @@ public int skipBytes(final int n) throws IOException {
     /** {@inheritDoc} */
     @Override
     public String readUTF() throws IOException {
+        StringBuilder sbuf = new StringBuilder();
+        readUTF(sbuf);
+        return sbuf.toString();
+    }
+
+    /**
+     * Reads a string as written by {@link LongUTFDataOutputStream#writeUTF(String)} and appends its characters
+     * to the argument builder. Used by readers that decode into a reused buffer rather than a new string.
+     *
+     * @param sbuf the builder to append to (not cleared by this method)
+     * @throws IOException if reading fails
+     */
+    void readUTF(final StringBuilder sbuf) throws IOException {
         int s = readUnsignedShort();
         long utflen;
         if (s == LongUTFDataOutputStream.USE_LONG_UTF) {
@@ -235,7 +248,7 @@ public String readUTF() throws IOException {
         } else {
             utflen = s;
         }
-        return readUTFBody(utflen);
+        readUTFBody(sbuf, utflen);
     }
     
     /** maximum data block length. */
@@ -254,11 +267,10 @@ public String readUTF() throws IOException {
     /**
      * Reads in the "body" (i.e., the UTF representation minus the 2-byte or
      * 8-byte length header) of a UTF encoding, which occupies the next utflen
-     * bytes.
+     * bytes. The characters are appended to sbuf.
      */
-    private String readUTFBody(final long utflength) throws IOException {
+    private void readUTFBody(final StringBuilder sbuf, final long utflength) throws IOException {
         long utflen = utflength;
-        StringBuilder sbuf = new StringBuilder();
         m_pos = 0;
         m_end = 0;
 
@@ -281,7 +293,6 @@ private String readUTFBody(final long utflength) throws IOException {
                 m_input.readFully(m_buf, avail, m_end - avail);
             }
         }
-        return sbuf.toString();
     }
 
     /**
@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An input stream reading from a file that has been memory-mapped using {@link #map(File)}. The mapping can be shared
+ * by any number of streams, each of which reads from its own view of the mapped buffers. Reading from the stream
+ * copies the bytes directly from the mapped memory, i.e., it involves neither system calls nor intermediate buffers.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class MappedFileInputStream extends InputStream {
+
+    /** Maximum size of a single mapped segment; files larger than that are mapped in multiple segments. */
+    private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+    private final ByteBuffer[] m_segments;
+
+    private int m_currentSegment;
+
+    /**
+     * Creates a new stream reading from the beginning of the mapped file.
+     *
+     * @param mappedFile the mapped file as returned by {@link #map(File)}
+     */
+    MappedFileInputStream(final ByteBuffer[] mappedFile) {
+        m_segments = new ByteBuffer[mappedFile.length];
+        for (int i = 0; i < mappedFile.length; i++) {
+            m_segments[i] = mappedFile[i].duplicate();
+            m_segments[i].rewind();
+        }
+    }
+
+    /**
+     * Maps a file into memory (read-only).
+     *
+     * @param file the file
+     * @return the mapped segments of the file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    static ByteBuffer[] map(final File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int nrSegments = Math.max(1, (int)((size + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE));
+            final ByteBuffer[] segments = new ByteBuffer[nrSegments];
+            for (int i = 0; i < nrSegments; i++) {
+                final long position = (long)i * MAX_SEGMENT_SIZE;
+                segments[i] = channel.map(MapMode.READ_ONLY, position, Math.min(MAX_SEGMENT_SIZE, size - position));
+            }
+            return segments;
+        }
+    }
+
+    /** @return the current segment if it has remaining bytes, otherwise the next such segment, or null if none */
+    private ByteBuffer currentSegment() {
+        while (m_currentSegment < m_segments.length) {
+            final ByteBuffer segment = m_segments[m_currentSegment];
+            if (segment.hasRemaining()) {
+                return segment;
+            }
+            m_currentSegment++;
+        }
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() {
+        final ByteBuffer segment = currentSegment();
+        return segment == null ? -1 : (segment.get() & 0xFF);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int read = 0;
+        ByteBuffer segment;
+        while (read < len && (segment = currentSegment()) != null) {
+            final int n = Math.min(len - read, segment.remaining());
+            segment.get(b, off + read, n);
+            read += n;
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long skip(final long n) {
+        long skipped = 0;
+        ByteBuffer segment;
+        while (skipped < n && (segment = currentSegment()) != null) {
+            final int k = (int)Math.min(n - skipped, segment.remaining());
+            segment.position(segment.position() + k);
+            skipped += k;
+        }
+        return skipped;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() {
+        long available = 0;
+        for (int i = m_currentSegment; i < m_segments.length; i++) {
+            available += m_segments[i].remaining();
+        }
+        return (int)Math.min(Integer.MAX_VALUE, available);
+    }
+
+    /** Releases this stream's view of the mapping; the mapping itself is released once it is no longer referenced. */
+    @Override
+    public void close() {
+        m_currentSegment = m_segments.length;
+        Arrays.fill(m_segments, null);
+    }
+}
@@ -0,0 +1,941 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * An immutable, in-memory representation of a table whose cells are all {@link IntCell}, {@link LongCell},
+ * {@link DoubleCell}, {@link BooleanCell}, {@link StringCell} or missing cells without error message. The values are
+ * kept column-wise in direct (off-heap) {@link ByteBuffer ByteBuffers}, such that a cached numeric table occupies a few
+ * bytes per value instead of one {@link DataCell} object per value, and does not contribute to garbage collection
+ * pressure while being held in the {@link BufferCache}.
+ *
+ * <p>
+ * Tables are either built row by row while being written using an {@link Appender} (which allows a {@link Buffer} to
+ * keep {@link #ROWS_IN_MEMORY_FACTOR} times as many rows in memory) or copied from a list of rows using
+ * {@link #compactIfPossible(List)}. The direct memory held by all instances is limited to
+ * {@link #MAX_OFF_HEAP_BYTES}; rows that do not fit are kept on-heap, where they are subject to the usual memory
+ * policy. The memory is released for reuse once an instance has been garbage collected.
+ *
+ * <p>
+ * The reservations follow the actual release of direct memory, which only happens once a buffer has been garbage
+ * collected: buffers replaced while a column grows (or is trimmed) stay accounted until then. The accounted memory
+ * therefore includes the peak of old and new buffer during a copy and lags behind the memory in use, never the other
+ * way around.
+ *
+ * <p>
+ * {@link #get(int)} decodes the values of a row into a new (short-lived) {@link BlobSupportDataRow}, as rows handed out
+ * by a list may be retained by their consumers. Read-only scans that do not need rows should use a
+ * {@link ReadOnlyRowCursor} (see {@link #createCursor(int, int)}), which reads the values without allocating cells.
+ * Instances are safe for concurrent reads.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OffHeapRowList extends AbstractList<BlobSupportDataRow> implements RandomAccess {
+
+    /**
+     * The factor by which a {@link Buffer} keeps more rows in memory than configured if they are stored off-heap. Eight
+     * is the approximate ratio between the heap footprint of a cell object (including the reference to it) and the
+     * off-heap footprint of a numeric value.
+     */
+    static final int ROWS_IN_MEMORY_FACTOR = 8;
+
+    /**
+     * The maximum number of bytes of direct memory held by all off-heap tables together, half the heap size (the JVM
+     * limits direct memory to the heap size by default).
+     */
+    static final long MAX_OFF_HEAP_BYTES = Runtime.getRuntime().maxMemory() / 2;
+
+    /** Fixed overhead (in bytes) accounted for each column in {@link #getSizeInBytes()}. */
+    private static final int COLUMN_OVERHEAD = 64;
+
+    /** The maximum size of a byte buffer, also the limit for the total UTF-8 length of the strings in a column. */
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    /** The initial number of rows allocated by an {@link Appender}. */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** The number of bytes of direct memory currently reserved by all columns. */
+    private static final AtomicLong RESERVED_BYTES = new AtomicLong();
+
+    /** Enqueues the reservations of garbage-collected columns. */
+    private static final ReferenceQueue<Column> RELEASED_COLUMNS = new ReferenceQueue<>();
+
+    /** Keeps the reservations (i.e., phantom references) reachable until they have been enqueued. */
+    private static final Set<Reservation> RESERVATIONS = ConcurrentHashMap.newKeySet();
+
+    /** Enqueues the retired buffers of columns once they have been garbage collected. */
+    private static final ReferenceQueue<ByteBuffer> RELEASED_BUFFERS = new ReferenceQueue<>();
+
+    /** Keeps the retired buffers (i.e., phantom references) reachable until they have been enqueued. */
+    private static final Set<RetiredBuffer> RETIRED_BUFFERS = ConcurrentHashMap.newKeySet();
+
+    private final int m_size;
+
+    private final Column m_keys;
+
+    private final Column[] m_columns;
+
+    private final long m_sizeInBytes;
+
+    private OffHeapRowList(final int size, final Column keys, final Column[] columns) {
+        m_size = size;
+        m_keys = keys;
+        m_columns = columns;
+        long sizeInBytes = keys.getSizeInBytes();
+        for (Column column : columns) {
+            sizeInBytes += column.getSizeInBytes();
+        }
+        m_sizeInBytes = sizeInBytes;
+    }
+
+    /**
+     * Creates an appender that collects the rows of a table with the argument spec off-heap, if all columns of the
+     * spec have one of the supported types (see class description).
+     *
+     * @param spec the spec of the table
+     * @return a new appender, or <code>null</code> if the spec contains unsupported types
+     */
+    static Appender createAppender(final DataTableSpec spec) {
+        final ColumnType[] types = new ColumnType[spec.getNumColumns()];
+        for (int c = 0; c < types.length; c++) {
+            types[c] = ColumnType.forType(spec.getColumnSpec(c).getType());
+            if (types[c] == null) {
+                return null;
+            }
+        }
+        return new Appender(types);
+    }
+
+    /**
+     * Copies a fully read table into an off-heap representation, if all of its cells are supported (see class
+     * description) and it fits into the off-heap memory limit.
+     *
+     * @param rows the rows of the table, all having the same number of cells
+     * @return the off-heap representation of the table, or the argument list if it cannot be copied
+     */
+    static List<BlobSupportDataRow> compactIfPossible(final List<BlobSupportDataRow> rows) {
+        if (rows instanceof Appender) {
+            return ((Appender)rows).toList();
+        }
+        if (rows.isEmpty() || rows instanceof OffHeapRowList) {
+            return rows;
+        }
+        final int nrCols = rows.get(0).getNumCells();
+        final ColumnType[] types = new ColumnType[nrCols];
+        for (int c = 0; c < nrCols; c++) {
+            types[c] = ColumnType.MISSING;
+        }
+        for (BlobSupportDataRow row : rows) {
+            if (row.getNumCells() != nrCols) {
+                return rows;
+            }
+            for (int c = 0; c < nrCols; c++) {
+                final DataCell cell = row.getRawCell(c);
+                if (cell.isMissing()) {
+                    continue;
+                }
+                final ColumnType type = ColumnType.forCell(cell);
+                if (type == null || (types[c] != ColumnType.MISSING && types[c] != type)) {
+                    return rows;
+                }
+                types[c] = type;
+            }
+        }
+        final Appender appender = new Appender(types, rows.size());
+        for (BlobSupportDataRow row : rows) {
+            if (!appender.append(row)) {
+                appender.release();
+                return rows;
+            }
+        }
+        return appender.toList();
+    }
+
+    @Override
+    public BlobSupportDataRow get(final int index) {
+        if (index < 0 || index >= m_size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + m_size);
+        }
+        return getRow(m_keys, m_columns, index);
+    }
+
+    private static BlobSupportDataRow getRow(final Column keys, final Column[] columns, final int index) {
+        final DataCell[] cells = new DataCell[columns.length];
+        for (int c = 0; c < cells.length; c++) {
+            cells[c] = columns[c].get(index);
+        }
+        return new BlobSupportDataRow(new RowKey(keys.getString(index)), cells);
+    }
+
+    @Override
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * @return the number of bytes occupied by this table (mostly off-heap)
+     */
+    long getSizeInBytes() {
+        return m_sizeInBytes;
+    }
+
+    /**
+     * Creates a cursor that reads a range of rows without creating rows or cells.
+     *
+     * @param fromIndex the index of the first row returned by the cursor
+     * @param toIndex the index after the last row returned by the cursor
+     * @return a new cursor
+     */
+    ReadOnlyRowCursor createCursor(final int fromIndex, final int toIndex) {
+        return new OffHeapRowCursor(fromIndex, Math.min(toIndex, m_size));
+    }
+
+    /**
+     * @return the number of bytes of direct memory currently held by all off-heap tables (including tables being
+     *         built and tables no longer referenced but not yet garbage collected)
+     */
+    static long getReservedBytes() {
+        releaseCollected();
+        return RESERVED_BYTES.get();
+    }
+
+    /** Releases the reservations of columns and retired buffers that have been garbage collected. */
+    private static void releaseCollected() {
+        Reference<? extends Column> ref;
+        while ((ref = RELEASED_COLUMNS.poll()) != null) {
+            ((Reservation)ref).releaseAll();
+        }
+        Reference<? extends ByteBuffer> bufferRef;
+        while ((bufferRef = RELEASED_BUFFERS.poll()) != null) {
+            ((RetiredBuffer)bufferRef).release();
+        }
+    }
+
+    /**
+     * Builds an {@link OffHeapRowList} row by row. Rows are decoded and appended to growing off-heap columns as they
+     * are added, so that only the compact representation is held in memory. Should a row contain unsupported cells or
+     * the off-heap memory limit be reached, this and all following rows are kept in an on-heap list instead (the rows
+     * appended so far stay off-heap). Only meant to be used by a single thread.
+     */
+    static final class Appender extends AbstractList<BlobSupportDataRow> implements RandomAccess {
+
+        private final Column m_keys;
+
+        private final Column[] m_columns;
+
+        /** The number of rows held off-heap. */
+        private int m_size;
+
+        /** The rows added after the appender has fallen back to on-heap storage, <code>null</code> before. */
+        private List<BlobSupportDataRow> m_heapRows;
+
+        private Appender(final ColumnType[] types) {
+            this(types, INITIAL_CAPACITY);
+        }
+
+        private Appender(final ColumnType[] types, final int capacity) {
+            m_keys = new Column(ColumnType.STRING, capacity);
+            m_columns = new Column[types.length];
+            for (int c = 0; c < types.length; c++) {
+                m_columns[c] = new Column(types[c], capacity);
+            }
+        }
+
+        @Override
+        public boolean add(final BlobSupportDataRow row) {
+            if (m_heapRows == null && append(row)) {
+                return true;
+            }
+            if (m_heapRows == null) {
+                m_heapRows = new ArrayList<>();
+            }
+            return m_heapRows.add(row);
+        }
+
+        /** Appends a row to the off-heap columns, returns false if that is not possible. */
+        private boolean append(final BlobSupportDataRow row) {
+            if (row.getNumCells() != m_columns.length || m_size == Integer.MAX_VALUE) {
+                return false;
+            }
+            for (int c = 0; c < m_columns.length; c++) {
+                if (!m_columns[c].set(m_size, row.getRawCell(c))) {
+                    return false;
+                }
+            }
+            if (!m_keys.setString(m_size, row.getKey().getString())) {
+                return false;
+            }
+            m_size++;
+            return true;
+        }
+
+        /** Releases the off-heap memory held by this appender, which must not be used afterwards. */
+        private void release() {
+            m_keys.release();
+            for (Column column : m_columns) {
+                column.release();
+            }
+        }
+
+        /**
+         * @return <code>true</code> as long as all rows are held off-heap, <code>false</code> once this appender has
+         *         fallen back to on-heap storage
+         */
+        boolean isOffHeap() {
+            return m_heapRows == null;
+        }
+
+        @Override
+        public BlobSupportDataRow get(final int index) {
+            if (index >= m_size && m_heapRows != null) {
+                return m_heapRows.get(index - m_size);
+            }
+            if (index < 0 || index >= m_size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return getRow(m_keys, m_columns, index);
+        }
+
+        @Override
+        public int size() {
+            return m_heapRows != null ? m_size + m_heapRows.size() : m_size;
+        }
+
+        /**
+         * Finishes the table. The appender must not be modified afterwards.
+         *
+         * @return the rows added to this appender, as an {@link OffHeapRowList} unless it has fallen back to on-heap
+         *         storage, in which case the appender itself is returned
+         */
+        List<BlobSupportDataRow> toList() {
+            if (m_heapRows != null) {
+                return this;
+            }
+            m_keys.trim(m_size);
+            for (Column column : m_columns) {
+                column.trim(m_size);
+            }
+            return new OffHeapRowList(m_size, m_keys, m_columns);
+        }
+    }
+
+    /** The types of cells supported in an {@link OffHeapRowList}. */
+    private enum ColumnType {
+            /** {@link IntCell}. */
+            INT(Integer.BYTES),
+            /** {@link LongCell}. */
+            LONG(Long.BYTES),
+            /** {@link DoubleCell}. */
+            DOUBLE(Double.BYTES),
+            /** {@link BooleanCell}. */
+            BOOLEAN(1),
+            /** {@link StringCell}, stored as offsets into a UTF-8 encoded character buffer. */
+            STRING(Integer.BYTES),
+            /** Column without any non-missing values. */
+            MISSING(0);
+
+        private final int m_width;
+
+        ColumnType(final int width) {
+            m_width = width;
+        }
+
+        static ColumnType forCell(final DataCell cell) {
+            final Class<? extends DataCell> cl = cell.getClass();
+            if (cl == IntCell.class) {
+                return INT;
+            } else if (cl == LongCell.class) {
+                return LONG;
+            } else if (cl == DoubleCell.class) {
+                return DOUBLE;
+            } else if (cl == BooleanCell.class) {
+                return BOOLEAN;
+            } else if (cl == StringCell.class) {
+                return STRING;
+            }
+            return null;
+        }
+
+        static ColumnType forType(final DataType type) {
+            if (type.equals(IntCell.TYPE)) {
+                return INT;
+            } else if (type.equals(LongCell.TYPE)) {
+                return LONG;
+            } else if (type.equals(DoubleCell.TYPE)) {
+                return DOUBLE;
+            } else if (type.equals(BooleanCell.TYPE)) {
+                return BOOLEAN;
+            } else if (type.equals(StringCell.TYPE)) {
+                return STRING;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The direct memory reserved by a column, released when the column is garbage collected (or explicitly).
+     */
+    private static final class Reservation extends PhantomReference<Column> {
+
+        private long m_bytes;
+
+        Reservation(final Column column) {
+            super(column, RELEASED_COLUMNS);
+            RESERVATIONS.add(this);
+        }
+
+        /** Reserves the argument number of bytes, returns false if the off-heap memory limit would be exceeded. */
+        synchronized boolean reserve(final long bytes) {
+            releaseCollected();
+            long reserved;
+            do {
+                reserved = RESERVED_BYTES.get();
+                if (reserved + bytes > MAX_OFF_HEAP_BYTES) {
+                    return false;
+                }
+            } while (!RESERVED_BYTES.compareAndSet(reserved, reserved + bytes));
+            m_bytes += bytes;
+            return true;
+        }
+
+        synchronized void release(final long bytes) {
+            RESERVED_BYTES.addAndGet(-bytes);
+            m_bytes -= bytes;
+        }
+
+        /**
+         * Hands the memory of a buffer no longer used by the column over to a {@link RetiredBuffer}, which keeps it
+         * reserved until the buffer has been garbage collected (and its memory actually freed).
+         */
+        synchronized void retire(final ByteBuffer buffer) {
+            if (buffer.capacity() > 0) {
+                m_bytes -= buffer.capacity();
+                new RetiredBuffer(buffer);
+            }
+        }
+
+        synchronized void releaseAll() {
+            RESERVATIONS.remove(this);
+            RESERVED_BYTES.addAndGet(-m_bytes);
+            m_bytes = 0;
+        }
+    }
+
+    /** The direct memory of a buffer replaced by a column, released when the buffer is garbage collected. */
+    private static final class RetiredBuffer extends PhantomReference<ByteBuffer> {
+
+        private final long m_bytes;
+
+        RetiredBuffer(final ByteBuffer buffer) {
+            super(buffer, RELEASED_BUFFERS);
+            m_bytes = buffer.capacity();
+            RETIRED_BUFFERS.add(this);
+        }
+
+        void release() {
+            if (RETIRED_BUFFERS.remove(this)) {
+                RESERVED_BYTES.addAndGet(-m_bytes);
+            }
+        }
+    }
+
+    /**
+     * A single column of values. Fixed-width values are kept in one direct buffer; strings additionally keep their
+     * UTF-8 bytes in a second direct buffer, with the first buffer holding the end offset of each string. Missing
+     * values are tracked in a bit set, which is only allocated if the column contains missing values. The buffers grow
+     * while the column is written; all their memory is accounted in the column's {@link Reservation}.
+     */
+    private static final class Column {
+
+        private static final ByteBuffer EMPTY = ByteBuffer.allocateDirect(0);
+
+        private final ColumnType m_type;
+
+        private final Reservation m_reservation;
+
+        private ByteBuffer m_values = EMPTY;
+
+        private ByteBuffer m_strings = EMPTY;
+
+        private ByteBuffer m_missing;
+
+        /** The number of string bytes written so far. */
+        private int m_stringLength;
+
+        /** Creates a column with room for the argument number of rows, if that fits into the memory limit. */
+        Column(final ColumnType type, final int capacity) {
+            m_type = type;
+            m_reservation = new Reservation(this);
+            ensureCapacity(capacity);
+        }
+
+        /** Sets the value of the argument row, returns false if the cell is not supported or the memory limit is
+         * reached. */
+        boolean set(final int index, final DataCell cell) {
+            if (cell.isMissing()) {
+                if (cell.getClass() != MissingCell.class || ((MissingCell)cell).getError() != null) {
+                    return false;
+                }
+                if (!setMissing(index)) {
+                    return false;
+                }
+                return m_type != ColumnType.STRING || setStringEnd(index);
+            }
+            if (ColumnType.forCell(cell) != m_type || !ensureCapacity(index + 1)) {
+                return false;
+            }
+            switch (m_type) {
+                case INT:
+                    m_values.putInt(index * Integer.BYTES, ((IntCell)cell).getIntValue());
+                    return true;
+                case LONG:
+                    m_values.putLong(index * Long.BYTES, ((LongCell)cell).getLongValue());
+                    return true;
+                case DOUBLE:
+                    m_values.putDouble(index * Double.BYTES, ((DoubleCell)cell).getDoubleValue());
+                    return true;
+                case BOOLEAN:
+                    m_values.put(index, ((BooleanCell)cell).getBooleanValue() ? (byte)1 : (byte)0);
+                    return true;
+                case STRING:
+                    return setString(index, ((StringCell)cell).getStringValue());
+                default:
+                    return false;
+            }
+        }
+
+        boolean setString(final int index, final String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            final long newLength = (long)m_stringLength + bytes.length;
+            if (newLength > MAX_BUFFER_SIZE || !ensureCapacity(index + 1)) {
+                return false;
+            }
+            if (newLength > m_strings.capacity()) {
+                final ByteBuffer strings = grow(m_strings, newLength, m_stringLength);
+                if (strings == null) {
+                    return false;
+                }
+                m_strings = strings;
+            }
+            m_strings.position(m_stringLength);
+            m_strings.put(bytes);
+            m_stringLength = (int)newLength;
+            m_values.putInt(index * Integer.BYTES, m_stringLength);
+            return true;
+        }
+
+        private boolean setStringEnd(final int index) {
+            if (!ensureCapacity(index + 1)) {
+                return false;
+            }
+            m_values.putInt(index * Integer.BYTES, m_stringLength);
+            return true;
+        }
+
+        private boolean setMissing(final int index) {
+            final long missingBytes = (((long)index >>> 6) + 1) * Long.BYTES;
+            if (m_missing == null || m_missing.capacity() < missingBytes) {
+                final long capacity =
+                    Math.max(missingBytes, (((long)m_values.capacity() / Math.max(1, m_type.m_width) + 63) >>> 6)
+                        * Long.BYTES);
+                final ByteBuffer missing =
+                    grow(m_missing == null ? EMPTY : m_missing, capacity, m_missing == null ? 0 : m_missing.capacity());
+                if (missing == null) {
+                    return false;
+                }
+                m_missing = missing;
+            }
+            final int word = (index >>> 6) * Long.BYTES;
+            m_missing.putLong(word, m_missing.getLong(word) | (1L << (index & 63)));
+            return true;
+        }
+
+        /** Makes sure the values buffer has room for the argument number of rows (growing it by factor 2). */
+        private boolean ensureCapacity(final int rows) {
+            final long bytes = (long)rows * m_type.m_width;
+            if (bytes <= m_values.capacity()) {
+                return true;
+            }
+            if (bytes > MAX_BUFFER_SIZE) {
+                return false;
+            }
+            final ByteBuffer values = grow(m_values, bytes, m_values.capacity());
+            if (values == null) {
+                return false;
+            }
+            m_values = values;
+            return true;
+        }
+
+        /**
+         * Allocates a buffer of at least the argument capacity (and up to twice the capacity of the old buffer) and
+         * copies the first bytes of the old buffer into it. Returns null if the memory limit is reached. The old buffer
+         * stays accounted until it has been garbage collected.
+         */
+        private ByteBuffer grow(final ByteBuffer old, final long minCapacity, final int bytesToCopy) {
+            final int capacity = (int)Math.min(MAX_BUFFER_SIZE, Math.max(minCapacity, 2L * old.capacity()));
+            if (!m_reservation.reserve(capacity)) {
+                return null;
+            }
+            final ByteBuffer buffer;
+            try {
+                buffer = ByteBuffer.allocateDirect(capacity);
+            } catch (OutOfMemoryError e) {
+                // direct memory exhausted (limited by -XX:MaxDirectMemorySize)
+                m_reservation.release(capacity);
+                return null;
+            }
+            final ByteBuffer source = old.duplicate();
+            source.position(0);
+            source.limit(bytesToCopy);
+            buffer.put(source);
+            m_reservation.retire(old);
+            return buffer;
+        }
+
+        /** Shrinks the buffers to the argument number of rows, once all values have been written. */
+        void trim(final int rows) {
+            final long valueBytes = (long)rows * m_type.m_width;
+            m_values = trim(m_values, (int)valueBytes);
+            m_strings = trim(m_strings, m_stringLength);
+            if (m_missing != null) {
+                m_missing = trim(m_missing, (int)((((long)rows + 63) >>> 6) * Long.BYTES));
+            }
+        }
+
+        private ByteBuffer trim(final ByteBuffer buffer, final int size) {
+            if (size >= buffer.capacity()) {
+                return buffer;
+            }
+            // the copy needs memory until the larger buffer is collected, keep the buffer if that's not available
+            if (!m_reservation.reserve(size)) {
+                return buffer;
+            }
+            final ByteBuffer trimmed;
+            try {
+                trimmed = ByteBuffer.allocateDirect(size);
+            } catch (OutOfMemoryError e) {
+                m_reservation.release(size);
+                return buffer;
+            }
+            final ByteBuffer source = buffer.duplicate();
+            source.position(0);
+            source.limit(size);
+            trimmed.put(source);
+            m_reservation.retire(buffer);
+            return trimmed;
+        }
+
+        /** Releases all memory held by this column, which must not be used afterwards. */
+        void release() {
+            m_reservation.retire(m_values);
+            m_reservation.retire(m_strings);
+            if (m_missing != null) {
+                m_reservation.retire(m_missing);
+            }
+            m_values = EMPTY;
+            m_strings = EMPTY;
+            m_missing = null;
+            m_reservation.releaseAll();
+        }
+
+        boolean isMissing(final int index) {
+            return m_missing != null && ((long)index >>> 6) * Long.BYTES < m_missing.capacity()
+                && (m_missing.getLong((index >>> 6) * Long.BYTES) & (1L << (index & 63))) != 0;
+        }
+
+        DataCell get(final int index) {
+            if (isMissing(index)) {
+                return DataType.getMissingCell();
+            }
+            switch (m_type) {
+                case INT:
+                    return new IntCell(getInt(index));
+                case LONG:
+                    return new LongCell(getLong(index));
+                case DOUBLE:
+                    return new DoubleCell(getDouble(index));
+                case BOOLEAN:
+                    return BooleanCell.get(getBoolean(index));
+                case STRING:
+                    return new StringCell(getString(index));
+                default:
+                    return DataType.getMissingCell();
+            }
+        }
+
+        int getInt(final int index) {
+            return m_values.getInt(index * Integer.BYTES);
+        }
+
+        long getLong(final int index) {
+            return m_values.getLong(index * Long.BYTES);
+        }
+
+        double getDouble(final int index) {
+            return m_values.getDouble(index * Double.BYTES);
+        }
+
+        boolean getBoolean(final int index) {
+            return m_values.get(index) != 0;
+        }
+
+        int getStringStart(final int index) {
+            return index == 0 ? 0 : m_values.getInt((index - 1) * Integer.BYTES);
+        }
+
+        int getStringEnd(final int index) {
+            return m_values.getInt(index * Integer.BYTES);
+        }
+
+        String getString(final int index) {
+            final int start = getStringStart(index);
+            final byte[] bytes = new byte[getStringEnd(index) - start];
+            // absolute bulk reads are not available in Java 8; reading from a duplicate keeps this thread-safe
+            final ByteBuffer strings = m_strings.duplicate();
+            strings.position(start);
+            strings.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        long getSizeInBytes() {
+            return COLUMN_OVERHEAD + m_values.capacity() + m_strings.capacity()
+                + (m_missing != null ? m_missing.capacity() : 0);
+        }
+    }
+
+    /**
+     * Cursor reading the values straight from the columns. Strings are decoded into a reused character buffer per
+     * column, numbers and booleans are not decoded into cells at all.
+     */
+    private final class OffHeapRowCursor extends ReadOnlyRowCursor {
+
+        /** Per-column views on the string buffers (a duplicate keeps concurrent cursors independent). */
+        private final ByteBuffer[] m_stringViews = new ByteBuffer[m_columns.length];
+
+        private final CharBuffer[] m_chars = new CharBuffer[m_columns.length];
+
+        private final DataCell[] m_cells = new DataCell[m_columns.length];
+
+        private final CharsetDecoder m_decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        private final int m_toIndex;
+
+        private int m_index;
+
+        private boolean m_hasRow;
+
+        private boolean m_isClosed;
+
+        private RowKey m_key;
+
+        OffHeapRowCursor(final int fromIndex, final int toIndex) {
+            m_index = fromIndex - 1;
+            m_toIndex = toIndex;
+        }
+
+        @Override
+        public boolean next() {
+            m_key = null;
+            if (m_hasRow) {
+                Arrays.fill(m_cells, null);
+            }
+            m_hasRow = !m_isClosed && m_index + 1 < m_toIndex;
+            if (m_hasRow) {
+                m_index++;
+            }
+            return m_hasRow;
+        }
+
+        private void checkHasRow() {
+            if (!m_hasRow) {
+                throw new IllegalStateException("Cursor is not positioned on a row");
+            }
+        }
+
+        @Override
+        public RowKey getKey() {
+            checkHasRow();
+            if (m_key == null) {
+                m_key = new RowKey(m_keys.getString(m_index));
+            }
+            return m_key;
+        }
+
+        @Override
+        public int getNumCells() {
+            return m_columns.length;
+        }
+
+        @Override
+        public boolean isMissing(final int index) {
+            checkHasRow();
+            return m_columns[index].isMissing(m_index);
+        }
+
+        @Override
+        public DataCell getCell(final int index) {
+            checkHasRow();
+            if (m_cells[index] == null) {
+                m_cells[index] = m_columns[index].get(m_index);
+            }
+            return m_cells[index];
+        }
+
+        /** Returns whether the argument column has the argument type and a non-missing value in the current row. */
+        private boolean isPresent(final int index, final ColumnType type) {
+            return m_hasRow && m_columns[index].m_type == type && !m_columns[index].isMissing(m_index);
+        }
+
+        @Override
+        public int getInt(final int index) {
+            if (isPresent(index, ColumnType.INT)) {
+                return m_columns[index].getInt(m_index);
+            }
+            return super.getInt(index);
+        }
+
+        @Override
+        public long getLong(final int index) {
+            if (isPresent(index, ColumnType.LONG)) {
+                return m_columns[index].getLong(m_index);
+            } else if (isPresent(index, ColumnType.INT)) {
+                return m_columns[index].getInt(m_index);
+            }
+            return super.getLong(index);
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            if (isPresent(index, ColumnType.DOUBLE)) {
+                return m_columns[index].getDouble(m_index);
+            } else if (isPresent(index, ColumnType.INT)) {
+                return m_columns[index].getInt(m_index);
+            } else if (isPresent(index, ColumnType.LONG)) {
+                return m_columns[index].getLong(m_index);
+            }
+            return super.getDouble(index);
+        }
+
+        @Override
+        public boolean getBoolean(final int index) {
+            if (isPresent(index, ColumnType.BOOLEAN)) {
+                return m_columns[index].getBoolean(m_index);
+            }
+            return super.getBoolean(index);
+        }
+
+        @Override
+        public CharSequence getCharSequence(final int index) {
+            if (!isPresent(index, ColumnType.STRING)) {
+                return super.getCharSequence(index);
+            }
+            final Column column = m_columns[index];
+            if (m_stringViews[index] == null) {
+                m_stringViews[index] = column.m_strings.duplicate();
+            }
+            final ByteBuffer bytes = m_stringViews[index];
+            bytes.limit(column.getStringEnd(m_index));
+            bytes.position(column.getStringStart(m_index));
+            // a UTF-8 encoded string never has more characters than bytes
+            CharBuffer chars = m_chars[index];
+            if (chars == null || chars.capacity() < bytes.remaining()) {
+                chars = CharBuffer.allocate(Math.max(16, 2 * bytes.remaining()));
+                m_chars[index] = chars;
+            }
+            chars.clear();
+            m_decoder.reset();
+            m_decoder.decode(bytes, chars, true);
+            m_decoder.flush(chars);
+            chars.flip();
+            return chars;
+        }
+
+        @Override
+        boolean isHeldWithoutCell(final int index) {
+            return m_hasRow && m_cells[index] == null && !m_columns[index].isMissing(m_index);
+        }
+
+        @Override
+        public void close() {
+            m_isClosed = true;
+            m_hasRow = false;
+            m_key = null;
+        }
+    }
+
+}
@@ -0,0 +1,293 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.StringValue;
+
+/**
+ * A forward-only, read-only cursor over the rows of a table. Unlike a {@link CloseableRowIterator} it does not
+ * hand out a {@link DataRow} per row but exposes the current row through typed accessors. Cursors reading a table
+ * from file decode the built-in {@link org.knime.core.data.def.IntCell IntCell},
+ * {@link org.knime.core.data.def.LongCell LongCell}, {@link org.knime.core.data.def.DoubleCell DoubleCell},
+ * {@link org.knime.core.data.def.StringCell StringCell} and {@link org.knime.core.data.def.BooleanCell BooleanCell}
+ * types into holders that are reused for all rows, i.e. a scan using the typed accessors does not allocate a row, a
+ * row key or a cell per value. Any other cell type is read as usual.
+ *
+ * <p>
+ * <b>Lifetime rules:</b> a cursor is positioned before the first row and is moved forward by {@link #next()}. All
+ * accessors refer to the current row; the {@link CharSequence} returned by {@link #getCharSequence(int)} is
+ * overwritten in place and must not be used after the next call of {@link #next()} or {@link #close()}. Values that
+ * are to be kept longer need to be copied, for instance using {@link #getString(int)}, {@link #getKey()} or
+ * {@link #getCell(int)}, which return (possibly newly created) immutable objects. A cursor is not thread-safe. It
+ * must be closed if not pushed to the end, see {@link CloseableRowIterator#close()}.
+ *
+ * <p>
+ * Typical usage:
+ *
+ * <pre>
+ * try (ReadOnlyRowCursor cursor = table.readOnlyCursor()) {
+ *     while (cursor.next()) {
+ *         if (!cursor.isMissing(0)) {
+ *             sum += cursor.getDouble(0);
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public abstract class ReadOnlyRowCursor implements AutoCloseable {
+
+    /** Only to be subclassed in this package. */
+    ReadOnlyRowCursor() {
+    }
+
+    /**
+     * Creates a cursor on the argument iterator, which is owned (and closed) by the returned cursor. Iterators reading
+     * a table from file are accessed directly using reusable holders, tables cached off-heap are read directly from
+     * their off-heap representation, all others are wrapped.
+     *
+     * @param iterator the iterator to read from, not used by the caller afterwards
+     * @param numCells the number of cells in each row
+     * @return a new cursor, positioned before the first row
+     */
+    public static ReadOnlyRowCursor create(final CloseableRowIterator iterator, final int numCells) {
+        if (iterator instanceof BufferFromFileIteratorVersion20) {
+            return ((BufferFromFileIteratorVersion20)iterator).createCursor();
+        }
+        final ReadOnlyRowCursor offHeapCursor = Buffer.createOffHeapCursor(iterator);
+        if (offHeapCursor != null) {
+            return offHeapCursor;
+        }
+        return new IteratorRowCursor(iterator, numCells);
+    }
+
+    /**
+     * Moves the cursor to the next row. Invalidates the values of the previous row (see class description). The
+     * cursor is closed automatically when the end of the table is reached.
+     *
+     * @return <code>true</code> if the cursor is positioned on a row, <code>false</code> if there are no more rows
+     */
+    public abstract boolean next();
+
+    /**
+     * @return the key of the current row
+     * @throws IllegalStateException if the cursor is not positioned on a row
+     */
+    public abstract RowKey getKey();
+
+    /** @return the number of cells in each row */
+    public abstract int getNumCells();
+
+    /**
+     * @param index the column index
+     * @return whether the cell at the argument index is missing
+     * @throws IllegalStateException if the cursor is not positioned on a row
+     */
+    public abstract boolean isMissing(int index);
+
+    /**
+     * Returns the cell at the argument index. Cells decoded into reusable holders are created by this method (and
+     * cached until the cursor moves), so this method is meant for cell types not covered by the typed accessors.
+     *
+     * @param index the column index
+     * @return the cell, possibly a missing cell
+     * @throws IllegalStateException if the cursor is not positioned on a row
+     */
+    public abstract DataCell getCell(int index);
+
+    /**
+     * @param index the column index
+     * @return the int value of the cell
+     * @throws IllegalStateException if the cursor is not positioned on a row or the cell is missing
+     * @throws ClassCastException if the cell is not an {@link IntValue}
+     */
+    public int getInt(final int index) {
+        return ((IntValue)getPresentCell(index)).getIntValue();
+    }
+
+    /**
+     * @param index the column index
+     * @return the long value of the cell
+     * @throws IllegalStateException if the cursor is not positioned on a row or the cell is missing
+     * @throws ClassCastException if the cell is not a {@link LongValue}
+     */
+    public long getLong(final int index) {
+        return ((LongValue)getPresentCell(index)).getLongValue();
+    }
+
+    /**
+     * @param index the column index
+     * @return the double value of the cell
+     * @throws IllegalStateException if the cursor is not positioned on a row or the cell is missing
+     * @throws ClassCastException if the cell is not a {@link DoubleValue}
+     */
+    public double getDouble(final int index) {
+        return ((DoubleValue)getPresentCell(index)).getDoubleValue();
+    }
+
+    /**
+     * @param index the column index
+     * @return the boolean value of the cell
+     * @throws IllegalStateException if the cursor is not positioned on a row or the cell is missing
+     * @throws ClassCastException if the cell is not a {@link BooleanValue}
+     */
+    public boolean getBoolean(final int index) {
+        return ((BooleanValue)getPresentCell(index)).getBooleanValue();
+    }
+
+    /**
+     * @param index the column index
+     * @return the string value of the cell, which may be kept after the cursor has moved
+     * @throws IllegalStateException if the cursor is not positioned on a row or the cell is missing
+     * @throws ClassCastException if the cell is not a {@link StringValue}
+     */
+    public String getString(final int index) {
+        return ((StringValue)getPresentCell(index)).getStringValue();
+    }
+
+    /**
+     * Returns the string value of the cell without copying it where possible. The returned sequence is only valid
+     * until the cursor moves or is closed.
+     *
+     * @param index the column index
+     * @return the string value of the cell
+     * @throws IllegalStateException if the cursor is not positioned on a row or the cell is missing
+     * @throws ClassCastException if the cell is not a {@link StringValue}
+     */
+    public CharSequence getCharSequence(final int index) {
+        return getString(index);
+    }
+
+    /** Closes the cursor and the underlying stream. Subsequent calls of {@link #next()} return <code>false</code>. */
+    @Override
+    public abstract void close();
+
+    /**
+     * Whether the value at the argument index of the current row is held in a reusable holder, i.e. no cell has been
+     * created for it (yet). Used in unit tests.
+     *
+     * @param index the column index
+     * @return <code>true</code> if no cell has been created for the value
+     */
+    boolean isHeldWithoutCell(final int index) {
+        return false;
+    }
+
+    private DataCell getPresentCell(final int index) {
+        final DataCell cell = getCell(index);
+        if (cell.isMissing()) {
+            throw new IllegalStateException("Cell at index " + index + " is missing");
+        }
+        return cell;
+    }
+
+    /** Cursor on any {@link CloseableRowIterator}, used for tables that are not read directly from file. */
+    private static final class IteratorRowCursor extends ReadOnlyRowCursor {
+
+        private final CloseableRowIterator m_iterator;
+
+        private final int m_numCells;
+
+        private DataRow m_row;
+
+        IteratorRowCursor(final CloseableRowIterator iterator, final int numCells) {
+            m_iterator = iterator;
+            m_numCells = numCells;
+        }
+
+        @Override
+        public boolean next() {
+            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            return m_row != null;
+        }
+
+        @Override
+        public RowKey getKey() {
+            return getRow().getKey();
+        }
+
+        @Override
+        public int getNumCells() {
+            return m_numCells;
+        }
+
+        @Override
+        public boolean isMissing(final int index) {
+            return getRow().getCell(index).isMissing();
+        }
+
+        @Override
+        public DataCell getCell(final int index) {
+            return getRow().getCell(index);
+        }
+
+        @Override
+        public void close() {
+            m_row = null;
+            m_iterator.close();
+        }
+
+        private DataRow getRow() {
+            if (m_row == null) {
+                throw new IllegalStateException("Cursor is not positioned on a row");
+            }
+            return m_row;
+        }
+    }
+
+}
@@ -481,12 +481,14 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         CellFactory facForProgress = null;
         int workers = Integer.MAX_VALUE;
         int queueSize = Integer.MAX_VALUE;
+        boolean adaptiveBatching = true;
         Collection<SpecAndFactoryObject> newColsFactories = newColsProducerMapping.getAllNewColumnsList();
         for (SpecAndFactoryObject specAndFac : newColsFactories) {
             if (specAndFac.getFactory() instanceof AbstractCellFactory) {
                 AbstractCellFactory acf = (AbstractCellFactory)specAndFac.getFactory();
                 workers = Math.min(workers, acf.getMaxParallelWorkers());
                 queueSize = Math.min(queueSize, acf.getMaxQueueSize());
+                adaptiveBatching &= acf.isAdaptiveBatching();
             } else {
                 throw new IllegalStateException("Coding problem: This method"
                     + " should not have been called as the cell factories do not allow parallel processing");
@@ -501,6 +503,7 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         ConcurrentNewColCalculator calculator =
             new ConcurrentNewColCalculator(queueSize, workers, container, subProgress, finalRowCount,
                 newColsProducerMapping, facForProgress);
+        calculator.setAdaptiveBatching(adaptiveBatching);
         try {
             calculator.run(table);
         } catch (InterruptedException e) {
@@ -0,0 +1,237 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Sparse index that maps every n-th row of a table file to the offset at which the row starts in the (decompressed)
+ * data stream. The interval starts at {@value #INITIAL_INTERVAL} rows and is doubled whenever the index runs full, so
+ * that the index stays small for arbitrarily long tables. Since rows in a table file are self-contained, an iterator
+ * can start reading at any indexed offset.
+ *
+ * <p>
+ * The index is saved as part of the table's meta information. Offsets are delta- and var-length encoded and stored as
+ * a single (base64) string, which keeps the meta information compact. Tables written without an index simply return
+ * <code>null</code> from {@link #load(NodeSettingsRO)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowOffsetIndex {
+
+    /** Config key for the encoded offsets. */
+    private static final String CFG_ROW_OFFSETS = "container.rowOffsets";
+
+    /** Config key for the number of rows between two index entries. */
+    private static final String CFG_ROW_OFFSET_INTERVAL = "container.rowOffsetInterval";
+
+    /** Number of rows between two entries for tables that don't need compaction. */
+    static final int INITIAL_INTERVAL = 1024;
+
+    /** Maximum number of entries; the interval is doubled once this is exceeded. */
+    static final int MAX_ENTRIES = 1 << 14;
+
+    private long m_interval;
+
+    private long[] m_offsets;
+
+    private int m_size;
+
+    /** Creates an empty index to be filled while writing a table. */
+    RowOffsetIndex() {
+        this(INITIAL_INTERVAL, new long[64], 0);
+    }
+
+    private RowOffsetIndex(final long interval, final long[] offsets, final int size) {
+        m_interval = interval;
+        m_offsets = offsets;
+        m_size = size;
+    }
+
+    /**
+     * Called for every row written to the table, right before the row is written.
+     *
+     * @param rowIndex the index of the row to be written
+     * @param offset the offset in the data stream at which the row starts
+     */
+    void addRow(final long rowIndex, final long offset) {
+        if (rowIndex % m_interval != 0) {
+            return;
+        }
+        if (m_size == MAX_ENTRIES) {
+            compact();
+            if (rowIndex % m_interval != 0) {
+                return;
+            }
+        }
+        if (m_size == m_offsets.length) {
+            m_offsets = Arrays.copyOf(m_offsets, Math.min(MAX_ENTRIES, 2 * m_offsets.length));
+        }
+        m_offsets[m_size++] = offset;
+    }
+
+    /** Doubles the interval by dropping every other entry. */
+    private void compact() {
+        int newSize = 0;
+        for (int i = 0; i < m_size; i += 2) {
+            m_offsets[newSize++] = m_offsets[i];
+        }
+        m_size = newSize;
+        m_interval *= 2;
+    }
+
+    /** @return the number of rows between two entries */
+    long getInterval() {
+        return m_interval;
+    }
+
+    /** @return number of entries */
+    int size() {
+        return m_size;
+    }
+
+    /**
+     * Finds the entry of the indexed row that is closest to but not after the argument row.
+     *
+     * @param rowIndex the row to seek to, not negative
+     * @return the index of the entry, -1 if the index is empty
+     */
+    int floorEntry(final long rowIndex) {
+        return (int)Math.min(rowIndex / m_interval, m_size - 1L);
+    }
+
+    /**
+     * @param entry an entry as returned by {@link #floorEntry(long)}
+     * @return the row index of that entry
+     */
+    long getRowIndex(final int entry) {
+        return entry * m_interval;
+    }
+
+    /**
+     * @param entry an entry as returned by {@link #floorEntry(long)}
+     * @return the offset of the row of that entry in the data stream
+     */
+    long getOffset(final int entry) {
+        return m_offsets[entry];
+    }
+
+    /**
+     * Saves the index to the argument settings.
+     *
+     * @param settings to save to
+     */
+    void save(final NodeSettingsWO settings) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(2 * m_size + 8);
+        long previous = 0;
+        for (int i = 0; i < m_size; i++) {
+            long delta = m_offsets[i] - previous;
+            previous = m_offsets[i];
+            while ((delta & ~0x7FL) != 0) {
+                bytes.write((int)(delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            bytes.write((int)delta);
+        }
+        settings.addLong(CFG_ROW_OFFSET_INTERVAL, m_interval);
+        settings.addString(CFG_ROW_OFFSETS, Base64.getEncoder().encodeToString(bytes.toByteArray()));
+    }
+
+    /**
+     * Restores an index saved with {@link #save(NodeSettingsWO)}.
+     *
+     * @param settings to load from
+     * @return the index or <code>null</code> if the table was written without an index
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    static RowOffsetIndex load(final NodeSettingsRO settings) throws InvalidSettingsException {
+        if (!settings.containsKey(CFG_ROW_OFFSETS)) {
+            return null;
+        }
+        final long interval = settings.getLong(CFG_ROW_OFFSET_INTERVAL);
+        if (interval <= 0) {
+            throw new InvalidSettingsException("Invalid row offset interval: " + interval);
+        }
+        final byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(settings.getString(CFG_ROW_OFFSETS));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unable to decode row offsets: " + e.getMessage(), e);
+        }
+        long[] offsets = new long[16];
+        int size = 0;
+        long previous = 0;
+        int pos = 0;
+        while (pos < bytes.length) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (pos == bytes.length || shift > 63) {
+                    throw new InvalidSettingsException("Row offsets are corrupt");
+                }
+                b = bytes[pos++];
+                delta |= (long)(b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * size);
+            }
+            previous += delta;
+            offsets[size++] = previous;
+        }
+        return new RowOffsetIndex(interval, offsets, size);
+    }
+
+}
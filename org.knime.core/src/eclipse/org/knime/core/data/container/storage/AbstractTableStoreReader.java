@@ -206,10 +206,26 @@ public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filte
      * @return a filtered iterator
      * @since 4.0
      */
-    @SuppressWarnings("resource")
     public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter, final ExecutionMonitor exec) {
-        final TableStoreCloseableRowIterator delegate = iterator();
         final long size = getBuffer() == null ? Long.MAX_VALUE : getBuffer().size();
+        return filterIterator(iterator(), filter, size, exec);
+    }
+
+    /**
+     * Wraps a {@link TableStoreCloseableRowIterator} into another one that is filtered according to a given
+     * {@link TableFilter}. Used by implementations that apply (parts of) a filter themselves and only need the
+     * remaining filtering and progress reporting to be done.
+     *
+     * @param delegate the iterator to filter
+     * @param filter the filter to be applied
+     * @param size the number of rows returned by the delegate iterator
+     * @param exec the execution monitor that shall be updated with progress or null if no progress updates are desired
+     * @return a filtered iterator
+     * @since 4.2
+     */
+    @SuppressWarnings("resource")
+    protected static TableStoreCloseableRowIterator filterIterator(final TableStoreCloseableRowIterator delegate,
+        final TableFilter filter, final long size, final ExecutionMonitor exec) {
         final FilterDelegateRowIterator filterDelegate = new FilterDelegateRowIterator(delegate, filter, size, exec);
 
         return new TableStoreCloseableRowIterator() {
@@ -0,0 +1,107 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.convert.map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.convert.map.Destination.ConsumerParameters;
+
+/**
+ * A {@link DataRowConsumer} that can also consume data rows in batches. The cells of a batch of data rows are first
+ * {@link #setDataRows(DataRow[], int) converted} column by column into per-column buffers (Java primitive arrays for
+ * primitive consumption paths) and then {@link #writeRow(int, ConsumerParameters[]) written} to the destination row by
+ * row. Converters and consumers are created once and reused for all batches rather than once per cell.
+ * <P>
+ * Typical usage:
+ *
+ * <pre>
+ * consumer.setDataRows(rows, count);
+ * for (int i = 0; i &lt; count; i++) {
+ *     consumer.writeRow(i, params);
+ *     destination.next();
+ * }
+ * </pre>
+ *
+ * @param <CP> The type of the parameters that are used to configure the consumption of a single data row.
+ * @since 4.2
+ * @author KNIME AG, Zurich, Switzerland
+ * @see DataRowBatchProducer
+ */
+public interface DataRowBatchConsumer<CP extends ConsumerParameters<?>> extends DataRowConsumer<CP> {
+
+    /**
+     * @return The maximum number of rows that can be passed to {@link #setDataRows(DataRow[], int)}.
+     */
+    int getBatchCapacity();
+
+    /**
+     * @return The number of rows in the current batch.
+     */
+    int getBatchSize();
+
+    /**
+     * Converts the cells of the given data rows into the batch, replacing the previous batch.
+     *
+     * @param rows The rows to consume, their cells must match the mapping of this consumer in number and order.
+     * @param count The number of rows (starting at index 0) to take from the array, at most the
+     *            {@link #getBatchCapacity() batch capacity}.
+     * @throws IllegalArgumentException If the count exceeds the batch capacity.
+     * @throws Exception If converting a {@link DataCell} failed.
+     */
+    void setDataRows(DataRow[] rows, int count) throws Exception;
+
+    /**
+     * Writes the values of a row of the current batch to the destination.
+     *
+     * @param index The index of the row in the batch.
+     * @param params The per-{@link DataCell cell} {@link ConsumerParameters parameters} that configure how the values
+     *            are written.
+     * @throws Exception If writing the values failed.
+     */
+    void writeRow(int index, CP[] params) throws Exception;
+}
@@ -0,0 +1,108 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.convert.map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.convert.map.Source.ProducerParameters;
+
+/**
+ * A {@link DataRowProducer} that can also produce data rows in batches. The values of consecutive source rows are
+ * first {@link #readRow(RowKey, ProducerParameters[]) read} into per-column buffers (Java primitive arrays for
+ * primitive production paths) and then {@link #produceDataRows() converted} into {@link DataCell data cells} column by
+ * column. Producers and converters are created once and reused for all batches rather than once per cell.
+ * <P>
+ * Typical usage:
+ *
+ * <pre>
+ * while (source.next()) {
+ *     producer.readRow(rowKey, params);
+ *     if (producer.getBatchSize() == producer.getBatchCapacity()) {
+ *         add(producer.produceDataRows());
+ *     }
+ * }
+ * add(producer.produceDataRows());
+ * </pre>
+ *
+ * @param <PP> The type of the parameters that are used to configure the production of a single data row.
+ * @since 4.2
+ * @author KNIME AG, Zurich, Switzerland
+ * @see DataRowBatchConsumer
+ */
+public interface DataRowBatchProducer<PP extends ProducerParameters<?>> extends DataRowProducer<PP> {
+
+    /**
+     * @return The maximum number of rows that can be read before {@link #produceDataRows()} must be called.
+     */
+    int getBatchCapacity();
+
+    /**
+     * @return The number of rows read since the last call of {@link #produceDataRows()}.
+     */
+    int getBatchSize();
+
+    /**
+     * Reads the values of a data row from the current position of the source into the batch.
+     *
+     * @param rowKey The row key for the row to be created.
+     * @param params The per-{@link DataCell cell} {@link ProducerParameters parameters} that configure how the values
+     *            are read.
+     * @throws IllegalStateException If the batch is full.
+     * @throws Exception If reading the values failed. The row is not added to the batch in this case.
+     */
+    void readRow(final RowKey rowKey, PP[] params) throws Exception;
+
+    /**
+     * Converts the rows read since the last call into data rows and empties the batch.
+     *
+     * @return The produced data rows in the order they were read, possibly empty.
+     * @throws Exception If converting the values failed.
+     */
+    DataRow[] produceDataRows() throws Exception;
+}
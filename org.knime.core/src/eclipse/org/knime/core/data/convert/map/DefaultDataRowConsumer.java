@@ -68,7 +68,9 @@
  * {@link ConsumptionPath consumption paths}.
  * <P>
  * Internally, each consumption path is translated to an executable mapper. There are mapper implementations for all
- * Java primitive types (to avoid autoboxing) as well as a common one for all object types.
+ * Java primitive types (to avoid autoboxing) as well as a common one for all object types. When consuming rows in
+ * batches, each mapper converts the cells of its column into an array of the respective primitive type using a single
+ * converter per batch.
  *
  * @param <D> Type of the {@link Destination} to which to write the data rows.
  * @param <CP> Subtype of {@link ConsumerParameters} that can be used to configure the consumers per call to
@@ -77,12 +79,22 @@
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  */
 public final class DefaultDataRowConsumer<D extends Destination<?>, CP extends ConsumerParameters<D>>
-    implements DataRowConsumer<CP> {
+    implements DataRowBatchConsumer<CP> {
+
+    /** The batch capacity if not specified otherwise. */
+    private static final int DEFAULT_BATCH_CAPACITY = 1024;
 
     private final D m_destination;
 
     private final Mapper<CP, ?, ?>[] m_mappers;
 
+    private final int m_batchCapacity;
+
+    /** Whether the buffers of the mappers have been allocated. */
+    private boolean m_isAllocated;
+
+    private int m_batchSize;
+
     /**
      * Creates a new data row consumer for the given destination and the given mapping.
      *
@@ -92,7 +104,27 @@
      *            to {@link #consumeDataRow(DataRow, ConsumerParameters[])}.
      */
     public DefaultDataRowConsumer(final D destination, final ConsumptionPath[] mapping) {
+        this(destination, mapping, DEFAULT_BATCH_CAPACITY);
+    }
+
+    /**
+     * Creates a new data row consumer for the given destination and the given mapping that converts at most the given
+     * number of rows per {@link #setDataRows(DataRow[], int) batch}.
+     *
+     * @param destination The destination to which to write data rows.
+     * @param mapping Consumption paths that describe the mapping from {@link DataCell data cells} to destination. The
+     *            number and order of the passed paths must match the ones of the parameters and data cells later passed
+     *            to {@link #consumeDataRow(DataRow, ConsumerParameters[])}.
+     * @param batchCapacity The maximum number of rows in a batch. The buffers are only allocated if rows are
+     *            {@link #setDataRows(DataRow[], int) consumed in batches}.
+     * @since 4.2
+     */
+    public DefaultDataRowConsumer(final D destination, final ConsumptionPath[] mapping, final int batchCapacity) {
+        if (batchCapacity < 1) {
+            throw new IllegalArgumentException("Batch capacity must be at least 1: " + batchCapacity);
+        }
         m_destination = destination;
+        m_batchCapacity = batchCapacity;
         @SuppressWarnings("unchecked")
         final Mapper<CP, ?, ?>[] mappers = new Mapper[mapping.length];
         for (int i = 0; i < mapping.length; i++) {
@@ -188,12 +220,78 @@ public void consumeDataRow(final DataRow row, final CP[] params) throws Exceptio
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public int getBatchCapacity() {
+        return m_batchCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public int getBatchSize() {
+        return m_batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public void setDataRows(final DataRow[] rows, final int count) throws Exception {
+        if (count < 0 || count > m_batchCapacity) {
+            throw new IllegalArgumentException(
+                "Number of rows must be between 0 and the batch capacity (" + m_batchCapacity + "): " + count);
+        }
+        if (!m_isAllocated) {
+            for (final Mapper<CP, ?, ?> mapper : m_mappers) {
+                mapper.allocate(m_batchCapacity);
+            }
+            m_isAllocated = true;
+        }
+        // Empty the batch first, it is discarded if the conversion fails.
+        m_batchSize = 0;
+        for (int i = 0; i < m_mappers.length; i++) {
+            m_mappers[i].convert(rows, i, count);
+        }
+        m_batchSize = count;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public void writeRow(final int index, final CP[] params) throws Exception {
+        if (index < 0 || index >= m_batchSize) {
+            throw new IndexOutOfBoundsException("Row " + index + " not in batch of size " + m_batchSize);
+        }
+        for (int i = 0; i < m_mappers.length; i++) {
+            m_mappers[i].write(index, params[i]);
+        }
+    }
+
     // Mapper implementations:
 
     private final class DoubleMapper extends Mapper<CP, //
             TypedDataCellToJavaConverterFactory<?, ?, DataCellToDoubleConverter<?>>, //
             TypedCellValueConsumerFactory<D, ?, ?, CP, DoubleCellValueConsumer<D, CP>>> {
 
+        private DataCellToDoubleConverter<?> m_batchConverter;
+
+        private DoubleCellValueConsumer<D, CP> m_batchConsumer;
+
+        private double[] m_values;
+
         private DoubleMapper(
             final TypedDataCellToJavaConverterFactory<?, ?, DataCellToDoubleConverter<?>> converterFactory,
             final TypedCellValueConsumerFactory<D, ?, ?, CP, DoubleCellValueConsumer<D, CP>> consumerFactory) {
@@ -213,12 +311,50 @@ protected void map(final DataCell cell, final CP params) throws Exception {
                 consumer.consumeDoubleCellValue(m_destination, value, params);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = m_consumerFactory.create();
+            m_values = new double[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            @SuppressWarnings("rawtypes")
+            final DataCellToDoubleConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_missing[row] = cell.isMissing();
+                if (!m_missing[row]) {
+                    @SuppressWarnings("unchecked")
+                    final double value = converter.convertIntoDouble(cell);
+                    m_values[row] = value;
+                }
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            if (m_missing[row]) {
+                m_batchConsumer.consumeMissingCellValue(m_destination, params);
+            } else {
+                m_batchConsumer.consumeDoubleCellValue(m_destination, m_values[row], params);
+            }
+        }
     }
 
     private final class IntMapper extends Mapper<CP, //
             TypedDataCellToJavaConverterFactory<?, ?, DataCellToIntConverter<?>>, //
             TypedCellValueConsumerFactory<D, ?, ?, CP, IntCellValueConsumer<D, CP>>> {
 
+        private DataCellToIntConverter<?> m_batchConverter;
+
+        private IntCellValueConsumer<D, CP> m_batchConsumer;
+
+        private int[] m_values;
+
         private IntMapper(final TypedDataCellToJavaConverterFactory<?, ?, DataCellToIntConverter<?>> converterFactory,
             final TypedCellValueConsumerFactory<D, ?, ?, CP, IntCellValueConsumer<D, CP>> consumerFactory) {
             super(converterFactory, consumerFactory);
@@ -237,12 +373,50 @@ protected void map(final DataCell cell, final CP params) throws Exception {
                 consumer.consumeIntCellValue(m_destination, value, params);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = m_consumerFactory.create();
+            m_values = new int[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            @SuppressWarnings("rawtypes")
+            final DataCellToIntConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_missing[row] = cell.isMissing();
+                if (!m_missing[row]) {
+                    @SuppressWarnings("unchecked")
+                    final int value = converter.convertIntoInt(cell);
+                    m_values[row] = value;
+                }
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            if (m_missing[row]) {
+                m_batchConsumer.consumeMissingCellValue(m_destination, params);
+            } else {
+                m_batchConsumer.consumeIntCellValue(m_destination, m_values[row], params);
+            }
+        }
     }
 
     private final class LongMapper extends Mapper<CP, //
             TypedDataCellToJavaConverterFactory<?, ?, DataCellToLongConverter<?>>, //
             TypedCellValueConsumerFactory<D, ?, ?, CP, LongCellValueConsumer<D, CP>>> {
 
+        private DataCellToLongConverter<?> m_batchConverter;
+
+        private LongCellValueConsumer<D, CP> m_batchConsumer;
+
+        private long[] m_values;
+
         private LongMapper(final TypedDataCellToJavaConverterFactory<?, ?, DataCellToLongConverter<?>> converterFactory,
             final TypedCellValueConsumerFactory<D, ?, ?, CP, LongCellValueConsumer<D, CP>> consumerFactory) {
             super(converterFactory, consumerFactory);
@@ -261,12 +435,50 @@ protected void map(final DataCell cell, final CP params) throws Exception {
                 consumer.consumeLongCellValue(m_destination, value, params);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = m_consumerFactory.create();
+            m_values = new long[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            @SuppressWarnings("rawtypes")
+            final DataCellToLongConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_missing[row] = cell.isMissing();
+                if (!m_missing[row]) {
+                    @SuppressWarnings("unchecked")
+                    final long value = converter.convertIntoLong(cell);
+                    m_values[row] = value;
+                }
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            if (m_missing[row]) {
+                m_batchConsumer.consumeMissingCellValue(m_destination, params);
+            } else {
+                m_batchConsumer.consumeLongCellValue(m_destination, m_values[row], params);
+            }
+        }
     }
 
     private final class BooleanMapper extends Mapper<CP, //
             TypedDataCellToJavaConverterFactory<?, ?, DataCellToBooleanConverter<?>>, //
             TypedCellValueConsumerFactory<D, ?, ?, CP, BooleanCellValueConsumer<D, CP>>> {
 
+        private DataCellToBooleanConverter<?> m_batchConverter;
+
+        private BooleanCellValueConsumer<D, CP> m_batchConsumer;
+
+        private boolean[] m_values;
+
         private BooleanMapper(
             final TypedDataCellToJavaConverterFactory<?, ?, DataCellToBooleanConverter<?>> converterFactory,
             final TypedCellValueConsumerFactory<D, ?, ?, CP, BooleanCellValueConsumer<D, CP>> consumerFactory) {
@@ -286,12 +498,50 @@ protected void map(final DataCell cell, final CP params) throws Exception {
                 consumer.consumeBooleanCellValue(m_destination, value, params);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = m_consumerFactory.create();
+            m_values = new boolean[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            @SuppressWarnings("rawtypes")
+            final DataCellToBooleanConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_missing[row] = cell.isMissing();
+                if (!m_missing[row]) {
+                    @SuppressWarnings("unchecked")
+                    final boolean value = converter.convertIntoBoolean(cell);
+                    m_values[row] = value;
+                }
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            if (m_missing[row]) {
+                m_batchConsumer.consumeMissingCellValue(m_destination, params);
+            } else {
+                m_batchConsumer.consumeBooleanCellValue(m_destination, m_values[row], params);
+            }
+        }
     }
 
     private final class FloatMapper extends Mapper<CP, //
             TypedDataCellToJavaConverterFactory<?, ?, DataCellToFloatConverter<?>>, //
             TypedCellValueConsumerFactory<D, ?, ?, CP, FloatCellValueConsumer<D, CP>>> {
 
+        private DataCellToFloatConverter<?> m_batchConverter;
+
+        private FloatCellValueConsumer<D, CP> m_batchConsumer;
+
+        private float[] m_values;
+
         private FloatMapper(
             final TypedDataCellToJavaConverterFactory<?, ?, DataCellToFloatConverter<?>> converterFactory,
             final TypedCellValueConsumerFactory<D, ?, ?, CP, FloatCellValueConsumer<D, CP>> consumerFactory) {
@@ -311,12 +561,50 @@ protected void map(final DataCell cell, final CP params) throws Exception {
                 consumer.consumeFloatCellValue(m_destination, value, params);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = m_consumerFactory.create();
+            m_values = new float[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            @SuppressWarnings("rawtypes")
+            final DataCellToFloatConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_missing[row] = cell.isMissing();
+                if (!m_missing[row]) {
+                    @SuppressWarnings("unchecked")
+                    final float value = converter.convertIntoFloat(cell);
+                    m_values[row] = value;
+                }
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            if (m_missing[row]) {
+                m_batchConsumer.consumeMissingCellValue(m_destination, params);
+            } else {
+                m_batchConsumer.consumeFloatCellValue(m_destination, m_values[row], params);
+            }
+        }
     }
 
     private final class ByteMapper extends Mapper<CP, //
             TypedDataCellToJavaConverterFactory<?, ?, DataCellToByteConverter<?>>, //
             TypedCellValueConsumerFactory<D, ?, ?, CP, ByteCellValueConsumer<D, CP>>> {
 
+        private DataCellToByteConverter<?> m_batchConverter;
+
+        private ByteCellValueConsumer<D, CP> m_batchConsumer;
+
+        private byte[] m_values;
+
         private ByteMapper(final TypedDataCellToJavaConverterFactory<?, ?, DataCellToByteConverter<?>> converterFactory,
             final TypedCellValueConsumerFactory<D, ?, ?, CP, ByteCellValueConsumer<D, CP>> consumerFactory) {
             super(converterFactory, consumerFactory);
@@ -335,12 +623,50 @@ protected void map(final DataCell cell, final CP params) throws Exception {
                 consumer.consumeByteCellValue(m_destination, value, params);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = m_consumerFactory.create();
+            m_values = new byte[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            @SuppressWarnings("rawtypes")
+            final DataCellToByteConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_missing[row] = cell.isMissing();
+                if (!m_missing[row]) {
+                    @SuppressWarnings("unchecked")
+                    final byte value = converter.convertIntoByte(cell);
+                    m_values[row] = value;
+                }
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            if (m_missing[row]) {
+                m_batchConsumer.consumeMissingCellValue(m_destination, params);
+            } else {
+                m_batchConsumer.consumeByteCellValue(m_destination, m_values[row], params);
+            }
+        }
     }
 
     private final class ShortMapper extends Mapper<CP, //
             TypedDataCellToJavaConverterFactory<?, ?, DataCellToShortConverter<?>>, //
             TypedCellValueConsumerFactory<D, ?, ?, CP, ShortCellValueConsumer<D, CP>>> {
 
+        private DataCellToShortConverter<?> m_batchConverter;
+
+        private ShortCellValueConsumer<D, CP> m_batchConsumer;
+
+        private short[] m_values;
+
         private ShortMapper(
             final TypedDataCellToJavaConverterFactory<?, ?, DataCellToShortConverter<?>> converterFactory,
             final TypedCellValueConsumerFactory<D, ?, ?, CP, ShortCellValueConsumer<D, CP>> consumerFactory) {
@@ -360,12 +686,50 @@ protected void map(final DataCell cell, final CP params) throws Exception {
                 consumer.consumeShortCellValue(m_destination, value, params);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = m_consumerFactory.create();
+            m_values = new short[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            @SuppressWarnings("rawtypes")
+            final DataCellToShortConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_missing[row] = cell.isMissing();
+                if (!m_missing[row]) {
+                    @SuppressWarnings("unchecked")
+                    final short value = converter.convertIntoShort(cell);
+                    m_values[row] = value;
+                }
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            if (m_missing[row]) {
+                m_batchConsumer.consumeMissingCellValue(m_destination, params);
+            } else {
+                m_batchConsumer.consumeShortCellValue(m_destination, m_values[row], params);
+            }
+        }
     }
 
     private final class CharMapper extends Mapper<CP, //
             TypedDataCellToJavaConverterFactory<?, ?, DataCellToCharConverter<?>>, //
             TypedCellValueConsumerFactory<D, ?, ?, CP, CharCellValueConsumer<D, CP>>> {
 
+        private DataCellToCharConverter<?> m_batchConverter;
+
+        private CharCellValueConsumer<D, CP> m_batchConsumer;
+
+        private char[] m_values;
+
         private CharMapper(final TypedDataCellToJavaConverterFactory<?, ?, DataCellToCharConverter<?>> converterFactory,
             final TypedCellValueConsumerFactory<D, ?, ?, CP, CharCellValueConsumer<D, CP>> consumerFactory) {
             super(converterFactory, consumerFactory);
@@ -384,12 +748,50 @@ protected void map(final DataCell cell, final CP params) throws Exception {
                 consumer.consumeCharCellValue(m_destination, value, params);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = m_consumerFactory.create();
+            m_values = new char[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            @SuppressWarnings("rawtypes")
+            final DataCellToCharConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_missing[row] = cell.isMissing();
+                if (!m_missing[row]) {
+                    @SuppressWarnings("unchecked")
+                    final char value = converter.convertIntoChar(cell);
+                    m_values[row] = value;
+                }
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            if (m_missing[row]) {
+                m_batchConsumer.consumeMissingCellValue(m_destination, params);
+            } else {
+                m_batchConsumer.consumeCharCellValue(m_destination, m_values[row], params);
+            }
+        }
     }
 
     private final class ObjectMapper extends Mapper<CP, //
             DataCellToJavaConverterFactory<?, ?>, //
             CellValueConsumerFactory<D, ?, ?, CP>> {
 
+        private DataCellToJavaConverter<?, ?> m_batchConverter;
+
+        private CellValueConsumer<D, Object, CP> m_batchConsumer;
+
+        private Object[] m_values;
+
         private ObjectMapper(final DataCellToJavaConverterFactory<?, ?> converterFactory,
             final CellValueConsumerFactory<D, ?, ?, CP> consumerFactory) {
             super(converterFactory, consumerFactory);
@@ -404,6 +806,29 @@ protected void map(final DataCell cell, final CP params) throws Exception {
             final Object cellValue = cell.isMissing() ? null : converter.convertUnsafe(cell);
             consumer.consumeCellValue(m_destination, cellValue, params);
         }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchConverter = m_converterFactory.create();
+            m_batchConsumer = (CellValueConsumer<D, Object, CP>)m_consumerFactory.create();
+            m_values = new Object[capacity];
+        }
+
+        @Override
+        protected void convert(final DataRow[] rows, final int column, final int count) throws Exception {
+            final DataCellToJavaConverter<?, ?> converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final DataCell cell = rows[row].getCell(column);
+                m_values[row] = cell.isMissing() ? null : converter.convertUnsafe(cell);
+            }
+        }
+
+        @Override
+        protected void write(final int row, final CP params) throws Exception {
+            m_batchConsumer.consumeCellValue(m_destination, m_values[row], params);
+        }
     }
 
     private abstract static class Mapper<CP extends ConsumerParameters<?>, //
@@ -414,11 +839,25 @@ protected void map(final DataCell cell, final CP params) throws Exception {
 
         protected final CC m_consumerFactory;
 
+        /** Whether the cell of a batch row is missing, not used by all mappers. */
+        protected boolean[] m_missing;
+
         private Mapper(final DC converterFactory, final CC consumerFactory) {
             m_converterFactory = converterFactory;
             m_consumerFactory = consumerFactory;
         }
 
         protected abstract void map(DataCell cell, final CP params) throws Exception;
+
+        /** Creates the converter and consumer for batch processing and allocates the buffers. */
+        protected void allocate(final int capacity) {
+            m_missing = new boolean[capacity];
+        }
+
+        /** Converts the cells of the given column into the buffer. */
+        protected abstract void convert(DataRow[] rows, int column, int count) throws Exception;
+
+        /** Writes the buffered value of a batch row to the destination. */
+        protected abstract void write(int row, CP params) throws Exception;
     }
 }
@@ -74,7 +74,9 @@
  * {@link ProductionPath production paths}.
  * <P>
  * Internally, each production path is translated to an executable mapper. There are mapper implementations for all Java
- * primitive types (to avoid autoboxing) as well as a common one for all object types.
+ * primitive types (to avoid autoboxing) as well as a common one for all object types. When producing rows in batches,
+ * each mapper buffers the values of its column in an array of the respective primitive type and converts them with a
+ * single converter.
  *
  * @param <S> Type of the {@link Source} from which to create data rows.
  * @param <PP> Subtype of {@link Source.ProducerParameters} that can be used to configure the producers per call to
@@ -83,7 +85,10 @@
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  */
 public final class DefaultDataRowProducer<S extends Source<?>, PP extends ProducerParameters<S>>
-    implements DataRowProducer<PP> {
+    implements DataRowBatchProducer<PP> {
+
+    /** The batch capacity if not specified otherwise. */
+    private static final int DEFAULT_BATCH_CAPACITY = 1024;
 
     private final S m_source;
 
@@ -93,6 +98,13 @@
 
     private final DataCell[] m_tempCells;
 
+    private final int m_batchCapacity;
+
+    /** Row keys of the rows in the current batch, {@code null} until the first row is read. */
+    private RowKey[] m_batchKeys;
+
+    private int m_batchSize;
+
     /**
     * Creates a new data row producer for the given source and the given mapping.
     *
@@ -120,8 +132,30 @@ public DefaultDataRowProducer(final S source, final ProductionPath[] mapping, fi
      */
     public DefaultDataRowProducer(final S source, final ProductionPath[] mapping,
         final FileStoreFactory fileStoreFactory) {
+        this(source, mapping, fileStoreFactory, DEFAULT_BATCH_CAPACITY);
+    }
+
+    /**
+     * Creates a new data row producer for the given source and the given mapping that reads at most the given number
+     * of rows per {@link #produceDataRows() batch}.
+     *
+     * @param source The source from which to create data rows.
+     * @param mapping Production paths that describe the mapping from source to {@link DataCell data cells}. The number
+     *            and order of the passed paths must match the ones of the parameters later passed to
+     *            {@link #produceDataRow(RowKey, ProducerParameters[])}.
+     * @param fileStoreFactory {@link FileStoreFactory} which may be used for creating {@link CellFactory}s.
+     * @param batchCapacity The maximum number of rows in a batch. The buffers are only allocated if rows are
+     *            {@link #readRow(RowKey, ProducerParameters[]) read in batches}.
+     * @since 4.2
+     */
+    public DefaultDataRowProducer(final S source, final ProductionPath[] mapping,
+        final FileStoreFactory fileStoreFactory, final int batchCapacity) {
+        if (batchCapacity < 1) {
+            throw new IllegalArgumentException("Batch capacity must be at least 1: " + batchCapacity);
+        }
         m_source = source;
         m_fileStoreFactory = fileStoreFactory;
+        m_batchCapacity = batchCapacity;
         m_tempCells = new DataCell[mapping.length];
         @SuppressWarnings("unchecked")
         final Mapper<PP, ?, ?>[] mappers = new Mapper[mapping.length];
@@ -221,12 +255,84 @@ public final DataRow produceDataRow(final RowKey rowKey, final PP[] params) thro
         return new DefaultRow(rowKey, m_tempCells);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public int getBatchCapacity() {
+        return m_batchCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public int getBatchSize() {
+        return m_batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public void readRow(final RowKey rowKey, final PP[] params) throws Exception {
+        if (m_batchKeys == null) {
+            for (final Mapper<PP, ?, ?> mapper : m_mappers) {
+                mapper.allocate(m_batchCapacity);
+            }
+            m_batchKeys = new RowKey[m_batchCapacity];
+        }
+        if (m_batchSize == m_batchCapacity) {
+            throw new IllegalStateException(
+                "Batch is full (" + m_batchCapacity + " rows), data rows need to be produced first");
+        }
+        for (int i = 0; i < m_mappers.length; i++) {
+            m_mappers[i].read(params[i], m_batchSize);
+        }
+        m_batchKeys[m_batchSize] = rowKey;
+        m_batchSize++;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public DataRow[] produceDataRows() throws Exception {
+        final int count = m_batchSize;
+        final DataCell[][] cells = new DataCell[count][m_mappers.length];
+        // Empty the batch first, it is discarded if the conversion fails.
+        m_batchSize = 0;
+        for (int i = 0; i < m_mappers.length; i++) {
+            m_mappers[i].convert(cells, i, count);
+        }
+        final DataRow[] rows = new DataRow[count];
+        for (int row = 0; row < count; row++) {
+            rows[row] = new DefaultRow(m_batchKeys[row], cells[row]);
+            m_batchKeys[row] = null;
+        }
+        return rows;
+    }
+
     // Mapper implementations:
 
     private final class DoubleMapper extends Mapper<PP, //
             TypedCellValueProducerFactory<S, ?, ?, PP, DoubleCellValueProducer<S, PP>>, //
             TypedJavaToDataCellConverterFactory<?, DoubleToDataCellConverter>> {
 
+        private DoubleCellValueProducer<S, PP> m_batchProducer;
+
+        private DoubleToDataCellConverter m_batchConverter;
+
+        private double[] m_values;
+
         private DoubleMapper(
             final TypedCellValueProducerFactory<S, ?, ?, PP, DoubleCellValueProducer<S, PP>> producerFactory,
             final TypedJavaToDataCellConverterFactory<?, DoubleToDataCellConverter> converterFactory) {
@@ -243,12 +349,42 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertDouble(producer.produceDoubleCellValue(m_source, params));
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new double[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_missing[row] = m_batchProducer.producesMissingCellValue(m_source, params);
+            if (!m_missing[row]) {
+                m_values[row] = m_batchProducer.produceDoubleCellValue(m_source, params);
+            }
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final DoubleToDataCellConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                cells[row][column] = m_missing[row] ? new MissingCell(null) : converter.convertDouble(m_values[row]);
+            }
+        }
     }
 
     private final class IntMapper extends Mapper<PP, //
             TypedCellValueProducerFactory<S, ?, ?, PP, IntCellValueProducer<S, PP>>, //
             TypedJavaToDataCellConverterFactory<?, IntToDataCellConverter>> {
 
+        private IntCellValueProducer<S, PP> m_batchProducer;
+
+        private IntToDataCellConverter m_batchConverter;
+
+        private int[] m_values;
+
         private IntMapper(final TypedCellValueProducerFactory<S, ?, ?, PP, IntCellValueProducer<S, PP>> producerFactory,
             final TypedJavaToDataCellConverterFactory<?, IntToDataCellConverter> converterFactory) {
             super(producerFactory, converterFactory);
@@ -264,12 +400,42 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertInt(producer.produceIntCellValue(m_source, params));
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new int[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_missing[row] = m_batchProducer.producesMissingCellValue(m_source, params);
+            if (!m_missing[row]) {
+                m_values[row] = m_batchProducer.produceIntCellValue(m_source, params);
+            }
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final IntToDataCellConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                cells[row][column] = m_missing[row] ? new MissingCell(null) : converter.convertInt(m_values[row]);
+            }
+        }
     }
 
     private final class LongMapper extends Mapper<PP, //
             TypedCellValueProducerFactory<S, ?, ?, PP, LongCellValueProducer<S, PP>>, //
             TypedJavaToDataCellConverterFactory<?, LongToDataCellConverter>> {
 
+        private LongCellValueProducer<S, PP> m_batchProducer;
+
+        private LongToDataCellConverter m_batchConverter;
+
+        private long[] m_values;
+
         private LongMapper(
             final TypedCellValueProducerFactory<S, ?, ?, PP, LongCellValueProducer<S, PP>> producerFactory,
             final TypedJavaToDataCellConverterFactory<?, LongToDataCellConverter> converterFactory) {
@@ -286,12 +452,42 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertLong(producer.produceLongCellValue(m_source, params));
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new long[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_missing[row] = m_batchProducer.producesMissingCellValue(m_source, params);
+            if (!m_missing[row]) {
+                m_values[row] = m_batchProducer.produceLongCellValue(m_source, params);
+            }
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final LongToDataCellConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                cells[row][column] = m_missing[row] ? new MissingCell(null) : converter.convertLong(m_values[row]);
+            }
+        }
     }
 
     private final class BooleanMapper extends Mapper<PP, //
             TypedCellValueProducerFactory<S, ?, ?, PP, BooleanCellValueProducer<S, PP>>, //
             TypedJavaToDataCellConverterFactory<?, BooleanToDataCellConverter>> {
 
+        private BooleanCellValueProducer<S, PP> m_batchProducer;
+
+        private BooleanToDataCellConverter m_batchConverter;
+
+        private boolean[] m_values;
+
         private BooleanMapper(
             final TypedCellValueProducerFactory<S, ?, ?, PP, BooleanCellValueProducer<S, PP>> producerFactory,
             final TypedJavaToDataCellConverterFactory<?, BooleanToDataCellConverter> converterFactory) {
@@ -308,12 +504,42 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertBoolean(producer.produceBooleanCellValue(m_source, params));
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new boolean[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_missing[row] = m_batchProducer.producesMissingCellValue(m_source, params);
+            if (!m_missing[row]) {
+                m_values[row] = m_batchProducer.produceBooleanCellValue(m_source, params);
+            }
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final BooleanToDataCellConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                cells[row][column] = m_missing[row] ? new MissingCell(null) : converter.convertBoolean(m_values[row]);
+            }
+        }
     }
 
     private final class FloatMapper extends Mapper<PP, //
             TypedCellValueProducerFactory<S, ?, ?, PP, FloatCellValueProducer<S, PP>>, //
             TypedJavaToDataCellConverterFactory<?, FloatToDataCellConverter>> {
 
+        private FloatCellValueProducer<S, PP> m_batchProducer;
+
+        private FloatToDataCellConverter m_batchConverter;
+
+        private float[] m_values;
+
         private FloatMapper(
             final TypedCellValueProducerFactory<S, ?, ?, PP, FloatCellValueProducer<S, PP>> producerFactory,
             final TypedJavaToDataCellConverterFactory<?, FloatToDataCellConverter> converterFactory) {
@@ -330,12 +556,42 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertFloat(producer.produceFloatCellValue(m_source, params));
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new float[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_missing[row] = m_batchProducer.producesMissingCellValue(m_source, params);
+            if (!m_missing[row]) {
+                m_values[row] = m_batchProducer.produceFloatCellValue(m_source, params);
+            }
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final FloatToDataCellConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                cells[row][column] = m_missing[row] ? new MissingCell(null) : converter.convertFloat(m_values[row]);
+            }
+        }
     }
 
     private final class ByteMapper extends Mapper<PP, //
             TypedCellValueProducerFactory<S, ?, ?, PP, ByteCellValueProducer<S, PP>>, //
             TypedJavaToDataCellConverterFactory<?, ByteToDataCellConverter>> {
 
+        private ByteCellValueProducer<S, PP> m_batchProducer;
+
+        private ByteToDataCellConverter m_batchConverter;
+
+        private byte[] m_values;
+
         private ByteMapper(
             final TypedCellValueProducerFactory<S, ?, ?, PP, ByteCellValueProducer<S, PP>> producerFactory,
             final TypedJavaToDataCellConverterFactory<?, ByteToDataCellConverter> converterFactory) {
@@ -352,12 +608,42 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertByte(producer.produceByteCellValue(m_source, params));
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new byte[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_missing[row] = m_batchProducer.producesMissingCellValue(m_source, params);
+            if (!m_missing[row]) {
+                m_values[row] = m_batchProducer.produceByteCellValue(m_source, params);
+            }
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final ByteToDataCellConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                cells[row][column] = m_missing[row] ? new MissingCell(null) : converter.convertByte(m_values[row]);
+            }
+        }
     }
 
     private final class ShortMapper extends Mapper<PP, //
             TypedCellValueProducerFactory<S, ?, ?, PP, ShortCellValueProducer<S, PP>>, //
             TypedJavaToDataCellConverterFactory<?, ShortToDataCellConverter>> {
 
+        private ShortCellValueProducer<S, PP> m_batchProducer;
+
+        private ShortToDataCellConverter m_batchConverter;
+
+        private short[] m_values;
+
         private ShortMapper(
             final TypedCellValueProducerFactory<S, ?, ?, PP, ShortCellValueProducer<S, PP>> producerFactory,
             final TypedJavaToDataCellConverterFactory<?, ShortToDataCellConverter> converterFactory) {
@@ -374,12 +660,42 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertShort(producer.produceShortCellValue(m_source, params));
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new short[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_missing[row] = m_batchProducer.producesMissingCellValue(m_source, params);
+            if (!m_missing[row]) {
+                m_values[row] = m_batchProducer.produceShortCellValue(m_source, params);
+            }
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final ShortToDataCellConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                cells[row][column] = m_missing[row] ? new MissingCell(null) : converter.convertShort(m_values[row]);
+            }
+        }
     }
 
     private final class CharMapper extends Mapper<PP, //
             TypedCellValueProducerFactory<S, ?, ?, PP, CharCellValueProducer<S, PP>>, //
             TypedJavaToDataCellConverterFactory<?, CharToDataCellConverter>> {
 
+        private CharCellValueProducer<S, PP> m_batchProducer;
+
+        private CharToDataCellConverter m_batchConverter;
+
+        private char[] m_values;
+
         private CharMapper(
             final TypedCellValueProducerFactory<S, ?, ?, PP, CharCellValueProducer<S, PP>> producerFactory,
             final TypedJavaToDataCellConverterFactory<?, CharToDataCellConverter> converterFactory) {
@@ -396,12 +712,42 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertChar(producer.produceCharCellValue(m_source, params));
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new char[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_missing[row] = m_batchProducer.producesMissingCellValue(m_source, params);
+            if (!m_missing[row]) {
+                m_values[row] = m_batchProducer.produceCharCellValue(m_source, params);
+            }
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final CharToDataCellConverter converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                cells[row][column] = m_missing[row] ? new MissingCell(null) : converter.convertChar(m_values[row]);
+            }
+        }
     }
 
     private final class ObjectMapper extends Mapper<PP, //
             CellValueProducerFactory<S, ?, ?, PP>, //
             JavaToDataCellConverterFactory<?>> {
 
+        private CellValueProducer<S, ?, PP> m_batchProducer;
+
+        private JavaToDataCellConverter<?> m_batchConverter;
+
+        private Object[] m_values;
+
         private ObjectMapper(final CellValueProducerFactory<S, ?, ?, PP> producerFactory,
             final JavaToDataCellConverterFactory<?> converterFactory) {
             super(producerFactory, converterFactory);
@@ -418,6 +764,30 @@ protected final DataCell map(final PP params) throws Exception {
                 return converter.convertUnsafe(value);
             }
         }
+
+        @Override
+        protected void allocate(final int capacity) {
+            super.allocate(capacity);
+            m_batchProducer = m_producerFactory.create();
+            m_batchConverter = m_converterFactory.create(m_fileStoreFactory);
+            m_values = new Object[capacity];
+        }
+
+        @Override
+        protected void read(final PP params, final int row) throws Exception {
+            m_values[row] = m_batchProducer.produceCellValue(m_source, params);
+        }
+
+        @Override
+        protected void convert(final DataCell[][] cells, final int column, final int count) throws Exception {
+            final JavaToDataCellConverter<?> converter = m_batchConverter;
+            for (int row = 0; row < count; row++) {
+                final Object value = m_values[row];
+                cells[row][column] = value == null ? new MissingCell(null) : converter.convertUnsafe(value);
+                // release the value, it is not needed anymore
+                m_values[row] = null;
+            }
+        }
     }
 
     private abstract static class Mapper<PP extends ProducerParameters<?>, //
@@ -428,11 +798,25 @@ protected final DataCell map(final PP params) throws Exception {
 
         protected final C m_converterFactory;
 
+        /** Whether the value of a batch row is missing, not used by all mappers. */
+        protected boolean[] m_missing;
+
         private Mapper(final P producerFactory, final C converterFactory) {
             m_producerFactory = producerFactory;
             m_converterFactory = converterFactory;
         }
 
         protected abstract DataCell map(PP params) throws Exception;
+
+        /** Creates the producer and converter for batch processing and allocates the buffers. */
+        protected void allocate(final int capacity) {
+            m_missing = new boolean[capacity];
+        }
+
+        /** Reads the value of a batch row into the buffer. */
+        protected abstract void read(PP params, int row) throws Exception;
+
+        /** Converts the buffered values into the cells of the given column. */
+        protected abstract void convert(DataCell[][] cells, int column, int count) throws Exception;
     }
 }
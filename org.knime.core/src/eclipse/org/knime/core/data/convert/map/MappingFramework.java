@@ -267,6 +267,26 @@ private MappingFramework() {
         return new DefaultDataRowProducer<>(source, mapping, fileStoreFactory);
     }
 
+    /**
+     * Creates a {@link DataRowBatchProducer} that allows to produce data rows in batches from a given
+     * {@link Source source} using a given {@link ProductionPath mapping}.
+     *
+     * @param fileStoreFactory {@link FileStoreFactory} which may be used for creating {@link CellFactory}s.
+     * @param source The source from which to create data rows.
+     * @param mapping Per-{@link DataCell cell} production paths that describe the mapping from source to data cell.
+     * @param batchCapacity The maximum number of rows per batch.
+     *
+     * @param <S> Type of the source from which to create data rows.
+     * @param <PP> Producer parameters subclass. Specific to the source.
+     * @return The data row batch producer for the given source and the given mapping.
+     * @since 4.2
+     */
+    public static <S extends Source<?>, PP extends ProducerParameters<S>> DataRowBatchProducer<PP>
+        createDataRowBatchProducer(final FileStoreFactory fileStoreFactory, final S source,
+            final ProductionPath[] mapping, final int batchCapacity) {
+        return new DefaultDataRowProducer<>(source, mapping, fileStoreFactory, batchCapacity);
+    }
+
     /**
      * Map a row of input data from the given source to a {@link DataRow}.
      *
@@ -346,6 +366,24 @@ public static <S extends Source<?>, PP extends ProducerParameters<S>> DataRow ma
         return new DefaultDataRowConsumer<>(destination, mapping);
     }
 
+    /**
+     * Creates a {@link DataRowBatchConsumer} that allows to write data rows in batches to a given
+     * {@link Destination destination} using a given {@link ConsumptionPath mapping}.
+     *
+     * @param <D> Type of the destination to which to write data rows.
+     * @param <CP> Consumer parameters subclass. Specific to the destination.
+     * @param destination The destination to which to write data rows.
+     * @param mapping Per-{@link DataCell cell} consumption paths that describe the mapping from data cell to
+     *            destination.
+     * @param batchCapacity The maximum number of rows per batch.
+     * @return The data row batch consumer for the given destination and the given mapping.
+     * @since 4.2
+     */
+    public static <D extends Destination<?>, CP extends ConsumerParameters<D>> DataRowBatchConsumer<CP>
+        createDataRowBatchConsumer(final D destination, final ConsumptionPath[] mapping, final int batchCapacity) {
+        return new DefaultDataRowConsumer<>(destination, mapping, batchCapacity);
+    }
+
     /**
      * Map data from a {@link DataRow} to an external storage.
      *
@@ -51,6 +51,7 @@
 import java.text.NumberFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -62,6 +63,10 @@
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -76,7 +81,9 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -96,6 +103,26 @@ abstract class AbstractTableSorter {
      */
     public static final int DEF_MAX_OPENCONTAINER = 40;
 
+    /**
+     * The default maximum number of threads used to sort chunks and merge temporary tables. See
+     * {@link #setMaxThreads(int)} for details.
+     *
+     * @since 4.2
+     */
+    public static final int DEF_MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /** The minimum number of rows sorted by a single thread when a chunk is sorted in parallel. */
+    private static final int MIN_ROWS_PER_SORT_TASK = 10000;
+
+    /** Runs the sorting and merging tasks; shares its threads with the global thread pool. */
+    private final ThreadPool m_executor = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(DEF_MAX_THREADS);
+
+    /**
+     * Temporary containers may be created, closed, and cleared by concurrent merges. As the execution context's local
+     * table repository is not thread-safe, these operations are synchronized on this lock.
+     */
+    private final Object m_containerLock = new Object();
+
     private MemoryAlertSystem m_memService = MemoryAlertSystem.getInstance();
 
     private final DataTable m_inputTable;
@@ -109,6 +136,14 @@ abstract class AbstractTableSorter {
      */
     private int m_maxOpenContainers = DEF_MAX_OPENCONTAINER;
 
+    /**
+     * The maximal number of threads used to sort chunks and merge temporary tables.
+     */
+    private int m_maxThreads = DEF_MAX_THREADS;
+
+    /** Whether to compare rows by their normalized keys if the row comparator supports them. */
+    private boolean m_useNormalizedKeys = true;
+
     /**
      * Maximum number of rows. Only changed in unit test. Defaults to {@link Integer#MAX_VALUE}.
      */
@@ -360,6 +395,72 @@ public void setMaxOpenContainers(final int value) {
         m_maxOpenContainers = value;
     }
 
+    /**
+     * Get the maximum number of threads used for sorting. See {@link #setMaxThreads(int)} for details.
+     *
+     * @return the maximum number of threads
+     * @since 4.2
+     */
+    public int getMaxThreads() {
+        return m_maxThreads;
+    }
+
+    /**
+     * Changes the maximum number of threads used for sorting. Chunks of the input table are sorted by up to this many
+     * threads, and if more temporary tables need to be merged than {@link #getMaxOpenContainers()} allows, up to this
+     * many merges run concurrently (with a reduced number of tables each, such that the total number of open
+     * containers still adheres to the limit). The threads are taken from the
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}.
+     *
+     * <p>
+     * The default is the number of available processors. A value of 1 disables parallel sorting.
+     *
+     * @param value the maximum number of threads
+     * @throws IllegalArgumentException If argument is smaller than 1.
+     * @since 4.2
+     */
+    public void setMaxThreads(final int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + value);
+        }
+        m_maxThreads = value;
+        m_executor.setMaxThreads(value);
+    }
+
+    /**
+     * @return whether rows are compared by their normalized keys, see {@link #setUseNormalizedKeys(boolean)}
+     * @since 4.2
+     */
+    public boolean isUseNormalizedKeys() {
+        return m_useNormalizedKeys;
+    }
+
+    /**
+     * Sets whether rows are compared by their normalized keys (see {@link RowComparator#createNormalizedKey(DataRow)})
+     * when sorting the chunks in memory and when merging them. Normalized keys are only used if the row comparator is a
+     * {@link RowComparator} that {@link RowComparator#supportsNormalizedKeys() supports} them, which is the case if
+     * the table is sorted by the row key and/or int, long, double, or string columns. The result of the sorting is the
+     * same either way. The keys are held in memory along with the rows of a chunk, i.e. chunks written to disk are
+     * smaller. Default is <code>true</code>.
+     *
+     * @param value whether to use normalized keys
+     * @since 4.2
+     */
+    public void setUseNormalizedKeys(final boolean value) {
+        m_useNormalizedKeys = value;
+    }
+
+    /**
+     * @return the row comparator if rows are to be compared by their normalized keys, otherwise <code>null</code>
+     */
+    private RowComparator getNormalizedKeyComparator() {
+        if (m_useNormalizedKeys && m_rowComparator instanceof RowComparator
+            && ((RowComparator)m_rowComparator).supportsNormalizedKeys()) {
+            return (RowComparator)m_rowComparator;
+        }
+        return null;
+    }
+
     /**
      * Set the maximum number of rows per chunk, defaults to {@link Integer#MAX_VALUE}. This field is modified from the
      * testing framework.
@@ -431,6 +532,8 @@ DataTable sortInternal(final ExecutionMonitor exec) throws CanceledExecutionExce
     private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecutionException {
         final DataTable dataTable = m_inputTable;
         List<DataRow> rowList = new ArrayList<DataRow>();
+        final RowComparator keyComparator = getNormalizedKeyComparator();
+        final List<byte[]> keys = keyComparator != null ? new ArrayList<>() : null;
 
         int progress = 0;
         final long rowCount = m_rowsInInputTable;
@@ -444,6 +547,9 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
                 readExec.setMessage(r.getKey() + " (row " + progress + ")");
             }
             rowList.add(r);
+            if (keys != null) {
+                keys.add(keyComparator.createNormalizedKey(r));
+            }
             progress++;
         }
         // if there is 0 or 1 row only, return immediately (can't rely on
@@ -453,7 +559,7 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        sortBuffer(rowList, keys);
 
         exec.setMessage("Creating sorted table");
 
@@ -549,6 +655,11 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
                 }
             }
 
+            if (m_chunksContainer.size() > m_maxOpenContainers && m_maxThreads > 1) {
+                mergeLevelInParallel(exec);
+                continue;
+            }
+
             Queue<MergeEntry> containersToMerge = new ArrayDeque<>();
 
             for (int i = 0; !m_chunksContainer.isEmpty() && i < m_maxOpenContainers; i++) {
@@ -580,11 +691,252 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
         return Collections.<DataRow>emptyList().iterator();
     }
 
+    /**
+     * Merges all current chunks into fewer chunks by running several k-way merges concurrently. The number of chunks
+     * per merge is reduced such that no more than {@link #m_maxOpenContainers} chunks are read at the same time. The
+     * order of chunks is retained, which keeps the sort stable.
+     *
+     * @param exec execution monitor for cancellation and progress
+     * @throws CanceledExecutionException if the algorithm has been canceled
+     */
+    private void mergeLevelInParallel(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int nrChunks = m_chunksContainer.size();
+        final int nrConcurrentMerges =
+            Math.min(m_maxThreads, (nrChunks + m_maxOpenContainers - 1) / m_maxOpenContainers);
+        final int chunksPerMerge = Math.max(2, m_maxOpenContainers / nrConcurrentMerges);
+        final int nrMerges = (nrChunks + chunksPerMerge - 1) / chunksPerMerge;
+        LOGGER.debugWithFormat("Merging %d temporary tables into %d tables using %d threads", nrChunks, nrMerges,
+            nrConcurrentMerges);
+
+        final List<Callable<Iterable<DataRow>>> tasks = new ArrayList<>(nrMerges);
+        for (int i = 0; i < nrMerges; i++) {
+            // distribute the chunks evenly
+            final int size = nrChunks / nrMerges + (i < nrChunks % nrMerges ? 1 : 0);
+            final List<Iterable<DataRow>> chunks = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                chunks.add(m_chunksContainer.poll());
+            }
+            tasks.add(size == 1 ? () -> chunks.get(0) : () -> mergeIntoChunk(chunks, exec));
+        }
+
+        m_chunksContainer.addAll(runInParallel(m_executor.createSubPool(nrConcurrentMerges), tasks));
+        if (m_rowsInInputTable > 0) {
+            m_progress += nrMerges * m_incProgress;
+            exec.setProgress(m_progress);
+        }
+    }
+
+    /**
+     * Merges the given sorted chunks into a new chunk.
+     *
+     * @param chunks the chunks to merge, in the order of the input table
+     * @param exec execution monitor for cancellation
+     * @return the merged chunk
+     * @throws CanceledExecutionException if the algorithm has been canceled
+     */
+    private DataTable mergeIntoChunk(final List<Iterable<DataRow>> chunks, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final Queue<MergeEntry> containersToMerge = new ArrayDeque<>(chunks.size());
+        for (Iterable<DataRow> chunk : chunks) {
+            containersToMerge.add(new MergeEntry(chunk, containersToMerge.size(), m_rowComparator));
+        }
+        final MergingIterator mergingIterator = new MergingIterator(containersToMerge);
+        final DataContainer container;
+        synchronized (m_containerLock) {
+            container = createDataContainer(m_dataTableSpec, true);
+        }
+        container.setMaxPossibleValues(0);
+        try {
+            while (mergingIterator.hasNext()) {
+                container.addRowToTable(mergingIterator.next());
+                exec.checkCanceled();
+            }
+        } finally {
+            synchronized (m_containerLock) {
+                container.close();
+            }
+        }
+        return container.getTable();
+    }
+
+    /**
+     * Sorts the argument list according to the row comparator, or by the normalized keys of the rows if given. Large
+     * lists are split into slices that are sorted by different threads and subsequently merged pairwise (again in
+     * parallel).
+     *
+     * @param buffer the list to sort
+     * @param keys the normalized keys of the rows in the list (same order, left unchanged), or <code>null</code> to
+     *            compare rows using the row comparator. The keys are created while the rows are read, so that the
+     *            memory they occupy is taken into account by the low memory detection.
+     * @throws CanceledExecutionException if the algorithm has been canceled
+     */
+    private void sortBuffer(final List<DataRow> buffer, final List<byte[]> keys) throws CanceledExecutionException {
+        final int size = buffer.size();
+        if (keys == null) {
+            final DataRow[] sorted = sort(buffer.toArray(new DataRow[size]), m_rowComparator);
+            for (int i = 0; i < size; i++) {
+                buffer.set(i, sorted[i]);
+            }
+            return;
+        }
+        final KeyedRow[] rows = new KeyedRow[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new KeyedRow(buffer.get(i), keys.get(i));
+        }
+        final KeyedRow[] sorted = sort(rows, KeyedRow.COMPARATOR);
+        for (int i = 0; i < size; i++) {
+            buffer.set(i, sorted[i].m_row);
+        }
+    }
+
+    /**
+     * Stable sort of the argument array, in parallel if it is large enough.
+     *
+     * @return the sorted elements, either the argument array or a new array
+     */
+    private <T> T[] sort(final T[] items, final Comparator<? super T> comparator) throws CanceledExecutionException {
+        final int size = items.length;
+        final int nrSlices = Math.min(m_maxThreads, size / MIN_ROWS_PER_SORT_TASK);
+        if (nrSlices < 2) {
+            Arrays.sort(items, comparator);
+            return items;
+        }
+
+        int[] bounds = new int[nrSlices + 1];
+        for (int i = 0; i <= nrSlices; i++) {
+            bounds[i] = (int)((long)size * i / nrSlices);
+        }
+        final int[] sliceBounds = bounds;
+        final List<Callable<Void>> sortTasks = new ArrayList<>(nrSlices);
+        for (int i = 0; i < nrSlices; i++) {
+            final int slice = i;
+            sortTasks.add(() -> {
+                Arrays.sort(items, sliceBounds[slice], sliceBounds[slice + 1], comparator);
+                return null;
+            });
+        }
+        runInParallel(m_executor, sortTasks);
+
+        T[] src = items;
+        T[] dst = items.clone();
+        int nrRuns = nrSlices;
+        while (nrRuns > 1) {
+            final int nrMergedRuns = (nrRuns + 1) / 2;
+            final int[] mergedBounds = new int[nrMergedRuns + 1];
+            final List<Callable<Void>> mergeTasks = new ArrayList<>(nrMergedRuns);
+            for (int i = 0; i < nrMergedRuns; i++) {
+                final int from = bounds[2 * i];
+                final int mid = bounds[Math.min(2 * i + 1, nrRuns)];
+                final int to = bounds[Math.min(2 * i + 2, nrRuns)];
+                mergedBounds[i] = from;
+                final T[] mergeSrc = src;
+                final T[] mergeDst = dst;
+                mergeTasks.add(() -> {
+                    merge(mergeSrc, from, mid, to, mergeDst, comparator);
+                    return null;
+                });
+            }
+            mergedBounds[nrMergedRuns] = size;
+            runInParallel(m_executor, mergeTasks);
+            final T[] tmp = src;
+            src = dst;
+            dst = tmp;
+            bounds = mergedBounds;
+            nrRuns = nrMergedRuns;
+        }
+        return src;
+    }
+
+    /**
+     * Merges the two sorted ranges [from, mid) and [mid, to) of the source array into the same range of the
+     * destination array. Elements of the first range come first if elements are equal.
+     */
+    private static <T> void merge(final T[] src, final int from, final int mid, final int to, final T[] dst,
+        final Comparator<? super T> comparator) {
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && comparator.compare(src[left], src[right]) <= 0)) {
+                dst[i] = src[left++];
+            } else {
+                dst[i] = src[right++];
+            }
+        }
+    }
+
+    /** A row along with its normalized key. */
+    private static final class KeyedRow {
+
+        static final Comparator<KeyedRow> COMPARATOR =
+            (r1, r2) -> RowComparator.compareNormalizedKeys(r1.m_key, r2.m_key);
+
+        private final DataRow m_row;
+
+        private final byte[] m_key;
+
+        KeyedRow(final DataRow row, final byte[] key) {
+            m_row = row;
+            m_key = key;
+        }
+    }
+
+    /**
+     * Runs the argument tasks in the given pool and waits for their completion. If the calling thread is taken out of
+     * a thread pool, it waits invisibly, i.e. it does not hold a slot of the pool the tasks may need.
+     *
+     * @param pool the pool to run the tasks in
+     * @param tasks the tasks to run
+     * @param <T> the result type of the tasks
+     * @return the results of the tasks (in the same order)
+     * @throws CanceledExecutionException if any of the tasks has been canceled or the calling thread is interrupted
+     */
+    private static <T> List<T> runInParallel(final ThreadPool pool, final List<Callable<T>> tasks)
+        throws CanceledExecutionException {
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        final Callable<List<T>> waitForResults = () -> {
+            final List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        };
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(pool.enqueue(task));
+            }
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            return currentPool != null ? currentPool.runInvisible(waitForResults) : waitForResults.call();
+        } catch (Exception e) { // NOSONAR, exceptions of the tasks are unwrapped below
+            futures.stream().forEach(f -> f.cancel(true));
+            Throwable cause = e;
+            // exceptions of the tasks are wrapped by Future#get and possibly again by ThreadPool#runInvisible
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Execution has been interrupted!");
+            } else if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof CancellationException) {
+                throw new CanceledExecutionException("Execution has been canceled!");
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
     private long createInitialChunks(final ExecutionMonitor exec, final DataTable dataTable)
         throws CanceledExecutionException {
         long outerCounter;
         long counter = 0;
         ArrayList<DataRow> buffer = new ArrayList<DataRow>();
+        final RowComparator keyComparator = getNormalizedKeyComparator();
+        // the normalized keys of the rows in the buffer, if rows are compared by these
+        final List<byte[]> keys = keyComparator != null ? new ArrayList<>() : null;
         long chunkStartRow = 0;
         int rowsInCurrentChunk = 0;
 
@@ -604,6 +956,9 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
             }
             DataRow row = iter.next();
             buffer.add(row);
+            if (keys != null) {
+                keys.add(keyComparator.createNormalizedKey(row));
+            }
             if ((memObservable.lowMemoryActionRequired() && (rowsInCurrentChunk >= m_maxOpenContainers))
                 || (counter % m_maxRowsPerChunk == 0)) {
                 LOGGER.debug("Writing chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
@@ -613,7 +968,10 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
                 }
                 exec.setMessage("Sorting temporary buffer");
                 // sort buffer
-                Collections.sort(buffer, m_rowComparator);
+                sortBuffer(buffer, keys);
+                if (keys != null) {
+                    keys.clear();
+                }
                 // write buffer to disk
                 openChunk();
                 final int totalBufferSize = buffer.size();
@@ -640,7 +998,7 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
             // sort buffer
-            Collections.sort(buffer, m_rowComparator);
+            sortBuffer(buffer, keys);
             m_chunksContainer.add(buffer);
         }
         outerCounter = counter;
@@ -706,6 +1064,12 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
 
         private Comparator<DataRow> m_comparator;
 
+        /** The comparator creating the normalized keys, null if rows are compared by the comparator. */
+        private final RowComparator m_keyComparator;
+
+        /** The normalized key of the current row (if any). */
+        private byte[] m_key;
+
         /**
          * @param iterator
          * @param index
@@ -715,17 +1079,21 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
             m_iterable = iterable;
             m_index = index;
             m_comparator = comparator;
+            m_keyComparator = getNormalizedKeyComparator();
         }
 
         private void open() {
             if (m_iterator == null) {
                 m_iterator = m_iterable.iterator();
-                if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
-                }
+                setRow(m_iterator.hasNext() ? m_iterator.next() : null);
             }
         }
 
+        private void setRow(final DataRow row) {
+            m_row = row;
+            m_key = row != null && m_keyComparator != null ? m_keyComparator.createNormalizedKey(row) : null;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -734,7 +1102,9 @@ public boolean hasNext() {
             // open the file lazily
             if (m_row == null) {
                 if (m_iterable instanceof DataTable) {
-                    clearTable((DataTable)m_iterable);
+                    synchronized (m_containerLock) {
+                        clearTable((DataTable)m_iterable);
+                    }
                 }
                 return false;
             }
@@ -751,7 +1121,7 @@ public DataRow next() {
                 throw new NoSuchElementException();
             }
             DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            setRow(m_iterator.hasNext() ? m_iterator.next() : null);
             return toReturn;
         }
 
@@ -768,7 +1138,9 @@ public void remove() {
          */
         @Override
         public int compareTo(final MergeEntry that) {
-            int value = m_comparator.compare(this.m_row, that.m_row);
+            int value = this.m_key != null && that.m_key != null
+                ? RowComparator.compareNormalizedKeys(this.m_key, that.m_key)
+                : m_comparator.compare(this.m_row, that.m_row);
             if (value == 0) {
                 return this.m_index - that.m_index;
             } else {
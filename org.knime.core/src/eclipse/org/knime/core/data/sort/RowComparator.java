@@ -48,17 +48,32 @@
  */
 package org.knime.core.data.sort;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.DoubleValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.IntValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.LongValueComparator;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.StringValueComparator;
 
 /**
  * The RowComparator is used to compare two DataRows. It implements the Comparator-interface, so we can use the
  * Arrays.sort method to sort an array of DataRows.
  *
+ * <p>
+ * If all sort criteria are the row key or columns compared as int, long, double, or string values, the comparator can
+ * additionally create <em>normalized keys</em> for rows (see {@link #createNormalizedKey(DataRow)}). Sorting rows by
+ * their normalized keys yields the same order as sorting them with this comparator, but only requires the key to be
+ * extracted once per row and each comparison to be a plain comparison of byte arrays.
+ *
  * @since 4.1 made public for the use in the Element Selector node
  */
 public final class RowComparator implements Comparator<DataRow> {
@@ -84,6 +99,11 @@ public final class RowComparator implements Comparator<DataRow> {
      */
     private final boolean m_sortMissingsToEnd;
 
+    /**
+     * The kind of normalized key for each sort criterion, <code>null</code> if normalized keys are not supported.
+     */
+    private final KeyKind[] m_keyKinds;
+
     /**
      * @param indices Array of sort column indices (-1 indicates the RowKey).
      * @param sortAscending Sort order.
@@ -105,6 +125,31 @@ public RowComparator(final int[] indices, final boolean[] sortAscending, final b
         }
         m_sortAscending = sortAscending;
         m_sortMissingsToEnd = sortMissingsToEnd;
+        m_keyKinds = determineKeyKinds(indices, m_colComparators);
+    }
+
+    private static KeyKind[] determineKeyKinds(final int[] indices, final DataValueComparator[] comparators) {
+        final KeyKind[] kinds = new KeyKind[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            if (isRowKey(indices[i])) {
+                kinds[i] = KeyKind.ROW_KEY;
+                continue;
+            }
+            // only the exact classes are known to compare like their normalized keys
+            final Class<?> comparatorClass = comparators[i].getClass();
+            if (comparatorClass == IntValueComparator.class) {
+                kinds[i] = KeyKind.INT;
+            } else if (comparatorClass == LongValueComparator.class) {
+                kinds[i] = KeyKind.LONG;
+            } else if (comparatorClass == DoubleValueComparator.class) {
+                kinds[i] = KeyKind.DOUBLE;
+            } else if (comparatorClass == StringValueComparator.class) {
+                kinds[i] = KeyKind.STRING;
+            } else {
+                return null;
+            }
+        }
+        return kinds;
     }
 
     /** {@inheritDoc} */
@@ -182,4 +227,179 @@ private static int compareRowKeys(final DataRow dr1, final DataRow dr2) {
     private static boolean isRowKey(final int index) {
         return index == -1;
     }
+
+    /**
+     * Whether this comparator can create normalized keys, i.e., whether all sort criteria are the row key or columns
+     * compared as int, long, double, or string values.
+     *
+     * @return <code>true</code> if {@link #createNormalizedKey(DataRow)} can be used
+     * @since 4.2
+     */
+    public boolean supportsNormalizedKeys() {
+        return m_keyKinds != null;
+    }
+
+    /**
+     * Creates the normalized key of a row. For any two rows, comparing their normalized keys using
+     * {@link #compareNormalizedKeys(byte[], byte[])} yields the same sign as comparing the rows using
+     * {@link #compare(DataRow, DataRow)}.
+     *
+     * @param row the row
+     * @return the normalized key of the row
+     * @throws IllegalStateException if this comparator does not {@link #supportsNormalizedKeys() support} normalized
+     *             keys
+     * @since 4.2
+     */
+    public byte[] createNormalizedKey(final DataRow row) {
+        if (m_keyKinds == null) {
+            throw new IllegalStateException("Normalized keys are not supported by this comparator");
+        }
+        final KeyBuilder key = new KeyBuilder();
+        for (int i = 0; i < m_keyKinds.length; i++) {
+            int start = key.length();
+            if (m_keyKinds[i] == KeyKind.ROW_KEY) {
+                key.put(PRESENT);
+                key.putString(row.getKey().getString());
+            } else {
+                final DataCell cell = row.getCell(m_indices[i]);
+                if (cell.isMissing()) {
+                    if (m_sortMissingsToEnd) {
+                        // missing values go last, independent of the sort order
+                        key.put(MISSING_LAST);
+                        continue;
+                    }
+                    key.put(MISSING_FIRST);
+                } else {
+                    key.put(PRESENT);
+                    if (m_sortMissingsToEnd) {
+                        // only the value is subject to the sort order
+                        start = key.length();
+                    }
+                    putValue(key, m_keyKinds[i], cell);
+                }
+            }
+            if (!m_sortAscending[i]) {
+                key.invert(start);
+            }
+        }
+        return key.toByteArray();
+    }
+
+    private static void putValue(final KeyBuilder key, final KeyKind kind, final DataCell cell) {
+        switch (kind) {
+            case INT:
+                key.putInt(((IntValue)cell).getIntValue() ^ Integer.MIN_VALUE);
+                break;
+            case LONG:
+                key.putLong(((LongValue)cell).getLongValue() ^ Long.MIN_VALUE);
+                break;
+            case DOUBLE:
+                // same order as Double#compare (which also distinguishes -0.0 and 0.0 and puts NaN last)
+                final long bits = Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+                key.putLong(bits ^ ((bits >> 63) | Long.MIN_VALUE));
+                break;
+            case STRING:
+                key.putString(((StringValue)cell).getStringValue());
+                break;
+            default:
+                throw new IllegalStateException("Unsupported key kind: " + kind);
+        }
+    }
+
+    /**
+     * Compares two normalized keys created by {@link #createNormalizedKey(DataRow)} of the same comparator, i.e.,
+     * compares them lexicographically as unsigned bytes.
+     *
+     * @param key1 the first key
+     * @param key2 the second key
+     * @return a negative integer, zero, or a positive integer as the first key is less than, equal to, or greater
+     *         than the second
+     * @since 4.2
+     */
+    public static int compareNormalizedKeys(final byte[] key1, final byte[] key2) {
+        final int length = Math.min(key1.length, key2.length);
+        for (int i = 0; i < length; i++) {
+            final int b1 = key1[i] & 0xFF;
+            final int b2 = key2[i] & 0xFF;
+            if (b1 != b2) {
+                return b1 - b2;
+            }
+        }
+        return key1.length - key2.length;
+    }
+
+    /** Leading byte of a key part, distinguishing missing values; present values are sorted in between. */
+    private static final byte MISSING_FIRST = 0;
+
+    private static final byte PRESENT = 1;
+
+    private static final byte MISSING_LAST = 2;
+
+    /** The kinds of sort criteria supported by normalized keys. */
+    private enum KeyKind {
+            ROW_KEY, INT, LONG, DOUBLE, STRING;
+    }
+
+    /**
+     * Assembles a normalized key. Fixed-size values are written big-endian; strings are written as big-endian UTF-16
+     * code units, terminated by <code>0x00 0x00</code>, with zero bytes in the string escaped as <code>0x00 0xFF</code>
+     * such that no string's encoding is a prefix of another's. Therefore, the order of concatenated key parts is
+     * preserved, also after inverting the bytes of a part for descending order.
+     */
+    private static final class KeyBuilder {
+
+        private byte[] m_bytes = new byte[32];
+
+        private int m_length;
+
+        int length() {
+            return m_length;
+        }
+
+        void put(final byte b) {
+            if (m_length == m_bytes.length) {
+                m_bytes = Arrays.copyOf(m_bytes, 2 * m_length);
+            }
+            m_bytes[m_length++] = b;
+        }
+
+        void putInt(final int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                put((byte)(value >>> shift));
+            }
+        }
+
+        void putLong(final long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                put((byte)(value >>> shift));
+            }
+        }
+
+        void putString(final String value) {
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                putEscaped((byte)(c >>> 8));
+                putEscaped((byte)c);
+            }
+            put((byte)0);
+            put((byte)0);
+        }
+
+        private void putEscaped(final byte b) {
+            put(b);
+            if (b == 0) {
+                put((byte)0xFF);
+            }
+        }
+
+        void invert(final int from) {
+            for (int i = from; i < m_length; i++) {
+                m_bytes[i] = (byte)~m_bytes[i];
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(m_bytes, m_length);
+        }
+    }
 }
\ No newline at end of file
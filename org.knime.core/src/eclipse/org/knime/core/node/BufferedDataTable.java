@@ -82,6 +82,7 @@
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.container.DefaultTableStoreFormat;
 import org.knime.core.data.container.JoinedTable;
+import org.knime.core.data.container.ReadOnlyRowCursor;
 import org.knime.core.data.container.RearrangeColumnsTable;
 import org.knime.core.data.container.TableSpecReplacerTable;
 import org.knime.core.data.container.VoidTable;
@@ -349,6 +350,20 @@ public CloseableRowIterator iterator() {
         return m_delegate.iterator();
     }
 
+    /**
+     * Opens a {@link ReadOnlyRowCursor} on this table, an alternative to {@link #iterator()} for read-only scans that
+     * access the values through typed accessors. If the table is read from file, values of the built-in int, long,
+     * double, string and boolean cells are decoded into holders that are reused for all rows instead of creating a
+     * row and cells per row. Values are only valid until the cursor moves, see the class description of
+     * {@link ReadOnlyRowCursor} for the lifetime rules.
+     *
+     * @return a new cursor, to be closed if not pushed to the end
+     * @since 4.2
+     */
+    public ReadOnlyRowCursor readOnlyCursor() {
+        return ReadOnlyRowCursor.create(iterator(), getDataTableSpec().getNumColumns());
+    }
+
     /**
      * Provides a {@link CloseableDataRowIterable} that is filtered according to a given {@link TableFilter} and can be
      * iterated over. The filtering won't change this BufferedDataTable or impact subsequent calls of this method with
@@ -357,10 +357,35 @@ public BufferedDataContainer createDataContainer(final DataTableSpec spec,
      */
     public BufferedDataContainer createDataContainer(final DataTableSpec spec,
             final boolean initDomain, final int maxCellsInMemory) {
-        boolean forceCopyOfBlobs = m_node.isModelCompatibleTo(LoopEndNode.class)
+        return createDataContainer(spec, initDomain, maxCellsInMemory, false);
+    }
+
+    /**
+     * Creates a container to which rows can be added, overwriting the node's memory policy. This method has the same
+     * behavior as {@link #createDataContainer(DataTableSpec, boolean, int)} but additionally allows to force a copy of
+     * all blobs that are added to the container, see
+     * {@link org.knime.core.data.container.DataContainer#setForceCopyOfBlobs(boolean)}. The blobs are copied file by
+     * file, i.e. without deserializing them, and the container takes ownership of the copies. This is needed if the
+     * rows are taken from a table whose lifecycle is not bound to the current workflow, e.g. when a table is copied
+     * into another workflow.
+     *
+     * @param spec The spec to open the container.
+     * @param initDomain If the domain information from the argument shall be used to initialize the domain.
+     * @param maxCellsInMemory Number of cells to be kept in memory, a value smaller than 0 will respect the user
+     *            setting (as defined by the accompanying node).
+     * @param forceCopyOfBlobs Whether to copy any blob not owned by the container (this is always the case for loop
+     *            end nodes).
+     * @return A container to which rows can be added and which provides the <code>BufferedDataTable</code>.
+     * @throws NullPointerException If the spec argument is <code>null</code>.
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 4.2
+     */
+    public BufferedDataContainer createDataContainer(final DataTableSpec spec, final boolean initDomain,
+        final int maxCellsInMemory, final boolean forceCopyOfBlobs) {
+        boolean forceCopy = forceCopyOfBlobs || m_node.isModelCompatibleTo(LoopEndNode.class)
                 || m_node.isModelCompatibleTo(VirtualSubNodeOutputNodeModel.class);
         return new BufferedDataContainer(spec, initDomain, m_node,
-                m_memoryPolicy, forceCopyOfBlobs, maxCellsInMemory, m_dataRepository,
+                m_memoryPolicy, forceCopy, maxCellsInMemory, m_dataRepository,
                 m_localTableRepository, m_fileStoreHandler);
     }
 
@@ -156,6 +156,9 @@ public class FileNodePersistor implements NodePersistor {
 
     private PortObject[] m_portObjects;
 
+    /** Non-table output objects that are read on first access, see {@link #getLazyPortObject(int)}. */
+    private LazyPortObject[] m_lazyPortObjects;
+
     private PortObjectSpec[] m_portObjectSpecs;
 
     private String[] m_portObjectSummaries;
@@ -344,6 +347,7 @@ void loadPort(final Node node, final ReferencedFile portDir, final NodeSettingsR
         PortType designatedType = node.getOutputType(portIdx);
         PortObjectSpec spec = null;
         PortObject object = null;
+        LazyPortObject lazyObject = null;
         // this cannot be simplified as BDT must be loaded as BDT even if
         // the port type is not BDT (but general PortObject)
         boolean isBDT =
@@ -368,6 +372,15 @@ void loadPort(final Node node, final ReferencedFile portDir, final NodeSettingsR
             } else if (specClass != null) {
                 spec = BufferedDataTable.loadSpec(portDir);
             }
+        } else if (!isInactive && getLazyLoadableObjectClass(settings, designatedType).isPresent()) {
+            spec = readPortObjectSpec(portDir, settings);
+            // the reader must not reference this persistor, it's kept with the node
+            final PortObjectSpec objectSpec = spec;
+            final Class<? extends PortObject> objectCl = getLazyLoadableObjectClass(settings, designatedType).get();
+            final ReferencedFile objectFileRef =
+                new ReferencedFile(portDir, settings.getString("port_object_location"));
+            lazyObject = new LazyPortObject(getNodeDirectory(),
+                () -> readPortObjectFile(objectFileRef.getFile(), objectCl, objectSpec, new ExecutionMonitor()));
         } else {
             object = loadPortObject(portDir, settings, exec, dataRepository).orElse(null);
             spec = object != null ? object.getSpec() : null;
@@ -390,12 +403,33 @@ void loadPort(final Node node, final ReferencedFile portDir, final NodeSettingsR
             if (summary == null) {
                 summary = object.getSummary();
             }
+        } else if (lazyObject != null) {
+            summary = settings.getString("port_object_summary");
         }
         setPortObjectSpec(portIdx, spec);
         setPortObject(portIdx, object);
+        m_lazyPortObjects[portIdx] = lazyObject;
         setPortObjectSummary(portIdx, summary);
     }
 
+    /**
+     * Get the class of a non-table port object if it can be read on first access rather than during load. That is the
+     * case if the port content is fully described by the settings (spec, object and summary) and the object does not
+     * reference file stores (which need to be registered with the workflow while loading).
+     */
+    private Optional<Class<? extends PortObject>> getLazyLoadableObjectClass(final NodeSettingsRO settings,
+        final PortType designatedType) throws InvalidSettingsException {
+        final String specClass = settings.getString("port_spec_class");
+        final String objectClass = loadPortObjectClassName(settings);
+        if (specClass == null || objectClass == null || settings.getString("port_object_summary", null) == null) {
+            return Optional.empty();
+        }
+        // unknown or unexpected classes are read right away so that problems are reported as load errors
+        return PortTypeRegistry.getInstance().getObjectClass(objectClass)
+            .filter(cl -> designatedType.getPortObjectClass().isAssignableFrom(cl))
+            .filter(cl -> !FileStorePortObject.class.isAssignableFrom(cl));
+    }
+
     /**
      * @param portDir
      * @param settings
@@ -411,9 +445,17 @@ private Optional<PortObject> loadPortObject(final ReferencedFile portDir, final
         final ExecutionMonitor exec, final WorkflowDataRepository dataRepository)
             throws IOException, InvalidSettingsException, FileNotFoundException, CanceledExecutionException {
         exec.setMessage("Loading port object");
+        final PortObjectSpec spec = readPortObjectSpec(portDir, settings);
+        if (spec == null || loadPortObjectClassName(settings) == null) {
+            return Optional.empty();
+        }
+        return readPortObject(portDir, settings, spec, exec, dataRepository);
+    }
+
+    /** Reads the spec of a non-table port object, returns null if the settings don't reference a spec. */
+    private static PortObjectSpec readPortObjectSpec(final ReferencedFile portDir, final NodeSettingsRO settings)
+        throws IOException, InvalidSettingsException {
         final String specClass = settings.getString("port_spec_class");
-        final String objectClass = loadPortObjectClassName(settings);
-        PortObject object = null;
         PortObjectSpec spec = null;
         if (specClass != null) {
             Class<? extends PortObjectSpec> cl = PortTypeRegistry.getInstance().getSpecClass(specClass)
@@ -433,20 +475,21 @@ private Optional<PortObject> loadPortObject(final ReferencedFile portDir, final
                 }
             }
         }
-        if (spec != null && objectClass != null) {
+        return spec;
+    }
+
+    /** Reads a non-table port object whose spec has been read already. */
+    private Optional<PortObject> readPortObject(final ReferencedFile portDir, final NodeSettingsRO settings,
+        final PortObjectSpec spec, final ExecutionMonitor exec, final WorkflowDataRepository dataRepository)
+        throws IOException, InvalidSettingsException, CanceledExecutionException {
+        final String objectClass = loadPortObjectClassName(settings);
+        PortObject object = null;
+        if (objectClass != null) {
             Class<? extends PortObject> cl = PortTypeRegistry.getInstance().getObjectClass(objectClass)
                     .orElseThrow(() -> new IOException("Invalid object class \"" + objectClass + "\""));
             ReferencedFile objectFileRef = new ReferencedFile(portDir, settings.getString("port_object_location"));
             File objectFile = objectFileRef.getFile();
-            if (!objectFile.isFile()) {
-                throw new IOException("Can't read file " + objectFile.getAbsolutePath());
-            }
-            // buffering both disc I/O and the gzip stream pays off
-            try (PortObjectZipInputStream in = PortUtil.getPortObjectZipInputStream(
-                new BufferedInputStream(new FileInputStream(objectFile)))) {
-                PortObjectSerializer<?> serializer = PortTypeRegistry.getInstance().getObjectSerializer(cl).get();
-                object = serializer.loadPortObject(in, spec, exec);
-            }
+            object = readPortObjectFile(objectFile, cl, spec, exec);
             if (object instanceof FileStorePortObject) {
                 File fileStoreXML = new File(objectFile.getParent(), "filestore.xml");
                 final ModelContentRO fileStoreModelContent =
@@ -470,6 +513,20 @@ private Optional<PortObject> loadPortObject(final ReferencedFile portDir, final
         return Optional.ofNullable(object);
     }
 
+    /** Reads a port object from its file, used for both immediate and {@linkplain LazyPortObject lazy} reads. */
+    private static PortObject readPortObjectFile(final File objectFile, final Class<? extends PortObject> cl,
+        final PortObjectSpec spec, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        if (!objectFile.isFile()) {
+            throw new IOException("Can't read file " + objectFile.getAbsolutePath());
+        }
+        // buffering both disc I/O and the gzip stream pays off
+        try (PortObjectZipInputStream in = PortUtil.getPortObjectZipInputStream(
+            new BufferedInputStream(new FileInputStream(objectFile)))) {
+            PortObjectSerializer<?> serializer = PortTypeRegistry.getInstance().getObjectSerializer(cl).get();
+            return serializer.loadPortObject(in, spec, exec);
+        }
+    }
+
     private BufferedDataTable loadBufferedDataTable(final ReferencedFile objectDir, final ExecutionMonitor exec,
         final Map<Integer, BufferedDataTable> loadTblRep, final WorkflowDataRepository dataRepository)
         throws CanceledExecutionException, IOException, InvalidSettingsException {
@@ -952,6 +1009,7 @@ public final void load(final Node node, final WorkflowPersistor parentPersistor,
         ExecutionMonitor loadIntTblsExec = exec.createSilentSubProgress(0.2);
         exec.setMessage("settings");
         m_portObjects = new PortObject[node.getNrOutPorts()];
+        m_lazyPortObjects = new LazyPortObject[node.getNrOutPorts()];
         m_portObjectSpecs = new PortObjectSpec[node.getNrOutPorts()];
         m_portObjectSummaries = new String[node.getNrOutPorts()];
         String nodeName = node.getName();
@@ -1064,9 +1122,23 @@ public PortObject getPortObject(final int outportIndex) {
                 return FlowVariablePortObject.INSTANCE;
             }
         }
+        if (m_portObjects[outportIndex] == null && m_lazyPortObjects[outportIndex] != null) {
+            return m_lazyPortObjects[outportIndex].get();
+        }
         return m_portObjects[outportIndex];
     }
 
+    /**
+     * Get the handle on an output object that is read on first access. {@link #getPortObject(int)} resolves such
+     * handles, {@link Node} keeps the handle instead so that the object is not read during load.
+     *
+     * @param outportIndex The outport index.
+     * @return the handle or null if the port object (if any) was read during load
+     */
+    LazyPortObject getLazyPortObject(final int outportIndex) {
+        return outportIndex == 0 ? null : m_lazyPortObjects[outportIndex];
+    }
+
     /**
      * @param idx The outport index.
      * @param portObject the portObjects to set
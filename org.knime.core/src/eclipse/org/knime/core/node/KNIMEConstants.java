@@ -73,6 +73,7 @@
 import org.knime.core.eclipseUtil.OSGIHelper;
 import org.knime.core.internal.ConfigurationAreaChecker;
 import org.knime.core.internal.KNIMEPath;
+import org.knime.core.util.ForkJoinThreadPool;
 import org.knime.core.util.ThreadPool;
 import org.osgi.framework.Bundle;
 
@@ -110,6 +111,31 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_MAX_THREAD_COUNT = "org.knime.core.maxThreads";
 
+    /**
+     * Java property name to specify the maximum number of threads that execute I/O-bound nodes, see
+     * {@link org.knime.core.node.exec.IOThreadNodeExecutionJobManager}. Defaults to 256.
+     *
+     * @since 4.2
+     */
+    public static final String PROPERTY_MAX_IO_THREAD_COUNT = "org.knime.core.maxIOThreads";
+
+    /**
+     * Java property name to specify how many node settings files are parsed concurrently when a workflow is loaded
+     * and how many directories of native nodes are written concurrently when it is saved. Defaults to 1, i.e.
+     * concurrent reading and writing is disabled; values larger than 1 enable it (e.g. 8 on fast storage).
+     *
+     * @since 4.2
+     */
+    public static final String PROPERTY_WORKFLOW_IO_THREADS = "knime.workflow.io.threads";
+
+    /**
+     * Java property to run the jobs of the {@link #GLOBAL_THREAD_POOL global thread pool} on a work-stealing
+     * fork/join pool, see {@link org.knime.core.util.ForkJoinThreadPool}. Disabled by default.
+     *
+     * @since 4.2
+     */
+    public static final String PROPERTY_THREAD_POOL_FORK_JOIN = "knime.threadpool.forkjoin";
+
     /**
      * Java property name to specify the default temp directory for KNIME temp files (such as data files). This can be
      * changed in the preference pages and is by default the same as the java.io.tmpdir
@@ -135,6 +161,15 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_ASYNC_WRITE_CACHE_SIZE = "knime.async.io.cachesize";
 
+    /**
+     * Java property to specify the number of threads that write (cached) tables to disk in the background, see
+     * {@link #PROPERTY_TABLE_CACHE}. Tables of different nodes are written concurrently up to this limit. Defaults to
+     * half the number of available processors (at least 1, at most 8).
+     *
+     * @since 4.2
+     */
+    public static final String PROPERTY_ASYNC_WRITE_THREADS = "knime.async.io.threads";
+
     /**
      * The number of nominal values kept in the domain when adding rows to a table. This is only the default and may be
      * overruled by individual node implementations. If not specified the default is obtained from
@@ -196,6 +231,25 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_CACHE = "knime.table.cache";
 
+    /**
+     * Java property name to specify the amount of heap memory (in megabytes) that tables kept in the soft-references
+     * LRU cache may occupy, see {@link #PROPERTY_TABLE_CACHE}. Least-recently-used tables are evicted from the LRU
+     * cache once their (estimated) size exceeds this budget. Defaults to a quarter of the maximum heap size.
+     *
+     * @since 4.2
+     */
+    public static final String PROPERTY_TABLE_CACHE_MEMORY = "knime.table.cache.memory";
+
+    /**
+     * Java property to keep tables that are held in memory and only consist of int, long, double, boolean, and string
+     * cells in off-heap column vectors rather than as individual cell objects, which reduces their memory footprint
+     * and garbage collection pressure. Only takes effect for tables small enough to be kept in memory, see
+     * {@link #PROPERTY_CELLS_IN_MEMORY}. Defaults to {@code false}.
+     *
+     * @since 4.2
+     */
+    public static final String PROPERTY_TABLE_CACHE_OFF_HEAP = "knime.table.cache.offheap";
+
     /**
      * Java property to discourage KNIME from triggering a full stop-the-world garbage collection. Note that (a)
      * individual nodes are allowed to disregard this setting and (b) the garbage collector may independently decide
@@ -222,6 +276,16 @@ public final class KNIMEConstants {
     @Deprecated
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION = PROPERTY_TABLE_COMPRESSION;
 
+    /**
+     * Java property to read uncompressed table files (see {@link #PROPERTY_TABLE_COMPRESSION}) by memory-mapping them
+     * rather than through input streams. The mapping of a table is shared by all iterators on that table, which
+     * especially pays off for tables on fast local disks that are read many times, e.g., within loops. Not supported
+     * on Windows, where mapped files cannot be deleted. Defaults to {@code false}.
+     *
+     * @since 4.2
+     */
+    public static final String PROPERTY_TABLE_MMAP = "knime.table.mmap";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
@@ -231,6 +295,17 @@ public final class KNIMEConstants {
     public static final String PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK =
         "knime.disable.rowid.duplicatecheck";
 
+    /**
+     * Java property to select how tables detect duplicate row IDs. With {@code sort} (the default), row IDs are
+     * collected in memory, written to disk in sorted chunks when memory gets low, and merged when the table is closed.
+     * With {@code offheap} or {@code mmap}, each row ID is checked when it is added, using hash-partitioned tables
+     * whose keys are stored off-heap or in memory-mapped temporary files, respectively, so that closing a table does
+     * not require any merging, see {@link org.knime.core.util.HashPartitionedDuplicateChecker}.
+     *
+     * @since 4.2
+     */
+    public static final String PROPERTY_ROWID_DUPLICATE_CHECK_MODE = "knime.rowid.duplicatecheck.mode";
+
     /** Java property to enable/disable workflow locks. As of KNIME v2.4
      * workflows will be locked when opened; this property will disable the
      * locking (allowing multiple instances to have the same workflow open).
@@ -511,7 +586,8 @@ public static Optional<ImageIcon> getKNIMEIcon16X16() {
                     + "\"org.knime.core.maxThreads\" (\"" + maxThreadsString
                     + "\") as number: " + nfe.getMessage());
         }
-        GLOBAL_THREAD_POOL = new ThreadPool(maxThreads);
+        GLOBAL_THREAD_POOL = Boolean.getBoolean(PROPERTY_THREAD_POOL_FORK_JOIN)
+            ? new ForkJoinThreadPool(maxThreads) : new ThreadPool(maxThreads);
         boolean flag;
         try {
             assert false;
@@ -0,0 +1,170 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+
+import org.knime.core.internal.ReferencedFile;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Handle on a (non-table) output port object of an executed node that was not yet read from the node directory when
+ * the workflow was loaded. The object is read on first access (see {@link Node#getOutputObject(int)}) and only
+ * softly referenced afterwards, so that it can be garbage collected and read again if memory gets short. Once the
+ * node directory is about to be changed (e.g. the node is marked dirty) the handle is {@link #pin() pinned}, keeping
+ * a hard reference from there on.
+ *
+ * <p>
+ * As the object may be read more than once, the instances returned by {@link #get()} are not necessarily identical
+ * over time: callers must not rely on object identity (e.g. as key in an identity map) unless the handle is pinned.
+ *
+ * <p>
+ * The object may be read by any thread accessing it. The {@link NodeContext} current at construction time (i.e. the
+ * one of the owning node while it is loaded) is therefore remembered and set while the object is read.
+ *
+ * <p>
+ * Data tables are not represented by this class; they are already restored lazily by their
+ * {@link BufferedDataTable} implementation.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LazyPortObject {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LazyPortObject.class);
+
+    /** Reads the port object from disc, called each time the object needs to be (re-)read. */
+    @FunctionalInterface
+    interface PortObjectReader {
+        /**
+         * @return the port object
+         * @throws IOException if reading fails
+         * @throws InvalidSettingsException if the port settings are invalid
+         * @throws CanceledExecutionException not expected as reading is not cancelable
+         */
+        PortObject read() throws IOException, InvalidSettingsException, CanceledExecutionException;
+    }
+
+    private final ReferencedFile m_nodeDirRef;
+
+    private final PortObjectReader m_reader;
+
+    /** Context of the owning node, may be <code>null</code>. */
+    private final NodeContext m_nodeContext;
+
+    private SoftReference<PortObject> m_objectRef;
+
+    private PortObject m_hardObjectRef;
+
+    /**
+     * @param nodeDirRef the node directory the object is read from, locked while reading
+     * @param reader reads the object, called with the node context current at construction time
+     */
+    LazyPortObject(final ReferencedFile nodeDirRef, final PortObjectReader reader) {
+        m_nodeDirRef = CheckUtils.checkArgumentNotNull(nodeDirRef);
+        m_reader = CheckUtils.checkArgumentNotNull(reader);
+        m_nodeContext = NodeContext.getContext();
+    }
+
+    /**
+     * Get the port object, reading it from the node directory if it has not been read yet or was garbage collected.
+     * A failed read is not remembered, i.e. each call retries reading the object.
+     *
+     * @return the port object, not <code>null</code>
+     * @throws IllegalStateException if the object can't be read; the node needs to be reset then
+     */
+    synchronized PortObject get() {
+        if (m_hardObjectRef != null) {
+            return m_hardObjectRef;
+        }
+        PortObject object = m_objectRef != null ? m_objectRef.get() : null;
+        if (object == null) {
+            NodeContext.pushContext(m_nodeContext);
+            m_nodeDirRef.lock();
+            try {
+                object = m_reader.read();
+                if (object == null) {
+                    throw new IOException("Serializer restored null object");
+                }
+                m_objectRef = new SoftReference<>(object);
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to read port object from \"" + m_nodeDirRef
+                    + "\" (reset the node to fix): " + e.getMessage(), e);
+            } finally {
+                m_nodeDirRef.unlock();
+                NodeContext.removeLastContext();
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Reads the object (if not done yet) and keeps a hard reference to it. Called before the node directory is
+     * modified or deleted. Problems reading the object are logged; the handle remains unpinned then and
+     * {@link #get()} keeps failing.
+     */
+    synchronized void pin() {
+        try {
+            m_hardObjectRef = get();
+        } catch (IllegalStateException e) {
+            LOGGER.error(e.getMessage(), e.getCause());
+        }
+    }
+
+    /** @return whether the object is currently in memory (for testing and assertions) */
+    synchronized boolean isInMemory() {
+        return m_hardObjectRef != null || (m_objectRef != null && m_objectRef.get() != null);
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy port object (" + m_nodeDirRef + ")";
+    }
+}
@@ -202,6 +202,8 @@ static class Output {
         PortType type;
         PortObjectSpec spec;
         PortObject object;
+        /** Set instead of 'object' for non-table outputs of loaded workflows that are read on first access. */
+        LazyPortObject lazyObject;
         HiLiteHandler hiliteHdl;
         String summary;
     }
@@ -481,6 +483,17 @@ public void loadDataAndInternals(final NodeContentPersistor loader,
                 loader.setNeedsResetAfterLoad();
             }
 
+            LazyPortObject lazyObj = loader instanceof FileNodePersistor
+                ? ((FileNodePersistor)loader).getLazyPortObject(i) : null;
+            if (lazyObj != null) {
+                // class was checked by the persistor, object is read when first accessed
+                m_outputs[i].object = null;
+                m_outputs[i].lazyObject = lazyObj;
+                m_outputs[i].summary = loader.getPortObjectSummary(i);
+                m_outputs[i].hiliteHdl = m_model.getOutHiLiteHandler(i - 1);
+                continue;
+            }
+            m_outputs[i].lazyObject = null;
             PortObject obj = loader.getPortObject(i);
             if (checkPortObjectClass(obj, i)) {
                 m_outputs[i].object = obj;
@@ -815,7 +828,12 @@ public PortObjectSpec getOutputSpec(final int index) {
     }
 
     public PortObject getOutputObject(final int index) {
-        return m_outputs[index].object;
+        final Output output = m_outputs[index];
+        if (output.object == null && output.lazyObject != null) {
+            // output of a loaded workflow, not read yet or garbage collected; fails if the file can't be read
+            return output.lazyObject.get();
+        }
+        return output.object;
     }
 
     public String getOutputObjectSummary(final int index) {
@@ -1334,10 +1352,12 @@ private boolean setOutPortObjects(final PortObject[] newOutData,
                 BufferedDataTable t = thisTable;
                 t.setOwnerRecursively(this);
                 m_outputs[p].object = t;
+                m_outputs[p].lazyObject = null;
                 m_outputs[p].summary = t.getSummary();
                 m_outputs[p].spec = newPortSpec;
             } else {
                 m_outputs[p].object = newOutData[p];
+                m_outputs[p].lazyObject = null;
                 if (newOutData[p] != null) {
                     m_outputs[p].spec = newOutData[p].getSpec();
                     m_outputs[p].summary = newOutData[p].getSummary();
@@ -1594,6 +1614,7 @@ public void cleanOutPorts(final boolean isLoopRestart) {
             }
             m_outputs[i].spec = null;
             m_outputs[i].object = null;
+            m_outputs[i].lazyObject = null;
             m_outputs[i].summary = null;
         }
 
@@ -2435,6 +2456,9 @@ public boolean isInterruptible() {
      * newer version. */
     public void ensureOutputDataIsRead() {
         for (Output p : m_outputs) {
+            if (p.lazyObject != null) {
+                p.lazyObject.pin();
+            }
             if (p.object instanceof BufferedDataTable) {
                 ((BufferedDataTable)p.object).ensureOpen();
             }
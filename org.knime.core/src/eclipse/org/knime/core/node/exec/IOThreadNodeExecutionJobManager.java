@@ -0,0 +1,137 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Job manager for nodes that spend most of their execution time waiting for I/O, e.g. database or REST readers. The
+ * nodes are executed on a separate thread pool, {@link #IO_THREAD_POOL}, whose size is not bound to the number of
+ * processors, so that many such nodes can wait concurrently without occupying the threads of the
+ * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}, which CPU-bound nodes keep using. Nodes are flagged as
+ * I/O-bound by selecting this job manager for them.
+ *
+ * <p>
+ * Threads of the I/O pool are created on demand and terminate after being idle for a while. As with all thread pools,
+ * the {@link org.knime.core.node.workflow.NodeContext} of the submitting thread is propagated to the executing thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public class IOThreadNodeExecutionJobManager extends ThreadNodeExecutionJobManager {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(IOThreadNodeExecutionJobManager.class);
+
+    /** Default maximum number of threads of the {@link #IO_THREAD_POOL}. */
+    static final int DEF_MAX_IO_THREADS = 256;
+
+    /** The pool on which I/O-bound nodes are executed. */
+    public static final ThreadPool IO_THREAD_POOL = new ThreadPool(getMaxIOThreads());
+
+    /** Singleton instance. */
+    public static final IOThreadNodeExecutionJobManager INSTANCE = new IOThreadNodeExecutionJobManager();
+
+    /** Creates a new job manager that executes nodes on the {@link #IO_THREAD_POOL}. */
+    public IOThreadNodeExecutionJobManager() {
+        this(IO_THREAD_POOL);
+    }
+
+    /**
+     * Creates a new job manager that executes nodes on the given pool.
+     *
+     * @param pool the pool, must not be <code>null</code>
+     */
+    public IOThreadNodeExecutionJobManager(final ThreadPool pool) {
+        super(pool);
+    }
+
+    private static int getMaxIOThreads() {
+        final String maxThreadsString = System.getProperty(KNIMEConstants.PROPERTY_MAX_IO_THREAD_COUNT);
+        if (maxThreadsString != null && maxThreadsString.length() > 0) {
+            try {
+                final int val = Integer.parseInt(maxThreadsString.trim());
+                if (val > 0) {
+                    return val;
+                }
+                LOGGER.warn("Ignoring non-positive value of system property \""
+                    + KNIMEConstants.PROPERTY_MAX_IO_THREAD_COUNT + "\": " + val);
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Unable to parse system property \"" + KNIMEConstants.PROPERTY_MAX_IO_THREAD_COUNT
+                    + "\" (\"" + maxThreadsString + "\") as number: " + nfe.getMessage());
+            }
+        }
+        return DEF_MAX_IO_THREADS;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Only native nodes can be executed, metanodes and components are executed node by node anyway.
+     */
+    @Override
+    public boolean canExecute(final NodeContainer nc) {
+        return nc instanceof NativeNodeContainer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return IOThreadNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return IOThreadNodeExecutionJobManagerFactory.INSTANCE.getLabel();
+    }
+
+}
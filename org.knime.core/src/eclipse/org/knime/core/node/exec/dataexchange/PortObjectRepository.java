@@ -48,28 +48,14 @@
  */
 package org.knime.core.node.exec.dataexchange;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectOutputStream;
-import java.io.ObjectStreamClass;
-import java.io.OutputStream;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-import org.knime.core.data.DataCell;
-import org.knime.core.data.DataCellDataInput;
-import org.knime.core.data.DataCellDataOutput;
-import org.knime.core.data.DataCellSerializer;
-import org.knime.core.data.DataRow;
-import org.knime.core.data.DataTypeRegistry;
-import org.knime.core.data.container.BlobDataCell;
-import org.knime.core.data.def.DefaultRow;
-import org.knime.core.eclipseUtil.GlobalObjectInputStream;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -102,9 +88,9 @@ public final class PortObjectRepository {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(PortObjectRepository.class);
 
-    private static final Map<Integer, PortObject> MAP = new HashMap<>();
+    private static final Map<Integer, PortObject> MAP = new ConcurrentHashMap<>();
 
-    private static int nextID;
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
 
     private PortObjectRepository() {
         // empty
@@ -115,12 +101,11 @@ private PortObjectRepository() {
      * @return the unique id this object is associated with
      * @throws NullPointerException If argument is null.
      */
-    public static synchronized int add(final PortObject object) {
+    public static int add(final PortObject object) {
         CheckUtils.checkArgumentNotNull(object);
-        int id = nextID;
-        nextID += 1;
-        assert !MAP.containsKey(id) : "Map contains ID " + id;
-        MAP.put(id, object);
+        int id = NEXT_ID.getAndIncrement();
+        PortObject previous = MAP.put(id, object);
+        assert previous == null : "Map contains ID " + id;
         LOGGER.debug("Added port object (" + object.getClass().getSimpleName()
                 + ") to static repository, assigned ID " + id
                 + " (total count " + MAP.size() + ")");
@@ -131,7 +116,7 @@ public static synchronized int add(final PortObject object) {
      * @param id The id of the object
      * @return The removed object or null if it was not contained.
      */
-    public static synchronized PortObject remove(final int id) {
+    public static PortObject remove(final int id) {
         PortObject object = MAP.remove(id);
         if (object != null) {
             LOGGER.debug("Removed port object with id " + id + " ("
@@ -149,7 +134,7 @@ public static synchronized PortObject remove(final int id) {
      * @param id The id of the object
      * @return The object or null if it is not contained.
      */
-    public static synchronized PortObject get(final int id) {
+    public static PortObject get(final int id) {
         return MAP.get(id);
     }
 
@@ -164,41 +149,25 @@ public static synchronized PortObject get(final int id) {
     public static final PortObject copy(final PortObject object, final ExecutionContext exec,
         final ExecutionMonitor progress) throws IOException, CanceledExecutionException {
         if (object instanceof BufferedDataTable) {
-            // need to copy the table cell by cell
+            // need to copy the table row by row
             // this is to workaround the standard knime philosophy according
-            // to which tables are referenced. A row-based copy will not work
-            // as it still will reference blobs
+            // to which tables are referenced. The container is forced to copy
+            // all blobs (as loop end nodes do), blob files are copied as they
+            // are and the rows are added without deserializing their blobs
             BufferedDataTable in = (BufferedDataTable)object;
-            BufferedDataContainer con = exec.createDataContainer(
-                    in.getSpec(), true, 0);
+            BufferedDataContainer con = exec.createDataContainer(in.getSpec(), true, 0, true);
             final long rowCount = in.size();
             long row = 0;
-            boolean hasLoggedCloneProblem = false;
-            for (DataRow r : in) {
-                DataCell[] cells = new DataCell[r.getNumCells()];
-                for (int i = 0; i < cells.length; i++) {
-                    DataCell c = r.getCell(i); // deserialize blob
-                    if (c instanceof BlobDataCell) {
-                        try {
-                            c = cloneBlobCell(c);
-                        } catch (Exception e) {
-                            if (!hasLoggedCloneProblem) {
-                                LOGGER.warn("Can't clone blob object: " + e.getMessage(), e);
-                                hasLoggedCloneProblem = true;
-                                LOGGER.debug("Suppressing futher warnings.");
-                            }
-                        }
-                    }
-                    cells[i] = c;
+            try (CloseableRowIterator it = in.iterator()) {
+                while (it.hasNext()) {
+                    con.addRowToTable(it.next());
+                    final long copied = ++row;
+                    progress.setProgress(copied / (double)rowCount, () -> "Copied row " + copied + "/" + rowCount);
+                    progress.checkCanceled();
                 }
-                con.addRowToTable(new DefaultRow(r.getKey(), cells));
-                progress.setProgress(row / (double)rowCount, "Copied row " + row + "/" + rowCount);
-                progress.checkCanceled();
-                row++;
             }
             con.close();
             return con.getTable();
-
         }
         return Node.copyPortObject(object, exec);
     }
@@ -239,125 +208,4 @@ public static NodeID addPortObjectReferenceReaderToWorkflow(final NodeOutPort ou
 
         return inID;
     }
-
-    /** Deep-clones a data cell. Most important for blob cell to get rid
-     * of their blob address.
-     * @param blobCell The cell to clone.
-     * @return A clone copy of the arg
-     * @throws IOException If that fails for any reason.
-     */
-    private static DataCell cloneBlobCell(final DataCell blobCell)
-        throws IOException {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        DataCellCloneObjectOutputStream out =
-            new DataCellCloneObjectOutputStream(bos);
-        Optional<DataCellSerializer<DataCell>> cellSerializer =
-            DataTypeRegistry.getInstance().getSerializer(blobCell.getClass());
-        if (cellSerializer.isPresent()) {
-            cellSerializer.get().serialize(blobCell, out);
-        } else {
-            out.writeObject(blobCell);
-        }
-        out.close();
-
-        try (DataCellCloneObjectInputStream in = new DataCellCloneObjectInputStream(
-            new ByteArrayInputStream(bos.toByteArray()), blobCell.getClass().getClassLoader())) {
-            if (cellSerializer.isPresent()) {
-                return cellSerializer.get().deserialize(in);
-            } else {
-                try {
-                    return (DataCell)in.readObject();
-                } catch (ClassNotFoundException e) {
-                    throw new IOException("Can't read from object input stream: " + e.getMessage(), e);
-                }
-            }
-        }
-    }
-
-    /** Input stream used for cloning the a data cell. */
-    private static final class DataCellCloneObjectInputStream
-        extends GlobalObjectInputStream implements DataCellDataInput {
-
-        private final ClassLoader m_loader;
-
-        /** Create new stream.
-         * @param in to read from
-         * @param loader class loader for restoring cell.
-         * @throws IOException if super constructor throws it.
-         */
-        DataCellCloneObjectInputStream(final InputStream in,
-                final ClassLoader loader) throws IOException {
-            super(in);
-            m_loader = loader;
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public DataCell readDataCell() throws IOException {
-            try {
-                return readDataCellImpl();
-            } catch (IOException e) {
-                throw e;
-            } catch (Exception e) {
-                throw new IOException("Can't read nested cell: "
-                        + e.getMessage(), e);
-            }
-        }
-
-        private DataCell readDataCellImpl() throws Exception {
-            String clName = readUTF();
-            Class<? extends DataCell> cellClass = DataTypeRegistry.getInstance().getCellClass(clName)
-                    .orElseThrow(() -> new IOException("No implementation for cell class '" + clName + "' found."));
-            Optional<DataCellSerializer<DataCell>> cellSerializer =
-                DataTypeRegistry.getInstance().getSerializer(cellClass);
-            if (cellSerializer.isPresent()) {
-                return cellSerializer.get().deserialize(this);
-            } else {
-                return (DataCell)readObject();
-            }
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        protected Class<?> resolveClass(final ObjectStreamClass desc)
-                throws IOException, ClassNotFoundException {
-            if (m_loader != null) {
-                try {
-                    return Class.forName(desc.getName(), true, m_loader);
-                } catch (ClassNotFoundException cnfe) {
-                    // ignore and let super do it.
-                }
-            }
-            return super.resolveClass(desc);
-        }
-
-    }
-
-    /** Output stream used for cloning a data cell. */
-    private static final class DataCellCloneObjectOutputStream
-        extends ObjectOutputStream implements DataCellDataOutput {
-
-        /** Call super.
-         * @param out To delegate
-         * @throws IOException If super throws it.
-         *
-         */
-        DataCellCloneObjectOutputStream(
-                final OutputStream out) throws IOException {
-            super(out);
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public void writeDataCell(final DataCell cell) throws IOException {
-            writeUTF(cell.getClass().getName());
-            Optional<DataCellSerializer<DataCell>> cellSerializer =
-                    DataTypeRegistry.getInstance().getSerializer(cell.getClass());
-            if (cellSerializer.isPresent()) {
-                cellSerializer.get().serialize(cell, this);
-            } else {
-                writeObject(cell);
-            }
-        }
-    }
 }
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Merges the output of the partitions of a distributed node into a single {@link RowOutput}, restoring the order of
+ * the input rows. The rows a partition pushes while processing an input batch form a segment, which is tagged with the
+ * sequence number of that batch; segments are forwarded in sequence order. Partitions that are ahead block once
+ * {@link #m_maxPendingSegments} segments are waiting for an earlier one.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PartitionOutputMerger {
+
+    private final RowOutput m_target;
+
+    private final int m_maxPendingSegments;
+
+    private final Map<Long, List<DataRow>> m_pendingSegments = new TreeMap<>();
+
+    /** Rows of partitions that did not read any batch, forwarded at the very end. */
+    private final List<DataRow> m_unsequencedRows = new ArrayList<>();
+
+    private long m_nextSequence;
+
+    private int m_openPartitionCount;
+
+    /**
+     * @param target the output all rows are forwarded to, closed when all partitions closed their output
+     * @param partitionCount the number of partitions
+     * @param maxPendingSegments the maximum number of segments held back waiting for an earlier segment
+     */
+    PartitionOutputMerger(final RowOutput target, final int partitionCount, final int maxPendingSegments) {
+        m_target = target;
+        m_openPartitionCount = partitionCount;
+        m_maxPendingSegments = maxPendingSegments;
+    }
+
+    /** @return a new output for one partition */
+    PartitionRowOutput createPartitionOutput() {
+        return new PartitionRowOutput();
+    }
+
+    private synchronized void completeSegment(final long sequence, final List<DataRow> rows)
+        throws InterruptedException {
+        // the segment with the next sequence number never waits, hence no deadlock
+        while (sequence != m_nextSequence && m_pendingSegments.size() >= m_maxPendingSegments) {
+            wait();
+        }
+        if (sequence != m_nextSequence) {
+            m_pendingSegments.put(sequence, rows);
+            return;
+        }
+        forward(rows);
+        m_nextSequence++;
+        List<DataRow> next;
+        while ((next = m_pendingSegments.remove(m_nextSequence)) != null) {
+            forward(next);
+            m_nextSequence++;
+        }
+        notifyAll();
+    }
+
+    private synchronized void partitionClosed(final long sequence, final List<DataRow> rows)
+        throws InterruptedException {
+        if (sequence >= 0) {
+            completeSegment(sequence, rows);
+        } else {
+            m_unsequencedRows.addAll(rows);
+        }
+        m_openPartitionCount--;
+        if (m_openPartitionCount == 0) {
+            // forward what is left in sequence order (gaps only if partitions read on after closing their output)
+            for (List<DataRow> segment : m_pendingSegments.values()) {
+                forward(segment);
+            }
+            m_pendingSegments.clear();
+            forward(m_unsequencedRows);
+            m_target.close();
+        }
+    }
+
+    private void forward(final List<DataRow> rows) throws InterruptedException {
+        for (DataRow r : rows) {
+            m_target.push(r);
+        }
+    }
+
+    /**
+     * The output of one partition. Rows are collected until the partition starts reading the next input batch (see
+     * {@link #batchStarted(long)}) and are then handed to the merger.
+     */
+    final class PartitionRowOutput extends RowOutput implements QueueRowInput.BatchListener {
+
+        private List<DataRow> m_rows = new ArrayList<>();
+
+        /** Sequence number of the batch currently processed, -1 if none was read so far. */
+        private long m_sequence = -1;
+
+        private boolean m_isClosed;
+
+        /** {@inheritDoc} */
+        @Override
+        public void batchStarted(final long sequence) throws InterruptedException {
+            if (m_isClosed) {
+                // no rows can be pushed anymore but the batch must not leave a gap in the sequence
+                completeSegment(sequence, Collections.emptyList());
+                return;
+            }
+            if (m_sequence >= 0) {
+                final List<DataRow> rows = m_rows;
+                m_rows = new ArrayList<>();
+                completeSegment(m_sequence, rows);
+            }
+            // rows pushed before the first batch are attributed to it
+            m_sequence = sequence;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void push(final DataRow row) throws InterruptedException {
+            if (m_isClosed) {
+                throw new IllegalStateException("Output is closed, can't add row " + row.getKey());
+            }
+            m_rows.add(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void push(final DataRow[] rows, final int count) throws InterruptedException {
+            if (m_isClosed) {
+                throw new IllegalStateException("Output is closed, can't add rows");
+            }
+            m_rows.addAll(Arrays.asList(rows).subList(0, count));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws InterruptedException {
+            if (!m_isClosed) {
+                m_isClosed = true;
+                partitionClosed(m_sequence, m_rows);
+                m_rows = null;
+            }
+        }
+    }
+
+}
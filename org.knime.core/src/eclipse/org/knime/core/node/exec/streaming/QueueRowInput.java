@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.streamable.RowInput;
+
+/**
+ * {@link RowInput} reading the rows from a {@link RowBatchQueue}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class QueueRowInput extends RowInput {
+
+    private final RowBatchQueue m_queue;
+
+    /** Informed about each new batch read from the queue. */
+    @FunctionalInterface
+    interface BatchListener {
+        /**
+         * @param sequence the sequence number of the batch
+         * @throws InterruptedException if interrupted while processing the notification
+         */
+        void batchStarted(long sequence) throws InterruptedException;
+    }
+
+    private final BatchListener m_batchListener;
+
+    private RowBatchQueue.Batch m_batch;
+
+    private int m_indexInBatch;
+
+    private boolean m_isEndReached;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param queue the queue to read from
+     * @param batchListener informed about the sequence number of each batch before its first row is returned, used to
+     *            restore the row order of partitions (may be <code>null</code>)
+     */
+    QueueRowInput(final RowBatchQueue queue, final BatchListener batchListener) {
+        m_queue = queue;
+        m_batchListener = batchListener;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataTableSpec getDataTableSpec() {
+        return m_queue.getDataTableSpec();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow poll() throws InterruptedException {
+        return hasRemainingRows() ? m_batch.get(m_indexInBatch++) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the remaining rows of the current batch (at most as many as fit into the array), only blocks if a new
+     * batch needs to be taken from the queue.
+     */
+    @Override
+    public int poll(final DataRow[] batch) throws InterruptedException {
+        if (!hasRemainingRows()) {
+            return 0;
+        }
+        final int count = Math.min(batch.length, m_batch.size() - m_indexInBatch);
+        m_batch.copyTo(m_indexInBatch, batch, count);
+        m_indexInBatch += count;
+        return count;
+    }
+
+    /** Takes the next batch from the queue if the current one is exhausted, returns false at the end. */
+    private boolean hasRemainingRows() throws InterruptedException {
+        if (m_batch != null && m_indexInBatch < m_batch.size()) {
+            return true;
+        }
+        if (m_isEndReached || m_isClosed) {
+            return false;
+        }
+        m_batch = m_queue.take();
+        m_indexInBatch = 0;
+        if (m_batch == null) {
+            m_isEndReached = true;
+            return false;
+        }
+        if (m_batchListener != null) {
+            m_batchListener.batchStarted(m_batch.getSequence());
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (!m_isClosed) {
+            m_isClosed = true;
+            m_batch = null;
+            m_queue.closeReader();
+        }
+    }
+
+}
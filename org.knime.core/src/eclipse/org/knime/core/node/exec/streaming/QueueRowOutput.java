@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.List;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * {@link RowOutput} of a streamed node. Rows are collected into batches, which are handed to the queues of all
+ * downstream nodes streamed in the same pipeline. If the output is also needed by nodes executed later (or is an output
+ * that must be kept) the rows are additionally written into a {@link BufferedDataContainer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class QueueRowOutput extends RowOutput {
+
+    private final RowBatchQueue[] m_queues;
+
+    private final BufferedDataContainer m_container;
+
+    private final int m_batchSize;
+
+    private DataRow[] m_rows;
+
+    private int m_size;
+
+    private long m_nextSequence;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param queues the queues of the streamed consumers, may be empty
+     * @param container the container the rows are written to or <code>null</code> if the output is not kept
+     * @param batchSize the number of rows per batch
+     */
+    QueueRowOutput(final List<RowBatchQueue> queues, final BufferedDataContainer container, final int batchSize) {
+        m_queues = queues.toArray(new RowBatchQueue[queues.size()]);
+        m_container = container;
+        m_batchSize = batchSize;
+        m_rows = new DataRow[batchSize];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(final DataRow row) throws InterruptedException {
+        if (m_isClosed) {
+            throw new IllegalStateException("Output is closed, can't add row " + row.getKey());
+        }
+        if (m_container != null) {
+            m_container.addRowToTable(row);
+        }
+        if (m_queues.length > 0) {
+            m_rows[m_size++] = row;
+            if (m_size == m_batchSize) {
+                flush();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(final DataRow[] rows, final int count) throws InterruptedException {
+        if (m_isClosed) {
+            throw new IllegalStateException("Output is closed, can't add rows");
+        }
+        if (m_container != null) {
+            for (int i = 0; i < count; i++) {
+                m_container.addRowToTable(rows[i]);
+            }
+        }
+        int offset = 0;
+        while (m_queues.length > 0 && offset < count) {
+            final int length = Math.min(count - offset, m_batchSize - m_size);
+            System.arraycopy(rows, offset, m_rows, m_size, length);
+            m_size += length;
+            offset += length;
+            if (m_size == m_batchSize) {
+                flush();
+            }
+        }
+    }
+
+    /** Hands the current (non-empty) batch to all queues and starts a new one. */
+    private void flush() throws InterruptedException {
+        final RowBatchQueue.Batch batch = new RowBatchQueue.Batch(m_nextSequence++, m_rows, m_size);
+        // the array is shared by the queues (read-only), hence a new one for the next batch
+        m_rows = new DataRow[m_batchSize];
+        m_size = 0;
+        for (RowBatchQueue q : m_queues) {
+            q.put(batch);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws InterruptedException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        if (m_size > 0) {
+            flush();
+        }
+        m_rows = null;
+        for (RowBatchQueue q : m_queues) {
+            q.putEndOfStream();
+        }
+        if (m_container != null) {
+            m_container.close();
+        }
+    }
+
+    /** @return whether {@link #close()} was called */
+    boolean isClosed() {
+        return m_isClosed;
+    }
+
+    /** @return the table containing all pushed rows or <code>null</code> if the output is not kept */
+    BufferedDataTable getTable() {
+        return m_container == null ? null : m_container.getTable();
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+
+/**
+ * Bounded queue of row batches connecting an output port of a streamed node with an input port of another streamed
+ * node. The producer blocks when the queue is full, consumers block when it is empty. The queue can be read by several
+ * readers (the partitions of a distributed consumer), each batch is handed to exactly one of them.
+ *
+ * <p>
+ * If all readers close their input before the end of the stream is reached (e.g. a node that only reads the first
+ * rows) any further batch is discarded so that the producer never blocks on a queue that no one reads.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowBatchQueue {
+
+    /** A chunk of rows as put into the queue, numbered in the order in which they were produced. */
+    static final class Batch {
+
+        private final long m_sequence;
+
+        private final DataRow[] m_rows;
+
+        private final int m_size;
+
+        /**
+         * @param sequence the sequence number of the batch, starting at 0
+         * @param rows the rows, only the first <code>size</code> elements are used (array is not copied)
+         * @param size the number of rows in the batch
+         */
+        Batch(final long sequence, final DataRow[] rows, final int size) {
+            m_sequence = sequence;
+            m_rows = rows;
+            m_size = size;
+        }
+
+        /** @return the sequence number of the batch */
+        long getSequence() {
+            return m_sequence;
+        }
+
+        /**
+         * @param index index of the row, 0 <= index < {@link #size()}
+         * @return the row at the given index
+         */
+        DataRow get(final int index) {
+            return m_rows[index];
+        }
+
+        /**
+         * Copies rows of this batch into the given array, starting at index 0 of the array.
+         *
+         * @param from index of the first row to copy
+         * @param dest the array to copy to
+         * @param count the number of rows to copy
+         */
+        void copyTo(final int from, final DataRow[] dest, final int count) {
+            System.arraycopy(m_rows, from, dest, 0, count);
+        }
+
+        /** @return the number of rows in the batch */
+        int size() {
+            return m_size;
+        }
+    }
+
+    /** Marks the end of the stream. Put back into the queue when taken so that all readers see it. */
+    private static final Batch END_OF_STREAM = new Batch(-1, new DataRow[0], 0);
+
+    private final BlockingQueue<Batch> m_queue;
+
+    private final DataTableSpec m_spec;
+
+    private final AtomicInteger m_openReaderCount;
+
+    private volatile boolean m_isClosedByReaders;
+
+    /**
+     * @param spec the spec of the rows in the queue
+     * @param capacity the maximum number of batches held in the queue
+     * @param readerCount the number of readers, the queue is considered closed when all of them closed
+     */
+    RowBatchQueue(final DataTableSpec spec, final int capacity, final int readerCount) {
+        m_spec = spec;
+        m_queue = new ArrayBlockingQueue<>(capacity);
+        m_openReaderCount = new AtomicInteger(readerCount);
+    }
+
+    /** @return the spec of the rows in the queue */
+    DataTableSpec getDataTableSpec() {
+        return m_spec;
+    }
+
+    /**
+     * Adds a batch, blocking while the queue is full. Batches added after all readers closed are discarded.
+     *
+     * @param batch the batch to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void put(final Batch batch) throws InterruptedException {
+        if (!m_isClosedByReaders) {
+            m_queue.put(batch);
+        }
+    }
+
+    /**
+     * Adds the end marker, called by the producer after the last batch.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void putEndOfStream() throws InterruptedException {
+        put(END_OF_STREAM);
+    }
+
+    /**
+     * Retrieves the next batch, blocking while the queue is empty.
+     *
+     * @return the next batch or <code>null</code> if the end of the stream was reached
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Batch take() throws InterruptedException {
+        final Batch batch = m_queue.take();
+        if (batch == END_OF_STREAM) {
+            // other readers (partitions) need to see the end, too
+            m_queue.offer(END_OF_STREAM);
+            return null;
+        }
+        return batch;
+    }
+
+    /** Called by each reader once it no longer reads from the queue. */
+    void closeReader() {
+        if (m_openReaderCount.decrementAndGet() == 0) {
+            m_isClosedByReaders = true;
+            // unblocks a producer waiting for free space; its next batch is discarded
+            m_queue.clear();
+        }
+    }
+
+    /** @return whether all readers closed their input */
+    boolean isClosedByReaders() {
+        return m_isClosedByReaders;
+    }
+
+}
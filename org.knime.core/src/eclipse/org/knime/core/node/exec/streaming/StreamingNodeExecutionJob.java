@@ -0,0 +1,949 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.filestore.internal.IFileStoreHandler;
+import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortObjectOutput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.FlowObjectStack;
+import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopStartNode;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.NodeOutPort;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowLock;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResult;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.execresult.NativeNodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
+import org.knime.core.node.workflow.execresult.NodeExecutionResult;
+import org.knime.core.node.workflow.execresult.SubnodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.WorkflowExecutionResult;
+import org.knime.core.node.workflow.virtual.subnode.VirtualSubNodeInputNodeModel;
+
+/**
+ * Executes the content of a component, streaming the data between streamable nodes instead of writing each
+ * intermediate table.
+ *
+ * <p>
+ * The nodes of the component are grouped into execution units, which are run one after the other in topological
+ * order:
+ * <ul>
+ * <li>Nodes that can't be streamed (no streamable input, iterative nodes, inactive inputs, already executed nodes,
+ * ...) form a unit of their own and are executed as usual ("buffered").</li>
+ * <li>Streamable nodes form pipelines: a streamable node joins the pipeline of its predecessor if it reads exactly one
+ * streamable table input from a node of that pipeline and all its other inputs are computed by earlier units.
+ * Pipelines are therefore trees, which can't deadlock on the bounded queues connecting the nodes. All nodes of a
+ * pipeline run concurrently, each on its own thread, and exchange rows in batches of {@link #m_batchSize} rows.
+ * A pipeline uses at most {@link #MAX_STREAMING_THREADS} threads, a node that would exceed this limit starts a new
+ * pipeline.</li>
+ * </ul>
+ * A node whose streamed input is {@linkplain InputPortRole#isDistributable() distributable} and whose outputs are all
+ * {@linkplain OutputPortRole#DISTRIBUTED distributed} tables is run in up to {@link #m_maxPartitionCount} partitions,
+ * which share the input queue; the row order of their output is restored.
+ *
+ * <p>
+ * Before a unit starts, its nodes get the flow variables of their predecessors and are configured again, as the
+ * workflow manager would do after the predecessors were executed. Nodes of a pipeline only see the variables their
+ * predecessors pushed during configuration, as they all run at the same time. If the execution fails or is canceled,
+ * all nodes executed so far are reset.
+ *
+ * <p>
+ * Only outputs that are consumed by later units are kept as tables. Outputs of streamed nodes that are only consumed
+ * within the pipeline are replaced by empty tables once the component is executed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StreamingNodeExecutionJob extends NodeExecutionJob {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StreamingNodeExecutionJob.class);
+
+    /** Number of batches a queue between two streamed nodes can hold. */
+    static final int QUEUE_CAPACITY = 4;
+
+    /** Maximum number of threads running streamed nodes (or partitions thereof), in all components together. */
+    static final int MAX_STREAMING_THREADS = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Permits for the {@link #STREAMING_EXECUTOR}. The nodes of a pipeline depend on each other, hence a pipeline only
+     * starts once it got a permit for each of its threads.
+     */
+    private static final Semaphore STREAMING_THREAD_PERMITS = new Semaphore(MAX_STREAMING_THREADS, true);
+
+    /** Threads running the streamed nodes, blocking on the queues most of the time, hence a separate pool. */
+    private static final ThreadPoolExecutor STREAMING_EXECUTOR = new ThreadPoolExecutor(MAX_STREAMING_THREADS,
+        MAX_STREAMING_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactory() {
+            private final AtomicInteger m_counter = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable r) {
+                Thread t = new Thread(r, "KNIME-Streaming-Worker-" + m_counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+    static {
+        STREAMING_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final int m_batchSize;
+
+    private final int m_maxPartitionCount;
+
+    private Future<?> m_future;
+
+    /**
+     * @param snc the component to execute
+     * @param data the input data of the component
+     * @param batchSize the number of rows per batch
+     * @param maxPartitionCount the maximum number of partitions a distributable node is run in
+     */
+    StreamingNodeExecutionJob(final SubNodeContainer snc, final PortObject[] data, final int batchSize,
+        final int maxPartitionCount) {
+        super(snc, data);
+        m_batchSize = batchSize;
+        m_maxPartitionCount = maxPartitionCount;
+    }
+
+    /**
+     * Set the future that represents the pending execution.
+     *
+     * @param future the future to set
+     */
+    void setFuture(final Future<?> future) {
+        m_future = future;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isReConnecting() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean cancel() {
+        if (m_future == null) {
+            throw new IllegalStateException("Future that represents the execution has not been set.");
+        }
+        // the interrupt is forwarded to the threads running the streamed nodes
+        return m_future.cancel(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeContainerExecutionStatus mainExecute() {
+        final SubNodeContainer snc = (SubNodeContainer)getNodeContainer();
+        final WorkflowManager wfm = snc.getWorkflowManager();
+        final Map<NodeID, Vertex> vertices = new LinkedHashMap<>();
+        for (NodeContainer nc : sortTopologically(wfm)) {
+            if (!(nc instanceof NativeNodeContainer)) {
+                return fail(snc, "Streamed execution does not support nested metanodes or components ("
+                    + nc.getNameWithID() + ")");
+            }
+            final NodeModel model = ((NativeNodeContainer)nc).getNodeModel();
+            if (model instanceof LoopStartNode || model instanceof LoopEndNode) {
+                return fail(snc, "Streamed execution does not support loops (" + nc.getNameWithID() + ")");
+            }
+            vertices.put(nc.getID(), new Vertex((NativeNodeContainer)nc));
+        }
+        final List<List<Vertex>> units = plan(wfm, vertices);
+        LOGGER.debugWithFormat("Executing %d nodes of %s in %d units", vertices.size(), snc.getNameWithID(),
+            units.size());
+
+        final ExecutionMonitor exec = new ExecutionMonitor(snc.getProgressMonitor());
+        boolean isExecuted = false;
+        try {
+            for (int i = 0; i < units.size(); i++) {
+                final List<Vertex> unit = units.get(i);
+                exec.setMessage(unit.get(0).m_nnc.getNameWithID());
+                final boolean isSuccess = unit.get(0).m_isStreamed ? executeStreamed(wfm, unit, vertices)
+                    : executeBuffered(wfm, unit.get(0), vertices);
+                if (!isSuccess) {
+                    return fail(snc, "Execution of contained node failed");
+                }
+                exec.setProgress((i + 1) / (double)units.size());
+            }
+            final WorkflowExecutionResult wfmResult = new WorkflowExecutionResult(wfm.getID());
+            for (Vertex v : vertices.values()) {
+                wfmResult.addNodeExecutionResult(v.m_nnc.getID(), v.m_result);
+            }
+            wfmResult.setSuccess(true);
+            final SubnodeContainerExecutionResult result = new SubnodeContainerExecutionResult(snc.getID());
+            result.setWorkflowExecutionResult(wfmResult);
+            result.setSuccess(true);
+            final LoadResult loadResult = new LoadResult("Streamed execution of " + snc.getNameWithID());
+            snc.loadExecutionResult(result, new ExecutionMonitor(), loadResult);
+            if (loadResult.hasErrors()) {
+                LOGGER.warn(loadResult.getFilteredError("", LoadResultEntryType.Error));
+            }
+            for (Vertex v : vertices.values()) {
+                if (v.m_isStreamed) {
+                    v.m_nnc.putOutputTablesIntoGlobalRepository(v.m_exec);
+                }
+            }
+            isExecuted = true;
+            return result;
+        } catch (InterruptedException | CanceledExecutionException e) {
+            snc.setNodeMessage(NodeMessage.newWarning("Execution canceled"));
+            return NodeContainerExecutionStatus.FAILURE;
+        } finally {
+            if (!isExecuted) {
+                // the workflow manager doesn't know that these nodes ran, it wouldn't reset them
+                vertices.values().stream().filter(v -> v.m_isStarted).forEach(StreamingNodeExecutionJob::reset);
+            }
+        }
+    }
+
+    /** Resets a node that was (partially) executed by this job, keeps its message (e.g. the reason of a failure). */
+    private static void reset(final Vertex v) {
+        final NativeNodeContainer nnc = v.m_nnc;
+        final NodeMessage message = nnc.getNodeMessage();
+        final Node node = nnc.getNode();
+        NodeContext.pushContext(nnc);
+        try {
+            if (v.m_portOutputs != null) {
+                // tables of a streamed node are not (yet) held by the node
+                for (PortOutput out : v.m_portOutputs) {
+                    final BufferedDataTable table =
+                        out instanceof QueueRowOutput && ((QueueRowOutput)out).isClosed()
+                            ? ((QueueRowOutput)out).getTable() : null;
+                    if (table != null) {
+                        v.m_exec.clearTable(table);
+                    }
+                }
+            }
+            node.reset();
+            node.cleanOutPorts(false);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to reset " + nnc.getNameWithID() + ": " + e.getMessage(), e);
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        nnc.clearFileStoreHandler();
+        nnc.setNodeMessage(message);
+    }
+
+    private static NodeContainerExecutionStatus fail(final SubNodeContainer snc, final String message) {
+        LOGGER.error(message);
+        snc.setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR, message));
+        return NodeContainerExecutionStatus.FAILURE;
+    }
+
+    /* ---------------- Planning ----------------- */
+
+    /** Sorts the nodes of the workflow so that each node comes after all its predecessors. */
+    private static List<NodeContainer> sortTopologically(final WorkflowManager wfm) {
+        final Map<NodeID, Integer> inDegrees = new HashMap<>();
+        final Deque<NodeContainer> ready = new ArrayDeque<>();
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            final int inDegree = (int)wfm.getIncomingConnectionsFor(nc.getID()).stream()
+                .filter(cc -> !cc.getSource().equals(wfm.getID())).count();
+            inDegrees.put(nc.getID(), inDegree);
+            if (inDegree == 0) {
+                ready.add(nc);
+            }
+        }
+        final List<NodeContainer> result = new ArrayList<>(inDegrees.size());
+        while (!ready.isEmpty()) {
+            final NodeContainer nc = ready.poll();
+            result.add(nc);
+            for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(nc.getID())) {
+                final NodeID dest = cc.getDest();
+                if (!dest.equals(wfm.getID()) && inDegrees.merge(dest, -1, Integer::sum) == 0) {
+                    ready.add(wfm.getNodeContainer(dest));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Decides which nodes are streamed and groups them into execution units, also sets up the queues between streamed
+     * nodes.
+     *
+     * @return the units in execution order
+     */
+    private List<List<Vertex>> plan(final WorkflowManager wfm, final Map<NodeID, Vertex> vertices) {
+        final List<List<Vertex>> units = new ArrayList<>();
+        for (Vertex v : vertices.values()) {
+            v.m_isStreamed = canStream(wfm, v);
+            ConnectionContainer link = null;
+            if (v.m_isStreamed) {
+                link = findStreamedInput(wfm, v, vertices);
+            }
+            final int threadCount = link == null ? 0
+                : getThreadCount(units.get(vertices.get(link.getSource()).m_unit));
+            if (link != null && threadCount < MAX_STREAMING_THREADS) {
+                v.m_streamedInput = link;
+                v.m_partitionCount = Math.min(getPartitionCount(v), MAX_STREAMING_THREADS - threadCount);
+                v.m_unit = vertices.get(link.getSource()).m_unit;
+                units.get(v.m_unit).add(v);
+            } else {
+                // not streamed or the pipeline uses all threads, a streamed node then reads its inputs from tables
+                v.m_unit = units.size();
+                units.add(new ArrayList<>(Arrays.asList(v)));
+            }
+        }
+        for (Vertex v : vertices.values()) {
+            if (!v.m_isStreamed) {
+                continue;
+            }
+            for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(v.m_nnc.getID())) {
+                final Vertex dest = vertices.get(cc.getDest());
+                if (v.isTablePort(cc.getSourcePort()) && (dest == null || !cc.equals(dest.m_streamedInput))) {
+                    v.m_isOutputKept[cc.getSourcePort()] = true;
+                }
+            }
+        }
+        return units;
+    }
+
+    /** Number of threads needed to run the nodes of a pipeline. */
+    private static int getThreadCount(final List<Vertex> unit) {
+        return unit.stream().mapToInt(v -> v.m_partitionCount).sum();
+    }
+
+    /** Creates the queues to the streamed consumers of the node, which need to come after it in the unit. */
+    private static void createQueues(final WorkflowManager wfm, final Vertex v, final Map<NodeID, Vertex> vertices) {
+        for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(v.m_nnc.getID())) {
+            final int port = cc.getSourcePort();
+            final Vertex dest = vertices.get(cc.getDest());
+            if (v.isTablePort(port) && dest != null && cc.equals(dest.m_streamedInput)) {
+                final RowBatchQueue queue = new RowBatchQueue((DataTableSpec)v.m_outSpecs[port - 1],
+                    QUEUE_CAPACITY, dest.m_partitionCount);
+                dest.m_inQueue = queue;
+                v.m_outQueues.computeIfAbsent(port, p -> new ArrayList<>()).add(queue);
+            }
+        }
+    }
+
+    /** Whether the node has a streamable table input and its final output specs are known. */
+    private static boolean canStream(final WorkflowManager wfm, final Vertex v) {
+        final NativeNodeContainer nnc = v.m_nnc;
+        final NodeModel model = nnc.getNodeModel();
+        if (nnc.getNodeContainerState().isExecuted() || model instanceof VirtualSubNodeInputNodeModel
+            || !collectInSpecs(wfm, v)) {
+            return false;
+        }
+        NodeContext.pushContext(nnc);
+        try {
+            final InputPortRole[] roles = model.getInputPortRoles();
+            boolean hasStreamableInput = false;
+            for (int i = 0; i < roles.length; i++) {
+                hasStreamableInput |= roles[i].isStreamable() && v.isTableInPort(i + 1) && v.m_inSpecs[i] != null;
+            }
+            if (!hasStreamableInput) {
+                return false;
+            }
+            v.m_initialInternals = model.createInitialStreamableOperatorInternals();
+            if (model.iterate(v.m_initialInternals)) {
+                // requires several passes over the input, executed buffered
+                return false;
+            }
+            return computeFinalOutputSpecs(v);
+        } catch (InvalidSettingsException | RuntimeException e) {
+            LOGGER.debug("Can't stream " + nnc.getNameWithID() + ", executing it buffered: " + e.getMessage(), e);
+            return false;
+        } finally {
+            NodeContext.removeLastContext();
+        }
+    }
+
+    /** Collects the input specs (excluding the flow variable port), <code>false</code> if an input is inactive. */
+    private static boolean collectInSpecs(final WorkflowManager wfm, final Vertex v) {
+        final NativeNodeContainer nnc = v.m_nnc;
+        final PortObjectSpec[] inSpecs = new PortObjectSpec[nnc.getNrInPorts() - 1];
+        for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(nnc.getID())) {
+            final NodeContainer source = wfm.getNodeContainer(cc.getSource());
+            final PortObjectSpec spec = source.getOutPort(cc.getSourcePort()).getPortObjectSpec();
+            if (spec instanceof InactiveBranchPortObjectSpec) {
+                return false;
+            }
+            if (cc.getDestPort() > 0) {
+                inSpecs[cc.getDestPort() - 1] = spec;
+            }
+        }
+        v.m_inSpecs = inSpecs;
+        return true;
+    }
+
+    /**
+     * Computes the final output specs using the initial internals of the node, <code>false</code> if they are not
+     * known or a table output has no table spec.
+     */
+    private static boolean computeFinalOutputSpecs(final Vertex v) throws InvalidSettingsException {
+        final PortObjectSpec[] outSpecs =
+            v.m_nnc.getNodeModel().computeFinalOutputSpecs(v.m_initialInternals, v.m_inSpecs);
+        if (outSpecs == null) {
+            return false;
+        }
+        for (int i = 0; i < outSpecs.length; i++) {
+            if (v.isTablePort(i + 1) && !(outSpecs[i] instanceof DataTableSpec)) {
+                return false;
+            }
+        }
+        v.m_outSpecs = outSpecs;
+        return true;
+    }
+
+    /**
+     * Returns the connection over which the given (streamable) node is fed by the pipeline it joins or
+     * <code>null</code> if it starts a new unit.
+     */
+    private static ConnectionContainer findStreamedInput(final WorkflowManager wfm, final Vertex v,
+        final Map<NodeID, Vertex> vertices) {
+        final InputPortRole[] roles = v.m_nnc.getNodeModel().getInputPortRoles();
+        ConnectionContainer link = null;
+        int linkUnit = -1;
+        for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(v.m_nnc.getID())) {
+            final Vertex source = vertices.get(cc.getSource());
+            final int destPort = cc.getDestPort();
+            if (source != null && source.m_isStreamed && destPort > 0 && roles[destPort - 1].isStreamable()
+                && v.isTableInPort(destPort) && source.m_unit > linkUnit) {
+                link = cc;
+                linkUnit = source.m_unit;
+            }
+        }
+        if (link == null) {
+            return null;
+        }
+        // all other inputs must be available before the pipeline starts
+        for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(v.m_nnc.getID())) {
+            final Vertex source = vertices.get(cc.getSource());
+            if (cc != link && source != null && source.m_unit >= linkUnit) {
+                return null;
+            }
+        }
+        return link;
+    }
+
+    /** Number of partitions to run the node in, more than one only if the node is fully distributable. */
+    private int getPartitionCount(final Vertex v) {
+        if (m_maxPartitionCount <= 1 || v.m_streamedInput == null) {
+            return 1;
+        }
+        final NodeModel model = v.m_nnc.getNodeModel();
+        final InputPortRole[] inRoles = model.getInputPortRoles();
+        for (int i = 0; i < inRoles.length; i++) {
+            final boolean isStreamedInput = i + 1 == v.m_streamedInput.getDestPort();
+            if (isStreamedInput ? !inRoles[i].isDistributable() : inRoles[i].isStreamable()) {
+                return 1;
+            }
+        }
+        final OutputPortRole[] outRoles = model.getOutputPortRoles();
+        if (outRoles.length == 0) {
+            return 1;
+        }
+        for (int i = 0; i < outRoles.length; i++) {
+            if (!outRoles[i].isDistributable() || !v.isTablePort(i + 1)) {
+                return 1;
+            }
+        }
+        return m_maxPartitionCount;
+    }
+
+    /* ---------------- Execution ----------------- */
+
+    /** Executes a single node the usual way. */
+    private static boolean executeBuffered(final WorkflowManager wfm, final Vertex v,
+        final Map<NodeID, Vertex> vertices) throws CanceledExecutionException {
+        final NativeNodeContainer nnc = v.m_nnc;
+        if (nnc.getNodeContainerState().isExecuted()) {
+            // executed before the component was, output is taken as is
+            v.m_outputs = new PortObject[nnc.getNrOutPorts()];
+            for (int i = 0; i < v.m_outputs.length; i++) {
+                v.m_outputs[i] = nnc.getOutPort(i).getPortObject();
+            }
+            v.m_result = new NativeNodeContainerExecutionResult();
+            v.m_result.setSuccess(true);
+            return true;
+        }
+        if (!configureWithPredecessors(wfm, v)) {
+            return false;
+        }
+        v.m_isStarted = true;
+        nnc.initLocalFileStoreHandler();
+        if (!nnc.performExecuteNode(assembleInputs(wfm, v, vertices)).isSuccess()) {
+            return false;
+        }
+        closeFileStoreHandler(nnc);
+        v.m_outputs = new PortObject[nnc.getNrOutPorts()];
+        for (int i = 0; i < v.m_outputs.length; i++) {
+            v.m_outputs[i] = nnc.getNode().getOutputObject(i);
+        }
+        v.m_result = nnc.createExecutionResult(new ExecutionMonitor());
+        v.m_result.setSuccess(true);
+        return true;
+    }
+
+    /** Inputs of the node (including the flow variable port) as computed by earlier units. */
+    private static PortObject[] assembleInputs(final WorkflowManager wfm, final Vertex v,
+        final Map<NodeID, Vertex> vertices) {
+        final PortObject[] inputs = new PortObject[v.m_nnc.getNrInPorts()];
+        inputs[0] = FlowVariablePortObject.INSTANCE;
+        for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(v.m_nnc.getID())) {
+            final Vertex source = vertices.get(cc.getSource());
+            if (source != null && source.m_outputs != null) {
+                inputs[cc.getDestPort()] = source.m_outputs[cc.getSourcePort()];
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Sets the flow object stack of the node from the stacks of its predecessors and configures the node again. The
+     * predecessors were executed by this job without the usual state transitions, i.e. the node does not know the
+     * variables they pushed during execution nor the settings controlled by these variables yet.
+     *
+     * @return whether the node was configured successfully
+     */
+    private static boolean configureWithPredecessors(final WorkflowManager wfm, final Vertex v) {
+        final NativeNodeContainer nnc = v.m_nnc;
+        final List<ConnectionContainer> inConnections = new ArrayList<>(wfm.getIncomingConnectionsFor(nnc.getID()));
+        if (inConnections.isEmpty()) {
+            // source node (e.g. the component input), its stack does not depend on other nodes
+            return true;
+        }
+        final FlowObjectStack[] stacks = new FlowObjectStack[nnc.getNrInPorts()];
+        final PortObjectSpec[] inSpecs = new PortObjectSpec[nnc.getNrInPorts()];
+        for (ConnectionContainer cc : inConnections) {
+            final NodeOutPort port = cc.getSource().equals(wfm.getID())
+                ? wfm.getWorkflowIncomingPort(cc.getSourcePort())
+                : wfm.getNodeContainer(cc.getSource()).getOutPort(cc.getSourcePort());
+            stacks[cc.getDestPort()] = port.getFlowObjectStack();
+            inSpecs[cc.getDestPort()] = port.getPortObjectSpec();
+        }
+        try (WorkflowLock lock = wfm.lock()) {
+            wfm.createAndSetFlowObjectStackFor(nnc, stacks);
+        } catch (RuntimeException e) {
+            // e.g. conflicting loops
+            nnc.getNode().createErrorMessageAndNotify("Unable to merge flow object stacks: " + e.getMessage(), e);
+            return false;
+        }
+        return nnc.callNodeConfigure(inSpecs, true);
+    }
+
+    private static void closeFileStoreHandler(final NativeNodeContainer nnc) {
+        final IFileStoreHandler fsh = nnc.getNode().getFileStoreHandler();
+        if (fsh instanceof IWriteFileStoreHandler) {
+            ((IWriteFileStoreHandler)fsh).close();
+        }
+    }
+
+    /** Runs all nodes of a pipeline concurrently. */
+    private boolean executeStreamed(final WorkflowManager wfm, final List<Vertex> unit,
+        final Map<NodeID, Vertex> vertices) throws InterruptedException, CanceledExecutionException {
+        for (Vertex v : unit) {
+            if (!prepareStreamed(wfm, v, vertices)) {
+                return false;
+            }
+        }
+        final int threadCount = getThreadCount(unit);
+        STREAMING_THREAD_PERMITS.acquire(threadCount);
+        // released once per task that ran (or was canceled), the permits of tasks not submitted are released below
+        final Semaphore finishedTasks = new Semaphore(0);
+        final Executor executor = task -> STREAMING_EXECUTOR.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                STREAMING_THREAD_PERMITS.release();
+                finishedTasks.release();
+            }
+        });
+        final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+        final Map<Future<Void>, Vertex> futures = new HashMap<>();
+        try {
+            for (Vertex v : unit) {
+                if (!submitPartitions(wfm, v, vertices, completionService, futures)) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                final Future<Void> f = completionService.take();
+                try {
+                    f.get();
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    final Vertex v = futures.get(f);
+                    if (cause instanceof InterruptedException || cause instanceof CanceledExecutionException) {
+                        throw new CanceledExecutionException("Execution of " + v.m_nnc.getNameWithID()
+                            + " canceled");
+                    }
+                    v.m_nnc.getNode().createErrorMessageAndNotify("Execute failed: " + cause.getMessage(), cause);
+                    return false;
+                }
+            }
+        } finally {
+            // no-op if all completed, otherwise stops the remaining nodes (blocked on their queues, e.g.)
+            futures.keySet().forEach(f -> f.cancel(true));
+            // the nodes may only be reset once they stopped
+            finishedTasks.acquireUninterruptibly(futures.size());
+            STREAMING_THREAD_PERMITS.release(threadCount - futures.size());
+        }
+        for (Vertex v : unit) {
+            if (!finishStreamed(v)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Configures the node with the flow variables of its predecessors, updates its specs accordingly and creates the
+     * queues to its streamed consumers.
+     */
+    private static boolean prepareStreamed(final WorkflowManager wfm, final Vertex v,
+        final Map<NodeID, Vertex> vertices) {
+        final NativeNodeContainer nnc = v.m_nnc;
+        if (!configureWithPredecessors(wfm, v)) {
+            return false;
+        }
+        NodeContext.pushContext(nnc);
+        try {
+            if (!collectInSpecs(wfm, v)) {
+                nnc.getNode().createErrorMessageAndNotify("Execute failed: input became inactive", null);
+                return false;
+            }
+            v.m_initialInternals = nnc.getNodeModel().createInitialStreamableOperatorInternals();
+            if (!computeFinalOutputSpecs(v)) {
+                nnc.getNode().createErrorMessageAndNotify("Execute failed: output specs not known", null);
+                return false;
+            }
+        } catch (InvalidSettingsException | RuntimeException e) {
+            nnc.getNode().createErrorMessageAndNotify("Execute failed: " + e.getMessage(), e);
+            return false;
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        createQueues(wfm, v, vertices);
+        return true;
+    }
+
+    /** Creates the inputs, outputs and operators of the node and submits one task per partition. */
+    private boolean submitPartitions(final WorkflowManager wfm, final Vertex v, final Map<NodeID, Vertex> vertices,
+        final CompletionService<Void> completionService, final Map<Future<Void>, Vertex> futures) {
+        final NativeNodeContainer nnc = v.m_nnc;
+        final NodeModel model = nnc.getNodeModel();
+        final int partitionCount = v.m_partitionCount;
+        v.m_isStarted = true;
+        nnc.initLocalFileStoreHandler();
+        v.m_exec = nnc.createExecutionContext();
+        nnc.getNode().openFileStoreHandler(v.m_exec);
+
+        // outputs, shared by all partitions via the mergers
+        final int nrOutputs = nnc.getNrOutPorts() - 1;
+        v.m_portOutputs = new PortOutput[nrOutputs];
+        final PortOutput[][] partitionOutputs = new PortOutput[partitionCount][nrOutputs];
+        final List<List<QueueRowInput.BatchListener>> batchListeners = new ArrayList<>();
+        for (int p = 0; p < partitionCount; p++) {
+            batchListeners.add(new ArrayList<>());
+        }
+        for (int i = 0; i < nrOutputs; i++) {
+            if (v.isTablePort(i + 1)) {
+                final BufferedDataContainer container =
+                    v.m_isOutputKept[i + 1] ? v.m_exec.createDataContainer((DataTableSpec)v.m_outSpecs[i]) : null;
+                final List<RowBatchQueue> queues = v.m_outQueues.getOrDefault(i + 1, Collections.emptyList());
+                final QueueRowOutput output = new QueueRowOutput(queues, container, m_batchSize);
+                v.m_portOutputs[i] = output;
+                if (partitionCount == 1) {
+                    partitionOutputs[0][i] = output;
+                } else {
+                    final PartitionOutputMerger merger =
+                        new PartitionOutputMerger(output, partitionCount, 2 * partitionCount);
+                    for (int p = 0; p < partitionCount; p++) {
+                        final PartitionOutputMerger.PartitionRowOutput partitionOutput =
+                            merger.createPartitionOutput();
+                        partitionOutputs[p][i] = partitionOutput;
+                        batchListeners.get(p).add(partitionOutput);
+                    }
+                }
+            } else {
+                v.m_portOutputs[i] = new PortObjectOutput();
+                partitionOutputs[0][i] = v.m_portOutputs[i];
+            }
+        }
+
+        final PortObject[] inObjects = assembleInputs(wfm, v, vertices);
+        final InputPortRole[] inRoles = model.getInputPortRoles();
+        v.m_mergeOperator = model.createMergeOperator();
+        v.m_partitionInternals = new StreamableOperatorInternals[partitionCount];
+        for (int p = 0; p < partitionCount; p++) {
+            final List<QueueRowInput.BatchListener> listeners = batchListeners.get(p);
+            final PortInput[] inputs = new PortInput[inObjects.length - 1];
+            for (int i = 1; i < inObjects.length; i++) {
+                if (v.m_streamedInput != null && v.m_streamedInput.getDestPort() == i) {
+                    inputs[i - 1] = new QueueRowInput(v.m_inQueue, listeners.isEmpty() ? null : seq -> {
+                        for (QueueRowInput.BatchListener l : listeners) {
+                            l.batchStarted(seq);
+                        }
+                    });
+                } else if (inObjects[i] instanceof BufferedDataTable && inRoles[i - 1].isStreamable()) {
+                    inputs[i - 1] = new DataTableRowInput((BufferedDataTable)inObjects[i]);
+                } else if (inObjects[i] != null) {
+                    inputs[i - 1] = new PortObjectInput(inObjects[i]);
+                }
+            }
+            final ExecutionContext exec =
+                partitionCount == 1 ? v.m_exec : v.m_exec.createSubExecutionContext(1.0 / partitionCount);
+            final StreamableOperator operator;
+            NodeContext.pushContext(nnc);
+            try {
+                operator = model.createStreamableOperator(new PartitionInfo(p, partitionCount), v.m_inSpecs);
+                if (v.m_mergeOperator != null) {
+                    operator.loadInternals(v.m_initialInternals);
+                }
+            } catch (Exception e) {
+                nnc.getNode().createErrorMessageAndNotify("Execute failed: " + e.getMessage(), e);
+                return false;
+            } finally {
+                NodeContext.removeLastContext();
+            }
+            final PortOutput[] outputs = partitionOutputs[p];
+            final int partitionIndex = p;
+            final Future<Void> future = completionService.submit(() -> {
+                NodeContext.pushContext(nnc);
+                try {
+                    operator.runFinal(inputs, outputs, exec);
+                    // in case the operator did not (e.g. stopped reading early)
+                    for (PortInput in : inputs) {
+                        if (in instanceof RowInput) {
+                            ((RowInput)in).close();
+                        }
+                    }
+                    for (PortOutput out : outputs) {
+                        if (out instanceof RowOutput) {
+                            ((RowOutput)out).close();
+                        }
+                    }
+                    if (v.m_mergeOperator != null) {
+                        v.m_partitionInternals[partitionIndex] = operator.saveInternals();
+                    }
+                    return null;
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            });
+            futures.put(future, v);
+        }
+        return true;
+    }
+
+    /** Merges the partitions, collects the outputs and creates the execution result of a streamed node. */
+    private static boolean finishStreamed(final Vertex v) throws CanceledExecutionException {
+        final NativeNodeContainer nnc = v.m_nnc;
+        NodeContext.pushContext(nnc);
+        try {
+            if (v.m_mergeOperator != null) {
+                final StreamableOperatorInternals internals = v.m_mergeOperator.mergeFinal(v.m_partitionInternals);
+                nnc.getNodeModel().finishStreamableExecution(internals, v.m_exec,
+                    new PortOutput[v.m_portOutputs.length]);
+            }
+        } catch (Exception e) {
+            nnc.getNode().createErrorMessageAndNotify("Execute failed: " + e.getMessage(), e);
+            return false;
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        closeFileStoreHandler(nnc);
+        final PortObject[] outputs = new PortObject[v.m_portOutputs.length + 1];
+        final PortObjectSpec[] outSpecs = new PortObjectSpec[outputs.length];
+        outputs[0] = FlowVariablePortObject.INSTANCE;
+        boolean hasDiscardedOutput = false;
+        for (int i = 1; i < outputs.length; i++) {
+            final PortOutput out = v.m_portOutputs[i - 1];
+            if (out instanceof QueueRowOutput) {
+                outputs[i] = ((QueueRowOutput)out).getTable();
+                if (outputs[i] == null) {
+                    // only consumed within the pipeline, not retained
+                    final BufferedDataContainer empty =
+                        v.m_exec.createDataContainer((DataTableSpec)v.m_outSpecs[i - 1]);
+                    empty.close();
+                    outputs[i] = empty.getTable();
+                    hasDiscardedOutput = true;
+                }
+            } else {
+                outputs[i] = ((PortObjectOutput)out).getPortObject();
+            }
+            if (outputs[i] == null) {
+                nnc.getNode().createErrorMessageAndNotify("Execute failed: no output at port " + i, null);
+                return false;
+            }
+            outSpecs[i] = outputs[i] instanceof InactiveBranchPortObject ? InactiveBranchPortObjectSpec.INSTANCE
+                : outputs[i].getSpec();
+        }
+        outSpecs[0] = outputs[0].getSpec();
+        v.m_outputs = outputs;
+        v.m_result = nnc.createExecutionResult(new ExecutionMonitor());
+        final NodeExecutionResult nodeResult = v.m_result.getNodeExecutionResult();
+        nodeResult.setInternalHeldPortObjects(null);
+        nodeResult.setNodeInternDir(null);
+        nodeResult.setPortObjects(outputs);
+        nodeResult.setPortObjectSpecs(outSpecs);
+        if (hasDiscardedOutput && nodeResult.getWarningMessage() == null) {
+            nodeResult.setWarningMessage("Node was executed in streaming mode, output data is not retained");
+        }
+        v.m_result.setSuccess(true);
+        return true;
+    }
+
+    /** A node of the component together with its execution plan and state. */
+    private static final class Vertex {
+
+        private final NativeNodeContainer m_nnc;
+
+        private boolean m_isStreamed;
+
+        /** Whether this job started to execute the node, which then needs to be reset if the execution fails. */
+        private boolean m_isStarted;
+
+        private int m_unit;
+
+        private int m_partitionCount = 1;
+
+        /** The connection over which the node is fed by its pipeline, <code>null</code> if none. */
+        private ConnectionContainer m_streamedInput;
+
+        private RowBatchQueue m_inQueue;
+
+        /** Queues of the streamed consumers, by output port index (including flow variable port). */
+        private final Map<Integer, List<RowBatchQueue>> m_outQueues = new HashMap<>();
+
+        /** Whether an output (index including flow variable port) is needed after the pipeline completed. */
+        private final boolean[] m_isOutputKept;
+
+        private PortObjectSpec[] m_inSpecs;
+
+        private PortObjectSpec[] m_outSpecs;
+
+        private StreamableOperatorInternals m_initialInternals;
+
+        private MergeOperator m_mergeOperator;
+
+        private StreamableOperatorInternals[] m_partitionInternals;
+
+        private ExecutionContext m_exec;
+
+        private PortOutput[] m_portOutputs;
+
+        /** Output objects (including flow variable port) once executed. */
+        private PortObject[] m_outputs;
+
+        private NativeNodeContainerExecutionResult m_result;
+
+        Vertex(final NativeNodeContainer nnc) {
+            m_nnc = nnc;
+            m_isOutputKept = new boolean[nnc.getNrOutPorts()];
+        }
+
+        boolean isTablePort(final int outPort) {
+            return BufferedDataTable.TYPE.equals(m_nnc.getOutPort(outPort).getPortType());
+        }
+
+        boolean isTableInPort(final int inPort) {
+            return BufferedDataTable.TYPE.equals(m_nnc.getInPort(inPort).getPortType());
+        }
+    }
+
+}
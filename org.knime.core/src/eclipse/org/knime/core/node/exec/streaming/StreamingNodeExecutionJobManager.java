@@ -0,0 +1,170 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.net.URL;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContainer.NodeContainerSettings.SplitType;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeExecutionJobManagerPanel;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Job manager executing a component in streaming mode: chains of streamable nodes exchange their data in batches of
+ * rows through bounded queues instead of writing intermediate tables, distributable nodes are run in several
+ * partitions in parallel, all other nodes are executed as usual. See {@link StreamingNodeExecutionJob} for details.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public class StreamingNodeExecutionJobManager extends AbstractNodeExecutionJobManager {
+
+    private final ThreadPool m_pool;
+
+    private int m_batchSize = StreamingJobManagerSettingsPanel.DEFAULT_BATCH_SIZE;
+
+    private int m_maxPartitionCount = StreamingJobManagerSettingsPanel.DEFAULT_MAX_PARTITION_COUNT;
+
+    /** Creates a new job manager using the {@link KNIMEConstants#GLOBAL_THREAD_POOL}. */
+    public StreamingNodeExecutionJobManager() {
+        this(KNIMEConstants.GLOBAL_THREAD_POOL);
+    }
+
+    /**
+     * Creates a new job manager that uses the given thread pool to coordinate the execution; the streamed nodes
+     * themselves run on separate threads.
+     *
+     * @param pool a thread pool, must not be <code>null</code>
+     */
+    public StreamingNodeExecutionJobManager(final ThreadPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Thread pool must not be null");
+        }
+        m_pool = pool;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] data) {
+        if (!(nc instanceof SubNodeContainer)) {
+            throw new IllegalStateException(getClass().getSimpleName()
+                + " is only able to execute components: " + nc.getNameWithID());
+        }
+        StreamingNodeExecutionJob job =
+            new StreamingNodeExecutionJob((SubNodeContainer)nc, data, m_batchSize, m_maxPartitionCount);
+        Future<?> future = m_pool.enqueue(job);
+        job.setFuture(future);
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void load(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_batchSize = settings.getInt(StreamingJobManagerSettingsPanel.CFG_BATCH_SIZE,
+            StreamingJobManagerSettingsPanel.DEFAULT_BATCH_SIZE);
+        m_maxPartitionCount = settings.getInt(StreamingJobManagerSettingsPanel.CFG_MAX_PARTITION_COUNT,
+            StreamingJobManagerSettingsPanel.DEFAULT_MAX_PARTITION_COUNT);
+        if (m_batchSize < 1) {
+            throw new InvalidSettingsException("Invalid batch size: " + m_batchSize);
+        }
+        if (m_maxPartitionCount < 1) {
+            throw new InvalidSettingsException("Invalid number of partitions: " + m_maxPartitionCount);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void save(final NodeSettingsWO settings) {
+        settings.addInt(StreamingJobManagerSettingsPanel.CFG_BATCH_SIZE, m_batchSize);
+        settings.addInt(StreamingJobManagerSettingsPanel.CFG_MAX_PARTITION_COUNT, m_maxPartitionCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJobManagerPanel getSettingsPanelComponent(final SplitType nodeSplitType) {
+        return new StreamingJobManagerSettingsPanel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public URL getIcon() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Only components can be executed, their content is streamed.
+     */
+    @Override
+    public boolean canExecute(final NodeContainer nc) {
+        return nc instanceof SubNodeContainer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getLabel();
+    }
+
+}
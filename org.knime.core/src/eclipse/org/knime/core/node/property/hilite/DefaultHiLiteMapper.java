@@ -48,10 +48,13 @@
  */
 package org.knime.core.node.property.hilite;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -64,7 +67,9 @@
 
 /**
  * A default mapper for hilite translation which holds a map from
- * {@link RowKey} to a set of {@link RowKey}s as value.
+ * {@link RowKey} to a set of {@link RowKey}s as value. The reverse mapping
+ * used by {@link #getSourceKeys(Set)} is built on first use and rebuilt if
+ * the size of the map changes.
  *
  * @author Thomas Gabriel, University of Konstanz
  */
@@ -73,6 +78,12 @@ public class DefaultHiLiteMapper implements HiLiteMapper {
     /** Keep the mapping. */
     private final Map<RowKey, Set<RowKey>> m_map;
 
+    /** Reverse mapping from mapped key to the keys mapping it, lazily built. */
+    private Map<RowKey, List<RowKey>> m_sourceMap;
+
+    /** Size of {@link #m_map} when {@link #m_sourceMap} was built. */
+    private int m_sourceMapSize;
+
     /**
      * Creates a new default hilite mapper.
      *
@@ -103,6 +114,42 @@ public Set<RowKey> keySet() {
         return Collections.unmodifiableSet(m_map.keySet());
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 4.2
+     */
+    @Override
+    public Set<RowKey> getSourceKeys(final Set<RowKey> mappedKeys) {
+        final Map<RowKey, List<RowKey>> sourceMap = getSourceMap();
+        final Set<RowKey> result = new LinkedHashSet<RowKey>();
+        for (RowKey mappedKey : mappedKeys) {
+            final List<RowKey> sources = sourceMap.get(mappedKey);
+            if (sources != null) {
+                result.addAll(sources);
+            }
+        }
+        return result;
+    }
+
+    private synchronized Map<RowKey, List<RowKey>> getSourceMap() {
+        if (m_sourceMap == null || m_sourceMapSize != m_map.size()) {
+            final Map<RowKey, List<RowKey>> sourceMap =
+                new HashMap<RowKey, List<RowKey>>();
+            for (Map.Entry<RowKey, Set<RowKey>> e : m_map.entrySet()) {
+                if (e.getValue() == null) {
+                    continue;
+                }
+                for (RowKey mappedKey : e.getValue()) {
+                    sourceMap.computeIfAbsent(mappedKey,
+                        k -> new ArrayList<RowKey>(1)).add(e.getKey());
+                }
+            }
+            m_sourceMap = sourceMap;
+            m_sourceMapSize = m_map.size();
+        }
+        return m_sourceMap;
+    }
+
 
     private static final String CFG_MAPPED_KEYS = "CFG_MAPPED_KEYS";
 
@@ -44,11 +44,13 @@
  */
 package org.knime.core.node.property.hilite;
 
-import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 import org.knime.core.data.RowKey;
 import org.knime.core.node.NodeLogger;
@@ -63,6 +65,13 @@
  * The list of hilite keys is modified (delete or add keys) before the actual
  * event is send.
  * <p>
+ * The hilit keys are kept in a concurrent map that is changed in place, hence
+ * queries via {@link #isHiLit(RowKey...)} do not block and firing an event
+ * only costs time proportional to the number of keys in the event, not to the
+ * number of keys hilit so far. If all keys of an event change their status
+ * and the key set was built by this handler, the event is passed on to the
+ * listeners without copying its keys.
+ * <p>
  * Do NOT derive this class which intended to be final but can't due to the
  * historical <code>DefaultHiLiteHandler</code> class.
  *
@@ -101,8 +110,17 @@ public class HiLiteHandler {
     /** List of registered <code>HiLiteListener</code>s to fire event to. */
     private final CopyOnWriteArrayList<HiLiteListener> m_listenerList;
 
-    /** Set of non-<code>null</code> hilit items. */
-    private Set<RowKey> m_hiLitKeys;
+    /**
+     * Set of non-<code>null</code> hilit items, concurrent so that {@link #isHiLit(RowKey...)} does not block. Only
+     * modified while holding the lock on this handler.
+     */
+    private final Set<RowKey> m_hiLitKeys;
+
+    /**
+     * The hilit items in the order in which they were hilit, for {@link #getHiLitKeys()}. Only accessed while holding
+     * the lock on this handler.
+     */
+    private final Set<RowKey> m_hiLitKeysInOrder;
 
     /** Not-null if this {@link HiLiteHandler} is associated with one or more {@link HiLiteTranslator}s */
     private Set<HiLiteTranslator> m_hiliteTranslators;
@@ -118,7 +136,8 @@ public HiLiteHandler() {
         m_hiliteHandlerID = UUID.randomUUID();
         m_listenerList = new CopyOnWriteArrayList<>();
         // initialize item list
-        m_hiLitKeys = new LinkedHashSet<>();
+        m_hiLitKeys = ConcurrentHashMap.newKeySet();
+        m_hiLitKeysInOrder = new LinkedHashSet<>();
         m_hiliteTranslators = new LinkedHashSet<>();
         m_hiliteManagers = new LinkedHashSet<>();
     }
@@ -267,7 +286,7 @@ public boolean isHiLit(final RowKey... ids) {
      * @param ids the row IDs to set hilited.
      */
     public synchronized void fireHiLiteEvent(final RowKey... ids) {
-        this.fireHiLiteEvent(new LinkedHashSet<RowKey>(Arrays.asList(ids)));
+        fireHiLiteEvent(new KeyEvent(this, ids), true);
     }
 
     /**
@@ -278,13 +297,14 @@ public synchronized void fireHiLiteEvent(final RowKey... ids) {
      * @param ids the row IDs to set unhilited
      */
     public synchronized void fireUnHiLiteEvent(final RowKey... ids) {
-        this.fireUnHiLiteEvent(new LinkedHashSet<RowKey>(Arrays.asList(ids)));
+        fireUnHiLiteEvent(new KeyEvent(this, ids), true);
     }
 
     /**
      * Sets the status of all specified row IDs in the set to 'hilit'.
      * It will send a hilite event to all registered listeners - only for the
-     * IDs that were not hilit before.
+     * IDs that were not hilit before. The set is copied, i.e. it may be
+     * modified afterwards.
      *
      * @param ids a set of row IDs to set hilited
      * @throws IllegalArgumentException if the set or one of its elements is
@@ -294,13 +314,14 @@ public synchronized void fireHiLiteEvent(final Set<RowKey> ids) {
         if (ids == null) {
             throw new IllegalArgumentException("Key array must not be null.");
         }
-        fireHiLiteEvent(new KeyEvent(this, ids));
+        fireHiLiteEvent(new KeyEvent(this, new LinkedHashSet<RowKey>(ids)), true);
     }
 
     /**
      * Sets the status of all specified row IDs in the set to 'unhilit'.
      * It will send a unhilite event to all registered listeners - only for
-     * the IDs that were hilit before.
+     * the IDs that were hilit before. The set is copied, i.e. it may be
+     * modified afterwards.
      *
      * @param ids a set of row IDs to set unhilited
      * @throws IllegalArgumentException if the set or one of its elements is
@@ -310,11 +331,7 @@ public synchronized void fireUnHiLiteEvent(final Set<RowKey> ids) {
         if (ids == null) {
             throw new IllegalArgumentException("Key array must not be null.");
         }
-        /*
-         * Do not change this implementation, see #fireHiLiteEvent for
-         * more details.
-         */
-        fireUnHiLiteEvent(new KeyEvent(this, ids));
+        fireUnHiLiteEvent(new KeyEvent(this, new LinkedHashSet<RowKey>(ids)), true);
     }
 
     /**
@@ -348,48 +365,44 @@ protected void fireHiLiteEventInternal(final KeyEvent event) {
      * @param event Contains all rows keys to hilite.
      */
     public synchronized void fireHiLiteEvent(final KeyEvent event) {
+        fireHiLiteEvent(event, false);
+    }
+
+    /**
+     * Informs all registered hilite listener to hilite the row keys contained
+     * in the key event.
+     *
+     * @param event Contains all rows keys to hilite.
+     * @param isKeySetOwned whether the key set of the event was built for it
+     *            and is not modified afterwards, in which case the event is
+     *            passed on without copying its keys if all of them change
+     */
+    synchronized void fireHiLiteEvent(final KeyEvent event,
+            final boolean isKeySetOwned) {
         if (event == null) {
             throw new NullPointerException("KeyEvent must not be null");
         }
 
-        Set<RowKey> newHilitKeys = new LinkedHashSet<RowKey>(m_hiLitKeys);
-
         /*
-         * Do not change this implementation, unless you are aware of the
-         * following problem:
-         * To ensure that no intermediate event interrupts the current hiliting
-         * procedure, all hilite events are queued into the AWT event queue.
-         * That means, just  before the event is processed the hilite key set is
-         * modified and then the event is fired. That ensures that the keys are
-         * not marked as hilit, before the actual event is sent. You must not
-         * care about the current thread (e.g. EDT) to queue this event, since
-         * the event must be queued in both cases to avoid nested events to be
-         * waiting on each other.
+         * The hilit keys are changed while holding the lock on this handler,
+         * the listeners are notified in the EDT, i.e. possibly after this
+         * method has returned. Therefore the keys passed on to the listeners
+         * must not change afterwards: a key set that may be modified by the
+         * caller is copied.
          */
         final Set<RowKey> ids = event.keys();
         // check if at least one id is present
         if (ids.isEmpty()) {
             return;
         }
-        // create list of row keys from input key array
-        final Set<RowKey> changedIDs = new LinkedHashSet<RowKey>();
-        // iterates over all keys and adds them to the changed set
-        for (final RowKey id : ids) {
-            if (id == null) {
-                throw new IllegalArgumentException(
-                        "Key array must not contains null elements.");
-            }
-            // if the key is already hilit, do not add it
-            if (newHilitKeys.add(id)) {
-                changedIDs.add(id);
-            }
-        }
+        // if the key is already hilit, it is not part of the fired event
+        final Set<RowKey> changedIDs = applyChanges(ids,
+            id -> m_hiLitKeys.add(id) && m_hiLitKeysInOrder.add(id));
 
         // if at least on key changed
         if (!changedIDs.isEmpty()) {
-            m_hiLitKeys = newHilitKeys;
             final KeyEvent fireEvent =
-                new KeyEvent(event.getSource(), changedIDs);
+                createFireEvent(event, changedIDs, isKeySetOwned);
             final Runnable r = new Runnable() {
                 @Override
                 public void run() {
@@ -427,39 +440,38 @@ protected void fireUnHiLiteEventInternal(final KeyEvent event) {
      * @param event Contains all rows keys to unhilite.
      */
     public synchronized void fireUnHiLiteEvent(final KeyEvent event) {
+        fireUnHiLiteEvent(event, false);
+    }
+
+    /**
+     * Informs all registered hilite listener to unhilite the row keys
+     * contained in the key event.
+     *
+     * @param event Contains all rows keys to unhilite.
+     * @param isKeySetOwned whether the key set of the event was built for it
+     *            and is not modified afterwards, in which case the event is
+     *            passed on without copying its keys if all of them change
+     */
+    synchronized void fireUnHiLiteEvent(final KeyEvent event,
+            final boolean isKeySetOwned) {
         if (event == null) {
             throw new NullPointerException("KeyEvent must not be null");
         }
-        /*
-         * Do not change this implementation, see #fireHiLiteEvent for
-         * more details.
-         */
+        // see #fireHiLiteEvent(KeyEvent, boolean) on changing the keys
         final Set<RowKey> ids = event.keys();
         // check if at least one id is present
         if (ids.isEmpty()) {
             return;
         }
 
-        Set<RowKey> newHilitKeys = new LinkedHashSet<RowKey>(m_hiLitKeys);
-
-        // create list of row keys from input key array
-        final Set<RowKey> changedIDs = new LinkedHashSet<RowKey>();
-        // iterate over all keys and removes all not hilit ones
-        for (final RowKey id : ids) {
-            if (id == null) {
-                throw new IllegalArgumentException(
-                        "Key array must not contains null elements.");
-            }
-            if (newHilitKeys.remove(id)) {
-                changedIDs.add(id);
-            }
-        }
+        // keys that are not hilit are not part of the fired event
+        final Set<RowKey> changedIDs = applyChanges(ids,
+            id -> m_hiLitKeys.remove(id) && m_hiLitKeysInOrder.remove(id));
         // if at least on key changed
         if (!changedIDs.isEmpty()) {
-            m_hiLitKeys = newHilitKeys;
             // throw unhilite event
-            final KeyEvent fireEvent = new KeyEvent(
-                    event.getSource(), changedIDs);
+            final KeyEvent fireEvent =
+                createFireEvent(event, changedIDs, isKeySetOwned);
             final Runnable r = new Runnable() {
                 @Override
                 public void run() {
@@ -496,12 +508,10 @@ public synchronized void fireClearHiLiteEvent(final KeyEvent event) {
         if (event == null) {
             throw new NullPointerException("KeyEvent must not be null");
         }
-        /*
-         * Do not change this implementation, see #fireHiLiteEvent for
-         * more details.
-         */
+        // see #fireHiLiteEvent(KeyEvent, boolean) on changing the keys
         if (!m_hiLitKeys.isEmpty()) {
-            m_hiLitKeys = new LinkedHashSet<RowKey>();
+            m_hiLitKeys.clear();
+            m_hiLitKeysInOrder.clear();
             final Runnable r = new Runnable() {
                 @Override
                 public void run() {
@@ -521,11 +531,76 @@ public void run() {
     }
 
     /**
-     * Returns a copy of all hilit keys.
+     * Creates the event passed on to the listeners.
+     *
+     * @param event the fired event
+     * @param changedIDs the keys whose status changed, possibly the keys of
+     *            the fired event
+     * @param isKeySetOwned whether the keys of the fired event may be passed
+     *            on without copying them
+     * @return the event to pass on
+     */
+    private static KeyEvent createFireEvent(final KeyEvent event,
+            final Set<RowKey> changedIDs, final boolean isKeySetOwned) {
+        if (changedIDs != event.keys()) {
+            return new KeyEvent(event.getSource(), changedIDs);
+        }
+        return isKeySetOwned ? event : new KeyEvent(event.getSource(),
+            new LinkedHashSet<RowKey>(changedIDs));
+    }
+
+    /**
+     * Applies the given change to all keys and collects the keys for which it
+     * returned <code>true</code>. As long as all keys change, no new set is
+     * created; if all of them changed, the argument set itself is returned.
+     *
+     * @param ids the keys to change
+     * @param change adds or removes a key from the hilit keys, returns whether
+     *            the hilite status changed
+     * @return the changed keys, possibly <code>ids</code> itself
+     */
+    private static Set<RowKey> applyChanges(final Set<RowKey> ids,
+            final Predicate<RowKey> change) {
+        Set<RowKey> changedIDs = null;
+        int index = 0;
+        for (final RowKey id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException(
+                        "Key array must not contains null elements.");
+            }
+            final boolean changed = change.test(id);
+            if (changedIDs != null) {
+                if (changed) {
+                    changedIDs.add(id);
+                }
+            } else if (!changed) {
+                // first unchanged key: collect the changed ones seen so far
+                changedIDs = new LinkedHashSet<RowKey>();
+                final Iterator<RowKey> it = ids.iterator();
+                for (int i = 0; i < index; i++) {
+                    changedIDs.add(it.next());
+                }
+            }
+            index++;
+        }
+        return changedIDs == null ? ids : changedIDs;
+    }
+
+    /**
+     * Returns a copy of all hilit keys in the order in which they were hilit.
      * @return a set of hilit row keys
      * @see HiLiteHandler#getHiLitKeys()
      */
-    public Set<RowKey> getHiLitKeys() {
-        return new LinkedHashSet<RowKey>(m_hiLitKeys);
+    public synchronized Set<RowKey> getHiLitKeys() {
+        return new LinkedHashSet<RowKey>(m_hiLitKeysInOrder);
+    }
+
+    /**
+     * Returns the number of hilit keys without copying them.
+     * @return the number of hilit row keys
+     * @since 4.2
+     */
+    public int getHiLitKeyCount() {
+        return m_hiLitKeys.size();
     }
 }
@@ -46,6 +46,7 @@
  */
 package org.knime.core.node.property.hilite;
 
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.knime.core.data.RowKey;
@@ -75,4 +76,50 @@ public interface HiLiteMapper {
      * @return A set of keys to hilite.
      */
     Set<RowKey> keySet();
+
+    /**
+     * Returns the union of the keys mapped by the specified <b>keys</b>, keys
+     * without mapping are ignored.
+     *
+     * @param keys the keys to get the mapping for
+     * @return a new set of mapped <code>RowKey</code> elements, possibly empty
+     * @since 4.2
+     */
+    default Set<RowKey> getKeys(final Set<RowKey> keys) {
+        final Set<RowKey> result = new LinkedHashSet<RowKey>();
+        for (RowKey key : keys) {
+            final Set<RowKey> mapped = getKeys(key);
+            if (mapped != null) {
+                result.addAll(mapped);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all keys of this mapper (see {@link #keySet()}) whose mapping
+     * contains at least one of the specified <b>mappedKeys</b>. The default
+     * implementation checks all mappings, implementations should override it
+     * if they can answer it faster.
+     *
+     * @param mappedKeys mapped keys, i.e. keys returned by
+     *            {@link #getKeys(RowKey)}
+     * @return a new set of (source) keys, possibly empty
+     * @since 4.2
+     */
+    default Set<RowKey> getSourceKeys(final Set<RowKey> mappedKeys) {
+        final Set<RowKey> result = new LinkedHashSet<RowKey>();
+        for (RowKey key : keySet()) {
+            final Set<RowKey> mapped = getKeys(key);
+            if (mapped != null) {
+                for (RowKey m : mapped) {
+                    if (mappedKeys.contains(m)) {
+                        result.add(key);
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
 }
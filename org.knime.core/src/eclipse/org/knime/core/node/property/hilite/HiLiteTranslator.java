@@ -99,16 +99,10 @@ public void hiLite(final KeyEvent event) {
                 return;
             }
             if (m_mapper != null && m_targetHandlers.size() > 0) {
-                Set<RowKey> fireSet = new LinkedHashSet<RowKey>();
-                for (RowKey key : event.keys()) {
-                    Set<RowKey> s = m_mapper.getKeys(key);
-                    if (s != null && !s.isEmpty()) {
-                        fireSet.addAll(s);
-                    }
-                }
+                Set<RowKey> fireSet = m_mapper.getKeys(event.keys());
                 if (!fireSet.isEmpty()) {
                     for (HiLiteHandler h : m_targetHandlers) {
-                        h.fireHiLiteEvent(new KeyEvent(m_eventSource, fireSet));
+                        h.fireHiLiteEvent(new KeyEvent(m_eventSource, fireSet), true);
                     }
                 }
             }
@@ -123,17 +117,11 @@ public void unHiLite(final KeyEvent event) {
                 return;
             }
             if (m_mapper != null && m_targetHandlers.size() > 0) {
-                Set<RowKey> fireSet = new LinkedHashSet<RowKey>();
-                for (RowKey key : event.keys()) {
-                    Set<RowKey> s = m_mapper.getKeys(key);
-                    if (s != null && !s.isEmpty()) {
-                        fireSet.addAll(s);
-                    }
-                }
+                Set<RowKey> fireSet = m_mapper.getKeys(event.keys());
                 if (!fireSet.isEmpty()) {
                     for (HiLiteHandler h : m_targetHandlers) {
                         h.fireUnHiLiteEvent(
-                            new KeyEvent(m_eventSource, fireSet));
+                            new KeyEvent(m_eventSource, fireSet), true);
                     }
                 }
             }
@@ -167,22 +155,18 @@ public void hiLite(final KeyEvent event) {
                 return;
             }
             if (m_mapper != null) {
-                // add all hilite keys from the event and all hilite keys
-                // from the target hilite handlers
-                final Set<RowKey> all = new LinkedHashSet<RowKey>(
-                        event.keys());
-                for (HiLiteHandler hdl : m_targetHandlers) {
-                    all.addAll(hdl.getHiLitKeys());
-                }
-                // check overlap with all mappings
-                for (RowKey key : m_mapper.keySet()) {
-                    final Set<RowKey> keys = m_mapper.getKeys(key);
+                // only mappings containing one of the event keys can change
+                final Set<RowKey> fireSet = new LinkedHashSet<RowKey>();
+                for (RowKey key : m_mapper.getSourceKeys(event.keys())) {
                     // if all mapped keys are hilite then fire event
-                    if (all.containsAll(keys)) {
-                        m_sourceHandler.fireHiLiteEvent(
-                            new KeyEvent(m_eventSource, key));
+                    if (isHiLitInTargets(m_mapper.getKeys(key), event)) {
+                        fireSet.add(key);
                     }
                 }
+                if (!fireSet.isEmpty()) {
+                    m_sourceHandler.fireHiLiteEvent(
+                        new KeyEvent(m_eventSource, fireSet), true);
+                }
             }
         }
         /**
@@ -194,17 +178,12 @@ public void unHiLite(final KeyEvent event) {
                 return;
             }
             if (m_mapper != null) {
-                // check all mappings
-                for (RowKey key : m_mapper.keySet()) {
-                    final Set<RowKey> keys = m_mapper.getKeys(key);
-                    // if at least one item is unhilite then fire event
-                    for (RowKey hilite : event.keys()) {
-                        if (keys.contains(hilite)) {
-                            m_sourceHandler.fireUnHiLiteEvent(
-                                new KeyEvent(m_eventSource, key));
-                            break;
-                        }
-                    }
+                // if at least one mapped item is unhilite then fire event
+                final Set<RowKey> fireSet =
+                    m_mapper.getSourceKeys(event.keys());
+                if (!fireSet.isEmpty()) {
+                    m_sourceHandler.fireUnHiLiteEvent(
+                        new KeyEvent(m_eventSource, fireSet), true);
                 }
             }
         }
@@ -220,6 +199,32 @@ public void unHiLiteAll(final KeyEvent event) {
         }
     };
 
+    /**
+     * Checks whether all given keys are either part of the event or hilit in
+     * one of the target handlers.
+     */
+    private boolean isHiLitInTargets(final Set<RowKey> keys,
+            final KeyEvent event) {
+        if (keys == null) {
+            return false;
+        }
+        for (RowKey key : keys) {
+            if (!event.keys().contains(key) && !isHiLitInTargets(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isHiLitInTargets(final RowKey key) {
+        for (HiLiteHandler hdl : m_targetHandlers) {
+            if (hdl.isHiLit(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Creates a translator with an empty mapping and a default hilite
      * handler.
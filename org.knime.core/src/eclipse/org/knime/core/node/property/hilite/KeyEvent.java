@@ -94,6 +94,11 @@ public KeyEvent(final Object src, final RowKey... ids) {
 
     /**
      * Creates a new event with the underlying source and a set of row keys.
+     * The set is not copied, hence it must not be modified afterwards; the
+     * listeners of a {@link HiLiteHandler} may be notified after the event
+     * has been fired. {@link HiLiteHandler#fireHiLiteEvent(KeyEvent)} and
+     * {@link HiLiteHandler#fireUnHiLiteEvent(KeyEvent)} copy the keys before
+     * passing them on.
      *
      * @param src the object on which the event initially occurred
      * @param ids a set of <code>RowKey</code> row IDs for which the
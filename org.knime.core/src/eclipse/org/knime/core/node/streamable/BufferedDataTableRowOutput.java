@@ -79,6 +79,18 @@ public void push(final DataRow row) throws InterruptedException {
         m_table.addRowToTable(row);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.2
+     */
+    @Override
+    public void push(final DataRow[] rows, final int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            m_table.addRowToTable(rows[i]);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
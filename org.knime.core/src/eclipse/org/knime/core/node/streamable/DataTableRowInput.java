@@ -93,6 +93,22 @@ public DataRow poll() throws InterruptedException {
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Reads directly from the table's iterator, never returns fewer rows than requested before the end of the table.
+     *
+     * @since 4.2
+     */
+    @Override
+    public int poll(final DataRow[] batch) throws InterruptedException {
+        int count = 0;
+        while (count < batch.length && m_iterator.hasNext()) {
+            batch[count++] = m_iterator.next();
+        }
+        return count;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
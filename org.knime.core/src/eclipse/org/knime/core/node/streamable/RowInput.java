@@ -83,6 +83,41 @@ public abstract class RowInput extends PortInput {
      */
     public abstract DataRow poll() throws InterruptedException;
 
+    /**
+     * Gets the next rows from the input stream, filling the given array from index 0. The call blocks until at least
+     * one row is available or the end of the stream has been reached; it may return fewer rows than the array can
+     * hold also before the end of the stream. Client code could look like this:
+     *
+     * <pre>
+     * DataRow[] batch = new DataRow[64];
+     * int count;
+     * while ((count = rowInput.poll(batch)) &gt; 0) {
+     *     for (int i = 0; i &lt; count; i++) {
+     *         // do something with batch[i]
+     *     }
+     * }
+     * rowInput.close();
+     * </pre>
+     *
+     * The default implementation calls {@link #poll()} once and returns at most one row, as further calls of
+     * {@link #poll()} may block and would hold back the rows already received. Implementations that can hand out
+     * several rows without blocking (e.g. rows of a table or of a batch taken from a queue) should override it to
+     * avoid the per-row overhead.
+     *
+     * @param batch The non-empty array to fill, elements after the returned count are left unchanged.
+     * @return The number of rows put into the array, 0 if the end of the stream has been reached.
+     * @throws InterruptedException If canceled.
+     * @since 4.2
+     */
+    public int poll(final DataRow[] batch) throws InterruptedException {
+        final DataRow row = poll();
+        if (row == null) {
+            return 0;
+        }
+        batch[0] = row;
+        return 1;
+    }
+
     /** Indicates that no more input is needed. Upstream nodes may stop
      * generating data (unless there are other consumers). */
     public abstract void close();
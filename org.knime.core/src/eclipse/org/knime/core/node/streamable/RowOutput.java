@@ -69,6 +69,27 @@ public abstract class RowOutput extends PortOutput {
      */
     public abstract void push(final DataRow row) throws InterruptedException;
 
+    /**
+     * Adds the first <code>count</code> rows of the given array to the output, in order. The method will block if
+     * previously added rows are still being processed by downstream nodes. The array is not retained, the caller may
+     * reuse it once the method returns.
+     *
+     * <p>
+     * The default implementation calls {@link #push(DataRow)} for each row. Implementations that pass the data on in
+     * chunks (e.g. to a queue) should override it to avoid the per-row overhead.
+     *
+     * @param rows The rows to add.
+     * @param count The number of rows to add, 0 &lt;= count &lt;= rows.length.
+     * @throws InterruptedException If canceled.
+     * @throws OutputClosedException If no consumer is to consume the generated output.
+     * @since 4.2
+     */
+    public void push(final DataRow[] rows, final int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            push(rows[i]);
+        }
+    }
+
     /** Fully sets the table and closes the output. Only valid to call if no other rows were added previously through
      * {@link #push(DataRow)}.
      * @param table The non-null table to set.
@@ -72,6 +72,9 @@ public abstract class StreamableFunction extends StreamableOperator {
      */
     public static final int DEFAULT_OUTPORT_INDEX = 0;
 
+    /** Maximum number of rows read from the input and pushed to the output at once. */
+    private static final int BATCH_SIZE = 64;
+
     private int m_inportIndex = DEFAULT_INPORT_INDEX;
     private int m_outportIndex = DEFAULT_OUTPORT_INDEX;
 
@@ -105,12 +108,18 @@ public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
         RowOutput rowOutput = ((RowOutput)outputs[m_outportIndex]);
         init(ctx);
         try {
-            DataRow inputRow;
+            final DataRow[] inputRows = new DataRow[BATCH_SIZE];
+            final DataRow[] outputRows = new DataRow[BATCH_SIZE];
+            int count;
             long index = 0;
-            while ((inputRow = rowInput.poll()) != null) {
-                rowOutput.push(compute(inputRow));
-                final long i = ++index;
-                final DataRow r = inputRow;
+            while ((count = rowInput.poll(inputRows)) > 0) {
+                for (int j = 0; j < count; j++) {
+                    outputRows[j] = compute(inputRows[j]);
+                }
+                rowOutput.push(outputRows, count);
+                index += count;
+                final long i = index;
+                final DataRow r = inputRows[count - 1];
                 ctx.setMessage(() -> String.format("Row %d (\"%s\"))", i, r.getKey()));
             }
             rowInput.close();
@@ -141,7 +150,8 @@ public void finish() {
     }
 
     /**
-     * Helper function to run two {@link StreamableFunction}s that use the same input but different outputs.
+     * Helper function to run two {@link StreamableFunction}s that use the same input but different outputs. Each row
+     * is computed and pushed by the first function and then by the second, i.e. the outputs are fed alternately.
      *
      * @param input the input
      * @param func1 first streamable function
@@ -157,13 +167,18 @@ public static void runFinalInterwoven(final RowInput input, final StreamableFunc
         func1.init(exec);
         func2.init(exec);
         try {
-            DataRow inputRow;
+            final DataRow[] inputRows = new DataRow[BATCH_SIZE];
+            int count;
             long index = 0;
-            while ((inputRow = input.poll()) != null) {
-                output1.push(func1.compute(inputRow));
-                output2.push(func2.compute(inputRow));
+            while ((count = input.poll(inputRows)) > 0) {
+                // rows are still computed and pushed alternately, the two outputs may be consumed by the same node
+                for (int j = 0; j < count; j++) {
+                    output1.push(func1.compute(inputRows[j]));
+                    output2.push(func2.compute(inputRows[j]));
+                }
+                index += count;
                 exec.setMessage(String.format("Row %d (\"%s\"))",
-                        ++index, inputRow.getKey()));
+                        index, inputRows[count - 1].getKey()));
             }
             input.close();
             output1.close();
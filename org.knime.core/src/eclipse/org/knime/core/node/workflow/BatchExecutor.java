@@ -46,6 +46,7 @@
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.Console;
 import java.io.File;
 import java.io.FileInputStream;
@@ -53,6 +54,8 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -62,6 +65,14 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.TimerTask;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -116,6 +127,8 @@ public class BatchExecutor {
     }
 
 
+    private static final Pattern ZIPPED_WORKFLOW_PATTERN = Pattern.compile("\\.(?:zip|ZIP|knwf)$");
+
     private static final ZipFileFilter WORKFLOW_ZIP_FILTER = new ZipFileFilter() {
         @Override
         public boolean include(final File f) {
@@ -237,6 +250,21 @@ public IllegalOptionException(final String message, final Throwable cause) {
      */
     protected boolean m_stopOnError = true;
 
+    /** Workflows (directories or ZIP files) given by -workflowsDir or -workflowList, empty if not in batch mode. */
+    private final List<File> m_batchInputs = new ArrayList<File>();
+
+    /** The names below -destDir under which the {@link #m_batchInputs} are saved, same order. */
+    private final List<String> m_batchNames = new ArrayList<String>();
+
+    /** Number of workflows that are run concurrently. */
+    private int m_parallelism = 1;
+
+    /** File the per-workflow timings are written to, <code>null</code> if no summary file is requested. */
+    private File m_timingSummaryFile;
+
+    /** Set once the cancel file has been found, so that all running and remaining workflows are canceled. */
+    private volatile boolean m_cancelRequested;
+
     private static final NodeLogger LOGGER = NodeLogger.getLogger(BatchExecutor.class);
 
     private static class Option {
@@ -464,10 +492,130 @@ protected WorkflowConfiguration parseConfigFromArguments(final String[] args) th
 
         // yes == is intended here
         setupEncryptionKey(config.masterKey == PROMPT_FOR_PASSWORD, config.masterKey);
-        m_workflows.add(config);
+        if (m_batchInputs.isEmpty()) {
+            m_workflows.add(config);
+        } else {
+            addBatchConfigurations(config);
+        }
         return config;
     }
 
+    /**
+     * Adds one configuration per workflow given by -workflowsDir or -workflowList, each a copy of the configuration
+     * read from the command line.
+     *
+     * @param template the configuration read from the command line
+     * @throws IllegalOptionException if the options cannot be applied to multiple workflows
+     */
+    private void addBatchConfigurations(final WorkflowConfiguration template) throws IllegalOptionException {
+        if (template.inputWorkflow != null) {
+            throw new IllegalOptionException(
+                "-workflowFile and -workflowDir cannot be combined with -workflowsDir or -workflowList");
+        }
+        if (template.outputFile != null) {
+            throw new IllegalOptionException("-destFile cannot be used for multiple workflows, use -destDir instead");
+        }
+        Set<File> outputDirs = new HashSet<File>();
+        for (int i = 0; i < m_batchInputs.size(); i++) {
+            WorkflowConfiguration config = copyConfiguration(template);
+            config.inputWorkflow = m_batchInputs.get(i);
+            if (template.outputDir != null) {
+                config.outputDir = new File(template.outputDir, m_batchNames.get(i));
+                if (!outputDirs.add(config.outputDir)) {
+                    throw new IllegalOptionException("More than one workflow would be saved to '" + config.outputDir
+                        + "', use separate runs for workflows with the same name");
+                }
+            }
+            m_workflows.add(config);
+        }
+    }
+
+    /**
+     * Creates a copy of the given configuration without the input workflow and the output locations. It is used to
+     * derive the configurations of the single workflows if several workflows are run at once. Subclasses that use
+     * custom workflow configurations should override this method and copy their own fields, too.
+     *
+     * @param template the configuration to copy
+     * @return a new configuration with the same options
+     * @since 4.2
+     */
+    protected WorkflowConfiguration copyConfiguration(final WorkflowConfiguration template) {
+        WorkflowConfiguration copy = createNewConfiguration();
+        copy.noSave = template.noSave;
+        copy.reset = template.reset;
+        copy.updateMetanodeLinks = template.updateMetanodeLinks;
+        copy.noExecute = template.noExecute;
+        copy.failOnLoadError = template.failOnLoadError;
+        copy.masterKey = template.masterKey;
+        copy.credentials.putAll(template.credentials);
+        copy.flowVariables.addAll(template.flowVariables);
+        copy.nodeOptions.addAll(template.nodeOptions);
+        return copy;
+    }
+
+    /**
+     * Adds all workflows in the given directory and its sub-directories to the batch inputs. Directories containing a
+     * workflow file and ZIP files (<tt>.zip</tt> or <tt>.knwf</tt>) are workflows, hidden files are skipped.
+     *
+     * @param dir a directory
+     * @param path the path of the directory relative to the -workflowsDir directory, empty for the top directory
+     */
+    private void collectWorkflows(final File dir, final String path) {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        Arrays.sort(children);
+        for (File f : children) {
+            if (f.getName().startsWith(".")) {
+                continue;
+            }
+            if (f.isDirectory()) {
+                if (new File(f, WorkflowPersistor.WORKFLOW_FILE).isFile()) {
+                    m_batchInputs.add(f);
+                    m_batchNames.add(path + f.getName());
+                } else {
+                    collectWorkflows(f, path + f.getName() + File.separator);
+                }
+            } else if (ZIPPED_WORKFLOW_PATTERN.matcher(f.getName()).find()) {
+                m_batchInputs.add(f);
+                m_batchNames.add(path + ZIPPED_WORKFLOW_PATTERN.matcher(f.getName()).replaceFirst(""));
+            }
+        }
+    }
+
+    /**
+     * Adds the workflows listed in the given file to the batch inputs. The file contains one workflow directory or
+     * ZIP file per line, relative paths are resolved against the directory of the list file. Empty lines and lines
+     * starting with '#' are ignored.
+     *
+     * @param listFile the file listing the workflows
+     * @throws IllegalOptionException if the file cannot be read or a listed workflow does not exist
+     */
+    private void readWorkflowList(final File listFile) throws IllegalOptionException {
+        try (BufferedReader in = Files.newBufferedReader(listFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                File f = new File(line);
+                if (!f.isAbsolute()) {
+                    f = new File(listFile.getAbsoluteFile().getParentFile(), line);
+                }
+                if (!f.exists()) {
+                    throw new IllegalOptionException(
+                        "Workflow '" + line + "' listed in '" + listFile + "' does not exist.");
+                }
+                m_batchInputs.add(f);
+                m_batchNames.add(ZIPPED_WORKFLOW_PATTERN.matcher(f.getName()).replaceFirst(""));
+            }
+        } catch (IOException ex) {
+            throw new IllegalOptionException("Couldn't read workflow list '" + listFile + "': " + ex.getMessage(), ex);
+        }
+    }
+
     /**
      * Handles a single command line argument (pair).
      *
@@ -591,6 +739,47 @@ protected void handleCommandlineArgument(final String[] parts, final String s, f
             String type = parts2[3];
 
             config.nodeOptions.add(new Option(nodeIDs, optionName, value, type));
+        } else if ("-workflowsDir".equals(parts[0])) {
+            if (parts.length != 2) {
+                throw new IllegalOptionException("Couldn't parse -workflowsDir argument: " + s);
+            }
+            File dir = new File(parts[1]);
+            if (!dir.isDirectory()) {
+                throw new IllegalOptionException("Workflows directory '" + parts[1] + "' is not a directory.");
+            }
+            int count = m_batchInputs.size();
+            collectWorkflows(dir, "");
+            if (m_batchInputs.size() == count) {
+                throw new IllegalOptionException("No workflows found in '" + parts[1] + "'.");
+            }
+        } else if ("-workflowList".equals(parts[0])) {
+            if (parts.length != 2) {
+                throw new IllegalOptionException("Couldn't parse -workflowList argument: " + s);
+            }
+            File listFile = new File(parts[1]);
+            if (!listFile.isFile()) {
+                throw new IllegalOptionException("Workflow list '" + parts[1] + "' is not a file.");
+            }
+            readWorkflowList(listFile);
+        } else if ("-parallelism".equals(parts[0])) {
+            if (parts.length != 2) {
+                throw new IllegalOptionException("Couldn't parse -parallelism argument: " + s);
+            }
+            try {
+                m_parallelism = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException ex) {
+                throw new IllegalOptionException("Couldn't parse -parallelism argument: " + s, ex);
+            }
+            if (m_parallelism < 1) {
+                throw new IllegalOptionException("Parallelism must be at least 1: " + s);
+            }
+        } else if ("-timingSummary".equals(parts[0])) {
+            if (parts.length != 2) {
+                throw new IllegalOptionException("Couldn't parse -timingSummary argument: " + s);
+            }
+            m_timingSummaryFile = new File(parts[1]);
+        } else if ("-continueOnError".equals(parts[0])) {
+            m_stopOnError = false;
         } else if (!IGNORED_ARGUMENTS.contains(parts[0].toLowerCase())) {
             throw new IllegalOptionException("Unknown option '" + parts[0] + "'");
         }
@@ -623,7 +812,16 @@ public static String getOptionsString() {
                 + " -destFile=...     => ZIP file where the executed workflow should be written to\n"
                 + "                      if omitted the workflow is only saved in place\n"
                 + " -destDir=...      => directory where the executed workflow is saved to\n"
-                + "                      if omitted the workflow is only saved in place\n"
+                + "                      if omitted the workflow is only saved in place; if several\n"
+                + "                      workflows are run each is saved into a sub-directory\n"
+                + " -workflowsDir=... => directory whose workflows (directories and ZIP files, also\n"
+                + "                      in sub-directories) are all run in the same KNIME instance\n"
+                + " -workflowList=... => text file with one workflow directory or ZIP file per line,\n"
+                + "                      all listed workflows are run in the same KNIME instance\n"
+                + " -parallelism=n    => number of workflows that are run concurrently (default 1)\n"
+                + " -timingSummary=...=> CSV file to which the load, execution and save times of\n"
+                + "                      each workflow are written\n"
+                + " -continueOnError  => run the remaining workflows even if one of them failed\n"
                 + " -workflow.variable=name,value,type => define or overwrite workflow variable\n"
                 + "                      'name' with value 'value' (possibly enclosed by quotes). The\n"
                 + "                      'type' must be one of \"String\", \"int\" or \"double\".";
@@ -809,7 +1007,9 @@ protected boolean executeWorkflow(final WorkflowManager wfm, final WorkflowConfi
                 /** {@inheritDoc} */
                 @Override
                 public void run() {
-                    if (cancelFile.exists()) {
+                    if (m_cancelRequested || cancelFile.exists()) {
+                        // also cancel the other workflows if several are run concurrently
+                        m_cancelRequested = true;
                         // CANCEL workflow manager
                         wfm.cancelExecution();
                         // delete cancel file
@@ -882,25 +1082,172 @@ protected void saveWorkflow(final WorkflowManager wfm, final WorkflowConfigurati
      * @since 2.7
      */
     public int runAll() {
+        long t = System.currentTimeMillis();
+        List<WorkflowTiming> timings;
+        if ((m_parallelism > 1) && (m_workflows.size() > 1)) {
+            timings = runConcurrently();
+        } else {
+            timings = runSequentially();
+        }
+
         int retVal = EXIT_SUCCESS;
+        for (WorkflowTiming timing : timings) {
+            if (timing.m_exitCode != EXIT_SUCCESS) {
+                retVal = timing.m_exitCode;
+            }
+        }
+        if (m_workflows.size() > 1) {
+            logTimings(timings, System.currentTimeMillis() - t);
+        }
+        if (m_timingSummaryFile != null) {
+            writeTimings(timings);
+        }
+        return retVal;
+    }
 
+    private List<WorkflowTiming> runSequentially() {
+        List<WorkflowTiming> timings = new ArrayList<WorkflowTiming>();
         for (WorkflowConfiguration config : m_workflows) {
-            LOGGER.info("===== Executing workflow " + config.inputWorkflow + " =====");
-            int rv = runOne(config);
-            if (rv != EXIT_SUCCESS) {
-                LOGGER.info("========= Workflow did not execute sucessfully ============");
-                retVal = rv;
-                if (m_stopOnError) {
-                    break;
+            WorkflowTiming timing = runAndLog(config);
+            timings.add(timing);
+            if ((timing.m_exitCode != EXIT_SUCCESS) && (m_stopOnError || m_cancelRequested)) {
+                break;
+            }
+        }
+        return timings;
+    }
+
+    /**
+     * Runs the workflows on a pool of {@link #m_parallelism} threads. All workflows share this JVM and hence the
+     * global thread pool, the registries and the JIT compiled code. Workflows that have not been started yet are
+     * skipped after an error if {@link #m_stopOnError} is set or after execution has been canceled.
+     */
+    private List<WorkflowTiming> runConcurrently() {
+        final int threadCount = Math.min(m_parallelism, m_workflows.size());
+        LOGGER.info("Running " + m_workflows.size() + " workflows with " + threadCount + " concurrent workflows");
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+            private final AtomicInteger m_counter = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable r) {
+                return new Thread(r, "KNIME-BatchExecutor-" + m_counter.incrementAndGet());
+            }
+        });
+        final AtomicBoolean failed = new AtomicBoolean();
+        List<Future<WorkflowTiming>> futures = new ArrayList<Future<WorkflowTiming>>();
+        for (final WorkflowConfiguration config : m_workflows) {
+            futures.add(executor.submit(() -> {
+                if ((failed.get() && m_stopOnError) || m_cancelRequested) {
+                    return null;
                 }
-            } else {
-                LOGGER.info("============= Workflow executed sucessfully ===============");
+                WorkflowTiming timing = runAndLog(config);
+                if (timing.m_exitCode != EXIT_SUCCESS) {
+                    failed.set(true);
+                }
+                return timing;
+            }));
+        }
+        executor.shutdown();
+
+        List<WorkflowTiming> timings = new ArrayList<WorkflowTiming>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                WorkflowTiming timing = futures.get(i).get();
+                if (timing != null) {
+                    timings.add(timing);
+                }
+            } catch (InterruptedException ex) {
+                LOGGER.warn("Interrupted while waiting for the workflows to finish, canceling remaining workflows");
+                m_cancelRequested = true;
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException ex) {
+                WorkflowConfiguration config = m_workflows.get(i);
+                LOGGER.error("Unexpected error while running workflow " + config.inputWorkflow + ": "
+                    + ex.getCause().getMessage(), ex.getCause());
+                WorkflowTiming timing = new WorkflowTiming(config.inputWorkflow);
+                timing.m_exitCode = EXIT_ERR_EXECUTION;
+                timings.add(timing);
             }
         }
-        return retVal;
+        return timings;
+    }
+
+    private WorkflowTiming runAndLog(final WorkflowConfiguration config) {
+        LOGGER.info("===== Executing workflow " + config.inputWorkflow + " =====");
+        WorkflowTiming timing = new WorkflowTiming(config.inputWorkflow);
+        long t = System.currentTimeMillis();
+        timing.m_exitCode = runOne(config, timing);
+        timing.m_totalMillis = System.currentTimeMillis() - t;
+        if (timing.m_exitCode != EXIT_SUCCESS) {
+            LOGGER.info("========= Workflow did not execute sucessfully ============");
+        } else {
+            LOGGER.info("============= Workflow executed sucessfully ===============");
+        }
+        return timing;
+    }
+
+    private void logTimings(final List<WorkflowTiming> timings, final long elapsedTimeMillis) {
+        int failedCount = 0;
+        for (WorkflowTiming timing : timings) {
+            LOGGER.info(timing.toString());
+            if (timing.m_exitCode != EXIT_SUCCESS) {
+                failedCount++;
+            }
+        }
+        LOGGER.info("Ran " + timings.size() + " of " + m_workflows.size() + " workflows (" + failedCount
+            + " failed) in " + StringFormat.formatElapsedTime(elapsedTimeMillis) + " (" + elapsedTimeMillis + "ms)");
+    }
+
+    private void writeTimings(final List<WorkflowTiming> timings) {
+        try (BufferedWriter out = Files.newBufferedWriter(m_timingSummaryFile.toPath(), StandardCharsets.UTF_8)) {
+            out.write("workflow,exitCode,loadMillis,executeMillis,saveMillis,totalMillis,thread");
+            out.newLine();
+            for (WorkflowTiming timing : timings) {
+                out.write(timing.toCSVLine());
+                out.newLine();
+            }
+            LOGGER.info("Timing summary written to " + m_timingSummaryFile.getAbsolutePath());
+        } catch (IOException ex) {
+            LOGGER.error("Could not write timing summary to " + m_timingSummaryFile + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /** Exit code and the time spent in each phase of a single workflow run, -1 for phases that were not reached. */
+    private static final class WorkflowTiming {
+        private final File m_workflow;
+
+        private final String m_thread = Thread.currentThread().getName();
+
+        private int m_exitCode;
+
+        private long m_loadMillis = -1;
+
+        private long m_executeMillis = -1;
+
+        private long m_saveMillis = -1;
+
+        private long m_totalMillis = -1;
+
+        WorkflowTiming(final File workflow) {
+            m_workflow = workflow;
+        }
+
+        String toCSVLine() {
+            return "\"" + m_workflow.getPath().replace("\"", "\"\"") + "\"," + m_exitCode + "," + m_loadMillis + ","
+                + m_executeMillis + "," + m_saveMillis + "," + m_totalMillis + "," + m_thread;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return m_workflow + ": exit code " + m_exitCode + ", load " + m_loadMillis + "ms, execute "
+                + m_executeMillis + "ms, save " + m_saveMillis + "ms, total " + m_totalMillis + "ms";
+        }
     }
 
-    private int runOne(final WorkflowConfiguration config) {
+    private int runOne(final WorkflowConfiguration config, final WorkflowTiming timing) {
         long t = System.currentTimeMillis();
         WorkflowManager wfm;
         try {
@@ -925,6 +1272,8 @@ private int runOne(final WorkflowConfiguration config) {
             LOGGER.error("Unknown or wrong option: " + ex.getMessage());
             return EXIT_ERR_PRESTART;
         }
+        final long loadDone = System.currentTimeMillis();
+        timing.m_loadMillis = loadDone - t;
         boolean sucessful;
         try {
             try {
@@ -936,6 +1285,7 @@ private int runOne(final WorkflowConfiguration config) {
                 LOGGER.error("Workflow execution failed: " + ex.getMessage(), ex.getCause());
                 return ex.getDetailCode();
             } finally {
+                timing.m_executeMillis = System.currentTimeMillis() - loadDone;
                 long elapsedTimeMillis = System.currentTimeMillis() - t;
                 String niceTime = StringFormat.formatElapsedTime(elapsedTimeMillis);
                 String timeString = "Finished in " + niceTime + " (" + elapsedTimeMillis + "ms)";
@@ -946,8 +1296,10 @@ private int runOne(final WorkflowConfiguration config) {
                 LOGGER.debug("------------------------------------");
             }
 
+            final long saveStart = System.currentTimeMillis();
             try {
                 saveWorkflow(wfm, config);
+                timing.m_saveMillis = System.currentTimeMillis() - saveStart;
             } catch (IOException ex) {
                 LOGGER.error("IO error while saving workflow: " + ex.getMessage(), ex);
                 return EXIT_ERR_EXECUTION;
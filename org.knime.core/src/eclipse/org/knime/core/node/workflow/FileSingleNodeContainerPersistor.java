@@ -98,6 +98,11 @@ public abstract class FileSingleNodeContainerPersistor implements SingleNodeCont
 
     private NodeSettingsRO m_nodeSettings;
 
+    /** Result of {@link #preReadNodeSettings(WorkflowPersistor)}, consumed by the pre-load. */
+    private NodeSettingsRO m_preReadSettings;
+
+    private IOException m_preReadException;
+
     private SingleNodeContainerSettings m_sncSettings;
 
     private boolean m_needsResetAfterLoad;
@@ -196,26 +201,49 @@ public List<FlowObject> getFlowObjects() {
         return m_flowObjects;
     }
 
+    /**
+     * Reads the settings file of this node ahead of
+     * {@link #preLoadNodeContainer(WorkflowPersistor, NodeSettingsRO, LoadResult)}, which then uses the result (or
+     * rethrows the exception). Only parses the file, so it can be called concurrently for different nodes.
+     *
+     * @param parentPersistor the persistor of the workflow containing this node
+     */
+    void preReadNodeSettings(final WorkflowPersistor parentPersistor) {
+        try {
+            m_preReadSettings = readNodeSettingsFile(parentPersistor);
+        } catch (IOException ioe) {
+            m_preReadException = ioe;
+        }
+    }
+
+    private NodeSettingsRO readNodeSettingsFile(final WorkflowPersistor parentPersistor) throws IOException {
+        File settingsFile = getMetaPersistor().getNodeSettingsFile().getFile();
+        if (!settingsFile.isFile()) {
+            throw new IOException("Can't read node file \"" + settingsFile.getAbsolutePath() + "\"");
+        }
+        InputStream in = new FileInputStream(settingsFile);
+        // parentPersitor is null for loaded subnode templates
+        in = parentPersistor == null ? in : parentPersistor.decipherInput(in);
+        return NodeSettings.loadFromXML(new BufferedInputStream(in));
+    }
+
     /** {@inheritDoc} */
     @Override
     public void preLoadNodeContainer(final WorkflowPersistor parentPersistor, final NodeSettingsRO parentSettings,
         final LoadResult result) throws InvalidSettingsException, IOException {
         FileNodeContainerMetaPersistor meta = getMetaPersistor();
-        final ReferencedFile settingsFileRef = meta.getNodeSettingsFile();
-        File settingsFile = settingsFileRef.getFile();
-        if (!settingsFile.isFile()) {
-            setDirtyAfterLoad();
-            throw new IOException("Can't read node file \"" + settingsFile.getAbsolutePath() + "\"");
-        }
         NodeSettingsRO settings;
         try {
-            InputStream in = new FileInputStream(settingsFile);
-            // parentPersitor is null for loaded subnode templates
-            in = parentPersistor == null ? in : parentPersistor.decipherInput(in);
-            settings = NodeSettings.loadFromXML(new BufferedInputStream(in));
+            if (m_preReadException != null) {
+                throw m_preReadException;
+            }
+            settings = m_preReadSettings != null ? m_preReadSettings : readNodeSettingsFile(parentPersistor);
         } catch (IOException ioe) {
             setDirtyAfterLoad();
             throw ioe;
+        } finally {
+            m_preReadSettings = null;
+            m_preReadException = null;
         }
 
         boolean resetRequired = meta.load(settings, parentSettings, result);
@@ -67,6 +67,9 @@
 import java.util.Set;
 import java.util.Stack;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.core.internal.ReferencedFile;
 import org.knime.core.node.BufferedDataTable;
@@ -848,6 +851,9 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
             new HashMap<Integer, NodeFactoryUnknownException>();
         exec.setMessage("node information");
         final ReferencedFile workflowDirRef = workflowKNIMEFile.getParent();
+        final long settingsStart = System.nanoTime();
+        // nodes that are pre-loaded in a second step, after their settings files have been read concurrently
+        final List<NodePreLoadTask> preLoadTasks = new ArrayList<>();
         /* Load nodes */
         for (String nodeKey : nodes.keySet()) {
             exec.checkCanceled();
@@ -938,9 +944,26 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
                 default:
                     throw new IllegalStateException("Unknown node type: " + nodeType);
             }
+            preLoadTasks.add(new NodePreLoadTask(persistor, nodeSetting, nodeIDSuffix, nodeType, nodeUIInfo, nodeFile));
+        }
+
+        /* Read the settings files of native nodes and components, the node directories are independent of each other.
+         * Everything else (instantiating node factories and models, loading metanodes, which may prompt for
+         * credentials) is done by this thread below. */
+        try {
+            NodeDirectoryIOExecutor.invokeAll(new ArrayList<Callable<Void>>(preLoadTasks));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while reading node settings");
+        }
+        for (NodePreLoadTask task : preLoadTasks) {
+            exec.checkCanceled();
+            final FromFileNodeContainerPersistor persistor = task.m_persistor;
+            final ReferencedFile nodeFile = task.m_nodeFile;
+            int nodeIDSuffix = task.m_nodeIDSuffix;
             try {
-                LoadResult childResult = new LoadResult(nodeType.toString() + " with ID suffix " + nodeIDSuffix);
-                persistor.preLoadNodeContainer(this, nodeSetting, childResult);
+                LoadResult childResult = new LoadResult(task.m_nodeType.toString() + " with ID suffix " + nodeIDSuffix);
+                persistor.preLoadNodeContainer(this, task.m_nodeSetting, childResult);
                 loadResult.addChildError(childResult);
             } catch (Throwable e) {
                 String error =
@@ -979,12 +1002,13 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
                 nodeIDSuffix = randomID;
             }
             meta.setNodeIDSuffix(nodeIDSuffix);
-            meta.setUIInfo(nodeUIInfo);
+            meta.setUIInfo(task.m_nodeUIInfo);
             if (persistor.isDirtyAfterLoad()) {
                 setDirtyAfterLoad();
             }
             m_nodeContainerLoaderMap.put(nodeIDSuffix, persistor);
         }
+        loadResult.addPhaseTime(LoadResult.PHASE_NODE_SETTINGS, System.nanoTime() - settingsStart);
 
         /* read connections */
         exec.setMessage("connection information");
@@ -1917,18 +1941,45 @@ private static void saveContent(final WorkflowManager wm, final NodeSettings pre
             Collection<NodeContainer> nodes = wm.getNodeContainers();
             double progRatio = 1.0 / (nodes.size() + 1);
 
+            // native nodes only write their own directory and may be saved concurrently (opt-in, see
+            // NodeDirectoryIOExecutor); metanodes and components save their content recursively and are saved
+            // by this thread
+            final ReferencedFile nodesDirRef = workflowDirRef;
+            final List<Callable<Void>> nativeNodeSaveTasks = new ArrayList<>();
             for (NodeContainer nextNode : nodes) {
                 int id = nextNode.getID().getIndex();
                 ExecutionMonitor subExec = execMon.createSubProgress(progRatio);
-                execMon.setMessage(nextNode.getNameWithID());
                 NodeSettingsWO sub = nodesSettings.addNodeSettings("node_" + id);
-                NodeContext.pushContext(nextNode);
-                try {
-                    saveNodeContainer(sub, workflowDirRef, nextNode, subExec, saveHelper);
-                } finally {
-                    NodeContext.removeLastContext();
+                if (nextNode instanceof NativeNodeContainer) {
+                    nativeNodeSaveTasks.add(() -> {
+                        saveNodeContainerInContext(sub, nodesDirRef, nextNode, execMon, subExec, saveHelper);
+                        return null;
+                    });
+                } else {
+                    saveNodeContainerInContext(sub, nodesDirRef, nextNode, execMon, subExec, saveHelper);
                 }
-                subExec.setProgress(1.0);
+            }
+            try {
+                for (Future<Void> f : NodeDirectoryIOExecutor.invokeAll(nativeNodeSaveTasks)) {
+                    f.get(); // done, doesn't block
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Interrupted while saving nodes");
+            } catch (ExecutionException ee) {
+                final Throwable cause = ee.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException)cause;
+                } else if (cause instanceof CanceledExecutionException) {
+                    throw (CanceledExecutionException)cause;
+                } else if (cause instanceof LockFailedException) {
+                    throw (LockFailedException)cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                } else if (cause instanceof Error) {
+                    throw (Error)cause;
+                }
+                throw new IOException(cause.getMessage(), cause);
             }
 
             execMon.setMessage("connection information");
@@ -2139,6 +2190,20 @@ protected static NodeSettingsWO saveSettingsForConnections(final NodeSettingsWO
         return settings.addNodeSettings(KEY_CONNECTIONS);
     }
 
+    private static void saveNodeContainerInContext(final NodeSettingsWO settings,
+        final ReferencedFile workflowDirRef, final NodeContainer container, final ExecutionMonitor execMon,
+        final ExecutionMonitor subExec, final WorkflowSaveHelper saveHelper)
+        throws CanceledExecutionException, IOException, LockFailedException {
+        execMon.setMessage(container.getNameWithID());
+        NodeContext.pushContext(container);
+        try {
+            saveNodeContainer(settings, workflowDirRef, container, subExec, saveHelper);
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        subExec.setProgress(1.0);
+    }
+
     protected static void saveNodeContainer(final NodeSettingsWO settings, final ReferencedFile workflowDirRef,
         final NodeContainer container, final ExecutionMonitor exec, final WorkflowSaveHelper saveHelper)
         throws CanceledExecutionException, IOException, LockFailedException {
@@ -2327,5 +2392,43 @@ protected static void saveConnection(final NodeSettingsWO settings, final Connec
         }
     }
 
+    /**
+     * Reads the settings file of a contained native node or component ahead of
+     * {@link FromFileNodeContainerPersistor#preLoadNodeContainer(WorkflowPersistor, NodeSettingsRO, LoadResult)}, which
+     * is then called by the loading thread. Problems are reported by the latter.
+     */
+    private final class NodePreLoadTask implements Callable<Void> {
+
+        private final FromFileNodeContainerPersistor m_persistor;
+
+        private final NodeSettingsRO m_nodeSetting;
+
+        private final int m_nodeIDSuffix;
+
+        private final NodeType m_nodeType;
+
+        private final NodeUIInformation m_nodeUIInfo;
+
+        private final ReferencedFile m_nodeFile;
+
+        NodePreLoadTask(final FromFileNodeContainerPersistor persistor, final NodeSettingsRO nodeSetting,
+            final int nodeIDSuffix, final NodeType nodeType, final NodeUIInformation nodeUIInfo,
+            final ReferencedFile nodeFile) {
+            m_persistor = persistor;
+            m_nodeSetting = nodeSetting;
+            m_nodeIDSuffix = nodeIDSuffix;
+            m_nodeType = nodeType;
+            m_nodeUIInfo = nodeUIInfo;
+            m_nodeFile = nodeFile;
+        }
+
+        @Override
+        public Void call() {
+            if (m_persistor instanceof FileSingleNodeContainerPersistor) {
+                ((FileSingleNodeContainerPersistor)m_persistor).preReadNodeSettings(FileWorkflowPersistor.this);
+            }
+            return null;
+        }
+    }
 
 }
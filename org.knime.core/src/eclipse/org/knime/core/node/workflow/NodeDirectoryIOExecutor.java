@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Executor used by {@link FileWorkflowPersistor} to parse the settings files of the nodes in a workflow on load and
+ * to write the directories of native nodes on save concurrently. Concurrent I/O is opt-in: it is only enabled if
+ * {@link KNIMEConstants#PROPERTY_WORKFLOW_IO_THREADS} is set to a value larger than 1, which also bounds the number of
+ * threads. The {@link NodeContext} of the submitting thread is propagated to the tasks.
+ *
+ * <p>
+ * Tasks must not submit further tasks and wait for them, only the thread loading or saving a workflow waits.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeDirectoryIOExecutor {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeDirectoryIOExecutor.class);
+
+    /** Default number of threads, concurrent I/O is disabled unless requested via system property. */
+    private static final int DEF_PARALLELISM = 1;
+
+    private static final int PARALLELISM = readParallelism();
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private NodeDirectoryIOExecutor() {
+        // static helper
+    }
+
+    private static int readParallelism() {
+        final String value = System.getProperty(KNIMEConstants.PROPERTY_WORKFLOW_IO_THREADS);
+        if (value != null && !value.trim().isEmpty()) {
+            try {
+                final int parallelism = Integer.parseInt(value.trim());
+                if (parallelism > 0) {
+                    return parallelism;
+                }
+                LOGGER.warn("Ignoring non-positive value of system property \""
+                    + KNIMEConstants.PROPERTY_WORKFLOW_IO_THREADS + "\": " + parallelism);
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Unable to parse system property \"" + KNIMEConstants.PROPERTY_WORKFLOW_IO_THREADS
+                    + "\" (\"" + value + "\") as number: " + nfe.getMessage());
+            }
+        }
+        return DEF_PARALLELISM;
+    }
+
+    private static ExecutorService createExecutor() {
+        if (PARALLELISM <= 1) {
+            return null;
+        }
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 10L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), r -> {
+                final Thread t = new Thread(r, "KNIME-Workflow-IO-" + THREAD_COUNTER.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return ThreadUtils.executorServiceWithContext(executor);
+    }
+
+    /** @return the maximum number of node directories read or written concurrently */
+    static int getParallelism() {
+        return PARALLELISM;
+    }
+
+    /**
+     * Runs all tasks and waits until they are done. If there is more than one task and concurrent I/O is enabled the
+     * tasks run concurrently, otherwise they run in the calling thread.
+     *
+     * @param tasks the tasks, in the order of the returned futures
+     * @return the completed futures, one for each task
+     * @throws InterruptedException if interrupted while waiting (running tasks continue)
+     */
+    static <T> List<Future<T>> invokeAll(final List<Callable<T>> tasks) throws InterruptedException {
+        if (EXECUTOR != null && tasks.size() > 1) {
+            return EXECUTOR.invokeAll(tasks);
+        }
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            final FutureTask<T> future = new FutureTask<>(task);
+            future.run();
+            futures.add(future);
+        }
+        return futures;
+    }
+
+}
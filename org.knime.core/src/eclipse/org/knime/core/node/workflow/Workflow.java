@@ -47,18 +47,22 @@
  */
 package org.knime.core.node.workflow;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 
 import org.knime.core.node.NodeLogger;
@@ -78,19 +82,24 @@ class Workflow {
     /** my logger. */
     private static final NodeLogger LOGGER = NodeLogger.getLogger(Workflow.class);
 
-    /** mapping from NodeID to Nodes. */
-    private final TreeMap<NodeID, NodeContainer> m_nodes = new TreeMap<NodeID, NodeContainer>();
+    /** mapping from NodeID to Nodes. Concurrent so that read-only queries don't need the workflow lock. */
+    private final ConcurrentSkipListMap<NodeID, NodeContainer> m_nodes =
+            new ConcurrentSkipListMap<NodeID, NodeContainer>();
+
+    /** number of entries in m_nodes, kept separately as {@link ConcurrentSkipListMap#size()} is not constant time. */
+    private volatile int m_nrNodes;
 
     // Connections (by node, source and destination). Note that meta
     // connections (in- and outgoing of this workflow) are also part
     // of these maps. They will have our own ID as source/dest ID.
+    // Maps and sets are concurrent (and sets keep insertion order), modifications still require the workflow lock.
 
     /** mapping from source NodeID to set of outgoing connections. */
     private final Map<NodeID, Set<ConnectionContainer>> m_connectionsBySource
-                                  = new TreeMap<NodeID, Set<ConnectionContainer>>();
+                                  = new ConcurrentSkipListMap<NodeID, Set<ConnectionContainer>>();
     /** mapping from destination NodeID to set of incoming connections. */
     private final Map<NodeID, Set<ConnectionContainer>> m_connectionsByDest
-                                  = new TreeMap<NodeID, Set<ConnectionContainer>>();
+                                  = new ConcurrentSkipListMap<NodeID, Set<ConnectionContainer>>();
 
     private WorkflowManager m_wfm;
     private NodeID m_id;
@@ -106,8 +115,8 @@ class Workflow {
         m_wfm = wfm;
         m_id = id;
         // add sets for this (meta-) node's in- and output connections
-        m_connectionsByDest.put(id, new LinkedHashSet<ConnectionContainer>());
-        m_connectionsBySource.put(id, new LinkedHashSet<ConnectionContainer>());
+        m_connectionsByDest.put(id, new ConnectionSet());
+        m_connectionsBySource.put(id, new ConnectionSet());
         clearGraphAnnotationCache();
     }
 
@@ -126,7 +135,7 @@ NodeID getID() {
      */
     NodeID createUniqueID() {
         int nextIndex = 1;
-        if (getNrNodes() > 0) {
+        if (!m_nodes.isEmpty()) {
             NodeID lastID = m_nodes.lastKey();
             nextIndex = lastID.getIndex() + 1;
         }
@@ -153,10 +162,12 @@ NodeContainer getNode(final NodeID id) {
      */
     void putNode(final NodeID id, final NodeContainer nc) {
         // create Sets of in and outgoing connections
-        m_connectionsBySource.put(id, new LinkedHashSet<ConnectionContainer>());
-        m_connectionsByDest.put(id, new LinkedHashSet<ConnectionContainer>());
+        m_connectionsBySource.put(id, new ConnectionSet());
+        m_connectionsByDest.put(id, new ConnectionSet());
         // and then add node (avoid inconsistent node - connection setup)
-        m_nodes.put(id, nc);
+        if (m_nodes.put(id, nc) == null) {
+            m_nrNodes++;
+        }
         clearGraphAnnotationCache();
     }
 
@@ -168,6 +179,9 @@ void putNode(final NodeID id, final NodeContainer nc) {
     NodeContainer removeNode(final NodeID id) {
         // remove node
         NodeContainer node = m_nodes.remove(id);
+        if (node != null) {
+            m_nrNodes--;
+        }
         // and then clean up the connection lists  (avoid inconsistent node - connection setup)
         m_connectionsBySource.remove(id);
         m_connectionsByDest.remove(id);
@@ -196,7 +210,7 @@ Set<NodeID> getNodeIDs() {
      * @return number of nodes
      */
     int getNrNodes() {
-        return m_nodes.size();
+        return m_nrNodes;
     }
 
     /**
@@ -447,12 +461,12 @@ private void expandListBreadthFirst(
         // infinite loops (i.e. starting with incoming connections again
         // but if encountered remember to node&ports at the end of the search:
         Set<Integer> parentOutgoingPorts = new HashSet<Integer>();
+        // keys of the map in insertion order - kept separately since we constantly add to the map in this loop
+        // (copying the key set in each iteration is quadratic in the number of successors)
+        List<NodeID> sortedKeys = new ArrayList<NodeID>(bfsSortedNodes.keySet());
         // keep adding nodes until we can't find new ones anymore
-        for (int i = 0; i < bfsSortedNodes.size(); i++) {
-            // Not a very nice way to iterate over the keys of a map...
-            //   (but since we constantly add to it in this loop?!)
-            Object[] ani = bfsSortedNodes.keySet().toArray();
-            NodeID currNode = (NodeID)(ani[i]);
+        for (int i = 0; i < sortedKeys.size(); i++) {
+            NodeID currNode = sortedKeys.get(i);
             Set<Integer> currInPorts = bfsSortedNodes.get(currNode);
             Set<Integer> currOutPorts = new HashSet<Integer>();
             NodeContainer currNC = getNode(currNode);
@@ -500,6 +514,7 @@ private void expandListBreadthFirst(
                                 // if all predecessors are already in the BFS list
                                 // (or not to be considered): add it!
                                 bfsSortedNodes.put(succNode, incomingPorts);
+                                sortedKeys.add(succNode);
                             }
                         }
                     }
@@ -1314,6 +1329,88 @@ MetaPortInfo[] getMetanodeOutputPortInfo(final NodeID metaNodeID) {
         return result;
     }
 
+    /**
+     * Set of the in- or outgoing connections of a node. Keeps the insertion order (which determines, e.g., the order
+     * in which connections are saved and successors are configured) and can be read without locking. Adding and
+     * removing a connection takes logarithmic time; modifications are synchronized, but are to be done under the
+     * workflow lock anyway.
+     */
+    private static final class ConnectionSet extends AbstractSet<ConnectionContainer> {
+
+        /** Connections mapped to their insertion index, for constant-time lookups. */
+        private final Map<ConnectionContainer, Long> m_indices = new ConcurrentHashMap<>();
+
+        /** Connections by their insertion index, for iteration in insertion order. */
+        private final ConcurrentSkipListMap<Long, ConnectionContainer> m_connections = new ConcurrentSkipListMap<>();
+
+        private long m_nextIndex;
+
+        @Override
+        public synchronized boolean add(final ConnectionContainer cc) {
+            if (m_indices.containsKey(cc)) {
+                return false;
+            }
+            final Long index = m_nextIndex++;
+            m_connections.put(index, cc);
+            m_indices.put(cc, index);
+            return true;
+        }
+
+        @Override
+        public synchronized boolean remove(final Object o) {
+            final Long index = m_indices.remove(o);
+            if (index == null) {
+                return false;
+            }
+            m_connections.remove(index);
+            return true;
+        }
+
+        @Override
+        public synchronized void clear() {
+            m_indices.clear();
+            m_connections.clear();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return m_indices.containsKey(o);
+        }
+
+        @Override
+        public int size() {
+            return m_indices.size();
+        }
+
+        @Override
+        public Iterator<ConnectionContainer> iterator() {
+            final Iterator<ConnectionContainer> it = m_connections.values().iterator();
+            return new Iterator<ConnectionContainer>() {
+                private ConnectionContainer m_last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public ConnectionContainer next() {
+                    m_last = it.next();
+                    return m_last;
+                }
+
+                @Override
+                public void remove() {
+                    if (m_last == null) {
+                        throw new IllegalStateException();
+                    }
+                    ConnectionSet.this.remove(m_last);
+                    m_last = null;
+                }
+            };
+        }
+    }
+
     /** Helper class for lists of nodes with their inports and the depth
      * in the list. */
     static class NodeAndInports implements Comparable<NodeAndInports> {
@@ -1603,9 +1700,121 @@ public NodeGraphAnnotation getSingleNodeGraphAnnotation(final NodeID id)
     /** hold graph based annotations for all nodes. */
     private ArrayList<NodeGraphAnnotation> m_nodeAnnotationCache = null;
 
+    /** topological ranks of all nodes, null if not computed yet, see {@link #getTopologicalRanks()}. */
+    private Map<NodeID, NodeRank> m_topologicalRankCache = null;
+
+    /** set if the node graph contains cycles (via metanodes) and can't be ranked. */
+    private boolean m_isRankingImpossible = false;
+
+    /** Position of a node in the topological order of the workflow graph. */
+    static final class NodeRank implements Comparable<NodeRank> {
+
+        private final NodeID m_id;
+
+        /** length of the longest path from a source node to this node. */
+        private int m_depth;
+
+        /** length of the longest path from this node to a sink node (the critical path). */
+        private int m_height;
+
+        private NodeRank(final NodeID id) {
+            m_id = id;
+        }
+
+        /** @return the ranked node */
+        NodeID getID() {
+            return m_id;
+        }
+
+        /** @return length of the longest path from a source node to this node */
+        int getDepth() {
+            return m_depth;
+        }
+
+        /** @return length of the longest path from this node to a sink node */
+        int getHeight() {
+            return m_height;
+        }
+
+        /** Orders by depth, so that each node comes after all its predecessors, then by decreasing height, so that
+         * nodes on the critical path come first. */
+        @Override
+        public int compareTo(final NodeRank o) {
+            if (m_depth != o.m_depth) {
+                return Integer.compare(m_depth, o.m_depth);
+            }
+            if (m_height != o.m_height) {
+                return Integer.compare(o.m_height, m_height);
+            }
+            return m_id.compareTo(o.m_id);
+        }
+    }
+
+    /**
+     * Ranks all nodes of this workflow topologically (ignoring connections from and to the workflow itself). The
+     * result is cached until the structure of the workflow changes.
+     *
+     * @return the rank of each node or null if the node graph contains a cycle, which can happen when metanodes are
+     *         involved (connections through different ports of a metanode).
+     */
+    Map<NodeID, NodeRank> getTopologicalRanks() {
+        if (m_topologicalRankCache == null && !m_isRankingImpossible) {
+            final Map<NodeID, NodeRank> ranks = new HashMap<>();
+            final Map<NodeID, Integer> nrUnrankedPreds = new HashMap<>();
+            final ArrayList<NodeID> order = new ArrayList<>(m_nrNodes);
+            for (NodeID id : m_nodes.keySet()) {
+                ranks.put(id, new NodeRank(id));
+                int nrPreds = 0;
+                for (ConnectionContainer cc : m_connectionsByDest.get(id)) {
+                    if (!cc.getSource().equals(getID())) {
+                        nrPreds++;
+                    }
+                }
+                if (nrPreds == 0) {
+                    order.add(id);
+                } else {
+                    nrUnrankedPreds.put(id, nrPreds);
+                }
+            }
+            // Kahn's algorithm, the list doubles as queue
+            for (int i = 0; i < order.size(); i++) {
+                final NodeID id = order.get(i);
+                final int succDepth = ranks.get(id).m_depth + 1;
+                for (ConnectionContainer cc : m_connectionsBySource.get(id)) {
+                    final NodeID succ = cc.getDest();
+                    if (succ.equals(getID())) {
+                        continue;
+                    }
+                    final NodeRank succRank = ranks.get(succ);
+                    succRank.m_depth = Math.max(succRank.m_depth, succDepth);
+                    if (nrUnrankedPreds.merge(succ, -1, Integer::sum) == 0) {
+                        order.add(succ);
+                    }
+                }
+            }
+            if (order.size() < ranks.size()) {
+                m_isRankingImpossible = true;
+                return null;
+            }
+            for (int i = order.size() - 1; i >= 0; i--) {
+                final NodeRank rank = ranks.get(order.get(i));
+                for (ConnectionContainer cc : m_connectionsBySource.get(rank.m_id)) {
+                    final NodeRank succRank = ranks.get(cc.getDest());
+                    if (succRank != null) {
+                        rank.m_height = Math.max(rank.m_height, succRank.m_height + 1);
+                    }
+                }
+            }
+            m_topologicalRankCache = ranks;
+        }
+        return m_topologicalRankCache;
+    }
+
     /** clean cache - called internally whenever the structure (connections/nodes) are altered. */
     private void clearGraphAnnotationCache() {
         m_nodeAnnotationCache = null;
+        m_topologicalRankCache = null;
+        m_isRankingImpossible = false;
         // also clear cache in parent - changes here may affect the connectivity outside as well.
         if (m_wfm != null && m_wfm.getParent() != null && m_wfm.getParent().getWorkflow() != null) {
             m_wfm.getParent().getWorkflow().clearGraphAnnotationCache();
@@ -49,6 +49,8 @@
 package org.knime.core.node.workflow;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.lang3.mutable.MutableInt;
@@ -66,6 +68,11 @@
  * {@link ReentrantLock} but are still distinct {@link WorkflowLock} instances to properly isolate the status
  * update request.
  *
+ * <p/>
+ * Each instance keeps track of how often it was acquired and how long threads had to wait for it (see
+ * {@link #getWaitTime(TimeUnit)}), which helps finding contention in large workflows. Read-only queries such as
+ * {@link WorkflowManager#getNodeContainers()} or the connection getters don't acquire the lock.
+ *
  * @noreference This class is not intended to be referenced by clients.
  * @author Bernd Wiswedel, KNIME AG, Zurich, Switzerland
  */
@@ -77,6 +84,13 @@ public final class WorkflowLock implements AutoCloseable {
     private boolean m_checkForNodeStateChanges;
     private boolean m_propagateChanges;
 
+    /** Number of calls to {@link #lock()}. */
+    private final LongAdder m_lockCount = new LongAdder();
+    /** Number of calls to {@link #lock()} that found the lock held by another thread. */
+    private final LongAdder m_contendedLockCount = new LongAdder();
+    /** Total time in nanoseconds threads waited in {@link #lock()}. */
+    private final LongAdder m_waitTimeNanos = new LongAdder();
+
     /** For each thread doing something with this {@link WorkflowLock} a counter how often the thread went through
      * {@link #lock()} without {@link #unlock()} (on this instance, not the parent nor child instance).
      * It's a ThreadLocal because threads putting themselves to sleep on the underlying {@link ReentrantLock} will
@@ -119,7 +133,13 @@ boolean isHeldByCurrentThread() {
      * @return this.
      */
     public WorkflowLock lock() {
-        m_reentrantLock.lock();
+        if (!m_reentrantLock.tryLock()) {
+            final long start = System.nanoTime();
+            m_reentrantLock.lock();
+            m_waitTimeNanos.add(System.nanoTime() - start);
+            m_contendedLockCount.increment();
+        }
+        m_lockCount.increment();
         if (KNIMEConstants.ASSERTIONS_ENABLED) {
             hasNoChildLocked();
         }
@@ -191,6 +211,37 @@ void queueCheckForNodeStateChangeNotification(final boolean propagateChanges) {
         }
     }
 
+    /** @return number of times this lock was acquired via {@link #lock()}.
+     * @since 4.2 */
+    public long getLockCount() {
+        return m_lockCount.sum();
+    }
+
+    /** @return number of times a thread calling {@link #lock()} had to wait because the lock was held by another
+     * thread.
+     * @since 4.2 */
+    public long getContendedLockCount() {
+        return m_contendedLockCount.sum();
+    }
+
+    /** Total time threads spent waiting to acquire this lock in {@link #lock()}. Note that contained metanodes and
+     * components share the underlying {@link ReentrantLock}; the time is accounted to the instance that was locked.
+     * @param unit the unit of the returned value, not null
+     * @return the accumulated wait time
+     * @since 4.2 */
+    public long getWaitTime(final TimeUnit unit) {
+        return unit.convert(m_waitTimeNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /** Resets the counters returned by {@link #getLockCount()}, {@link #getContendedLockCount()} and
+     * {@link #getWaitTime(TimeUnit)}.
+     * @since 4.2 */
+    public void resetStatistics() {
+        m_lockCount.reset();
+        m_contendedLockCount.reset();
+        m_waitTimeNanos.reset();
+    }
+
     /** {@linkplain #unlock() Unlocks} the lock.
      * <p/>
      * {@inheritDoc} */
@@ -85,6 +85,7 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -585,6 +586,18 @@ public WorkflowLock lock() {
         return m_workflowLock;
     }
 
+    /**
+     * Returns the lock of this workflow without acquiring it. Used to query its contention statistics, e.g.
+     * {@link WorkflowLock#getWaitTime(java.util.concurrent.TimeUnit)}.
+     *
+     * @return The lock instance, not null.
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 4.2
+     */
+    public WorkflowLock getWorkflowLock() {
+        return m_workflowLock;
+    }
+
     /**
      * Like {@link #lock()} just that it assert that the lock is already held by the calling thread. Used in private
      * methods that need to be called while locked.
@@ -1419,19 +1432,18 @@ public void removeConnection(final ConnectionContainer cc) {
      * @return all outgoing connections for the passed node at the specified port
      */
     public Set<ConnectionContainer> getOutgoingConnectionsFor(final NodeID id, final int portIdx) {
-        try (WorkflowLock lock = lock()) {
-            Set<ConnectionContainer> outConnections = m_workflow.getConnectionsBySource(id);
-            Set<ConnectionContainer> outConsForPort = new HashSet<ConnectionContainer>();
-            if (outConnections == null) {
-                return outConsForPort;
-            }
-            for (ConnectionContainer cont : outConnections) {
-                if (cont.getSourcePort() == portIdx) {
-                    outConsForPort.add(cont);
-                }
-            }
+        // no lock needed, connection sets are concurrent
+        Set<ConnectionContainer> outConnections = m_workflow.getConnectionsBySource(id);
+        Set<ConnectionContainer> outConsForPort = new HashSet<ConnectionContainer>();
+        if (outConnections == null) {
             return outConsForPort;
         }
+        for (ConnectionContainer cont : outConnections) {
+            if (cont.getSourcePort() == portIdx) {
+                outConsForPort.add(cont);
+            }
+        }
+        return outConsForPort;
     }
 
     /**
@@ -1442,10 +1454,11 @@ public Set<ConnectionContainer> getOutgoingConnectionsFor(final NodeID id, final
      * @throws IllegalArgumentException If the node is unknown or null.
      */
     public Set<ConnectionContainer> getOutgoingConnectionsFor(final NodeID id) {
-        try (WorkflowLock lock = lock()) {
-            getNodeContainer(id); // for exception handling
-            return new LinkedHashSet<ConnectionContainer>(m_workflow.getConnectionsBySource(id));
-        }
+        // no lock needed, connection sets are concurrent
+        getNodeContainer(id); // for exception handling
+        Set<ConnectionContainer> outConnections = m_workflow.getConnectionsBySource(id);
+        return outConnections == null ? new LinkedHashSet<ConnectionContainer>()
+            : new LinkedHashSet<ConnectionContainer>(outConnections);
     }
 
     /**
@@ -1457,16 +1470,15 @@ public Set<ConnectionContainer> getOutgoingConnectionsFor(final NodeID id) {
      * @throws IllegalArgumentException If node is not contained in workflow, nor is it the ID of this WFM
      */
     public ConnectionContainer getIncomingConnectionFor(final NodeID id, final int portIdx) {
-        try (WorkflowLock lock = lock()) {
-            CheckUtils.checkArgument(id.equals(getID()) || containsNodeContainer(id),
-                "Node ID \"%s\" not contained in workflow, nor it's the workflow itself (ID of this workflow is \"%s\")",
-                id, getID());
-            Set<ConnectionContainer> inConns = m_workflow.getConnectionsByDest(id);
-            if (inConns != null) {
-                for (ConnectionContainer cont : inConns) {
-                    if (cont.getDestPort() == portIdx) {
-                        return cont;
-                    }
+        // no lock needed, connection sets are concurrent
+        CheckUtils.checkArgument(id.equals(getID()) || containsNodeContainer(id),
+            "Node ID \"%s\" not contained in workflow, nor it's the workflow itself (ID of this workflow is \"%s\")",
+            id, getID());
+        Set<ConnectionContainer> inConns = m_workflow.getConnectionsByDest(id);
+        if (inConns != null) {
+            for (ConnectionContainer cont : inConns) {
+                if (cont.getDestPort() == portIdx) {
+                    return cont;
                 }
             }
         }
@@ -1481,10 +1493,11 @@ public ConnectionContainer getIncomingConnectionFor(final NodeID id, final int p
      * @throws IllegalArgumentException If the node is unknown or null.
      */
     public Set<ConnectionContainer> getIncomingConnectionsFor(final NodeID id) {
-        try (WorkflowLock lock = lock()) {
-            getNodeContainer(id); // for exception handling
-            return new LinkedHashSet<ConnectionContainer>(m_workflow.getConnectionsByDest(id));
-        }
+        // no lock needed, connection sets are concurrent
+        getNodeContainer(id); // for exception handling
+        Set<ConnectionContainer> inConnections = m_workflow.getConnectionsByDest(id);
+        return inConnections == null ? new LinkedHashSet<ConnectionContainer>()
+            : new LinkedHashSet<ConnectionContainer>(inConnections);
     }
 
     /**
@@ -1494,9 +1507,7 @@ public Set<ConnectionContainer> getIncomingConnectionsFor(final NodeID id) {
      * @return the connection with the specified id
      */
     public ConnectionContainer getConnection(final ConnectionID id) {
-        try (WorkflowLock lock = lock()) {
-            return getIncomingConnectionFor(id.getDestinationNode(), id.getDestinationPort());
-        }
+        return getIncomingConnectionFor(id.getDestinationNode(), id.getDestinationPort());
     }
 
     /**
@@ -3225,7 +3236,9 @@ void doAfterExecution(final NodeContainer nc, final NodeContainerExecutionStatus
                 // may be SingleNodeContainer or WFM contained within this
                 // one but then it can be treated like a SNC
                 getExecutionController().checkHaltingCriteria(nc.getID());
-                configureNodeAndPortSuccessors(nc.getID(), null, false, true, false);
+                if (!configureSuccessorsAfterExecution(nc.getID())) {
+                    configureNodeAndPortSuccessors(nc.getID(), null, false, true, false);
+                }
             }
             lock.queueCheckForNodeStateChangeNotification(true);
         }
@@ -6344,6 +6357,85 @@ private void configureNodeAndPortSuccessors(final NodeID nodeId, final Set<Integ
         }
     }
 
+    /**
+     * Configures the successors of a node that finished execution, equivalent to
+     * {@link #configureNodeAndPortSuccessors(NodeID, Set, boolean, boolean, boolean)} with the node itself not being
+     * configured. Rather than collecting all (transitive) successors upfront, this method only follows successors of
+     * nodes whose configuration changed and visits them in topological order (see
+     * {@link Workflow#getTopologicalRanks()}). As successors usually don't change when a predecessor finishes execution,
+     * the cost is typically proportional to the number of outgoing connections of the node, not to the size of the
+     * workflow. Successors of the same depth are configured -- and hence queued for execution -- with those on the
+     * longest remaining path first.
+     *
+     * @param nodeId of the node that finished execution
+     * @return false if the nodes of this workflow can't be ranked (cycles via metanodes); nothing is done then
+     */
+    private boolean configureSuccessorsAfterExecution(final NodeID nodeId) {
+        try (WorkflowLock lock = assertLock()) {
+            final Map<NodeID, Workflow.NodeRank> ranks = m_workflow.getTopologicalRanks();
+            if (ranks == null) {
+                return false;
+            }
+            final PriorityQueue<Workflow.NodeRank> queue = new PriorityQueue<Workflow.NodeRank>();
+            // the input ports of queued nodes connected to freshly configured nodes (needed for metanodes)
+            final Map<NodeID, Set<Integer>> queuedNodes = new HashMap<NodeID, Set<Integer>>();
+            // ports of this workflow connected to freshly configured nodes
+            final Set<Integer> portsToConf = new LinkedHashSet<Integer>();
+            queueSuccessorsForConfiguration(nodeId, null, ranks, queue, queuedNodes, portsToConf);
+            while (!queue.isEmpty()) {
+                final NodeID currNode = queue.poll().getID();
+                final NodeContainer nc = getNodeContainer(currNode);
+                if (nc instanceof SingleNodeContainer) {
+                    if (configureSingleNodeContainer((SingleNodeContainer)nc, /*keepNodeMessage=*/false)) {
+                        queueSuccessorsForConfiguration(currNode, null, ranks, queue, queuedNodes, portsToConf);
+                    }
+                } else {
+                    assert nc instanceof WorkflowManager;
+                    final WorkflowManager wfm = (WorkflowManager)nc;
+                    wfm.configureNodesConnectedToPortInWFM(null);
+                    // only follow the output ports connected to the changed input ports (all if there are none,
+                    // like in the breadth first search used by configureNodeAndPortSuccessors)
+                    final Set<Integer> outPorts = new HashSet<Integer>();
+                    for (int inPort : queuedNodes.get(currNode)) {
+                        outPorts.addAll(wfm.getWorkflow().connectedOutPorts(inPort));
+                    }
+                    queueSuccessorsForConfiguration(currNode, outPorts.isEmpty() ? null : outPorts, ranks, queue,
+                        queuedNodes, portsToConf);
+                }
+            }
+            if (!portsToConf.isEmpty()) {
+                getParent().configureNodeAndPortSuccessors(getID(), portsToConf, false, true, false);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Helper for {@link #configureSuccessorsAfterExecution(NodeID)}, queues all successors of a node connected to one
+     * of the argument output ports.
+     */
+    private void queueSuccessorsForConfiguration(final NodeID id, final Set<Integer> outPorts,
+        final Map<NodeID, Workflow.NodeRank> ranks, final PriorityQueue<Workflow.NodeRank> queue,
+        final Map<NodeID, Set<Integer>> queuedNodes, final Set<Integer> portsToConf) {
+        for (ConnectionContainer cc : m_workflow.getConnectionsBySource(id)) {
+            if (outPorts != null && !outPorts.contains(cc.getSourcePort())) {
+                continue;
+            }
+            final NodeID succ = cc.getDest();
+            if (succ.equals(getID())) {
+                portsToConf.add(cc.getDestPort());
+                continue;
+            }
+            Set<Integer> inPorts = queuedNodes.get(succ);
+            if (inPorts == null) {
+                inPorts = new HashSet<Integer>();
+                queuedNodes.put(succ, inPorts);
+                queue.add(ranks.get(succ));
+            }
+            inPorts.add(cc.getDestPort());
+        }
+    }
+
     /**
      * Fill array holding all input specs for the given node.
      *
@@ -6591,10 +6683,8 @@ public String toString() {
     /** {@inheritDoc} */
     @Override
     public Collection<NodeContainer> getNodeContainers() {
-        try (WorkflowLock lock = lock()) {
-            // TODO should we copy the list as changes to the wkf later will change this list
-            return m_workflow.getNodeValues();
-        }
+        // no lock needed, the node map is concurrent; the returned view is weakly consistent
+        return m_workflow.getNodeValues();
     }
 
     /**
@@ -7992,6 +8082,12 @@ public WorkflowLoadResult load(final FileWorkflowPersistor persistor, final Exec
                 message.append("with ").append(result.getType());
         }
         LOGGER.debug(message.toString());
+        if (LOGGER.isDebugEnabled()) {
+            final StringBuilder phases = new StringBuilder("Load time per phase:");
+            result.getPhaseTimes().forEach((phase, nanos) -> phases.append(' ').append(phase).append(": ")
+                .append(TimeUnit.NANOSECONDS.toMillis(nanos)).append("ms;"));
+            LOGGER.debug(phases.toString());
+        }
         return result;
     }
 
@@ -8172,6 +8268,9 @@ private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
             // two steps below: loadNodeContainer and loadContent
             ExecutionMonitor sub1 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
             ExecutionMonitor sub2 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
+            // metanodes and components record the phases of their content themselves
+            final boolean isNativeNode = cont instanceof NativeNodeContainer;
+            long phaseStart = System.nanoTime();
             NodeContext.pushContext(cont);
             try {
                 persistor.loadNodeContainer(tblRep, sub1, subResult);
@@ -8187,11 +8286,18 @@ private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
                 NodeContext.removeLastContext();
             }
             sub1.setProgress(1.0);
+            if (isNativeNode) {
+                subResult.addPhaseTime(LoadResult.PHASE_NODE_DATA, System.nanoTime() - phaseStart);
+                phaseStart = System.nanoTime();
+            }
             // if cont == isolated metanodes, then we need to block that metanode as well
             // (that is being asserted in methods which get called indirectly)
             try (WorkflowLock lock = cont instanceof WorkflowManager ? ((WorkflowManager)cont).lock() : lock()) {
                 cont.loadContent(persistor, tblRep, inStack, sub2, subResult, keepNodeMessage);
             }
+            if (isNativeNode) {
+                subResult.addPhaseTime(LoadResult.PHASE_NODE_STATE, System.nanoTime() - phaseStart);
+            }
             sub2.setProgress(1.0);
             if (persistor.isDirtyAfterLoad()) {
                 cont.setDirty();
@@ -51,6 +51,7 @@
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -537,6 +538,27 @@ public static class LoadResult extends LoadResultEntry {
 
         private final List<TableStoreFormatInformation> m_missingTableFormats = new ArrayList<>();
 
+        /**
+         * Phase of loading in which the settings of the nodes are read, see {@link #getPhaseTimes()}.
+         * @since 4.2
+         */
+        public static final String PHASE_NODE_SETTINGS = "Reading node settings";
+
+        /**
+         * Phase of loading in which the port objects and internals of the nodes are read, see
+         * {@link #getPhaseTimes()}. Data tables are read lazily, so this phase only covers their meta information.
+         * @since 4.2
+         */
+        public static final String PHASE_NODE_DATA = "Reading node data";
+
+        /**
+         * Phase of loading in which the loaded content is applied to the nodes, see {@link #getPhaseTimes()}.
+         * @since 4.2
+         */
+        public static final String PHASE_NODE_STATE = "Restoring node state";
+
+        private final Map<String, Long> m_phaseTimes = new LinkedHashMap<>();
+
         /** */
         public LoadResult(final String name) {
             super(LoadResultEntryType.Ok, name);
@@ -570,6 +592,30 @@ public void addChildError(final LoadResult loadResult) {
             m_errors.add(loadResult);
             m_missingNodes.addAll(loadResult.getMissingNodes());
             m_missingTableFormats.addAll(loadResult.getMissingTableFormats());
+            loadResult.m_phaseTimes.forEach(this::addPhaseTime);
+        }
+
+        /**
+         * Adds the time spent in a phase of loading, e.g. reading the node settings or the node data. Times of the
+         * same phase are summed up. Times recorded in a child result are added to this result when the child is
+         * added, see {@link #addChildError(LoadResult)}.
+         *
+         * @param phase the name of the phase
+         * @param nanos the time in nanoseconds
+         * @since 4.2
+         */
+        public void addPhaseTime(final String phase, final long nanos) {
+            m_phaseTimes.merge(phase, nanos, Long::sum);
+        }
+
+        /**
+         * Returns the time spent in the phases of loading, in the order the phases were first recorded.
+         *
+         * @return an unmodifiable map from phase name to time in nanoseconds
+         * @since 4.2
+         */
+        public Map<String, Long> getPhaseTimes() {
+            return Collections.unmodifiableMap(m_phaseTimes);
         }
 
         /** {@inheritDoc} */
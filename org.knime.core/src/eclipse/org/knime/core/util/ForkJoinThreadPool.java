@@ -0,0 +1,629 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A {@link ThreadPool} that runs its jobs on a work-stealing {@link ForkJoinPool}. It has the same semantics as the
+ * default implementation: sub pools share the threads of their parent but have their own maximum number of threads
+ * (quota), and threads that wait for other jobs (in {@link Future#get()}, {@link #waitForTermination()} or
+ * {@link #runInvisible(Callable)}) don't count against the quotas. Jobs that don't fit into the quotas are queued in
+ * submission order.
+ *
+ * <p>
+ * In contrast to the default implementation, jobs submitted from within a job are pushed to the local queue of the
+ * submitting thread and idle threads steal from other threads' queues, so nested jobs don't have to wait behind jobs
+ * submitted from the outside. Waiting threads are {@linkplain ForkJoinPool#managedBlock(ManagedBlocker) managed
+ * blockers}, for which the fork/join pool activates a spare thread.
+ *
+ * <p>
+ * Besides the number of {@linkplain #getRunningThreads() running threads}, each pool reports the number of
+ * {@linkplain #getQueuedJobCount() queued jobs} and the {@linkplain #getStealCount() steal count} of the underlying
+ * fork/join pool.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public class ForkJoinThreadPool extends ThreadPool {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ForkJoinThreadPool.class);
+
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    private static final ForkJoinWorkerThreadFactory WORKER_FACTORY = pool -> {
+        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("KNIME-FJ-Worker-" + WORKER_COUNTER.getAndIncrement());
+        thread.setPriority(Thread.MIN_PRIORITY + 2);
+        thread.setDaemon(true);
+        return thread;
+    };
+
+    /** The pool whose job the current thread is running, null if the thread doesn't run such a job. */
+    private static final ThreadLocal<ForkJoinThreadPool> CURRENT_POOL = new ThreadLocal<>();
+
+    /** State shared by a root pool and all its sub pools. */
+    private static final class Shared {
+
+        /** The pool running the jobs, replaced when the maximum number of threads grows beyond its parallelism. */
+        private volatile ForkJoinPool m_forkJoinPool;
+
+        /** Steals of replaced fork/join pools. */
+        private volatile long m_retiredStealCount;
+
+        /** Jobs that didn't fit into the quotas, in submission order. Also used as lock for dispatching. */
+        private final Queue<Job<?>> m_queue = new LinkedList<>();
+
+        /** Jobs of the root pool and all sub pools that are currently running. */
+        private final Set<Job<?>> m_activeJobs = ConcurrentHashMap.newKeySet();
+
+        private Shared(final int parallelism) {
+            m_forkJoinPool = new ForkJoinPool(parallelism, WORKER_FACTORY, null, true);
+        }
+    }
+
+    private final class Job<T> extends FutureTask<T> {
+
+        private final CountDownLatch m_startWaiter = new CountDownLatch(1);
+
+        private final ClassLoader m_contextClassloader = Thread.currentThread().getContextClassLoader();
+
+        /** The thread running this job, null if not running. */
+        private volatile Thread m_thread;
+
+        Job(final Callable<T> callable) {
+            super(ThreadUtils.callableWithContext(callable, false));
+        }
+
+        Job(final Runnable runnable, final T result) {
+            super(ThreadUtils.runnableWithContext(runnable, false), result);
+        }
+
+        ForkJoinThreadPool getPool() {
+            return ForkJoinThreadPool.this;
+        }
+
+        void interrupt() {
+            final Thread thread = m_thread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            m_startWaiter.countDown();
+            final Thread thread = Thread.currentThread();
+            final ClassLoader previousContextClassloader = thread.getContextClassLoader();
+            final ForkJoinThreadPool previousPool = CURRENT_POOL.get();
+            thread.setContextClassLoader(m_contextClassloader);
+            CURRENT_POOL.set(ForkJoinThreadPool.this);
+            m_thread = thread;
+            m_shared.m_activeJobs.add(this);
+            try {
+                super.run();
+            } finally {
+                m_shared.m_activeJobs.remove(this);
+                m_thread = null;
+                CURRENT_POOL.set(previousPool);
+                thread.setContextClassLoader(previousContextClassloader);
+                jobFinished();
+            }
+        }
+
+        @Override
+        protected void setException(final Throwable t) {
+            super.setException(t);
+            if (!(t instanceof CanceledExecutionException)) {
+                // canceled execution exception is fine and will not be reported
+                LOGGER.error("An exception occurred while executing a runnable.", t);
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean b = super.cancel(mayInterruptIfRunning);
+            if (b) {
+                m_startWaiter.countDown();
+            }
+            return b;
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            try {
+                return waitInvisibly(() -> super.get());
+            } catch (InterruptedException | ExecutionException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ExecutionException(e);
+            }
+        }
+
+        @Override
+        public T get(final long timeout, final TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+            try {
+                return waitInvisibly(() -> super.get(timeout, unit));
+            } catch (InterruptedException | ExecutionException | TimeoutException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ExecutionException(e);
+            }
+        }
+    }
+
+    /** Runs a callable as managed blocker, so that the fork/join pool can activate a spare thread meanwhile. */
+    private static final class CallableBlocker<V> implements ManagedBlocker {
+
+        private final Callable<V> m_callable;
+
+        private V m_result;
+
+        private Exception m_exception;
+
+        private boolean m_isDone;
+
+        CallableBlocker(final Callable<V> callable) {
+            m_callable = callable;
+        }
+
+        @Override
+        public boolean block() {
+            try {
+                m_result = m_callable.call();
+            } catch (Exception e) { // NOSONAR rethrown by get()
+                m_exception = e;
+            }
+            m_isDone = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return m_isDone;
+        }
+
+        V get() throws Exception {
+            ForkJoinPool.managedBlock(this);
+            if (m_exception != null) {
+                throw m_exception;
+            }
+            return m_result;
+        }
+    }
+
+    private final ForkJoinThreadPool m_parent;
+
+    private final Shared m_shared;
+
+    private final AtomicInteger m_maxThreads = new AtomicInteger();
+
+    /** Number of jobs of this pool and its sub pools that are running. */
+    private final AtomicInteger m_runningJobs = new AtomicInteger();
+
+    /** Number of threads of this pool and its sub pools that are waiting and hence not counted. */
+    private final AtomicInteger m_invisibleThreads = new AtomicInteger();
+
+    /** Number of jobs of this pool and its sub pools that are waiting in the queue. */
+    private final AtomicInteger m_queuedJobs = new AtomicInteger();
+
+    /** Number of jobs of this pool and its sub pools that are queued or running. */
+    private final AtomicInteger m_pendingJobs = new AtomicInteger();
+
+    /**
+     * Creates a new pool with a maximum number of threads.
+     *
+     * @param maxThreads the maximum number of threads
+     * @throws IllegalArgumentException if the maximum number of threads is smaller than 1
+     */
+    public ForkJoinThreadPool(final int maxThreads) {
+        super(maxThreads);
+        m_maxThreads.set(maxThreads);
+        m_parent = null;
+        m_shared = new Shared(maxThreads);
+    }
+
+    /**
+     * Creates a new sub pool.
+     *
+     * @param maxThreads the maximum number of threads in the pool
+     * @param parent the parent pool
+     * @throws IllegalArgumentException if the maximum number of threads is smaller than 1
+     */
+    protected ForkJoinThreadPool(final int maxThreads, final ForkJoinThreadPool parent) {
+        super(maxThreads, parent);
+        m_maxThreads.set(maxThreads);
+        m_parent = parent;
+        m_shared = parent.m_shared;
+    }
+
+    /**
+     * If the current thread runs a job of a {@link ForkJoinThreadPool}, this method returns that pool. Otherwise it
+     * returns <code>null</code>.
+     *
+     * @return a thread pool or <code>null</code>
+     */
+    static ForkJoinThreadPool currentForkJoinPool() {
+        return CURRENT_POOL.get();
+    }
+
+    /**
+     * {@inheritDoc} The sub pool has at least one thread, even if this pool has been shut down (in which case the
+     * quota of this pool still prevents jobs of the sub pool from running).
+     */
+    @Override
+    public ThreadPool createSubPool() {
+        return new ForkJoinThreadPool(Math.max(1, m_maxThreads.get()), this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ThreadPool createSubPool(final int maxThreads) {
+        return new ForkJoinThreadPool(maxThreads, this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Future<T> enqueue(final Callable<T> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task must not be null");
+        }
+        return enqueue(new Job<T>(task));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Future<?> enqueue(final Runnable r) {
+        return enqueue(new Job<Object>(r, null));
+    }
+
+    private <T> Job<T> enqueue(final Job<T> job) {
+        synchronized (m_shared.m_queue) {
+            for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+                p.m_pendingJobs.incrementAndGet();
+            }
+            if (tryAcquire()) {
+                m_shared.m_forkJoinPool.execute(job);
+            } else {
+                m_shared.m_queue.add(job);
+                for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+                    p.m_queuedJobs.incrementAndGet();
+                }
+            }
+        }
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Future<T> trySubmit(final Callable<T> t) {
+        return trySubmit(new Job<T>(t));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Future<?> trySubmit(final Runnable r) {
+        return trySubmit(new Job<Object>(r, null));
+    }
+
+    private <T> Job<T> trySubmit(final Job<T> job) {
+        synchronized (m_shared.m_queue) {
+            if (!tryAcquire()) {
+                return null;
+            }
+            for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+                p.m_pendingJobs.incrementAndGet();
+            }
+            m_shared.m_forkJoinPool.execute(job);
+        }
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) throws InterruptedException {
+        final Job<T> job = (Job<T>)enqueue(task);
+        job.m_startWaiter.await();
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Future<?> submit(final Runnable task) throws InterruptedException {
+        final Job<?> job = (Job<?>)enqueue(task);
+        job.m_startWaiter.await();
+        return job;
+    }
+
+    /**
+     * Reserves a thread for a job of this pool if this pool and all its ancestors have capacity left. Must be called
+     * while holding the queue lock.
+     */
+    private boolean tryAcquire() {
+        for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+            if (p.m_runningJobs.get() - p.m_invisibleThreads.get() >= p.m_maxThreads.get()) {
+                return false;
+            }
+        }
+        for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_runningJobs.incrementAndGet();
+        }
+        return true;
+    }
+
+    /** Starts queued jobs as long as their pools have capacity left and removes canceled ones. */
+    private void dispatch() {
+        synchronized (m_shared.m_queue) {
+            for (Iterator<Job<?>> it = m_shared.m_queue.iterator(); it.hasNext();) {
+                final Job<?> job = it.next();
+                final ForkJoinThreadPool pool = job.getPool();
+                if (job.isCancelled()) {
+                    it.remove();
+                    pool.dequeued();
+                    pool.pendingJobDone();
+                } else if (pool.tryAcquire()) {
+                    it.remove();
+                    pool.dequeued();
+                    m_shared.m_forkJoinPool.execute(job);
+                }
+            }
+        }
+    }
+
+    private void dequeued() {
+        for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_queuedJobs.decrementAndGet();
+        }
+    }
+
+    private void pendingJobDone() {
+        for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+            if (p.m_pendingJobs.decrementAndGet() == 0) {
+                synchronized (p.m_pendingJobs) {
+                    p.m_pendingJobs.notifyAll();
+                }
+            }
+        }
+    }
+
+    /** Called after a job of this pool has finished, releases its thread and starts queued jobs. */
+    private void jobFinished() {
+        for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_runningJobs.decrementAndGet();
+        }
+        pendingJobDone();
+        dispatch();
+    }
+
+    /**
+     * Runs the argument in the current thread. If the thread runs a job of a pool, it doesn't count as running for
+     * that pool and its ancestors meanwhile, queued jobs are started and the fork/join pool may activate a spare
+     * thread.
+     */
+    private <V> V waitInvisibly(final Callable<V> callable) throws Exception {
+        final ForkJoinThreadPool current = CURRENT_POOL.get();
+        if (current == null) {
+            return callable.call();
+        }
+        current.changeInvisibleThreads(1);
+        try {
+            dispatch();
+            return new CallableBlocker<>(callable).get();
+        } finally {
+            current.changeInvisibleThreads(-1);
+        }
+    }
+
+    private void changeInvisibleThreads(final int delta) {
+        for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_invisibleThreads.addAndGet(delta);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxThreads() {
+        return m_maxThreads.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRunningThreads() {
+        return m_runningJobs.get() - m_invisibleThreads.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getQueuedJobCount() {
+        return m_queuedJobs.get();
+    }
+
+    /** {@inheritDoc} The count is taken from the fork/join pool shared by this pool, its parent and sub pools. */
+    @Override
+    public long getStealCount() {
+        return m_shared.m_retiredStealCount + m_shared.m_forkJoinPool.getStealCount();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T runInvisible(final Callable<T> r) throws ExecutionException {
+        if (CURRENT_POOL.get() == null) {
+            throw new IllegalThreadStateException("The current thread is not taken out of a thread pool");
+        }
+        try {
+            return waitInvisibly(r);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException(ex);
+        } catch (Exception ex) {
+            throw new ExecutionException(ex);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMaxThreads(final int newValue) {
+        if (newValue < 0) {
+            throw new IllegalArgumentException("Thread count must be >= 0");
+        }
+        m_maxThreads.set(newValue);
+        if (m_parent == null) {
+            synchronized (m_shared.m_queue) {
+                final ForkJoinPool oldPool = m_shared.m_forkJoinPool;
+                if (newValue > oldPool.getParallelism() || (newValue > 0 && oldPool.isShutdown())) {
+                    // running jobs finish in the old pool, its idle threads terminate
+                    m_shared.m_forkJoinPool = new ForkJoinPool(newValue, WORKER_FACTORY, null, true);
+                    oldPool.shutdown();
+                    m_shared.m_retiredStealCount += oldPool.getStealCount();
+                }
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * {@inheritDoc} Queued jobs of this pool and its sub pools are canceled. Shutting down the root pool also shuts
+     * down the underlying fork/join pool, whose threads terminate once the running jobs have finished.
+     */
+    @Override
+    public void shutdown() {
+        synchronized (m_shared.m_queue) {
+            for (Iterator<Job<?>> it = m_shared.m_queue.iterator(); it.hasNext();) {
+                final Job<?> job = it.next();
+                final ForkJoinThreadPool pool = job.getPool();
+                if (pool.isSubPoolOf(this)) {
+                    it.remove();
+                    pool.dequeued();
+                    pool.pendingJobDone();
+                    job.cancel(true);
+                }
+            }
+        }
+        setMaxThreads(0);
+        if (m_parent == null) {
+            synchronized (m_shared.m_queue) {
+                m_shared.m_forkJoinPool.shutdown();
+            }
+        }
+    }
+
+    /** @return whether this pool is the argument pool or one of its (transitive) sub pools */
+    private boolean isSubPoolOf(final ForkJoinThreadPool pool) {
+        for (ForkJoinThreadPool p = this; p != null; p = p.m_parent) {
+            if (p == pool) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the fork/join pool currently running the jobs of this pool, used in unit tests
+     */
+    ForkJoinPool getForkJoinPool() {
+        return m_shared.m_forkJoinPool;
+    }
+
+    /** {@inheritDoc} This includes the threads running jobs of its (transitive) sub pools. */
+    @Override
+    public void interruptAll() {
+        for (Job<?> job : m_shared.m_activeJobs) {
+            if (job.getPool().isSubPoolOf(this)) {
+                job.interrupt();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void waitForTermination() throws InterruptedException {
+        try {
+            waitInvisibly(() -> {
+                synchronized (m_pendingJobs) {
+                    while (m_pendingJobs.get() != 0) {
+                        m_pendingJobs.wait();
+                    }
+                }
+                return null;
+            });
+        } catch (InterruptedException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    int getQueueSize() {
+        synchronized (m_shared.m_queue) {
+            return m_shared.m_queue.size();
+        }
+    }
+
+}
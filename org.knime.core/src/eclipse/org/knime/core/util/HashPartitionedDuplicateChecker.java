@@ -0,0 +1,489 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * A {@link DuplicateChecker} that detects duplicates incrementally, i.e., already when a key is added, and therefore
+ * does not need to merge any sorted chunks in {@link #checkForDuplicates()}. The keys are hash-partitioned into a
+ * fixed number of partitions. Each partition is an open-addressing hash table whose slots are kept in direct (off-heap)
+ * memory and whose keys are stored in segments that are either allocated off-heap or memory-mapped from a temporary
+ * file (see {@link Storage}). Partitions are locked individually, so that keys can be added concurrently. Note that
+ * the hash table slots (16 bytes per key, plus free slots) are in direct memory in either storage mode.
+ *
+ * <p>
+ * Optionally, each partition is fronted by a Bloom filter. Keys the filter has not seen before are inserted into the
+ * hash table without comparing them to stored keys, which avoids touching the key segments (and hence the disk, if
+ * they are memory-mapped) for the vast majority of keys. If the expected number of keys is known, the Bloom filters
+ * and hash tables are allocated up front, sized for that number up to a fixed memory limit, so that an
+ * {@link OutOfMemoryError} is thrown by the constructor rather than while keys are added.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public class HashPartitionedDuplicateChecker extends DuplicateChecker {
+
+    /** Where the keys are stored. */
+    public enum Storage {
+            /** The keys are stored in direct byte buffers. */
+            OFF_HEAP,
+            /** The keys are stored in segments memory-mapped from a temporary file. */
+            MEMORY_MAPPED;
+    }
+
+    /** The default number of partitions. */
+    public static final int DEF_NR_PARTITIONS = 64;
+
+    /** Number of bytes per slot of a hash table: the hash of the key and a reference to the stored key. */
+    private static final int SLOT_SIZE = 16;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Maximum number of slots per partition such that the slots fit into a single buffer. */
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    /** Size of the first key segment of a partition; subsequent segments double in size up to the maximum. */
+    private static final int INITIAL_SEGMENT_SIZE = 1 << 12;
+
+    private static final int MAX_SEGMENT_SIZE = 1 << 24;
+
+    /** Number of bits per expected key and number of hash functions of the Bloom filters (~1% false positives). */
+    private static final int BLOOM_BITS_PER_KEY = 10;
+
+    private static final int BLOOM_HASH_FUNCTIONS = 7;
+
+    /** Maximum number of bits of all Bloom filters of a checker (64MB); more keys increase the false positive rate. */
+    private static final long MAX_BLOOM_BITS = 64L << 23;
+
+    /** Maximum number of hash table slots of all partitions allocated up front (64MB); tables grow beyond that. */
+    private static final long MAX_PRESIZED_SLOTS = (64L << 20) / SLOT_SIZE;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashPartitionedDuplicateChecker.class);
+
+    /** Temporary files of memory-mapped checkers, deleted on shutdown. */
+    private static final Collection<File> ALL_FILES = new ArrayList<>();
+
+    static {
+        ShutdownHelper.getInstance().appendShutdownHook(() -> {
+            synchronized (ALL_FILES) {
+                for (File f : ALL_FILES) {
+                    f.delete();
+                }
+                ALL_FILES.clear();
+            }
+        });
+    }
+
+    private final Storage m_storage;
+
+    private final Partition[] m_partitions;
+
+    /** Number of high bits of a key's hash that determine its partition. */
+    private final int m_partitionBits;
+
+    /** The temporary file and its channel if the keys are memory-mapped, null if not yet created. */
+    private File m_file;
+
+    private FileChannel m_channel;
+
+    private long m_fileLength;
+
+    /**
+     * Creates a new duplicate checker with {@link #DEF_NR_PARTITIONS} partitions, storing keys off-heap and not using
+     * Bloom filters.
+     */
+    public HashPartitionedDuplicateChecker() {
+        this(DEF_NR_PARTITIONS, Storage.OFF_HEAP, 0);
+    }
+
+    /**
+     * Creates a new duplicate checker.
+     *
+     * @param nrPartitions the number of partitions, rounded up to a power of two
+     * @param storage where to store the keys
+     * @param expectedNrKeys the expected number of keys used to size the Bloom filters and hash tables, 0 if unknown
+     *            (then no Bloom filters are used)
+     * @throws IllegalArgumentException if the number of partitions is not in [1, 2^16] or the expected number of keys
+     *             is negative
+     * @throws OutOfMemoryError if the memory for the expected number of keys cannot be allocated
+     */
+    public HashPartitionedDuplicateChecker(final int nrPartitions, final Storage storage, final long expectedNrKeys) {
+        if (nrPartitions < 1 || nrPartitions > (1 << 16)) {
+            throw new IllegalArgumentException("Invalid number of partitions: " + nrPartitions);
+        }
+        if (expectedNrKeys < 0) {
+            throw new IllegalArgumentException("Invalid expected number of keys: " + expectedNrKeys);
+        }
+        CheckUtils.checkArgumentNotNull(storage);
+        m_storage = storage;
+        m_partitionBits = 32 - Integer.numberOfLeadingZeros(nrPartitions - 1);
+        m_partitions = new Partition[1 << m_partitionBits];
+        final long bloomBits = Math.min(expectedNrKeys, MAX_BLOOM_BITS / BLOOM_BITS_PER_KEY) * BLOOM_BITS_PER_KEY;
+        final int bloomWords = expectedNrKeys == 0 ? 0 : (int)(bloomBits / m_partitions.length / Long.SIZE + 1);
+        final long keysPerPartition = Math.min(expectedNrKeys, MAX_PRESIZED_SLOTS / 4 * 3) / m_partitions.length;
+        int initialCapacity = INITIAL_CAPACITY;
+        while (initialCapacity < MAX_CAPACITY && keysPerPartition > initialCapacity / 4 * 3) {
+            initialCapacity *= 2;
+        }
+        for (int i = 0; i < m_partitions.length; i++) {
+            m_partitions[i] = new Partition(bloomWords, initialCapacity);
+            if (expectedNrKeys > 0) {
+                m_partitions[i].allocateSlots();
+            }
+        }
+    }
+
+    /**
+     * Adds a new key to the duplicate checker and checks whether it has been added before.
+     *
+     * @param s the key
+     * @throws DuplicateKeyException if the key has been added before
+     * @throws IOException if an I/O error occurs while mapping a key segment
+     */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        final long hash = hash(s);
+        final int partition = m_partitionBits == 0 ? 0 : (int)(hash >>> (Long.SIZE - m_partitionBits));
+        if (!m_partitions[partition].add(s, hash)) {
+            throw new DuplicateKeyException(s);
+        }
+    }
+
+    /**
+     * Does nothing as all keys have already been checked when they were added.
+     */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        // keys are checked in addKey
+    }
+
+    /**
+     * Does nothing as no keys are kept on the Java heap.
+     */
+    @Override
+    public void flushIfNecessary() throws IOException {
+        // nothing to flush
+    }
+
+    /**
+     * Clears the duplicate checker, releasing all memory and deleting the temporary file (if any). If the file cannot
+     * be deleted (e.g. because a mapping could not be released), it is deleted on shutdown.
+     */
+    @Override
+    public void clear() {
+        for (Partition p : m_partitions) {
+            p.clear();
+        }
+        synchronized (this) {
+            if (m_file != null) {
+                try {
+                    m_channel.close();
+                } catch (IOException ex) {
+                    LOGGER.debug("Unable to close temporary file \"" + m_file + "\": " + ex.getMessage(), ex);
+                }
+                if (m_file.delete() || !m_file.exists()) {
+                    synchronized (ALL_FILES) {
+                        ALL_FILES.remove(m_file);
+                    }
+                } else {
+                    LOGGER.debug("Unable to delete temporary file \"" + m_file + "\", deleting it on shutdown");
+                }
+                m_file = null;
+                m_channel = null;
+                m_fileLength = 0;
+            }
+        }
+    }
+
+    /**
+     * @return the number of keys added so far
+     */
+    public long size() {
+        long size = 0;
+        for (Partition p : m_partitions) {
+            size += p.size();
+        }
+        return size;
+    }
+
+    /** @return the temporary file if the keys are memory-mapped, null if not created (yet); used in unit tests */
+    synchronized File getFile() {
+        return m_file;
+    }
+
+    /**
+     * Allocates a new key segment.
+     *
+     * @param size the size in bytes
+     * @return the new segment
+     * @throws IOException if the temporary file cannot be created or mapped
+     */
+    private ByteBuffer allocateSegment(final int size) throws IOException {
+        if (m_storage == Storage.OFF_HEAP) {
+            return ByteBuffer.allocateDirect(size);
+        }
+        synchronized (this) {
+            if (m_file == null) {
+                final File file = FileUtil.createTempFile("KNIME_DuplicateChecker", ".bin", false);
+                synchronized (ALL_FILES) {
+                    ALL_FILES.add(file);
+                }
+                @SuppressWarnings("resource") // closed in clear
+                final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                m_channel = raf.getChannel();
+                m_file = file;
+            }
+            final ByteBuffer segment = m_channel.map(MapMode.READ_WRITE, m_fileLength, size);
+            m_fileLength += size;
+            return segment;
+        }
+    }
+
+    /**
+     * Releases the mapping of a memory-mapped segment right away instead of waiting for the garbage collector, which
+     * is required to delete the file on some platforms (Windows). This relies on JDK internals and is therefore done
+     * on a best-effort basis. The segment must not be accessed afterwards.
+     */
+    private static void unmap(final ByteBuffer segment) {
+        try {
+            final Method cleanerMethod = segment.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Object cleaner = cleanerMethod.invoke(segment);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (Exception | LinkageError ex) { // not available on this JVM, released by the GC
+            LOGGER.debug("Unable to unmap key segment: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * A 64-bit hash of a string (FNV-1a on the characters, followed by the MurmurHash3 finalizer).
+     */
+    private static long hash(final String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(final long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * An open-addressing hash table with linear probing. Each slot holds the full hash of a key and a reference to the
+     * key, whose upper 32 bits are the (1-based) index of the segment and whose lower 32 bits are the position within
+     * the segment; a reference of 0 denotes an empty slot. A key is stored as its length followed by its characters.
+     */
+    private final class Partition {
+
+        private final long[] m_bloom;
+
+        private final int m_initialCapacity;
+
+        private final List<ByteBuffer> m_segments = new ArrayList<>();
+
+        private ByteBuffer m_slots;
+
+        private int m_capacity;
+
+        private int m_size;
+
+        Partition(final int bloomWords, final int initialCapacity) {
+            m_bloom = bloomWords > 0 ? new long[bloomWords] : null;
+            m_initialCapacity = initialCapacity;
+        }
+
+        synchronized void allocateSlots() {
+            if (m_slots == null) {
+                m_capacity = m_initialCapacity;
+                m_slots = ByteBuffer.allocateDirect(m_capacity * SLOT_SIZE);
+            }
+        }
+
+        synchronized int size() {
+            return m_size;
+        }
+
+        /**
+         * @return true if the key has been added, false if it was already contained
+         */
+        synchronized boolean add(final String key, final long hash) throws IOException {
+            allocateSlots();
+            final boolean maybeContained = m_bloom == null || testAndSetBloom(hash);
+            final int mask = m_capacity - 1;
+            int slot = (int)hash & mask;
+            long ref;
+            while ((ref = m_slots.getLong(slot * SLOT_SIZE + 8)) != 0) {
+                if (maybeContained && m_slots.getLong(slot * SLOT_SIZE) == hash && keyEquals(ref, key)) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (m_size + 1 >= m_capacity) {
+                throw new IOException("Too many keys for duplicate checking, increase the number of partitions");
+            }
+            m_slots.putLong(slot * SLOT_SIZE, hash);
+            m_slots.putLong(slot * SLOT_SIZE + 8, store(key));
+            m_size++;
+            if (m_size > m_capacity / 4 * 3 && m_capacity < MAX_CAPACITY) {
+                rehash(m_capacity * 2);
+            }
+            return true;
+        }
+
+        /** Sets the key's bits in the Bloom filter and returns whether all of them had been set before. */
+        private boolean testAndSetBloom(final long hash) {
+            final long h = mix(hash ^ 0x9e3779b97f4a7c15L);
+            final long h1 = h & 0xffffffffL;
+            final long h2 = h >>> 32;
+            final long nrBits = (long)m_bloom.length * Long.SIZE;
+            boolean allSet = true;
+            for (int i = 0; i < BLOOM_HASH_FUNCTIONS; i++) {
+                final long bit = (h1 + i * h2) % nrBits;
+                final int word = (int)(bit >>> 6);
+                final long mask = 1L << bit;
+                if ((m_bloom[word] & mask) == 0) {
+                    allSet = false;
+                    m_bloom[word] |= mask;
+                }
+            }
+            return allSet;
+        }
+
+        private boolean keyEquals(final long ref, final String key) {
+            final ByteBuffer segment = m_segments.get((int)(ref >>> 32) - 1);
+            final int pos = (int)ref;
+            final int length = segment.getInt(pos);
+            if (length != key.length()) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (segment.getChar(pos + 4 + 2 * i) != key.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long store(final String key) throws IOException {
+            final int bytes = 4 + 2 * key.length();
+            ByteBuffer segment = m_segments.isEmpty() ? null : m_segments.get(m_segments.size() - 1);
+            if (segment == null || segment.remaining() < bytes) {
+                final int nextSize = segment == null ? INITIAL_SEGMENT_SIZE
+                    : Math.min(MAX_SEGMENT_SIZE, 2 * segment.capacity());
+                segment = allocateSegment(Math.max(nextSize, bytes));
+                m_segments.add(segment);
+            }
+            final int pos = segment.position();
+            segment.putInt(key.length());
+            for (int i = 0; i < key.length(); i++) {
+                segment.putChar(key.charAt(i));
+            }
+            return ((long)m_segments.size() << 32) | pos;
+        }
+
+        private void rehash(final int newCapacity) {
+            final ByteBuffer oldSlots = m_slots;
+            final int oldCapacity = m_capacity;
+            m_capacity = newCapacity;
+            m_slots = ByteBuffer.allocateDirect(newCapacity * SLOT_SIZE);
+            final int mask = newCapacity - 1;
+            for (int i = 0; i < oldCapacity; i++) {
+                final long ref = oldSlots.getLong(i * SLOT_SIZE + 8);
+                if (ref != 0) {
+                    final long hash = oldSlots.getLong(i * SLOT_SIZE);
+                    int slot = (int)hash & mask;
+                    while (m_slots.getLong(slot * SLOT_SIZE + 8) != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    m_slots.putLong(slot * SLOT_SIZE, hash);
+                    m_slots.putLong(slot * SLOT_SIZE + 8, ref);
+                }
+            }
+        }
+
+        synchronized void clear() {
+            if (m_storage == Storage.MEMORY_MAPPED) {
+                m_segments.forEach(HashPartitionedDuplicateChecker::unmap);
+            }
+            m_segments.clear();
+            m_slots = null;
+            m_capacity = 0;
+            m_size = 0;
+            if (m_bloom != null) {
+                Arrays.fill(m_bloom, 0L);
+            }
+        }
+    }
+}
@@ -45,7 +45,10 @@
  */
 package org.knime.core.util;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,6 +56,7 @@
 import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.knime.core.node.KNIMEConstants;
@@ -75,6 +79,15 @@
  * order. This class uses an internal cache to ensure this ordering; the size
  * of the cache is determined by a constructor argument.
  *
+ * <p>By default each element is submitted as a separate task. If the
+ * computation of an element is cheap, the overhead of submitting a task and
+ * lining up its result may exceed the computation itself. In this case
+ * {@link #setAdaptiveBatching(boolean) adaptive batching} should be enabled,
+ * which submits consecutive elements in batches whose size is derived from the
+ * observed computation time per element. The methods
+ * {@link #compute(Object, long)} and {@link #processFinished(ComputationTask)}
+ * are still called once per element and the output order is unchanged.
+ *
  * @param <In> The type of input to be processed. The <code>Iterable</code>
  * passed in the {@link #run(Iterable)} method contains elements of this type.
  * Each element is processed in its own (reusable) thread.
@@ -86,6 +99,14 @@
 
     private final NodeLogger m_logger = NodeLogger.getLogger(getClass());
 
+    /** The duration of a batch that adaptive batching aims at, in nanoseconds.
+     * Large enough to make the per task overhead negligible, small enough to
+     * keep all workers busy. */
+    private static final long TARGET_BATCH_NANOS = 1000000L;
+
+    /** The maximum number of elements in a batch. */
+    private static final int MAX_BATCH_SIZE = 1024;
+
     /** Limits the number of simultaneously running computations. */
     private final Semaphore m_maxActiveInstanceSemaphore;
 
@@ -93,12 +114,15 @@
      * computations (used to ensure output ordering). */
     private final Semaphore m_maxQueueSemaphore;
 
-    /** Map of finished computations, maps input index (iterator index) to
-     * computation. Used to ensure output ordering. */
-    private final HashMap<Long, ComputationTask> m_finishedTasks;
+    /** Map of finished computations, maps input index (iterator index) of
+     * the computation or of the first element in a batch to the
+     * {@link ComputationTask} or {@link TaskBatch}. Used to ensure output
+     * ordering. */
+    private final HashMap<Long, FutureTask<?>> m_finishedTasks;
 
-    /** Map of currently running tasks (used for cancelation). */
-    private final ConcurrentHashMap<Long, ComputationTask> m_activeTasks;
+    /** Map of currently running computations or batches (used for
+     * cancelation). */
+    private final ConcurrentHashMap<Long, FutureTask<?>> m_activeTasks;
 
     /** Next output index. */
     private long m_nextFinishedIndex;
@@ -126,6 +150,26 @@
     /** Whether {@link #cancel(boolean)} has been called. */
     private volatile boolean m_isCanceled;
 
+    /** Whether elements are submitted in batches of adaptive size. */
+    private boolean m_isAdaptiveBatching;
+
+    /** Size of the last submitted batch. */
+    private int m_lastBatchSize = 1;
+
+    /** Number of submitted batches. */
+    private long m_batchCount;
+
+    /** Estimate of the computation time per element in nanoseconds (moving
+     * average), 0 if not known yet. Updated by the worker threads without
+     * synchronization, a lost update only affects the estimate. */
+    private volatile long m_nanosPerElement;
+
+    /** Accumulated computation time of all workers in nanoseconds. */
+    private final AtomicLong m_computeNanos = new AtomicLong();
+
+    /** Wall clock time of the {@link #run(Iterable)} method in nanoseconds. */
+    private long m_runNanos;
+
     /** Creates new worker with a bounded finished job queue and a maximum
      * number of active jobs.
      * @param maxQueueSize Maximum queue size of finished jobs (finished
@@ -146,9 +190,9 @@ public MultiThreadWorker(final int maxQueueSize,
         }
         m_maxQueueSemaphore = new Semaphore(maxQueueSize);
         m_maxActiveInstanceSemaphore = new Semaphore(maxActiveInstanceSize);
-        m_finishedTasks = new HashMap<Long, ComputationTask>(
+        m_finishedTasks = new HashMap<Long, FutureTask<?>>(
                 (int)(4 / 3.0 * maxQueueSize) + 1);
-        m_activeTasks = new ConcurrentHashMap<Long, ComputationTask>(
+        m_activeTasks = new ConcurrentHashMap<Long, FutureTask<?>>(
                 (int)(4 / 3.0 * maxActiveInstanceSize) + 1);
         m_nextSubmittedIndex = 0;
         m_nextFinishedIndex = 0;
@@ -172,13 +216,42 @@ public final long getFinishedCount() {
         return m_nextFinishedIndex;
     }
 
-    /** @return The number of elements currently cached and waiting to be
+    /** @return The number of elements (or batches of elements if
+     * {@link #setAdaptiveBatching(boolean) adaptive batching} is enabled)
+     * currently cached and waiting to be
      * {@link #processFinished(ComputationTask) finally processed}. */
     public final int getFinishedTaskCount() {
         return m_finishedTasks.size();
     }
 
-    /** @return Estimate for number of currently active tasks. */
+    /** @return The number of submitted batches, equal to the
+     * {@link #getSubmittedCount() submitted count} unless
+     * {@link #setAdaptiveBatching(boolean) adaptive batching} is enabled.
+     * Should only be used for statistics.
+     * @since 4.2
+     */
+    public final long getBatchCount() {
+        return m_batchCount;
+    }
+
+    /** The effective speedup of the last {@link #run(Iterable) run}, that is
+     * the time spent in {@link #compute(Object, long)} summed over all workers
+     * divided by the elapsed time of the run. A value below 1 indicates that
+     * sequential processing would have been faster. The computation time is
+     * only measured if {@link #setAdaptiveBatching(boolean) adaptive
+     * batching} is enabled.
+     * @return The speedup or 0 if the worker has not been run yet or adaptive
+     * batching is disabled.
+     * @since 4.2
+     */
+    public final double getEffectiveSpeedup() {
+        if (m_runNanos <= 0L) {
+            return 0.0;
+        }
+        return m_computeNanos.get() / (double)m_runNanos;
+    }
+
+    /** @return Estimate for number of currently active tasks (or batches). */
     public final int getActiveCount() {
         return m_maxActiveInstanceSize
             - m_maxActiveInstanceSemaphore.availablePermits();
@@ -241,28 +314,41 @@ private void innerRun(final Iterable<In> inputIterable)
         }
         m_mainThread = Thread.currentThread();
         final Executor executor = m_executor;
+        final long start = System.nanoTime();
         try {
-            for (In in : inputIterable) {
+            final Iterator<In> it = inputIterable.iterator();
+            while (it.hasNext()) {
                 m_maxActiveInstanceSemaphore.acquire();
                 m_maxQueueSemaphore.acquire();
                 m_exceptionReference.checkExceptionInMainThread();
                 if (m_isCanceled) {
                     throw new CancellationException();
                 }
-                try {
-                    beforeSubmitting(in, m_nextSubmittedIndex);
-                } catch (Exception e) {
-                    throw new ExecutionException(e);
+                final FutureTask<?> task;
+                final int taskSize;
+                if (m_isAdaptiveBatching) {
+                    final int batchSize = nextBatchSize();
+                    final List<ComputationTask> tasks =
+                        new ArrayList<ComputationTask>(batchSize);
+                    do {
+                        tasks.add(createTask(it.next(),
+                            m_nextSubmittedIndex + tasks.size(), true));
+                    } while (tasks.size() < batchSize && it.hasNext());
+                    task = new TaskBatch(tasks, m_nextSubmittedIndex);
+                    taskSize = tasks.size();
+                } else {
+                    // no batch, the computation is the task
+                    task = createTask(it.next(), m_nextSubmittedIndex, false);
+                    taskSize = 1;
                 }
-                ComputationTask task =
-                    new ComputationTask(in, m_nextSubmittedIndex);
                 m_activeTasks.put(m_nextSubmittedIndex, task);
                 if (executor == null) {
                     KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(task);
                 } else {
                     executor.execute(ThreadUtils.runnableWithContext(task));
                 }
-                m_nextSubmittedIndex += 1L;
+                m_nextSubmittedIndex += taskSize;
+                m_batchCount += 1L;
             }
             // wait for all jobs to finish
             m_maxQueueSemaphore.acquire(m_maxQueueSize);
@@ -273,11 +359,78 @@ private void innerRun(final Iterable<In> inputIterable)
             // reset interrupted flag that was set when an exception has
             // occurred in callProcessFinished
             Thread.interrupted();
+            m_runNanos = System.nanoTime() - start;
         }
         m_exceptionReference.checkExceptionInMainThread();
         if (m_isCanceled) {
             throw new CancellationException();
         }
+        if (m_isAdaptiveBatching) {
+            m_logger.debugWithFormat("Processed %d elements in %d batches "
+                + "(effective speedup %.2f)", m_nextSubmittedIndex,
+                m_batchCount, getEffectiveSpeedup());
+        }
+    }
+
+    /** Calls {@link #beforeSubmitting(Object, long)} and creates the
+     * computation for the argument element. */
+    private ComputationTask createTask(final In in, final long index,
+        final boolean isInBatch) throws ExecutionException {
+        try {
+            beforeSubmitting(in, index);
+        } catch (Exception e) {
+            throw new ExecutionException(e);
+        }
+        return new ComputationTask(in, index, isInBatch);
+    }
+
+    /** Determines the size of the next batch (with adaptive batching). As
+     * long as no computation has finished, a batch contains one element.
+     * Otherwise the size is chosen such that a batch takes about
+     * {@link #TARGET_BATCH_NANOS}, growing by at most a factor of two per
+     * batch as the first measurements are often inaccurate. */
+    private int nextBatchSize() {
+        final long nanosPerElement = m_nanosPerElement;
+        if (nanosPerElement <= 0L) {
+            return 1;
+        }
+        final long size = Math.max(1L, TARGET_BATCH_NANOS / nanosPerElement);
+        m_lastBatchSize = (int)Math.min(Math.min(size, MAX_BATCH_SIZE),
+            2L * m_lastBatchSize);
+        return m_lastBatchSize;
+    }
+
+    /** Called by a worker after it has computed a batch. */
+    private void recordComputeTime(final long nanos, final int elementCount) {
+        m_computeNanos.addAndGet(nanos);
+        if (elementCount > 0) {
+            final long sample = Math.max(1L, nanos / elementCount);
+            final long previous = m_nanosPerElement;
+            m_nanosPerElement =
+                previous <= 0L ? sample : (7L * previous + sample) / 8L;
+        }
+    }
+
+    /** Enables or disables adaptive batching. If enabled, consecutive
+     * elements are submitted as a single task, whose size is adjusted to the
+     * observed computation time per element: long running computations are
+     * still submitted individually while cheap ones are grouped to amortize
+     * the task overhead. Note that the queue size and the number of
+     * simultaneous computations passed to the constructor then apply to
+     * batches instead of single elements. Must be set before
+     * {@link #run(Iterable)} is called, default is <code>false</code>.
+     * @param value whether to enable adaptive batching
+     * @since 4.2
+     */
+    public void setAdaptiveBatching(final boolean value) {
+        m_isAdaptiveBatching = value;
+    }
+
+    /** @return whether adaptive batching is enabled
+     * @see #setAdaptiveBatching(boolean)
+     * @since 4.2 */
+    public boolean isAdaptiveBatching() {
+        return m_isAdaptiveBatching;
     }
 
     /** @param executor the executor to set (null is the default -- it will
@@ -293,10 +446,13 @@ public Executor getExecutor() {
         return m_executor;
     }
 
-    /** Called from each finishing job (very likely concurrently). */
-    private void callProcessFinished(final ComputationTask task) {
-        final long index = task.getIndex();
-        ComputationTask active = m_activeTasks.remove(index);
+    /** Called from each finishing computation or batch (very likely
+     * concurrently).
+     * @param task the {@link ComputationTask} or {@link TaskBatch}
+     * @param index the index of the (first) computation */
+    private void callProcessFinished(final FutureTask<?> task,
+        final long index) {
+        FutureTask<?> active = m_activeTasks.remove(index);
         assert active == task : "Task with index " + index
             + " not in active task map";
         try {
@@ -310,10 +466,10 @@ private void callProcessFinished(final ComputationTask task) {
                 }
                 // is task next-to-be-processed
                 if (index == m_nextFinishedIndex) {
-                    ComputationTask first = task;
+                    FutureTask<?> first = task;
                     do {
                         try {
-                            processFinished(first);
+                            processFinishedTask(first);
                         } catch (Exception e) {
                             if (e instanceof CancellationException
                                     || e instanceof InterruptedException) {
@@ -339,13 +495,12 @@ private void callProcessFinished(final ComputationTask task) {
                         } finally {
                             m_maxQueueSemaphore.release();
                         }
-                        m_nextFinishedIndex += 1;
                         first = m_finishedTasks.remove(m_nextFinishedIndex);
                         // do while there are more that finished previously
                     } while (first != null);
                 } else {
                     // not next-to-be-processed, just line-up
-                    ComputationTask nullPrevious =
+                    FutureTask<?> nullPrevious =
                         m_finishedTasks.put(index, task);
                     assert nullPrevious == null;
                 }
@@ -355,6 +510,23 @@ private void callProcessFinished(final ComputationTask task) {
         }
     }
 
+    /** Calls {@link #processFinished(ComputationTask)} for the argument
+     * computation or for all computations of the argument batch. */
+    @SuppressWarnings("unchecked")
+    private void processFinishedTask(final FutureTask<?> task)
+        throws ExecutionException, CancellationException,
+        InterruptedException {
+        if (task instanceof MultiThreadWorker.TaskBatch) {
+            for (ComputationTask t : ((TaskBatch)task).getTasks()) {
+                processFinished(t);
+                m_nextFinishedIndex += 1;
+            }
+        } else {
+            processFinished((ComputationTask)task);
+            m_nextFinishedIndex += 1;
+        }
+    }
+
     /** Cancels an ongoing execution.
      * @param mayInterruptIfRunning If working (and the main thread executing
      * the {@link #run(Iterable) run method}) may be interrupted.
@@ -371,7 +543,7 @@ public void cancel(final boolean mayInterruptIfRunning) {
     }
 
     private void innerCancel(final boolean mayInterruptIfRunning) {
-        for (ComputationTask t : m_activeTasks.values()) {
+        for (FutureTask<?> t : m_activeTasks.values()) {
             t.cancel(mayInterruptIfRunning);
         }
     }
@@ -432,8 +604,10 @@ public final class ComputationTask extends FutureTask<Out> {
 
         private final In m_in;
         private final long m_index;
+        private final boolean m_isInBatch;
 
-        private ComputationTask(final In in, final long index) {
+        private ComputationTask(final In in, final long index,
+            final boolean isInBatch) {
             super(new Callable<Out>() {
                 /** {@inheritDoc} */
                 @Override
@@ -444,6 +618,7 @@ public Out call() throws Exception {
             });
             m_in = in;
             m_index = index;
+            m_isInBatch = isInBatch;
         }
 
         /** @return the input */
@@ -459,7 +634,73 @@ public long getIndex() {
         /** {@inheritDoc} */
         @Override
         protected void done() {
-            callProcessFinished(this);
+            if (!m_isInBatch) {
+                callProcessFinished(this, m_index);
+            }
+        }
+    }
+
+    /** Consecutive computations that are run in one task. Its completion (or
+     * cancelation) triggers the final processing of the contained
+     * computations. */
+    private final class TaskBatch extends FutureTask<Void> {
+
+        private final List<ComputationTask> m_tasks;
+        private final long m_firstIndex;
+
+        private TaskBatch(final List<ComputationTask> tasks,
+            final long firstIndex) {
+            super(new Callable<Void>() {
+                /** {@inheritDoc} */
+                @Override
+                public Void call() {
+                    return null;
+                }
+            });
+            m_tasks = tasks;
+            m_firstIndex = firstIndex;
+        }
+
+        /** @return the computations in input order */
+        List<ComputationTask> getTasks() {
+            return m_tasks;
+        }
+
+        /** @return the index of the first computation */
+        long getFirstIndex() {
+            return m_firstIndex;
+        }
+
+        /** Runs the computations one after another, then completes. */
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            int count = 0;
+            for (ComputationTask task : m_tasks) {
+                if (isCancelled()) {
+                    break;
+                }
+                task.run();
+                count++;
+            }
+            recordComputeTime(System.nanoTime() - start, count);
+            super.run();
+        }
+
+        /** Cancels the computations (to interrupt the running one) and the
+         * batch itself. */
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            for (ComputationTask task : m_tasks) {
+                task.cancel(mayInterruptIfRunning);
+            }
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void done() {
+            callProcessFinished(this, m_firstIndex);
         }
     }
 
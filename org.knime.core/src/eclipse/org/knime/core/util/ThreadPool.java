@@ -566,6 +566,39 @@ public int getRunningThreads() {
         return m_runningWorkers.size() - m_invisibleThreads.get();
     }
 
+    /**
+     * Returns the number of jobs of this pool and its sub pools that are waiting for a free thread.
+     *
+     * @return the number of queued jobs
+     * @since 4.2
+     */
+    public int getQueuedJobCount() {
+        int count = 0;
+        synchronized (m_queuedFutures) {
+            for (MyFuture<?> f : m_queuedFutures) {
+                for (ThreadPool p = f.getPool(); p != null; p = p.m_parent) {
+                    if (p == this) {
+                        count++;
+                        break;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of jobs that have been stolen by an idle thread from the queue of another thread. Pools
+     * without work-stealing always return 0.
+     *
+     * @return the number of stolen jobs, an estimate while jobs are running
+     * @since 4.2
+     * @see ForkJoinThreadPool
+     */
+    public long getStealCount() {
+        return 0;
+    }
+
     /**
      * Executes the runnable in the current thread. If the current thread is
      * taken out of this pool or any ancestor pool the number of invisible
@@ -798,7 +831,7 @@ public static ThreadPool currentPool() {
         if (Thread.currentThread() instanceof Worker) {
             return ((Worker)Thread.currentThread()).m_startedFrom;
         } else {
-            return null;
+            return ForkJoinThreadPool.currentForkJoinPool();
         }
     }
 
@@ -76,6 +76,16 @@
  * inside a token or quoted string.
  * <p>
  * You can push back one (the last) token.
+ * <p>
+ * By default the source is read character by character, so the source is never
+ * read beyond the current token. If the tokenizer is created with read-ahead
+ * enabled (see {@link #Tokenizer(Reader, boolean)}) the source is read in
+ * blocks of characters and runs of ordinary characters (in tokens as well as in
+ * quoted strings) are copied in bulk, so there is no need to wrap the reader
+ * into a buffered reader. Callers that process many tokens can use
+ * {@link #nextTokenSequence()} which returns a reused read-only view on the
+ * token instead of creating a new string for it. To parse a large file with multiple threads see
+ * {@link TokenizerRangeSplitter}.
  *
  * @author Peter Ohl, University of Konstanz
  */
@@ -155,6 +165,25 @@ public class Tokenizer {
      */
     private static final int BUFFER_LENGTH = 31;
 
+    /* the number of characters read from the source at once if read-ahead is
+     * enabled */
+    private static final int CHUNK_LENGTH = 8192;
+
+    /* characters read from the source but not yet consumed */
+    private final char[] m_chunk;
+
+    /* the index of the next character to consume in the chunk */
+    private int m_chunkPos;
+
+    /* the number of valid characters in the chunk */
+    private int m_chunkEnd;
+
+    /* set after the source returned EOF, it is not read anymore then */
+    private boolean m_sourceEOF;
+
+    /* set after EOF was returned or the source was closed: no more chars */
+    private boolean m_sourceClosed;
+
     /* our read buffer, realized as ring buffer with the following pointers */
     private int[] m_readBuffer;
 
@@ -165,10 +194,14 @@ public class Tokenizer {
     private int m_eobIdx;
 
     /* we build the token in here */
-    private StringBuffer m_newToken;
+    private final StringBuilder m_newToken;
+
+    /* read-only view on m_newToken, handed out by nextTokenSequence() */
+    private final CharSequence m_newTokenView;
 
-    /* the token returned by the last call to next() */
-    private String m_lastToken;
+    /* the token returned by the last call to next(), either a string or
+     * m_newTokenView */
+    private CharSequence m_lastToken;
 
     /* flag to remember which quotes we've seen with the last token */
     private Quote m_lastQuotes;
@@ -207,16 +240,38 @@ public class Tokenizer {
     private boolean m_lastTokenWasDelimited = false;
 
     /**
-     * Creates a new tokenizer with the default behaviour.
+     * Creates a new tokenizer with the default behaviour, reading the source
+     * character by character.
      *
      * @param source A reader the tokens are read from.
      *
      * @see #resetToDefault() for what's the default behaviour.
      */
     public Tokenizer(final Reader source) {
+        this(source, false);
+    }
+
+    /**
+     * Creates a new tokenizer with the default behaviour. If read-ahead is
+     * enabled, the source is read in blocks of up to 8192 characters, i.e. the
+     * reader (and any stream it reads from) is usually positioned beyond the
+     * current token. This is faster but must not be used if the caller relies
+     * on the position of the reader or its underlying stream, e.g. to count
+     * lines or bytes itself or to continue reading after the tokenizer. The
+     * {@link #getLineNumber() line number} and the
+     * {@link #getReadBytes() read bytes} of the tokenizer are not affected.
+     *
+     * @param source A reader the tokens are read from.
+     * @param readAhead Whether to read the source in blocks.
+     *
+     * @see #resetToDefault() for what's the default behaviour.
+     * @since 4.2
+     */
+    public Tokenizer(final Reader source, final boolean readAhead) {
 
         m_source = source;
         m_readBuffer = new int[BUFFER_LENGTH];
+        m_chunk = new char[readAhead ? CHUNK_LENGTH : 1];
         m_currIdx = 0;
         m_eobIdx = 0;
 
@@ -235,7 +290,8 @@ public Tokenizer(final Reader source) {
         m_linesSkipped = 0;
         m_allowLFinQuotes = false;
 
-        m_newToken = new StringBuffer();
+        m_newToken = new StringBuilder();
+        m_newTokenView = new TokenView(m_newToken);
         m_lastToken = null;
         m_pushedBack = false;
         m_lastQuotes = null;
@@ -301,6 +357,31 @@ public boolean lastTokenWasDelimited() {
      * @throws TokenizerException if something goes wrong during tokenizing.
      */
     public String nextToken() throws TokenizerException {
+        final CharSequence token = nextTokenSequence();
+        if (token == null || token instanceof String) {
+            return (String)token;
+        }
+        final String result = token.toString();
+        // in case the token gets pushed back
+        m_lastToken = result;
+        return result;
+    }
+
+    /**
+     * Reads the next token from the stream like {@link #nextToken()} but
+     * returns it without copying it into a new string. Unless the token is a
+     * string (e.g. a delimiter returned as token), the returned character
+     * sequence is a read-only view on the token buffer of this tokenizer: the
+     * same instance is returned for each token and its content changes with the
+     * next call to this method (or {@link #nextToken()}). Callers must therefore
+     * only access it until then and must neither keep it nor use it as key in
+     * maps; use {@link CharSequence#toString()} to keep the token.
+     *
+     * @return The next token from the stream or null at the EOF.
+     * @throws TokenizerException if something goes wrong during tokenizing.
+     * @since 4.2
+     */
+    public CharSequence nextTokenSequence() throws TokenizerException {
 
         m_settingsLocked = true;
 
@@ -346,6 +427,8 @@ public String nextToken() throws TokenizerException {
             if (ctype == 0) {
                 // it's an ordinary character - just add it to the result
                 m_newToken.append((char)c);
+                // ... together with all ordinary characters following it
+                appendOrdinaryChars();
                 c = getNextChar();
                 continue;
             }
@@ -422,7 +505,7 @@ public String nextToken() throws TokenizerException {
                 if ((quotePattern = isQuotePattern()) != null) {
                     // a quoted string actually started here.
                     try {
-                        m_newToken.append(readQuotedString(quotePattern));
+                        readQuotedString(quotePattern);
                     } catch (TokenizerException fte) {
                         // seems we are missing the closing quotes...
                         m_lastDelimiter = null;
@@ -455,6 +538,7 @@ public String nextToken() throws TokenizerException {
         } // end of while (c != EOF)
 
         if (c == EOF) {
+            m_sourceClosed = true;
             try {
                 m_source.close();
             } catch (IOException ioe) {
@@ -466,10 +550,95 @@ public String nextToken() throws TokenizerException {
         if ((c == EOF) && (m_newToken.length() == 0)) {
             m_lastToken = null;
         } else {
-            m_lastToken = m_newToken.toString();
+            m_lastToken = m_newTokenView;
         }
         return m_lastToken;
-    } // nextToken()
+    } // nextTokenSequence()
+
+    /*
+     * Appends all ordinary characters (no special type, no CR or LF) that
+     * follow in the current chunk directly to the new token. Only allowed if
+     * no characters were pushed back into the read buffer.
+     */
+    private void appendOrdinaryChars() {
+        if (m_currIdx != m_eobIdx) {
+            return;
+        }
+        final char[] chunk = m_chunk;
+        final int[] charType = m_charType;
+        final int start = m_chunkPos;
+        final int end = m_chunkEnd;
+        int i = start;
+        while (i < end) {
+            final char ch = chunk[i];
+            if ((charType[ch & MAX_CHAR] != 0) || (ch == CR) || (ch == LF)) {
+                break;
+            }
+            i++;
+        }
+        if (i > start) {
+            m_newToken.append(chunk, start, i - start);
+            m_readBytes += i - start;
+            m_chunkPos = i;
+        }
+    }
+
+    /*
+     * Appends the characters in a quoted string that follow in the current
+     * chunk directly to the given buffer, until the end quote, the escape
+     * character, a line continuation character, CR or LF. Only allowed if no
+     * characters were pushed back into the read buffer. Returns the number of
+     * characters appended.
+     */
+    private int appendQuotedChars(final StringBuilder result,
+            final char endChar, final int escChar) {
+        if (m_currIdx != m_eobIdx) {
+            return 0;
+        }
+        final char[] chunk = m_chunk;
+        final int start = m_chunkPos;
+        final int end = m_chunkEnd;
+        int i = start;
+        while (i < end) {
+            final char ch = chunk[i];
+            if ((ch == endChar) || (ch == escChar) || (ch == CR) || (ch == LF)
+                    || ((ch <= MAX_CHAR) && ((m_charType[ch] & LINECONT) != 0))) {
+                break;
+            }
+            i++;
+        }
+        final int count = i - start;
+        if (count > 0) {
+            result.append(chunk, start, count);
+            m_readBytes += count;
+            m_chunkPos = i;
+        }
+        return count;
+    }
+
+    /*
+     * Reads the next character from the source, refilling the chunk from the
+     * source if it has been consumed. At EOF the source gets closed.
+     */
+    private int readSourceChar() throws IOException {
+        if (m_chunkPos == m_chunkEnd) {
+            if (m_sourceEOF) {
+                return EOF;
+            }
+            int count;
+            do {
+                count = m_source.read(m_chunk, 0, m_chunk.length);
+            } while (count == 0);
+            if (count < 0) {
+                m_sourceEOF = true;
+                m_source.close();
+                return EOF;
+            }
+            m_chunkPos = 0;
+            m_chunkEnd = count;
+        }
+        return m_chunk[m_chunkPos++];
+    }
 
     /*
      * Reads the next character either from the readBuffer or the stream. <p> A
@@ -483,16 +652,19 @@ private int getNextChar() {
             // m_eobIdx("EndOfBufferIndex")points to the last char in the buffer
             // m_currIdx points to the last char read from the buffer
             if (m_eobIdx == m_currIdx) {
+                if (m_sourceClosed) {
+                    // seen the EOF before (or the source was closed).
+                    return EOF;
+                }
                 // we need to read a new character from the stream
-                if ((m_readBuffer[m_currIdx] = m_source.read()) == -1) {
-                    // seen the EOF. Any further read will cause IOException.
-                    m_source.close();
+                if ((m_readBuffer[m_currIdx] = readSourceChar()) == EOF) {
+                    m_sourceClosed = true;
                 }
                 m_readBytes++;
                 if (m_readBuffer[m_currIdx] == CR) {
                     // read the next char to see if we need to swallow the CR
                     m_eobIdx = (m_eobIdx + 1) % BUFFER_LENGTH;
-                    if ((m_readBuffer[m_eobIdx] = m_source.read()) == LF) {
+                    if ((m_readBuffer[m_eobIdx] = readSourceChar()) == LF) {
                         m_currIdx = m_eobIdx;
                         // incr currIdx as well, which makes them equal again...
                     }
@@ -585,7 +757,7 @@ public boolean isWhiteSpace(final char c) {
      * @param str the stringbuffer to modify
      * @param index the lowest index we may modify
      */
-    private void cutOffWhiteSpaces(final StringBuffer str, final int index) {
+    private void cutOffWhiteSpaces(final StringBuilder str, final int index) {
 
         if (str.length() == 0) {
             return;
@@ -935,12 +1107,13 @@ private String readDelimiter(final Delimiter delim) {
      * included in the result). The first characters in the stream MUST be the
      * quote begin pattern. An EOF ends a quoted string. A newline character
      * does not. @param quote An object defining the quote patterns to come.
-     * @return The characters from the stream that were read between the quote
-     * begin and quote end pattern.
+     * The characters from the stream that were read between the quote begin and
+     * quote end pattern are appended to the new token.
      */
-    private String readQuotedString(final Quote quote)
+    private void readQuotedString(final Quote quote)
             throws TokenizerException {
-        StringBuilder result = new StringBuilder();
+        final StringBuilder result = m_newToken;
+        final int start = result.length();
         int patternLength;
         String endPattern = quote.getRight();
         int nextChar = 0;
@@ -956,18 +1129,30 @@ private String readQuotedString(final Quote quote)
             nextChar = getNextChar();
             if ((nextChar == EOF) || (nextChar != quote.getLeft().charAt(i))) {
                 assert false : "Call only with a quote begin in the stream";
-                return "";
+                return;
             }
         }
 
         // end pattern idx always points to result.length()-endPattern.length()
-        endPatternIdx = -endPattern.length();
+        endPatternIdx = start - endPattern.length();
         // the index where we start searching in the result for the endPattern
         // sometimes we have to push this ahead.
-        searchIdx = 0;
+        searchIdx = start;
+        // single character end patterns allow to copy everything up to the
+        // next special character at once
+        final boolean bulkCopy = endPattern.length() == 1;
+        final int bulkEscChar = quote.hasEscapeChar() ? escChar : EOF;
 
         // now read on until we see the end pattern
         while (result.indexOf(endPattern, searchIdx) == -1) {
+            if (bulkCopy) {
+                final int count = appendQuotedChars(result,
+                    endPattern.charAt(0), bulkEscChar);
+                endPatternIdx += count;
+                if (searchIdx < endPatternIdx) {
+                    searchIdx = endPatternIdx;
+                }
+            }
             nextChar = getNextChar();
             if (nextChar == EOF) {
                 break;
@@ -1005,16 +1190,13 @@ private String readQuotedString(final Quote quote)
 
         // add the quote patterns, if they should stay in the token
         if (quote.getDontRemoveFlag()) {
-            result.insert(0, quote.getLeft());
+            result.insert(start, quote.getLeft());
         }
 
         if (!quote.getDontRemoveFlag() && (nextChar != EOF)) {
             // remove the end pattern from the token
             assert result.indexOf(endPattern, endPatternIdx) > -1;
-            return result.substring(0, result.length()
-                    - quote.getRight().length());
-        } else {
-            return result.toString();
+            result.setLength(result.length() - quote.getRight().length());
         }
     } // readQuotedString(Quote)
 
@@ -1132,8 +1314,11 @@ public long getReadBytes() {
      * <code>null</code> (indicating the end of the file).
      */
     public void closeSourceStream() {
-        // discard any characters pushed back.
+        // discard any characters pushed back or read ahead.
         clearReadBuffer();
+        m_chunkPos = m_chunkEnd;
+        m_sourceEOF = true;
+        m_sourceClosed = true;
         try {
             m_source.close();
         } catch (IOException ioe) {
@@ -1237,6 +1422,40 @@ public TokenizerSettings getSettings() {
         return result;
     }
 
+    /*
+     * Read-only view on the token buffer, which prevents callers of
+     * nextTokenSequence() from modifying it. Only toString() and
+     * subSequence(int, int) create new strings.
+     */
+    private static final class TokenView implements CharSequence {
+
+        private final StringBuilder m_token;
+
+        TokenView(final StringBuilder token) {
+            m_token = token;
+        }
+
+        @Override
+        public int length() {
+            return m_token.length();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return m_token.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return m_token.substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return m_token.toString();
+        }
+    }
+
     // extracts the line continuation character from the charType array.
     // returns -1 if its not set.
     private int getLineContChar() {
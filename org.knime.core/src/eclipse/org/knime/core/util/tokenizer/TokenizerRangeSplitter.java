@@ -0,0 +1,268 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util.tokenizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Splits a file into byte ranges that can be tokenized independently of each other, e.g. by multiple threads. Each
+ * range starts at the beginning of a line, hence the tokens of all ranges (in order of the ranges) are the same as
+ * the tokens of the entire file - if the settings guarantee that no token extends across a line break, see
+ * {@link #isSplittable(TokenizerSettings)}.
+ * <p>
+ * Ranges are split at the byte of the line feed character, which is only correct for encodings in which this byte
+ * can't be part of another character, such as UTF-8 or ISO-8859-1 (but not UTF-16).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.2
+ */
+public final class TokenizerRangeSplitter {
+
+    private static final byte LF = '\n';
+
+    private static final byte CR = '\r';
+
+    private TokenizerRangeSplitter() {
+    }
+
+    /**
+     * Checks whether a file read with the given settings can be split into independent ranges at line boundaries.
+     * That is the case if a line feed is a delimiter, and no quote, comment or other delimiter can extend across a
+     * line break. Therefore it requires that line feeds in quotes are not allowed, no line continuation character is
+     * set, different delimiters are not combined, and neither quote nor delimiter patterns contain line feeds, and
+     * all comments are line comments. Note that an escaped line feed in a quoted string (escape character followed by
+     * a line break) can't be detected by the settings; files containing them must not be split.
+     *
+     * @param settings the settings the file is tokenized with
+     * @return <code>true</code> if ranges computed by {@link #split(Path, int)} can be parsed independently,
+     *         <code>false</code> otherwise
+     */
+    public static boolean isSplittable(final TokenizerSettings settings) {
+        if (settings.allowLFinQuotes() || (settings.getLineContinuationCharacter() != null)
+            || settings.getCombineMultipleDelimiters()) {
+            return false;
+        }
+        boolean lfIsDelimiter = false;
+        for (Delimiter d : settings.getAllDelimiters()) {
+            if (d.getDelimiter().equals(Tokenizer.LF_STR)) {
+                lfIsDelimiter = true;
+            } else if (d.getDelimiter().indexOf(LF) >= 0) {
+                return false;
+            }
+        }
+        for (Quote q : settings.getAllQuotes()) {
+            if ((q.getLeft().indexOf(LF) >= 0) || (q.getRight().indexOf(LF) >= 0)) {
+                return false;
+            }
+        }
+        for (Comment c : settings.getAllComments()) {
+            if (!c.getEnd().equals(Tokenizer.LF_STR) || (c.getBegin().indexOf(LF) >= 0)) {
+                return false;
+            }
+        }
+        for (String ws : settings.getAllWhiteSpaces()) {
+            if (ws.indexOf(LF) >= 0) {
+                return false;
+            }
+        }
+        return lfIsDelimiter;
+    }
+
+    /**
+     * Splits the file into (at most) the given number of ranges of roughly equal size. Each range but the first one
+     * starts at the beginning of a line; consecutive empty lines are never split. Ranges may be empty if the file
+     * contains only few (long) lines.
+     *
+     * @param file the file to split
+     * @param maxRanges the maximum number of ranges, at least 1
+     * @return the offsets of the ranges, range <code>i</code> starts at byte <code>offsets[i]</code> (inclusive)
+     *         and ends at <code>offsets[i + 1]</code> (exclusive), the last element is the file size
+     * @throws IOException if the file can't be read
+     */
+    public static long[] split(final Path file, final int maxRanges) throws IOException {
+        if (maxRanges < 1) {
+            throw new IllegalArgumentException("Number of ranges must be at least 1: " + maxRanges);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteWindow window = new ByteWindow(channel);
+            final long size = window.m_size;
+            final long[] offsets = new long[maxRanges + 1];
+            offsets[maxRanges] = size;
+            for (int i = 1; i < maxRanges; i++) {
+                offsets[i] = findLineStart(window, Math.max(offsets[i - 1], size * i / maxRanges));
+            }
+            return offsets;
+        }
+    }
+
+    /** Finds the start of the first line after the given position that doesn't follow a line break. */
+    private static long findLineStart(final ByteWindow window, final long position) throws IOException {
+        final long size = window.m_size;
+        long pos = position;
+        while ((pos < size) && (window.get(pos) != LF)) {
+            pos++;
+        }
+        if (pos >= size) {
+            return size;
+        }
+        pos++;
+        // don't split consecutive line breaks (LF or CR+LF), they may be combined by the tokenizer
+        while (pos < size) {
+            final byte b = window.get(pos);
+            if (b == LF) {
+                pos++;
+            } else if ((b == CR) && (pos + 1 < size) && (window.get(pos + 1) == LF)) {
+                pos += 2;
+            } else {
+                break;
+            }
+        }
+        return pos;
+    }
+
+    /** Gives access to single bytes of a file channel, reading a block at a time. */
+    private static final class ByteWindow {
+
+        private final FileChannel m_channel;
+
+        private final long m_size;
+
+        private final ByteBuffer m_buffer = ByteBuffer.allocate(8192);
+
+        private long m_start;
+
+        private int m_length;
+
+        ByteWindow(final FileChannel channel) throws IOException {
+            m_channel = channel;
+            m_size = channel.size();
+        }
+
+        byte get(final long position) throws IOException {
+            if ((position < m_start) || (position >= m_start + m_length)) {
+                m_buffer.clear();
+                m_start = position;
+                m_length = Math.max(0, m_channel.read(m_buffer, position));
+                if (m_length == 0) {
+                    throw new IOException("Unexpected end of file at position " + position);
+                }
+            }
+            return m_buffer.get((int)(position - m_start));
+        }
+    }
+
+    /**
+     * Opens a reader on the given range of the file, e.g. to pass it to a new {@link Tokenizer} (which may read ahead,
+     * see {@link Tokenizer#Tokenizer(Reader, boolean)}, as the reader is not used otherwise). If the tokenizer
+     * settings skip lines at the beginning of the file, they must only be applied to the tokenizer of the first
+     * range.
+     *
+     * @param file the file to read from
+     * @param start the first byte of the range
+     * @param end the end of the range (exclusive)
+     * @param charset the encoding of the file
+     * @return a new reader returning the characters in the range, must be closed by the caller
+     * @throws IOException if the file can't be opened
+     */
+    public static Reader openRange(final Path file, final long start, final long end, final Charset charset)
+        throws IOException {
+        return new InputStreamReader(new RangeInputStream(FileChannel.open(file, StandardOpenOption.READ), start,
+            end), charset);
+    }
+
+    /** Reads the bytes of a range from a file channel. */
+    private static final class RangeInputStream extends InputStream {
+
+        private final FileChannel m_channel;
+
+        private long m_position;
+
+        private final long m_end;
+
+        RangeInputStream(final FileChannel channel, final long start, final long end) {
+            m_channel = channel;
+            m_position = start;
+            m_end = end;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : (b[0] & 0xFF);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (m_position >= m_end) {
+                return -1;
+            }
+            final int count = (int)Math.min(len, m_end - m_position);
+            final int read = m_channel.read(ByteBuffer.wrap(b, off, count), m_position);
+            if (read > 0) {
+                m_position += read;
+            }
+            return read;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            m_channel.close();
+        }
+    }
+}